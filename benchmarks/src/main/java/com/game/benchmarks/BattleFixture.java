@@ -0,0 +1,44 @@
+package com.game.benchmarks;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleSnapshot;
+import com.game.characters.CharacterFactory;
+import com.game.utils.GameLogging;
+
+/**
+ * Battle siap pakai untuk benchmark: logging dimatikan, battle sudah start,
+ * dan snapshot awal disimpan supaya bisa di-reset tanpa membuat objek baru.
+ */
+final class BattleFixture {
+
+    static final long SEED = 42L;
+
+    final Battle battle;
+    private final BattleSnapshot start;
+
+    BattleFixture(String player1Type, String player2Type) {
+        GameLogging.setQuiet(true);
+        battle = new Battle(
+                CharacterFactory.createCharacter(player1Type, "P1 " + player1Type),
+                CharacterFactory.createCharacter(player2Type, "P2 " + player2Type),
+                SEED);
+        battle.start();
+        start = battle.snapshot();
+    }
+
+    /**
+     * Kembali ke state awal bila battle sudah selesai (tidak mengalokasikan).
+     */
+    void resetIfFinished() {
+        if (battle.isBattleFinished()) {
+            reset();
+        }
+    }
+
+    /**
+     * Kembali ke state awal (HP, FP, tanpa efek).
+     */
+    void reset() {
+        battle.restore(start);
+    }
+}
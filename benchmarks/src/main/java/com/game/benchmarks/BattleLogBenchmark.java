@@ -0,0 +1,52 @@
+package com.game.benchmarks;
+
+import com.game.battle.BattleAction;
+import com.game.battle.BattleLog;
+import com.utils.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BattleLog saat buffer sudah penuh: setiap aksi baru menimpa entry tertua.
+ * addAction menyalin aksi ke slot milik log; recordAction mendaur ulang slot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleLogBenchmark {
+
+    private BattleLog log;
+    private BattleAction action;
+
+    @Setup
+    public void setup() {
+        log = new BattleLog(Constants.MAX_BATTLE_LOG_ENTRIES);
+        action = new BattleAction("P1 FIRE", "SKILL", "Basic Attack", "P2 WATER");
+        for (int i = 0; i < log.getCapacity(); i++) {
+            log.recordAction("P1 FIRE", "SKILL", "Basic Attack", "P2 WATER");
+        }
+    }
+
+    @Benchmark
+    public int addActionAtCapacity() {
+        log.addAction(action);
+        return log.getActionCount();
+    }
+
+    @Benchmark
+    public BattleAction recordActionAtCapacity() {
+        return log.recordAction("P1 FIRE", "SKILL", "Basic Attack", "P2 WATER");
+    }
+}
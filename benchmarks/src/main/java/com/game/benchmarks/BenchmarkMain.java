@@ -0,0 +1,33 @@
+package com.game.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point benchmarks.jar: opsi command line JMH biasa, ditambah GC
+ * profiler yang selalu aktif supaya setiap hasil memuat alokasi
+ * (gc.alloc.rate.norm = byte per operasi) di samping throughput.
+ *
+ * Usage: java -jar benchmarks/target/benchmarks.jar [opsi JMH] [regex benchmark]
+ * Contoh: java -jar benchmarks/target/benchmarks.jar CombatResolver -f 1
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
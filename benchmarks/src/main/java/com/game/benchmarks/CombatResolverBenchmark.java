@@ -0,0 +1,58 @@
+package com.game.benchmarks;
+
+import com.game.battle.Battle;
+import com.game.battle.subsystems.CombatResolver;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CombatResolver.executeAction: satu aksi lengkap (efek awal giliran, cek
+ * freeze/FP, skill, catat BattleLog, efek akhir giliran).
+ * skillIndex 1 = Basic Attack, 2 = Guard (memasang status effect).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatResolverBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(CombatResolverBenchmark.class.getName());
+
+    @Param({"1", "2"})
+    public int skillIndex;
+
+    private BattleFixture fixture;
+    private CombatResolver resolver;
+    private boolean player1Attacks;
+
+    @Setup
+    public void setup() {
+        fixture = new BattleFixture("FIRE", "WIND");
+        resolver = fixture.battle.getCombatResolver();
+    }
+
+    @Benchmark
+    public boolean executeAction() {
+        fixture.resetIfFinished();
+        Battle battle = fixture.battle;
+        player1Attacks = !player1Attacks;
+        return player1Attacks
+                ? resolver.executeAction(battle.getPlayer1(), battle.getPlayer2(), skillIndex,
+                        battle.getBattleLog(), LOGGER)
+                : resolver.executeAction(battle.getPlayer2(), battle.getPlayer1(), skillIndex,
+                        battle.getBattleLog(), LOGGER);
+    }
+}
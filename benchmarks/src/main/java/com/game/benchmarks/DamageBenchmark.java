@@ -0,0 +1,45 @@
+package com.game.benchmarks;
+
+import com.game.characters.BaseCharacter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BaseCharacter.takeDamageWithMechanics: dodge, crit, elemen, defense.
+ * WIND menyerang EARTH supaya dodge, crit, dan advantage semuanya terjadi.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageBenchmark {
+
+    private BattleFixture fixture;
+    private BaseCharacter attacker;
+    private BaseCharacter defender;
+
+    @Setup
+    public void setup() {
+        fixture = new BattleFixture("WIND", "EARTH");
+        attacker = fixture.battle.getPlayer1();
+        defender = fixture.battle.getPlayer2();
+    }
+
+    @Benchmark
+    public int takeDamageWithMechanics() {
+        fixture.resetIfFinished();
+        defender.takeDamageWithMechanics(attacker.getAttackPower(), attacker);
+        return defender.getHealthPoints();
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.benchmarks;
+
+import com.game.characters.BaseCharacter;
+import com.game.skills.effects.AttackBuffEffect;
+import com.game.skills.effects.BurnEffect;
+import com.game.skills.effects.FreezeEffect;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * applyStartTurnEffects + applyEndTurnEffects dengan banyak efek aktif.
+ * Efek dipasang ulang setiap iterasi dengan durasi sangat panjang supaya
+ * jumlahnya tetap selama pengukuran; Burn memakai damage 0 supaya karakter
+ * tidak mati.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectsBenchmark {
+
+    private static final int LONG_DURATION = Integer.MAX_VALUE;
+
+    @Param({"1", "8", "64"})
+    public int effectCount;
+
+    private BattleFixture fixture;
+    private BaseCharacter character;
+
+    @Setup
+    public void setup() {
+        fixture = new BattleFixture("FIRE", "WATER");
+        character = fixture.battle.getPlayer1();
+    }
+
+    @Setup(Level.Iteration)
+    public void addEffects() {
+        fixture.reset();
+        for (int i = 0; i < effectCount; i++) {
+            switch (i % 3) {
+                case 0:
+                    character.addEffect(new BurnEffect(LONG_DURATION, 0));
+                    break;
+                case 1:
+                    character.addEffect(new FreezeEffect(LONG_DURATION));
+                    break;
+                default:
+                    character.addEffect(new AttackBuffEffect(LONG_DURATION, 1));
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean startAndEndTurnEffects() {
+        character.applyStartTurnEffects();
+        character.applyEndTurnEffects();
+        return character.canMove();
+    }
+}
@@ -0,0 +1,39 @@
+package com.game.benchmarks;
+
+import com.game.characters.ElementType;
+import com.game.characters.ElementalAdvantage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ElementalAdvantage.getMultiplier untuk semua pasangan elemen secara bergiliran
+ * (supaya JIT tidak bisa melipat hasilnya jadi konstanta).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementalBenchmark {
+
+    private final ElementType[] types = ElementType.values();
+    private int pair;
+
+    @Benchmark
+    public double getMultiplier() {
+        pair++;
+        if (pair == types.length * types.length) {
+            pair = 0;
+        }
+        return ElementalAdvantage.getMultiplier(types[pair / types.length], types[pair % types.length]);
+    }
+}
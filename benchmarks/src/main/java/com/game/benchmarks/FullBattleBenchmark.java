@@ -0,0 +1,50 @@
+package com.game.benchmarks;
+
+import com.game.simulation.BattleSimulator;
+import com.game.simulation.SimulationResult;
+import com.game.utils.GameLogging;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Satu battle penuh dari start sampai selesai lewat BattleSimulator
+ * (RandomSkillPolicy kedua pemain), termasuk pembuatan karakter dan Battle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FullBattleBenchmark {
+
+    @Param({"FIRE", "EARTH"})
+    public String player1Type;
+
+    @Param({"WATER", "WIND"})
+    public String player2Type;
+
+    private BattleSimulator simulator;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        GameLogging.setQuiet(true);
+        simulator = new BattleSimulator();
+    }
+
+    @Benchmark
+    public SimulationResult fullBattle() {
+        return simulator.simulate(player1Type, player2Type, seed++);
+    }
+}
@@ -0,0 +1,22 @@
+package com.game.ai;
+
+import com.game.battle.Battle;
+import com.game.simulation.fast.FastBattleState;
+
+/**
+ * STRATEGY PATTERN - AI yang memilih skill untuk pemain yang sedang jalan.
+ */
+public interface BattleAI {
+
+    /**
+     * Memilih skill dari state Battle object model. Dipanggil dari thread
+     * yang memiliki battle tersebut.
+     */
+    SearchResult chooseMove(Battle battle);
+
+    /**
+     * Memilih skill dari slot battle di fast engine. State sumber tidak diubah,
+     * sehingga bisa disiapkan di satu thread lalu dicari di thread lain.
+     */
+    SearchResult search(FastBattleState state, int battle);
+}
@@ -0,0 +1,290 @@
+package com.game.ai;
+
+import com.game.battle.Battle;
+import com.game.simulation.fast.FastBattleEngine;
+import com.game.simulation.fast.FastBattleState;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+
+/**
+ * AI lawan berbasis expectiminimax di atas fast engine.
+ *
+ * - Node MAX/MIN: giliran AI / lawan, bercabang ke skill yang FP-nya cukup.
+ * - Node chance: setiap skill damage bercabang ke dodge / crit / hit dengan
+ *   peluang dari rumus calculateDodgeChance dan calculateCritChance.
+ * - Iterative deepening sampai batas waktu; hasil yang dipakai adalah iterasi
+ *   terakhir yang selesai penuh (iterasi kedalaman 1 selalu diselesaikan).
+ *
+ * State pencarian disimpan sebagai stack slot di satu FastBattleState
+ * (slot ply+1 = salinan slot ply setelah satu aksi), jadi pencarian tidak
+ * mengalokasikan objek. Instance tidak thread-safe; satu instance per worker.
+ *
+ * Nilai node disimpan di TranspositionTable dengan key hash Zobrist + turn
+ * count, sehingga state yang dicapai lewat urutan aksi berbeda (misal dua
+ * Guard bertukar urutan) hanya dihitung sekali. Score menang/kalah memakai
+ * tempo absolut (bukan jarak dari root) dan disimpan dari sudut pandang
+ * Player 1, jadi entry tetap valid di pencarian berikutnya. Tabel boleh
+ * dibagi antar instance (lock-free).
+ */
+public class ExpectiminimaxAI implements BattleAI {
+
+    private static final double WIN_SCORE = 1_000_000.0;
+    // Bobot evaluasi, dalam satuan "persen HP"
+    private static final double FP_WEIGHT = 0.2;
+    // Satu tick Burn = true damage + sisa damage setelah defense (biasanya 0)
+    private static final double BURN_TICK_DAMAGE = Constants.BURN_DAMAGE_PER_TURN;
+    // Cek jam setiap 256 node
+    private static final long DEADLINE_CHECK_MASK = 0xFF;
+    // Subtree dengan sisa depth < 2 lebih murah dihitung ulang daripada probe tabel
+    private static final int TABLE_MIN_DEPTH = 2;
+
+    private final long timeBudgetNanos;
+    private final int maxDepth;
+    private final FastBattleState stack;
+    private final TranspositionTable table; // null = tanpa transposition table
+
+    // State per pencarian
+    private int rootSlot;
+    private int rootTempo;
+    private double perspective;
+    private long deadline;
+    private long nodes;
+    private boolean checkDeadline;
+    private boolean aborted;
+    private long tableHits;
+
+    public ExpectiminimaxAI() {
+        this(Constants.AI_TIME_BUDGET_MS, Constants.AI_MAX_DEPTH);
+    }
+
+    public ExpectiminimaxAI(long timeBudgetMillis, int maxDepth) {
+        this(timeBudgetMillis, maxDepth, new TranspositionTable(Constants.AI_TABLE_SIZE_MB));
+    }
+
+    /**
+     * @param table Transposition table (boleh dipakai bersama), atau null untuk tanpa tabel
+     */
+    public ExpectiminimaxAI(long timeBudgetMillis, int maxDepth, TranspositionTable table) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Batas waktu AI harus lebih dari 0");
+        }
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("Kedalaman AI harus lebih dari 0");
+        }
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.maxDepth = maxDepth;
+        this.stack = new FastBattleState(maxDepth + 1);
+        this.table = table;
+    }
+
+    @Override
+    public SearchResult chooseMove(Battle battle) {
+        stack.copyFrom(0, battle);
+        return searchRoot();
+    }
+
+    @Override
+    public SearchResult search(FastBattleState state, int battle) {
+        state.copyTo(battle, stack, 0);
+        return searchRoot();
+    }
+
+    private SearchResult searchRoot() {
+        long startNanos = System.nanoTime();
+        deadline = startNanos + timeBudgetNanos;
+        nodes = 0;
+        aborted = false;
+
+        if (FastBattleEngine.isFinished(stack, 0)) {
+            throw new IllegalStateException("Battle sudah selesai");
+        }
+        rootSlot = FastBattleEngine.currentSlot(stack, 0);
+        rootTempo = tempo(0);
+        perspective = rootSlot == FastBattleState.PLAYER1 ? 1.0 : -1.0;
+        if (table != null) {
+            table.newSearch();
+        }
+
+        // Frozen: aksi apapun hanya melewati giliran
+        if (stack.isFrozen(0, rootSlot)) {
+            return new SearchResult(1, evaluate(0), 0, 0, System.nanoTime() - startNanos);
+        }
+
+        int bestSkill = 1;
+        double bestScore = evaluate(0);
+        int completedDepth = 0;
+
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            checkDeadline = depth > 1;
+
+            int iterationSkill = 1;
+            double iterationScore = Double.NEGATIVE_INFINITY;
+            for (int skillIndex = 1; skillIndex <= FastBattleState.SKILLS_PER_CHARACTER; skillIndex++) {
+                if (!isAffordable(0, rootSlot, skillIndex)) {
+                    continue;
+                }
+                double score = expectedValue(0, rootSlot, skillIndex, depth);
+                if (score > iterationScore) {
+                    iterationScore = score;
+                    iterationSkill = skillIndex;
+                }
+            }
+            if (aborted) {
+                break;
+            }
+
+            bestSkill = iterationSkill;
+            bestScore = iterationScore;
+            completedDepth = depth;
+
+            // Menang/kalah paksa sudah ketemu, kedalaman lebih tidak mengubah apa-apa
+            if (Math.abs(bestScore) >= WIN_SCORE - rootTempo - maxDepth) {
+                break;
+            }
+        }
+
+        return new SearchResult(bestSkill, bestScore, completedDepth, nodes, System.nanoTime() - startNanos);
+    }
+
+    // ====================================================================
+    // SEARCH
+    // ====================================================================
+
+    private double value(int ply, int remaining) {
+        nodes++;
+        if (checkDeadline && (nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() >= deadline) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        if (FastBattleEngine.isFinished(stack, ply)) {
+            return terminalValue(ply);
+        }
+        if (remaining == 0) {
+            return evaluate(ply);
+        }
+
+        long key = 0;
+        boolean useTable = table != null && remaining >= TABLE_MIN_DEPTH;
+        if (useTable) {
+            key = ZobristHash.hash(stack, ply) ^ SplitMixRandom.mix64(stack.getTurnCount(ply));
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= remaining) {
+                tableHits++;
+                return perspective * TranspositionTable.score(entry);
+            }
+        }
+
+        int slot = FastBattleEngine.currentSlot(stack, ply);
+        int bestSkill = 1;
+        double best;
+        if (stack.isFrozen(ply, slot)) {
+            best = child(ply, 1, FastBattleEngine.OUTCOME_HIT, remaining);
+        } else {
+            boolean maximizing = slot == rootSlot;
+            best = maximizing ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            for (int skillIndex = 1; skillIndex <= FastBattleState.SKILLS_PER_CHARACTER; skillIndex++) {
+                if (!isAffordable(ply, slot, skillIndex)) {
+                    continue;
+                }
+                double score = expectedValue(ply, slot, skillIndex, remaining);
+                if (maximizing ? score > best : score < best) {
+                    best = score;
+                    bestSkill = skillIndex;
+                }
+            }
+        }
+
+        // Nilai dari iterasi yang terpotong deadline tidak lengkap, jangan disimpan
+        if (useTable && !aborted) {
+            table.store(key, perspective * best, remaining, bestSkill);
+        }
+        return best;
+    }
+
+    /**
+     * Node chance: rata-rata tertimbang hasil dodge / crit / hit.
+     */
+    private double expectedValue(int ply, int slot, int skillIndex, int remaining) {
+        int skillId = FastBattleEngine.getSkillId(stack, ply, slot, skillIndex);
+        if (!FastBattleEngine.isDamageSkill(skillId)) {
+            return child(ply, skillIndex, FastBattleEngine.OUTCOME_HIT, remaining);
+        }
+
+        double dodge = FastBattleEngine.currentDodgeProbability(stack, ply);
+        double crit = FastBattleEngine.currentCritProbability(stack, ply);
+        double connect = 1.0 - dodge;
+
+        double expected = 0;
+        if (dodge > 0) {
+            expected += dodge * child(ply, skillIndex, FastBattleEngine.OUTCOME_DODGE, remaining);
+        }
+        if (crit > 0) {
+            expected += connect * crit * child(ply, skillIndex, FastBattleEngine.OUTCOME_CRIT, remaining);
+        }
+        expected += connect * (1.0 - crit) * child(ply, skillIndex, FastBattleEngine.OUTCOME_HIT, remaining);
+        return expected;
+    }
+
+    private double child(int ply, int skillIndex, int outcome, int remaining) {
+        int next = ply + 1;
+        stack.copyTo(ply, stack, next);
+        FastBattleEngine.step(stack, next, skillIndex, outcome);
+        if (!FastBattleEngine.isFinished(stack, next)) {
+            FastBattleEngine.endTurn(stack, next);
+        }
+        return value(next, remaining - 1);
+    }
+
+    /**
+     * Nomor aksi absolut: naik tepat 1 per aksi (turn count naik saat P2 -> P1).
+     */
+    private int tempo(int ply) {
+        return 2 * stack.getTurnCount(ply) + FastBattleEngine.currentSlot(stack, ply);
+    }
+
+    private boolean isAffordable(int ply, int slot, int skillIndex) {
+        int skillId = FastBattleEngine.getSkillId(stack, ply, slot, skillIndex);
+        return FastBattleEngine.getSkillCost(skillId) <= stack.getFocusPoints(ply, slot);
+    }
+
+    // ====================================================================
+    // EVALUASI (dari sudut pandang AI)
+    // ====================================================================
+
+    private double terminalValue(int ply) {
+        int winner = FastBattleEngine.winner(stack, ply);
+        if (winner == 0) {
+            return 0;
+        }
+        // Menang lebih cepat / kalah lebih lambat lebih baik (tempo absolut,
+        // supaya nilai di transposition table tidak bergantung pada root)
+        int tempo = rootTempo + ply;
+        return winner - 1 == rootSlot ? WIN_SCORE - tempo : -WIN_SCORE + tempo;
+    }
+
+    private double evaluate(int ply) {
+        int opponentSlot = 1 - rootSlot;
+        return condition(ply, rootSlot) - condition(ply, opponentSlot);
+    }
+
+    private double condition(int ply, int slot) {
+        double maxHp = stack.getMaxHealthPoints(ply, slot);
+        double hp = stack.getHealthPoints(ply, slot)
+                - stack.getPendingBurnTicks(ply, slot) * BURN_TICK_DAMAGE;
+        return 100.0 * hp / maxHp + FP_WEIGHT * stack.getFocusPoints(ply, slot);
+    }
+
+    /**
+     * Jumlah node yang nilainya diambil dari transposition table (kumulatif).
+     */
+    public long getTableHits() {
+        return tableHits;
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetNanos / 1_000_000L;
+    }
+}
@@ -0,0 +1,172 @@
+package com.game.ai;
+
+import com.game.battle.Battle;
+import com.game.simulation.fast.FastBattleEngine;
+import com.game.simulation.fast.FastBattleState;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI Monte Carlo Tree Search dengan root parallelism.
+ *
+ * Setiap thread membangun tree MCTS sendiri dari root yang sama dengan seed
+ * berbeda (MctsTree, array preallocated, tanpa lock). Setelah batas waktu,
+ * jumlah kunjungan dan reward anak-anak root dijumlahkan, lalu skill dengan
+ * kunjungan terbanyak dipilih. Karena tidak ada state bersama selama
+ * pencarian, throughput naik linear dengan jumlah core.
+ *
+ * Playout memakai fast engine (tanpa object model dan tanpa Logger).
+ * Panggil close() untuk mematikan thread pool.
+ */
+public class MctsAI implements BattleAI, AutoCloseable {
+
+    private static final int SKILLS = FastBattleState.SKILLS_PER_CHARACTER;
+
+    private final long timeBudgetNanos;
+    private final long maxPlayoutsPerThread;
+    private final MctsTree[] trees;
+    private final ExecutorService pool; // null = satu thread, jalan di thread pemanggil
+    private final FastBattleState root = new FastBattleState(1);
+    private final long baseSeed;
+    private long searchCount;
+
+    public MctsAI(int threads, long timeBudgetMillis) {
+        this(threads, timeBudgetMillis, Long.MAX_VALUE, SplitMixRandom.newSeed());
+    }
+
+    /**
+     * @param maxPlayoutsPerThread Batas playout per thread (Long.MAX_VALUE = hanya batas waktu)
+     * @param seed                 Seed untuk stream RNG setiap tree
+     */
+    public MctsAI(int threads, long timeBudgetMillis, long maxPlayoutsPerThread, long seed) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Jumlah thread harus lebih dari 0");
+        }
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Batas waktu AI harus lebih dari 0");
+        }
+        if (maxPlayoutsPerThread <= 0) {
+            throw new IllegalArgumentException("Batas playout harus lebih dari 0");
+        }
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.maxPlayoutsPerThread = maxPlayoutsPerThread;
+        this.baseSeed = seed;
+
+        this.trees = new MctsTree[threads];
+        for (int i = 0; i < threads; i++) {
+            trees[i] = new MctsTree(Constants.AI_MCTS_TREE_NODES, Constants.AI_MCTS_EXPLORATION);
+        }
+        this.pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, daemonThreads());
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "mcts-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public SearchResult chooseMove(Battle battle) {
+        root.copyFrom(0, battle);
+        return search(root, 0);
+    }
+
+    @Override
+    public SearchResult search(FastBattleState state, int battle) {
+        long startNanos = System.nanoTime();
+        if (FastBattleEngine.isFinished(state, battle)) {
+            throw new IllegalStateException("Battle sudah selesai");
+        }
+        int slot = FastBattleEngine.currentSlot(state, battle);
+        if (state.isFrozen(battle, slot)) {
+            return new SearchResult(1, 0.5, 0, 0, System.nanoTime() - startNanos);
+        }
+
+        long deadline = startNanos + timeBudgetNanos;
+        runTrees(state, battle, deadline);
+        searchCount++;
+
+        // Merge di root: jumlahkan kunjungan & reward per skill
+        int bestSkill = 1;
+        long bestVisits = -1;
+        double bestReward = 0;
+        long playouts = 0;
+        int depth = 0;
+        for (int skillIndex = 1; skillIndex <= SKILLS; skillIndex++) {
+            long visits = 0;
+            double reward = 0;
+            for (MctsTree tree : trees) {
+                visits += tree.getRootVisits(skillIndex);
+                reward += tree.getRootReward(skillIndex);
+            }
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                bestReward = reward;
+                bestSkill = skillIndex;
+            }
+        }
+        for (MctsTree tree : trees) {
+            playouts += tree.getPlayouts();
+            depth = Math.max(depth, tree.getMaxDepth());
+        }
+
+        double winRate = bestVisits > 0 ? bestReward / bestVisits : 0.5;
+        return new SearchResult(bestSkill, winRate, depth, playouts, System.nanoTime() - startNanos);
+    }
+
+    private void runTrees(FastBattleState state, int battle, long deadline) {
+        if (pool == null) {
+            trees[0].search(state, battle, treeSeed(0), deadline, maxPlayoutsPerThread);
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(trees.length);
+        for (int i = 0; i < trees.length; i++) {
+            MctsTree tree = trees[i];
+            long treeSeed = treeSeed(i);
+            tasks.add(() -> {
+                tree.search(state, battle, treeSeed, deadline, maxPlayoutsPerThread);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Worker MCTS gagal", e.getCause());
+        }
+    }
+
+    /**
+     * Seed berbeda untuk setiap (pencarian, tree), reproducible dari base seed.
+     */
+    private long treeSeed(int tree) {
+        return SplitMixRandom.mix64(baseSeed + searchCount * trees.length + tree);
+    }
+
+    public int getThreadCount() {
+        return trees.length;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
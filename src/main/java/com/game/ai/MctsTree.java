@@ -0,0 +1,248 @@
+package com.game.ai;
+
+import com.game.simulation.fast.FastBattleEngine;
+import com.game.simulation.fast.FastBattleState;
+import com.game.utils.SplitMixRandom;
+
+/**
+ * Satu tree MCTS milik satu thread (root parallelism: tidak ada state bersama).
+ *
+ * Tree bersifat open-loop: node = urutan aksi dari root, sedangkan hasil
+ * dodge/crit diundi ulang di setiap iterasi. Node disimpan di array yang
+ * dialokasikan sekali; saat diekspansi, node mendapat blok anak sebanyak
+ * SKILLS_PER_CHARACTER + 1 (anak ke-i = skill index i+1, anak terakhir =
+ * giliran yang dilewati karena Freeze). Karena giliran beku juga memakai satu
+ * edge, pemain yang memilih di sebuah node selalu sama (ditentukan kedalaman
+ * ganjil/genap), meskipun freeze bergantung undian dodge per iterasi.
+ */
+final class MctsTree {
+
+    private static final int ROOT_SLOT = 0;
+    private static final int WORK_SLOT = 1;
+    private static final int UNEXPANDED = -1;
+    private static final int SKILLS = FastBattleState.SKILLS_PER_CHARACTER;
+    // Anak untuk giliran beku, setelah anak-anak skill
+    private static final int PASS_CHILD = SKILLS;
+    private static final int CHILDREN = SKILLS + 1;
+    // Batas ply untuk path di tree dan untuk playout acak
+    private static final int MAX_PATH = 256;
+    private static final int PLAYOUT_MAX_PLIES = 60;
+    private static final long DEADLINE_CHECK_MASK = 0x3F;
+
+    private final double exploration;
+    private final int capacity;
+    private final int[] childBase;
+    private final int[] visits;
+    private final double[] reward; // total reward dari sudut pandang pemain root
+    private final int[] path;
+    private final FastBattleState scratch = new FastBattleState(2);
+    private final SplitMixRandom policyRandom = new SplitMixRandom();
+
+    private int nodeCount;
+    private int rootSlot;
+    private long seed;
+    private long playouts;
+    private int maxDepth;
+
+    MctsTree(int capacity, double exploration) {
+        this.capacity = capacity;
+        this.exploration = exploration;
+        this.childBase = new int[capacity];
+        this.visits = new int[capacity];
+        this.reward = new double[capacity];
+        this.path = new int[MAX_PATH + 1];
+    }
+
+    /**
+     * Menjalankan iterasi MCTS dari state root sampai deadline atau playout habis.
+     */
+    void search(FastBattleState root, int battle, long seed, long deadline, long maxPlayouts) {
+        root.copyTo(battle, scratch, ROOT_SLOT);
+        this.rootSlot = FastBattleEngine.currentSlot(scratch, ROOT_SLOT);
+        this.seed = seed;
+        this.policyRandom.setState(SplitMixRandom.mix64(~seed));
+        this.nodeCount = 1;
+        this.playouts = 0;
+        this.maxDepth = 0;
+        resetNode(0);
+
+        while (playouts < maxPlayouts) {
+            if ((playouts & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() >= deadline) {
+                break;
+            }
+            iterate();
+        }
+    }
+
+    private void resetNode(int node) {
+        childBase[node] = UNEXPANDED;
+        visits[node] = 0;
+        reward[node] = 0;
+    }
+
+    private void iterate() {
+        scratch.copyTo(ROOT_SLOT, scratch, WORK_SLOT);
+        scratch.setRandomSeed(WORK_SLOT, SplitMixRandom.mix64(seed + playouts));
+
+        int node = 0;
+        int length = 0;
+        path[length++] = node;
+
+        // 1. Selection + expansion
+        while (length <= MAX_PATH && !FastBattleEngine.isFinished(scratch, WORK_SLOT)) {
+            int slot = FastBattleEngine.currentSlot(scratch, WORK_SLOT);
+            if (childBase[node] == UNEXPANDED) {
+                if (nodeCount + CHILDREN > capacity) {
+                    break; // Tree penuh: lanjut playout dari sini
+                }
+                childBase[node] = nodeCount;
+                for (int i = 0; i < CHILDREN; i++) {
+                    resetNode(nodeCount + i);
+                }
+                nodeCount += CHILDREN;
+            }
+
+            if (scratch.isFrozen(WORK_SLOT, slot)) {
+                // Tidak ada pilihan: giliran dilewati lewat edge pass supaya
+                // node berikutnya tetap milik pemain lawan
+                node = childBase[node] + PASS_CHILD;
+                path[length++] = node;
+                advance(1);
+                continue;
+            }
+
+            int skillIndex = select(node, slot);
+            node = childBase[node] + skillIndex - 1;
+            path[length++] = node;
+            advance(skillIndex);
+
+            if (visits[node] == 0) {
+                break; // Node baru: evaluasi dengan playout
+            }
+        }
+        maxDepth = Math.max(maxDepth, length - 1);
+
+        // 2. Playout acak
+        double result = playout();
+
+        // 3. Backpropagation
+        for (int i = 0; i < length; i++) {
+            visits[path[i]]++;
+            reward[path[i]] += result;
+        }
+        playouts++;
+    }
+
+    /**
+     * UCT: skill legal yang belum dikunjungi dulu, lalu mean + eksplorasi.
+     * Mean dilihat dari sudut pandang pemain yang sedang memilih.
+     */
+    private int select(int node, int slot) {
+        int base = childBase[node];
+        boolean rootPlayer = slot == rootSlot;
+        double logParent = Math.log(Math.max(1, visits[node]));
+
+        int best = 1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int skillIndex = 1; skillIndex <= SKILLS; skillIndex++) {
+            if (!isAffordable(slot, skillIndex)) {
+                continue;
+            }
+            int child = base + skillIndex - 1;
+            if (visits[child] == 0) {
+                return skillIndex;
+            }
+            double mean = reward[child] / visits[child];
+            if (!rootPlayer) {
+                mean = 1.0 - mean;
+            }
+            double score = mean + exploration * Math.sqrt(logParent / visits[child]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = skillIndex;
+            }
+        }
+        return best;
+    }
+
+    private double playout() {
+        for (int ply = 0; ply < PLAYOUT_MAX_PLIES; ply++) {
+            if (FastBattleEngine.isFinished(scratch, WORK_SLOT)) {
+                break;
+            }
+            advance(randomSkill(FastBattleEngine.currentSlot(scratch, WORK_SLOT)));
+        }
+
+        if (FastBattleEngine.isFinished(scratch, WORK_SLOT)) {
+            int winner = FastBattleEngine.winner(scratch, WORK_SLOT);
+            if (winner == 0) {
+                return 0.5;
+            }
+            return winner - 1 == rootSlot ? 1.0 : 0.0;
+        }
+
+        // Belum selesai: selisih persentase HP dipetakan ke [0, 1]
+        int opponentSlot = 1 - rootSlot;
+        double own = (double) scratch.getHealthPoints(WORK_SLOT, rootSlot)
+                / scratch.getMaxHealthPoints(WORK_SLOT, rootSlot);
+        double opponent = (double) scratch.getHealthPoints(WORK_SLOT, opponentSlot)
+                / scratch.getMaxHealthPoints(WORK_SLOT, opponentSlot);
+        return 0.5 + 0.5 * (own - opponent);
+    }
+
+    /**
+     * Sama dengan RandomSkillPolicy: uniform di antara skill yang FP-nya cukup.
+     */
+    private int randomSkill(int slot) {
+        int affordable = 0;
+        for (int skillIndex = 1; skillIndex <= SKILLS; skillIndex++) {
+            if (isAffordable(slot, skillIndex)) {
+                affordable++;
+            }
+        }
+        if (affordable == 0) {
+            return 1;
+        }
+        int pick = policyRandom.nextInt(affordable);
+        for (int skillIndex = 1; skillIndex <= SKILLS; skillIndex++) {
+            if (isAffordable(slot, skillIndex) && pick-- == 0) {
+                return skillIndex;
+            }
+        }
+        return 1;
+    }
+
+    private void advance(int skillIndex) {
+        FastBattleEngine.step(scratch, WORK_SLOT, skillIndex);
+        if (!FastBattleEngine.isFinished(scratch, WORK_SLOT)) {
+            FastBattleEngine.endTurn(scratch, WORK_SLOT);
+        }
+    }
+
+    private boolean isAffordable(int slot, int skillIndex) {
+        int skillId = FastBattleEngine.getSkillId(scratch, WORK_SLOT, slot, skillIndex);
+        return FastBattleEngine.getSkillCost(skillId) <= scratch.getFocusPoints(WORK_SLOT, slot);
+    }
+
+    // ====================================================================
+    // HASIL (dibaca setelah search selesai)
+    // ====================================================================
+
+    int getRootVisits(int skillIndex) {
+        int base = childBase[0];
+        return base == UNEXPANDED ? 0 : visits[base + skillIndex - 1];
+    }
+
+    double getRootReward(int skillIndex) {
+        int base = childBase[0];
+        return base == UNEXPANDED ? 0 : reward[base + skillIndex - 1];
+    }
+
+    long getPlayouts() {
+        return playouts;
+    }
+
+    int getMaxDepth() {
+        return maxDepth;
+    }
+}
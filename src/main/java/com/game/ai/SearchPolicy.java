@@ -0,0 +1,48 @@
+package com.game.ai;
+
+import com.game.battle.Battle;
+import com.game.simulation.SkillPolicy;
+import com.game.utils.BattleRandom;
+
+/**
+ * Adapter BattleAI sebagai SkillPolicy untuk simulator headless.
+ * Sekaligus mengumpulkan statistik pencarian (kedalaman, node/detik).
+ */
+public class SearchPolicy implements SkillPolicy {
+
+    private final BattleAI ai;
+
+    private long searches;
+    private long totalNodes;
+    private long totalNanos;
+    private long totalDepth;
+
+    public SearchPolicy(BattleAI ai) {
+        if (ai == null) {
+            throw new IllegalArgumentException("AI tidak boleh null");
+        }
+        this.ai = ai;
+    }
+
+    @Override
+    public int chooseSkill(Battle battle, BattleRandom random) {
+        SearchResult result = ai.chooseMove(battle);
+        searches++;
+        totalNodes += result.getNodes();
+        totalNanos += result.getElapsedNanos();
+        totalDepth += result.getDepth();
+        return result.getSkillIndex();
+    }
+
+    public long getSearchCount() {
+        return searches;
+    }
+
+    public double getAverageDepth() {
+        return searches == 0 ? 0 : (double) totalDepth / searches;
+    }
+
+    public double getNodesPerSecond() {
+        return totalNanos == 0 ? 0 : totalNodes * 1_000_000_000.0 / totalNanos;
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.ai;
+
+/**
+ * Hasil satu pencarian AI: skill terpilih dan statistik pencarian.
+ */
+public class SearchResult {
+
+    private final int skillIndex;
+    private final double score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public SearchResult(int skillIndex, double score, int depth, long nodes, long elapsedNanos) {
+        this.skillIndex = skillIndex;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Index skill berbasis 1 (sama seperti Battle.executePlayerAction).
+     */
+    public int getSkillIndex() {
+        return skillIndex;
+    }
+
+    /**
+     * Nilai langkah terpilih dari sudut pandang AI (skor evaluasi untuk
+     * expectiminimax, peluang menang 0..1 untuk MCTS).
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Kedalaman (ply) iterasi terakhir yang selesai penuh, atau kedalaman
+     * tree terdalam untuk MCTS.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Jumlah unit kerja pencarian: node (expectiminimax) atau playout (MCTS).
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("skill %d (score %.1f, depth %d, %d node, %.0f node/detik)",
+                skillIndex, score, depth, nodes, getNodesPerSecond());
+    }
+}
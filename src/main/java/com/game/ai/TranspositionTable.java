@@ -0,0 +1,144 @@
+package com.game.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Transposition table ukuran tetap, lock-free, untuk nilai hasil pencarian AI.
+ *
+ * Setiap entry = dua long: (key XOR data) dan data. Entry yang robek karena
+ * dua thread menulis bersamaan tidak lolos cek key saat dibaca, jadi tabel
+ * bisa dibagi antar thread tanpa lock (skema "lockless hashing" ala Hyatt).
+ *
+ * Entry dikelompokkan per bucket berisi 2 entry:
+ * - entry 0 depth-preferred: hanya diganti oleh hasil yang lebih dalam,
+ *   atau bila entry-nya dari pencarian lama (generation berbeda)
+ * - entry 1 always-replace: menampung hasil lain
+ *
+ * Data dikemas dalam satu long (lihat layout di bawah); probe() mengembalikan
+ * MISS (0) atau data mentah yang dibaca dengan score(), depth(), bestMove().
+ */
+public final class TranspositionTable {
+
+    public static final long MISS = 0L;
+
+    // ====================================================================
+    // LAYOUT DATA (satu long)
+    //   bit  0-31 : score (float)
+    //   bit 32-39 : depth sisa saat score dihitung
+    //   bit 40-47 : skill index terbaik (0 = tidak ada)
+    //   bit 48-55 : generation (pencarian ke berapa)
+    //   bit 63    : valid, supaya data tidak pernah 0 (= MISS)
+    // ====================================================================
+
+    private static final int DEPTH_SHIFT = 32;
+    private static final int MOVE_SHIFT = 40;
+    private static final int GENERATION_SHIFT = 48;
+    private static final long BYTE_MASK = 0xFFL;
+    private static final long VALID = 1L << 63;
+
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+    private static final int BUCKET_ENTRIES = 2;
+    private static final int BUCKET_LONGS = BUCKET_ENTRIES * 2;
+
+    private final AtomicLongArray table;
+    private final int bucketMask;
+    private volatile int generation;
+
+    /**
+     * @param megabytes Ukuran tabel; jumlah bucket dibulatkan ke bawah ke pangkat 2
+     */
+    public TranspositionTable(int megabytes) {
+        if (megabytes <= 0) {
+            throw new IllegalArgumentException("Ukuran transposition table harus lebih dari 0 MB");
+        }
+        long entries = ((long) megabytes << 20) / ENTRY_BYTES;
+        long buckets = Long.highestOneBit(entries / BUCKET_ENTRIES);
+        if (buckets * BUCKET_LONGS > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ukuran transposition table terlalu besar: " + megabytes + " MB");
+        }
+        this.table = new AtomicLongArray((int) (buckets * BUCKET_LONGS));
+        this.bucketMask = (int) buckets - 1;
+    }
+
+    /**
+     * Menandai awal pencarian baru: entry lama jadi boleh ditimpa entry depth-preferred.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & (int) BYTE_MASK;
+    }
+
+    public long probe(long key) {
+        int index = bucketIndex(key);
+        for (int i = 0; i < BUCKET_LONGS; i += 2) {
+            long data = table.getOpaque(index + i + 1);
+            if (data != MISS && (table.getOpaque(index + i) ^ data) == key) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    public void store(long key, double score, int depth, int bestMove) {
+        int current = generation;
+        long data = VALID
+                | ((long) current << GENERATION_SHIFT)
+                | (((long) bestMove & BYTE_MASK) << MOVE_SHIFT)
+                | (((long) Math.min(depth, (int) BYTE_MASK)) << DEPTH_SHIFT)
+                | (Float.floatToRawIntBits((float) score) & 0xFFFFFFFFL);
+
+        int index = bucketIndex(key);
+        int target = index + 2; // always-replace
+        long preferred = table.getOpaque(index + 1);
+        if (preferred == MISS
+                || (table.getOpaque(index) ^ preferred) == key
+                || generation(preferred) != current
+                || depth >= depth(preferred)) {
+            target = index;
+        }
+        table.setOpaque(target + 1, data);
+        table.setOpaque(target, key ^ data);
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.setOpaque(i, 0L);
+        }
+    }
+
+    private int bucketIndex(long key) {
+        // Bit atas key untuk index; key penuh tetap dicek saat probe
+        return ((int) (key >>> 32) & bucketMask) * BUCKET_LONGS;
+    }
+
+    // ====================================================================
+    // DECODE DATA
+    // ====================================================================
+
+    public static double score(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & BYTE_MASK);
+    }
+
+    public static int bestMove(long data) {
+        return (int) ((data >>> MOVE_SHIFT) & BYTE_MASK);
+    }
+
+    private static int generation(long data) {
+        return (int) ((data >>> GENERATION_SHIFT) & BYTE_MASK);
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    public int getEntryCount() {
+        return table.length() / 2;
+    }
+
+    public long getSizeInBytes() {
+        return (long) table.length() * Long.BYTES;
+    }
+}
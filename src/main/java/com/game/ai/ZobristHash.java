@@ -0,0 +1,123 @@
+package com.game.ai;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleState;
+import com.game.characters.BaseCharacter;
+import com.game.characters.ElementType;
+import com.game.simulation.fast.FastBattleState;
+import com.game.utils.SplitMixRandom;
+
+/**
+ * Hash Zobrist 64-bit untuk state battle.
+ *
+ * Hash = XOR key acak untuk setiap fitur state: HP, FP, attack, defense,
+ * speed dan elemen kedua karakter, bitfield efek (setiap nibble = jumlah
+ * Burn/Freeze per sisa durasi atau potongan boost Guard), serta state
+ * TurnManager (giliran siapa). Turn count dan RNG tidak ikut di-hash, jadi
+ * urutan aksi berbeda yang berakhir di state sama menghasilkan hash sama.
+ *
+ * Key dibuat dari seed tetap sehingga hash stabil antar proses.
+ */
+public final class ZobristHash {
+
+    private static final long KEY_SEED = 0x5A0B1A57L;
+    private static final int SLOTS = 2;
+
+    // Stat dibatasi Constants.MAX_HP (999), jadi 1024 key per stat cukup
+    private static final int STAT_KEYS = 1024;
+    private static final int STAT_MASK = STAT_KEYS - 1;
+    private static final int HP = 0;
+    private static final int FP = 1;
+    private static final int ATTACK = 2;
+    private static final int DEFENSE = 3;
+    private static final int SPEED = 4;
+    private static final int STATS = 5;
+
+    private static final int NIBBLE_BITS = 4;
+    private static final int EFFECT_NIBBLES = FastBattleState.EFFECT_BITS / NIBBLE_BITS;
+
+    private static final long[] STAT_KEY = new long[SLOTS * STATS * STAT_KEYS];
+    private static final long[] EFFECT_KEY = new long[SLOTS * EFFECT_NIBBLES * 16];
+    private static final int ELEMENTS = ElementType.values().length;
+    private static final long[] ELEMENT_KEY = new long[SLOTS * ELEMENTS];
+    private static final long[] STATE_KEY = new long[BattleState.values().length];
+
+    static {
+        // Stream SplitMix64 (seed + n * gamma, lalu mix64) dibagi ke semua tabel
+        long next = KEY_SEED;
+        next = fill(STAT_KEY, next);
+        next = fill(EFFECT_KEY, next);
+        next = fill(ELEMENT_KEY, next);
+        fill(STATE_KEY, next);
+    }
+
+    private ZobristHash() {
+        // Private constructor to prevent instantiation
+    }
+
+    private static long fill(long[] keys, long next) {
+        for (int i = 0; i < keys.length; i++) {
+            next += SplitMixRandom.GOLDEN_GAMMA;
+            keys[i] = SplitMixRandom.mix64(next);
+        }
+        return next;
+    }
+
+    /**
+     * Hash satu battle di fast engine.
+     */
+    public static long hash(FastBattleState state, int battle) {
+        long hash = STATE_KEY[state.getCurrentState(battle).ordinal()];
+        for (int slot = 0; slot < SLOTS; slot++) {
+            hash ^= character(slot,
+                    state.getHealthPoints(battle, slot),
+                    state.getFocusPoints(battle, slot),
+                    state.getAttackPower(battle, slot),
+                    state.getDefense(battle, slot),
+                    state.getSpeed(battle, slot),
+                    state.getElementType(battle, slot),
+                    state.getEffects(battle, slot));
+        }
+        return hash;
+    }
+
+    /**
+     * Hash battle object model; sama dengan hash fast engine untuk state yang sama.
+     */
+    public static long hash(Battle battle) {
+        return STATE_KEY[battle.getCurrentState().ordinal()]
+                ^ character(0, battle.getPlayer1())
+                ^ character(1, battle.getPlayer2());
+    }
+
+    private static long character(int slot, BaseCharacter character) {
+        return character(slot,
+                character.getHealthPoints(),
+                character.getFocusPoints(),
+                character.getAttackPower(),
+                character.getDefense(),
+                character.getSpeed(),
+                character.getElementType(),
+                FastBattleState.packEffects(character));
+    }
+
+    private static long character(int slot, int hp, int fp, int attack, int defense, int speed,
+                                  ElementType element, long effects) {
+        int base = slot * STATS * STAT_KEYS;
+        long hash = STAT_KEY[base + HP * STAT_KEYS + (hp & STAT_MASK)]
+                ^ STAT_KEY[base + FP * STAT_KEYS + (fp & STAT_MASK)]
+                ^ STAT_KEY[base + ATTACK * STAT_KEYS + (attack & STAT_MASK)]
+                ^ STAT_KEY[base + DEFENSE * STAT_KEYS + (defense & STAT_MASK)]
+                ^ STAT_KEY[base + SPEED * STAT_KEYS + (speed & STAT_MASK)]
+                ^ ELEMENT_KEY[slot * ELEMENTS + element.ordinal()];
+
+        // Nibble bernilai 0 (tidak ada efek) tetap punya key, supaya tiap nibble
+        // menyumbang tepat satu key dan hash tetap murni XOR per fitur
+        int effectBase = slot * EFFECT_NIBBLES * 16;
+        for (int nibble = 0; nibble < EFFECT_NIBBLES; nibble++) {
+            int value = (int) (effects >>> (nibble * NIBBLE_BITS)) & 0xF;
+            hash ^= EFFECT_KEY[effectBase + nibble * 16 + value];
+        }
+        return hash;
+    }
+}
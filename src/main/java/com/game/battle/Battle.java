@@ -1,7 +1,12 @@
 package com.game.battle;
 
+import com.game.battle.events.BattleEventBus;
 import com.game.battle.subsystems.*;
 import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.utils.BattleRandom;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
 import java.util.logging.Logger;
 
 /**
@@ -22,20 +27,54 @@ public class Battle {
     private VictoryConditionChecker victoryChecker;
     private BattleLog battleLog;
 
+    // RNG per-battle (dodge, crit, coin flip) - tidak di-share antar battle
+    private BattleRandom random;
+
+    // Event stream terstruktur untuk GUI, log, metrics, replay
+    private final BattleEventBus eventBus = new BattleEventBus();
+
     public Battle(BaseCharacter player1, BaseCharacter player2) {
+        this(player1, player2, new SplitMixRandom());
+    }
+
+    /**
+     * Battle yang bisa direproduksi bit-for-bit dari satu seed.
+     */
+    public Battle(BaseCharacter player1, BaseCharacter player2, long seed) {
+        this(player1, player2, new SplitMixRandom(seed));
+    }
+
+    public Battle(BaseCharacter player1, BaseCharacter player2, BattleRandom random) {
+        this(player1, player2, random, Constants.MAX_BATTLE_LOG_ENTRIES);
+    }
+
+    /**
+     * @param logCapacity Jumlah BattleAction terakhir yang disimpan di BattleLog
+     */
+    public Battle(BaseCharacter player1, BaseCharacter player2, BattleRandom random, int logCapacity) {
         // Validation
         if (player1 == null || player2 == null) {
             throw new IllegalArgumentException("Player tidak boleh null");
         }
+        if (random == null) {
+            throw new IllegalArgumentException("Random tidak boleh null");
+        }
 
         this.player1 = player1;
         this.player2 = player2;
+        this.random = random;
+
+        // Kedua karakter memakai RNG milik battle ini
+        player1.setRandom(random);
+        player2.setRandom(random);
+        player1.setEventBus(eventBus);
+        player2.setEventBus(eventBus);
 
         // Initialize subsystems
-        this.turnManager = new TurnManager();
-        this.combatResolver = new CombatResolver();
+        this.turnManager = new TurnManager(random);
+        this.combatResolver = new CombatResolver(eventBus);
         this.victoryChecker = new VictoryConditionChecker();
-        this.battleLog = new BattleLog();
+        this.battleLog = new BattleLog(logCapacity);
     }
 
     // ====================================================================
@@ -77,6 +116,10 @@ public class Battle {
     }
 
     public void endTurn() {
+        if (eventBus.hasListeners() && hasStarted() && turnManager.getCurrentState() != BattleState.FINISHED) {
+            eventBus.turnEnded(getCurrentPlayer(), turnManager.getTurnCount());
+        }
+
         // Delegate to TurnManager
         turnManager.switchTurn();
         
@@ -100,6 +143,86 @@ public class Battle {
         return victoryChecker.determineWinner(player1, player2);
     }
 
+    // ====================================================================
+    // SNAPSHOT / FORK - Checkpoint, undo, dan AI search
+    // ====================================================================
+
+    private static final BattleState[] STATES = BattleState.values();
+
+    /**
+     * Menyimpan state battle saat ini ke snapshot baru. State RNG lengkap
+     * (BattleRandom.saveState) ikut disimpan supaya hasil setelah restore identik.
+     */
+    public BattleSnapshot snapshot() {
+        BattleSnapshot snapshot = new BattleSnapshot();
+        snapshotInto(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Versi tanpa alokasi: menimpa isi snapshot yang sudah ada.
+     */
+    public void snapshotInto(BattleSnapshot snapshot) {
+        int size = BattleSnapshot.HEADER_INTS + random.stateSize() + player1.stateSize() + player2.stateSize();
+        int[] data = snapshot.buffer(size);
+
+        BaseCharacter surrenderWinner = victoryChecker.getSurrenderWinner();
+        int surrenderWinnerSlot = 0;
+        if (surrenderWinner == player1) {
+            surrenderWinnerSlot = 1;
+        } else if (surrenderWinner == player2) {
+            surrenderWinnerSlot = 2;
+        }
+        BattleState firstTurn = turnManager.getFirstTurn();
+
+        data[0] = turnManager.getCurrentState().ordinal();
+        data[1] = firstTurn == null ? -1 : firstTurn.ordinal();
+        data[2] = turnManager.getTurnCount();
+        data[3] = surrenderWinnerSlot;
+
+        int offset = random.saveState(data, BattleSnapshot.HEADER_INTS);
+        offset = player1.writeState(data, offset);
+        offset = player2.writeState(data, offset);
+        snapshot.setLength(offset);
+    }
+
+    /**
+     * Mengembalikan battle ke snapshot yang dibuat dari battle ini (atau fork-nya).
+     */
+    public void restore(BattleSnapshot snapshot) {
+        int[] data = snapshot.data();
+
+        turnManager.restore(STATES[data[0]], data[1] < 0 ? null : STATES[data[1]], data[2]);
+
+        BaseCharacter surrenderWinner = null;
+        if (data[3] == 1) {
+            surrenderWinner = player1;
+        } else if (data[3] == 2) {
+            surrenderWinner = player2;
+        }
+        victoryChecker.setSurrenderWinner(surrenderWinner);
+
+        int offset = random.restoreState(data, BattleSnapshot.HEADER_INTS);
+        offset = player1.readState(data, offset);
+        player2.readState(data, offset);
+    }
+
+    /**
+     * Membuat battle independen dengan state identik (karakter baru, RNG di posisi
+     * yang sama). Aksi yang sama pada kedua battle menghasilkan hasil yang sama.
+     * BattleLog dan subscriber event tidak ikut di-fork.
+     */
+    public Battle fork() {
+        BaseCharacter player1Copy = CharacterFactory.createCharacter(
+                player1.getElementType().name(), player1.getName());
+        BaseCharacter player2Copy = CharacterFactory.createCharacter(
+                player2.getElementType().name(), player2.getName());
+
+        Battle copy = new Battle(player1Copy, player2Copy, random.copy(), battleLog.getCapacity());
+        copy.restore(snapshot());
+        return copy;
+    }
+
     public void displayBattleLog() {
         battleLog.displayFullLog();
     }
@@ -128,6 +251,21 @@ public class Battle {
         return battleLog;
     }
 
+    public BattleEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Resolver milik battle ini; aksi lewat resolver lain tidak tercatat dari event bus battle.
+     */
+    public CombatResolver getCombatResolver() {
+        return combatResolver;
+    }
+
+    public BattleRandom getRandom() {
+        return random;
+    }
+
     public BaseCharacter getCurrentPlayer() {
         BattleState state = turnManager.getCurrentState();
         if (state == BattleState.PLAYER1_TURN) {
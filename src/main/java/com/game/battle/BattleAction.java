@@ -19,6 +19,14 @@ public class BattleAction {
     private long timestamp; // Waktu aksi (untuk urutan)
 
     public BattleAction(String actor, String actionType, String actionName, String target) {
+        reset(actor, actionType, actionName, target);
+    }
+
+    /**
+     * Mengisi ulang semua field, dipakai BattleLog untuk mendaur ulang slot
+     * buffer yang tertimpa (lihat BattleLog.recordAction).
+     */
+    void reset(String actor, String actionType, String actionName, String target) {
         this.actor = actor;
         this.actionType = actionType;
         this.actionName = actionName;
@@ -33,6 +41,25 @@ public class BattleAction {
         this.timestamp = System.currentTimeMillis();
     }
 
+    /**
+     * Menyalin semua field dari other, dipakai BattleLog.addAction supaya
+     * objek milik pemanggil tidak ikut didaur ulang.
+     */
+    void copyFrom(BattleAction other) {
+        this.actor = other.actor;
+        this.actionType = other.actionType;
+        this.actionName = other.actionName;
+        this.target = other.target;
+        this.description = other.description;
+        this.damageDealt = other.damageDealt;
+        this.healingDone = other.healingDone;
+        this.isCritical = other.isCritical;
+        this.isDodged = other.isDodged;
+        this.effectiveness = other.effectiveness;
+        this.statusEffect = other.statusEffect;
+        this.timestamp = other.timestamp;
+    }
+
     // Setters untuk detail tambahan
     public void setDescription(String description) {
         this.description = description;
@@ -1,48 +1,126 @@
 package com.game.battle;
 
 import com.utils.Constants;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Class untuk mencatat setiap aksi yang terjadi dalam pertarungan.
  * Digunakan untuk menampilkan battle yang terlihat hidup dan interaktif.
+ *
+ * Storage berupa circular buffer berkapasitas tetap: addAction/recordAction
+ * selalu O(1) dan entry tertua ditimpa saat buffer penuh. Semua objek
+ * BattleAction di buffer milik log (addAction menyalin).
  */
 public class BattleLog {
     private static final Logger LOGGER = Logger.getLogger(BattleLog.class.getName());
-    private List<BattleAction> actions;
-    private static final int MAX_LOG_SIZE = Constants.MAX_BATTLE_LOG_ENTRIES;
+
+    private final BattleAction[] buffer;
+    private int head; // Slot yang akan ditulis berikutnya
+    private int size;
 
     public BattleLog() {
-        this.actions = new ArrayList<>();
+        this(Constants.MAX_BATTLE_LOG_ENTRIES);
+    }
+
+    public BattleLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasitas log harus lebih dari 0");
+        }
+        this.buffer = new BattleAction[capacity];
+        this.head = 0;
+        this.size = 0;
     }
 
     /**
-     * Menambahkan aksi ke log.
+     * Menambahkan salinan aksi ke log. Objek milik pemanggil tidak disimpan,
+     * jadi tidak ikut didaur ulang recordAction; getLastAction() setelahnya
+     * mengembalikan salinan milik log.
      */
     public void addAction(BattleAction action) {
-        actions.add(action);
-        // Batasi ukuran log agar tidak terlalu besar
-        if (actions.size() > MAX_LOG_SIZE) {
-            actions.remove(0);
+        if (action == null) {
+            throw new IllegalArgumentException("Aksi tidak boleh null");
+        }
+        BattleAction slot = buffer[head];
+        if (slot == null) {
+            slot = new BattleAction(action.getActor(), action.getActionType(),
+                    action.getActionName(), action.getTarget());
+            buffer[head] = slot;
+        }
+        slot.copyFrom(action);
+        advance();
+    }
+
+    /**
+     * Mencatat aksi baru dan mengembalikannya untuk diisi detailnya.
+     * Setelah buffer penuh, objek BattleAction di slot tertua didaur ulang,
+     * jadi pencatatan aksi tidak mengalokasikan objek. Akibatnya referensi
+     * ke aksi lama hanya valid sampai log berputar satu kapasitas.
+     */
+    public BattleAction recordAction(String actor, String actionType, String actionName, String target) {
+        BattleAction action = buffer[head];
+        if (action == null) {
+            action = new BattleAction(actor, actionType, actionName, target);
+            buffer[head] = action;
+        } else {
+            action.reset(actor, actionType, actionName, target);
+        }
+        advance();
+        return action;
+    }
+
+    // Slot head sudah terisi: geser head, entry tertua tertimpa saat penuh
+    private void advance() {
+        head++;
+        if (head == buffer.length) {
+            head = 0;
+        }
+        // Batasi ukuran log - setelah penuh entry tertua otomatis tertimpa
+        if (size < buffer.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Mendapatkan aksi ke-index (0 = tertua yang masih tersimpan).
+     */
+    public BattleAction getAction(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int slot = head - size + index;
+        if (slot < 0) {
+            slot += buffer.length;
         }
+        return buffer[slot];
     }
 
     /**
-     * Mendapatkan aksi terakhir N buah.
+     * Mendapatkan aksi terakhir, atau null jika log masih kosong.
+     */
+    public BattleAction getLastAction() {
+        return size == 0 ? null : getAction(size - 1);
+    }
+
+    /**
+     * Mendapatkan aksi terakhir N buah (urut dari yang lama ke yang baru).
+     * Hasilnya adalah view read-only tanpa copy; isinya ikut bergeser
+     * jika addAction dipanggil lagi, jadi jangan disimpan lintas aksi.
      */
     public List<BattleAction> getLastActions(int count) {
-        int startIdx = Math.max(0, actions.size() - count);
-        return new ArrayList<>(actions.subList(startIdx, actions.size()));
+        int viewSize = Math.max(0, Math.min(count, size));
+        return new LastActionsView(viewSize);
     }
 
     /**
      * Menampilkan aksi terakhir yang terjadi (untuk live feedback).
      */
     public void displayLastAction() {
-        if (!actions.isEmpty()) {
-            BattleAction lastAction = actions.get(actions.size() - 1);
+        if (size > 0 && LOGGER.isLoggable(Level.INFO)) {
+            BattleAction lastAction = getLastAction();
             String actionStr = lastAction.toString();
             LOGGER.info(actionStr);
         }
@@ -52,6 +130,9 @@ public class BattleLog {
      * Menampilkan N aksi terakhir.
      */
     public void displayLastActions(int count) {
+        if (!LOGGER.isLoggable(Level.INFO)) {
+            return;
+        }
         LOGGER.info("\n========== BATTLE RECAP ==========");
         List<BattleAction> lastActions = getLastActions(count);
         for (BattleAction action : lastActions) {
@@ -65,9 +146,12 @@ public class BattleLog {
      * Menampilkan seluruh log pertarungan.
      */
     public void displayFullLog() {
+        if (!LOGGER.isLoggable(Level.INFO)) {
+            return;
+        }
         LOGGER.info("\n========== FULL BATTLE LOG ==========");
-        for (BattleAction action : actions) {
-            String actionStr = action.toString();
+        for (int i = 0; i < size; i++) {
+            String actionStr = getAction(i).toString();
             LOGGER.info(actionStr);
         }
         LOGGER.info("====================================\n");
@@ -77,13 +161,43 @@ public class BattleLog {
      * Menghapus semua log (untuk pertarungan baru).
      */
     public void clear() {
-        actions.clear();
+        Arrays.fill(buffer, null);
+        head = 0;
+        size = 0;
     }
 
     /**
      * Mendapatkan jumlah aksi dalam log.
      */
     public int getActionCount() {
-        return actions.size();
+        return size;
+    }
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * View zero-copy atas N entry terbaru di circular buffer.
+     */
+    private class LastActionsView extends AbstractList<BattleAction> {
+        private final int viewSize;
+
+        LastActionsView(int viewSize) {
+            this.viewSize = viewSize;
+        }
+
+        @Override
+        public BattleAction get(int index) {
+            if (index < 0 || index >= viewSize) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + viewSize);
+            }
+            return getAction(size - viewSize + index);
+        }
+
+        @Override
+        public int size() {
+            return viewSize;
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.game.battle;
+
+import java.util.Arrays;
+
+/**
+ * Salinan state lengkap sebuah Battle dalam bentuk int[] yang ringkas:
+ * giliran, pemenang surrender, state RNG (posisi + gamma), lalu kedua karakter (HP, FP, stat,
+ * dan setiap status effect sebagai kind + durasi + parameter internal).
+ *
+ * Ukurannya ~100-300 byte. Instance bisa dipakai ulang via Battle.snapshotInto()
+ * sehingga snapshot berulang (undo, AI search) tidak mengalokasikan apa-apa.
+ * BattleLog tidak ikut disimpan.
+ */
+public class BattleSnapshot {
+
+    // currentState, firstTurn, turnCount, surrenderWinnerSlot; lalu state RNG
+    // (BattleRandom.saveState, SplitMix = seed + gamma) dan kedua karakter
+    static final int HEADER_INTS = 4;
+
+    private static final int INITIAL_CAPACITY = 48;
+
+    private int[] data;
+    private int length;
+
+    public BattleSnapshot() {
+        this.data = new int[INITIAL_CAPACITY];
+        this.length = 0;
+    }
+
+    private BattleSnapshot(int[] data, int length) {
+        this.data = data;
+        this.length = length;
+    }
+
+    /**
+     * Buffer dengan kapasitas minimal sekian int. Isi lama boleh hilang.
+     */
+    int[] buffer(int capacity) {
+        if (data.length < capacity) {
+            data = new int[Math.max(capacity, data.length * 2)];
+        }
+        return data;
+    }
+
+    int[] data() {
+        return data;
+    }
+
+    void setLength(int length) {
+        this.length = length;
+    }
+
+    /**
+     * Salinan independen (misal untuk disimpan sebagai checkpoint).
+     */
+    public BattleSnapshot copy() {
+        return new BattleSnapshot(Arrays.copyOf(data, length), length);
+    }
+
+    public int getTurnCount() {
+        return data[2];
+    }
+
+    /**
+     * Ukuran data state dalam byte (tanpa overhead objek).
+     */
+    public int sizeInBytes() {
+        return length * Integer.BYTES;
+    }
+}
@@ -0,0 +1,89 @@
+package com.game.battle.events;
+
+import com.game.characters.BaseCharacter;
+import com.game.skills.effects.StatusEffect;
+
+/**
+ * Event pertarungan yang mutable dan dipakai ulang (flyweight).
+ * Hanya valid selama BattleEventListener.onEvent berjalan.
+ */
+public class BattleEvent {
+
+    private BattleEventType type;
+    private BaseCharacter source; // Pelaku (null untuk damage dari status effect)
+    private BaseCharacter target; // Karakter yang terkena
+    private int amount; // Damage / heal / FP / turn, tergantung type
+    private double multiplier; // Elemental multiplier (DAMAGE_APPLIED)
+    private boolean critical; // DAMAGE_APPLIED hasil critical hit
+    private StatusEffect effect; // EFFECT_*
+    private String skillName; // SKILL_USED
+
+    BattleEvent() {
+        // Hanya dibuat oleh BattleEventBus
+    }
+
+    void reset(BattleEventType type, BaseCharacter source, BaseCharacter target, int amount) {
+        this.type = type;
+        this.source = source;
+        this.target = target;
+        this.amount = amount;
+        this.multiplier = 1.0;
+        this.critical = false;
+        this.effect = null;
+        this.skillName = null;
+    }
+
+    void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    void setCritical(boolean critical) {
+        this.critical = critical;
+    }
+
+    void setEffect(StatusEffect effect) {
+        this.effect = effect;
+    }
+
+    void setSkillName(String skillName) {
+        this.skillName = skillName;
+    }
+
+    // Getters
+    public BattleEventType getType() {
+        return type;
+    }
+
+    public BaseCharacter getSource() {
+        return source;
+    }
+
+    public BaseCharacter getTarget() {
+        return target;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public StatusEffect getEffect() {
+        return effect;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    @Override
+    public String toString() {
+        return "BattleEvent{" + type + ", amount=" + amount + "}";
+    }
+}
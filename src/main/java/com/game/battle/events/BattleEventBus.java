@@ -0,0 +1,192 @@
+package com.game.battle.events;
+
+import com.game.characters.BaseCharacter;
+import com.game.skills.effects.StatusEffect;
+import java.util.Arrays;
+
+/**
+ * Event bus per-battle untuk hasil combat yang terstruktur.
+ *
+ * Dispatch dibuat murah: tanpa subscriber dan recorder setiap publish hanya dua cek field.
+ * Objek event sudah dialokasikan di depan (satu per level nesting), sehingga publish
+ * tidak mengalokasikan apapun. Tidak thread-safe, sama seperti Battle.
+ */
+public class BattleEventBus {
+
+    // Listener yang publish event lagi di dalam onEvent butuh event objek lain
+    private static final int MAX_DEPTH = 4;
+
+    private static final BattleEventBus SILENT = new BattleEventBus() {
+        @Override
+        public void subscribe(BattleEventListener listener) {
+            throw new IllegalStateException("Karakter belum terhubung ke battle");
+        }
+    };
+
+    private BattleEventListener[] listeners = new BattleEventListener[0];
+    // Penerima hasil aksi yang sedang dieksekusi (CombatResolver selama Skill.use);
+    // bukan subscriber, jadi tidak dihitung hasListeners()
+    private BattleEventListener recorder;
+    private final BattleEvent[] eventPool = new BattleEvent[MAX_DEPTH];
+    private int depth;
+
+    public BattleEventBus() {
+        for (int i = 0; i < MAX_DEPTH; i++) {
+            eventPool[i] = new BattleEvent();
+        }
+    }
+
+    /**
+     * Bus tanpa subscriber untuk karakter yang belum dimasukkan ke Battle.
+     */
+    public static BattleEventBus silent() {
+        return SILENT;
+    }
+
+    public void subscribe(BattleEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
+        }
+        // Copy-on-write: subscribe jarang, publish sangat sering
+        BattleEventListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    public void unsubscribe(BattleEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                BattleEventListener[] copy = new BattleEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, listeners.length - i - 1);
+                listeners = copy;
+                return;
+            }
+        }
+    }
+
+    /**
+     * true jika ada subscriber (GUI, metrics, replay). Recorder tidak dihitung.
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Memasang penerima event untuk aksi yang sedang berjalan, atau null untuk
+     * melepasnya. Hanya satu recorder sekaligus; berbeda dengan subscribe(),
+     * memasang dan melepas hanya menulis satu field (tanpa alokasi).
+     */
+    public void setRecorder(BattleEventListener recorder) {
+        this.recorder = recorder;
+    }
+
+    // ====================================================================
+    // PUBLISH METHODS
+    // ====================================================================
+
+    public void skillUsed(BaseCharacter user, BaseCharacter target, String skillName) {
+        if (isIdle()) {
+            return;
+        }
+        BattleEvent event = acquire(BattleEventType.SKILL_USED, user, target, 0);
+        event.setSkillName(skillName);
+        dispatch(event);
+    }
+
+    public void damageApplied(BaseCharacter source, BaseCharacter target, int amount,
+            double multiplier, boolean critical) {
+        if (isIdle()) {
+            return;
+        }
+        BattleEvent event = acquire(BattleEventType.DAMAGE_APPLIED, source, target, amount);
+        event.setMultiplier(multiplier);
+        event.setCritical(critical);
+        dispatch(event);
+    }
+
+    public void dodged(BaseCharacter attacker, BaseCharacter target) {
+        if (isIdle()) {
+            return;
+        }
+        dispatch(acquire(BattleEventType.DODGED, attacker, target, 0));
+    }
+
+    public void crit(BaseCharacter attacker, BaseCharacter target) {
+        if (isIdle()) {
+            return;
+        }
+        dispatch(acquire(BattleEventType.CRIT, attacker, target, 0));
+    }
+
+    public void healed(BaseCharacter target, int amount) {
+        if (isIdle()) {
+            return;
+        }
+        dispatch(acquire(BattleEventType.HEALED, target, target, amount));
+    }
+
+    public void effectApplied(BaseCharacter target, StatusEffect effect) {
+        publishEffect(BattleEventType.EFFECT_APPLIED, target, effect, 0);
+    }
+
+    public void effectTicked(BaseCharacter target, StatusEffect effect, int amount) {
+        publishEffect(BattleEventType.EFFECT_TICKED, target, effect, amount);
+    }
+
+    public void effectExpired(BaseCharacter target, StatusEffect effect) {
+        publishEffect(BattleEventType.EFFECT_EXPIRED, target, effect, 0);
+    }
+
+    public void fpSpent(BaseCharacter user, int amount) {
+        if (isIdle()) {
+            return;
+        }
+        dispatch(acquire(BattleEventType.FP_SPENT, user, user, amount));
+    }
+
+    public void turnEnded(BaseCharacter player, int turnCount) {
+        if (isIdle()) {
+            return;
+        }
+        dispatch(acquire(BattleEventType.TURN_ENDED, player, null, turnCount));
+    }
+
+    private void publishEffect(BattleEventType type, BaseCharacter target, StatusEffect effect, int amount) {
+        if (isIdle()) {
+            return;
+        }
+        BattleEvent event = acquire(type, null, target, amount);
+        event.setEffect(effect);
+        dispatch(event);
+    }
+
+    private boolean isIdle() {
+        return listeners.length == 0 && recorder == null;
+    }
+
+    private BattleEvent acquire(BattleEventType type, BaseCharacter source, BaseCharacter target, int amount) {
+        if (depth >= MAX_DEPTH) {
+            throw new IllegalStateException("Event bersarang terlalu dalam (max " + MAX_DEPTH + ")");
+        }
+        BattleEvent event = eventPool[depth];
+        event.reset(type, source, target, amount);
+        return event;
+    }
+
+    private void dispatch(BattleEvent event) {
+        BattleEventListener current = recorder;
+        BattleEventListener[] snapshot = listeners;
+        depth++;
+        try {
+            if (current != null) {
+                current.onEvent(event);
+            }
+            for (BattleEventListener listener : snapshot) {
+                listener.onEvent(event);
+            }
+        } finally {
+            depth--;
+        }
+    }
+}
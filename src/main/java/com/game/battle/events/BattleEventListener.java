@@ -0,0 +1,14 @@
+package com.game.battle.events;
+
+/**
+ * OBSERVER PATTERN - Subscriber untuk event pertarungan.
+ */
+public interface BattleEventListener {
+
+    /**
+     * Dipanggil secara sinkron untuk setiap event.
+     * Objek event dipakai ulang oleh bus: jangan simpan reference-nya,
+     * salin field yang dibutuhkan.
+     */
+    void onEvent(BattleEvent event);
+}
@@ -0,0 +1,17 @@
+package com.game.battle.events;
+
+/**
+ * Jenis event yang dipublikasikan selama pertarungan.
+ */
+public enum BattleEventType {
+    SKILL_USED,      // Skill berhasil dipakai (FP cukup)
+    DAMAGE_APPLIED,  // HP target berkurang (termasuk damage 0 setelah defense)
+    DODGED,          // Serangan dihindari
+    CRIT,            // Serangan critical
+    HEALED,          // HP dipulihkan
+    EFFECT_APPLIED,  // Status effect dipasang
+    EFFECT_TICKED,   // Status effect diproses di awal giliran
+    EFFECT_EXPIRED,  // Status effect dilepas
+    FP_SPENT,        // FP dipakai
+    TURN_ENDED       // Giliran selesai
+}
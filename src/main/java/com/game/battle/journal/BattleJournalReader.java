@@ -0,0 +1,80 @@
+package com.game.battle.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pembaca journal berbasis memory-mapped file.
+ *
+ * File dipetakan per segmen (maks ~2 GB per MappedByteBuffer) dan record dibaca
+ * lewat cursor JournalRecord, sehingga scan jutaan battle tidak membuat objek per aksi.
+ */
+public class BattleJournalReader implements Closeable {
+
+    // Segmen dibulatkan ke kelipatan record supaya record tidak terbelah antar segmen
+    private static final long SEGMENT_BYTES =
+            (Integer.MAX_VALUE / JournalFormat.RECORD_SIZE) * (long) JournalFormat.RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final long recordCount;
+
+    public BattleJournalReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            JournalHeader.validate(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        // Record terakhir yang tidak lengkap diabaikan
+        this.recordCount = (channel.size() - JournalFormat.HEADER_SIZE) / JournalFormat.RECORD_SIZE;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Scan semua record dari awal.
+     */
+    public void scan(JournalVisitor visitor) throws IOException {
+        scan(0, recordCount, visitor);
+    }
+
+    /**
+     * Scan record [fromIndex, toIndex). Berhenti jika visitor mengembalikan false.
+     */
+    public void scan(long fromIndex, long toIndex, JournalVisitor visitor) throws IOException {
+        if (fromIndex < 0 || toIndex > recordCount || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range tidak valid: " + fromIndex + ".." + toIndex);
+        }
+
+        JournalRecord cursor = new JournalRecord();
+        long index = fromIndex;
+        while (index < toIndex) {
+            long segmentStart = JournalFormat.HEADER_SIZE + index * JournalFormat.RECORD_SIZE;
+            long segmentBytes = Math.min(SEGMENT_BYTES, (toIndex - index) * JournalFormat.RECORD_SIZE);
+
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentBytes);
+            segment.order(JournalFormat.BYTE_ORDER);
+
+            int records = (int) (segmentBytes / JournalFormat.RECORD_SIZE);
+            for (int i = 0; i < records; i++) {
+                cursor.moveTo(segment, i * JournalFormat.RECORD_SIZE, index + i);
+                if (!visitor.visit(cursor)) {
+                    return;
+                }
+            }
+            index += records;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
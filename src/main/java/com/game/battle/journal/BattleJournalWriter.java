@@ -0,0 +1,143 @@
+package com.game.battle.journal;
+
+import com.game.battle.BattleAction;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Penulis journal append-only.
+ *
+ * Record dikumpulkan di direct ByteBuffer dan baru ditulis ke FileChannel saat
+ * buffer penuh, flush(), atau close() - satu system call untuk ribuan aksi.
+ * Tidak thread-safe: gunakan satu writer per thread / per file.
+ */
+public class BattleJournalWriter implements Closeable {
+
+    private static final int DEFAULT_BATCH_RECORDS = 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+    private long recordsWritten;
+
+    public BattleJournalWriter(Path path) throws IOException {
+        this(path, DEFAULT_BATCH_RECORDS);
+    }
+
+    public BattleJournalWriter(Path path, int batchRecords) throws IOException {
+        if (batchRecords <= 0) {
+            throw new IllegalArgumentException("Batch harus lebih dari 0 record");
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        this.batch = ByteBuffer.allocateDirect(batchRecords * JournalFormat.RECORD_SIZE)
+                .order(JournalFormat.BYTE_ORDER);
+
+        try {
+            prepareFile();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void prepareFile() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(JournalFormat.HEADER_SIZE).order(JournalFormat.BYTE_ORDER);
+            header.putInt(JournalFormat.MAGIC);
+            header.putShort(JournalFormat.VERSION);
+            header.putShort((short) JournalFormat.RECORD_SIZE);
+            header.putLong(0L);
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+            channel.position(JournalFormat.HEADER_SIZE);
+            return;
+        }
+
+        JournalHeader.validate(channel);
+        // Potong record terakhir yang tidak lengkap (misal proses crash saat menulis)
+        long records = (size - JournalFormat.HEADER_SIZE) / JournalFormat.RECORD_SIZE;
+        long validEnd = JournalFormat.HEADER_SIZE + records * JournalFormat.RECORD_SIZE;
+        if (validEnd != size) {
+            channel.truncate(validEnd);
+        }
+        channel.position(validEnd);
+    }
+
+    /**
+     * Menambahkan satu aksi ke journal.
+     *
+     * @param battleId   Id battle (simulator memakai seed battle)
+     * @param turn       Nomor turn saat aksi terjadi
+     * @param actorSlot  1 atau 2
+     * @param skillId    Id skill di SkillRegistry (diabaikan untuk aksi frozen / surrender)
+     * @param targetSlot 1 atau 2 (diabaikan untuk aksi frozen / surrender)
+     * @param action     BattleAction yang baru dicatat di BattleLog
+     * @param targetHp   HP target setelah aksi
+     */
+    public void append(long battleId, int turn, int actorSlot, int skillId, int targetSlot,
+            BattleAction action, int targetHp) throws IOException {
+        if (!batch.hasRemaining()) {
+            flush();
+        }
+
+        int actionType = JournalFormat.actionTypeCode(action.getActionType());
+        boolean isSkill = actionType == JournalFormat.ACTION_SKILL;
+        if (isSkill && (skillId < 0 || skillId >= JournalFormat.SKILL_NONE)) {
+            throw new IllegalArgumentException("Id skill tidak muat di journal: " + skillId);
+        }
+
+        int flags = 0;
+        if (action.isCritical()) {
+            flags |= JournalFormat.FLAG_CRITICAL;
+        }
+        if (action.isDodged()) {
+            flags |= JournalFormat.FLAG_DODGED;
+        }
+
+        batch.putLong(battleId);
+        batch.putInt(turn);
+        batch.put((byte) actorSlot);
+        batch.put((byte) (isSkill ? skillId : JournalFormat.SKILL_NONE));
+        batch.put((byte) (isSkill ? targetSlot : 0));
+        batch.put((byte) flags);
+        batch.putInt(action.getDamageDealt());
+        batch.putInt(action.getHealingDone());
+        batch.putShort((short) Math.round(action.getEffectiveness() * 100));
+        batch.put((byte) actionType);
+        batch.put((byte) 0);
+        batch.putInt(targetHp);
+        recordsWritten++;
+    }
+
+    /**
+     * Menulis semua record yang masih di buffer ke file.
+     */
+    public void flush() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
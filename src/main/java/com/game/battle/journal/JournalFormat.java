@@ -0,0 +1,75 @@
+package com.game.battle.journal;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout biner file journal pertarungan.
+ *
+ * Header (16 byte): magic (int), version (short), recordSize (short), reserved (long).
+ * Record (32 byte, fixed size supaya bisa di-index langsung tanpa parsing):
+ * <pre>
+ *  0  long  battleId
+ *  8  int   turn
+ * 12  byte  actor        (1 = player 1, 2 = player 2)
+ * 13  byte  skillId      (id SkillRegistry, unsigned; SKILL_NONE jika tidak ada skill)
+ * 14  byte  target       (1 / 2, 0 jika tanpa target)
+ * 15  byte  flags        (bit 0 = critical, bit 1 = dodged)
+ * 16  int   damage
+ * 20  int   healing
+ * 24  short effectiveness (multiplier × 100)
+ * 26  byte  actionType   (ACTION_SKILL / ACTION_FROZEN / ACTION_SURRENDER)
+ * 27  byte  reserved
+ * 28  int   targetHp     (HP target setelah aksi)
+ * </pre>
+ *
+ * Versi 2: skillId berisi id global SkillRegistry (versi 1 menyimpan slot
+ * loadout berbasis 1, yang artinya berbeda per elemen).
+ */
+public final class JournalFormat {
+
+    public static final int MAGIC = 0x424A524E; // "BJRN"
+    public static final short VERSION = 2;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 32;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // Offset field di dalam record
+    static final int OFF_BATTLE_ID = 0;
+    static final int OFF_TURN = 8;
+    static final int OFF_ACTOR = 12;
+    static final int OFF_SKILL = 13;
+    static final int OFF_TARGET = 14;
+    static final int OFF_FLAGS = 15;
+    static final int OFF_DAMAGE = 16;
+    static final int OFF_HEALING = 20;
+    static final int OFF_EFFECTIVENESS = 24;
+    static final int OFF_ACTION_TYPE = 26;
+    static final int OFF_TARGET_HP = 28;
+
+    // skillId untuk aksi frozen / surrender; id skill yang valid < SKILL_NONE
+    static final int SKILL_NONE = 0xFF;
+
+    static final int FLAG_CRITICAL = 1;
+    static final int FLAG_DODGED = 1 << 1;
+
+    // Kode actionType (mengikuti string actionType di BattleAction)
+    public static final int ACTION_SKILL = 0;
+    public static final int ACTION_FROZEN = 1;
+    public static final int ACTION_SURRENDER = 2;
+
+    private JournalFormat() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Mengubah actionType BattleAction ("SKILL", "FROZEN", "SURRENDER") ke kode journal.
+     */
+    public static int actionTypeCode(String actionType) {
+        if ("FROZEN".equals(actionType)) {
+            return ACTION_FROZEN;
+        } else if ("SURRENDER".equals(actionType)) {
+            return ACTION_SURRENDER;
+        }
+        return ACTION_SKILL;
+    }
+}
@@ -0,0 +1,44 @@
+package com.game.battle.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Validasi header file journal (dipakai writer saat append dan reader saat membuka).
+ */
+final class JournalHeader {
+
+    private JournalHeader() {
+        // Private constructor to prevent instantiation
+    }
+
+    static void validate(FileChannel channel) throws IOException {
+        if (channel.size() < JournalFormat.HEADER_SIZE) {
+            throw new IOException("File journal terlalu kecil untuk header");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(JournalFormat.HEADER_SIZE).order(JournalFormat.BYTE_ORDER);
+        long position = 0;
+        while (header.hasRemaining()) {
+            int read = channel.read(header, position);
+            if (read < 0) {
+                throw new IOException("Header journal tidak lengkap");
+            }
+            position += read;
+        }
+        header.flip();
+
+        if (header.getInt() != JournalFormat.MAGIC) {
+            throw new IOException("Bukan file journal pertarungan (magic salah)");
+        }
+        short version = header.getShort();
+        if (version != JournalFormat.VERSION) {
+            throw new IOException("Versi journal tidak didukung: " + version);
+        }
+        short recordSize = header.getShort();
+        if (recordSize != JournalFormat.RECORD_SIZE) {
+            throw new IOException("Ukuran record journal tidak cocok: " + recordSize);
+        }
+    }
+}
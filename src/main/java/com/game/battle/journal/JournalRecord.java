@@ -0,0 +1,84 @@
+package com.game.battle.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Cursor (flyweight) atas satu record di dalam buffer journal.
+ * Getter membaca langsung dari MappedByteBuffer; tidak ada objek per record.
+ * Hanya valid selama JournalVisitor.visit berjalan.
+ */
+public class JournalRecord {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private long index;
+
+    JournalRecord() {
+        // Hanya dibuat oleh BattleJournalReader
+    }
+
+    void moveTo(ByteBuffer buffer, int offset, long index) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.index = index;
+    }
+
+    /**
+     * Posisi record di dalam file (0 = record pertama).
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    public long getBattleId() {
+        return buffer.getLong(offset + JournalFormat.OFF_BATTLE_ID);
+    }
+
+    public int getTurn() {
+        return buffer.getInt(offset + JournalFormat.OFF_TURN);
+    }
+
+    public int getActor() {
+        return buffer.get(offset + JournalFormat.OFF_ACTOR);
+    }
+
+    /**
+     * Id skill di SkillRegistry, atau -1 untuk aksi tanpa skill (frozen / surrender).
+     */
+    public int getSkillId() {
+        int id = buffer.get(offset + JournalFormat.OFF_SKILL) & 0xFF;
+        return id == JournalFormat.SKILL_NONE ? -1 : id;
+    }
+
+    public int getTarget() {
+        return buffer.get(offset + JournalFormat.OFF_TARGET);
+    }
+
+    public boolean isCritical() {
+        return (buffer.get(offset + JournalFormat.OFF_FLAGS) & JournalFormat.FLAG_CRITICAL) != 0;
+    }
+
+    public boolean isDodged() {
+        return (buffer.get(offset + JournalFormat.OFF_FLAGS) & JournalFormat.FLAG_DODGED) != 0;
+    }
+
+    public int getDamage() {
+        return buffer.getInt(offset + JournalFormat.OFF_DAMAGE);
+    }
+
+    public int getHealing() {
+        return buffer.getInt(offset + JournalFormat.OFF_HEALING);
+    }
+
+    public double getEffectiveness() {
+        return buffer.getShort(offset + JournalFormat.OFF_EFFECTIVENESS) / 100.0;
+    }
+
+    public int getActionType() {
+        return buffer.get(offset + JournalFormat.OFF_ACTION_TYPE);
+    }
+
+    public int getTargetHp() {
+        return buffer.getInt(offset + JournalFormat.OFF_TARGET_HP);
+    }
+}
@@ -0,0 +1,9 @@
+package com.game.battle.journal;
+
+/**
+ * Callback untuk scan journal. Kembalikan false untuk berhenti lebih awal.
+ */
+public interface JournalVisitor {
+
+    boolean visit(JournalRecord record);
+}
@@ -0,0 +1,171 @@
+package com.game.battle.replay;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import java.util.Arrays;
+
+/**
+ * Rekaman minimal sebuah battle: seed + karakter + urutan input pemain.
+ *
+ * Karena seluruh keacakan battle berasal dari RNG yang di-seed, urutan index
+ * skill yang dikirim ke Battle.executePlayerAction (termasuk yang ditolak karena
+ * FP kurang) sudah cukup untuk merekonstruksi battle secara persis.
+ */
+public class BattleRecording {
+
+    /** Kode aksi untuk surrender (sama dengan index -1 dari GUI). */
+    public static final int SURRENDER = -1;
+
+    private static final String FORMAT_VERSION = "v1";
+    private static final String SEPARATOR = ";";
+
+    private final long seed;
+    private final String player1Type;
+    private final String player1Name;
+    private final String player2Type;
+    private final String player2Name;
+    private final int[] actions;
+
+    public BattleRecording(long seed, String player1Type, String player1Name,
+            String player2Type, String player2Name, int[] actions) {
+        if (player1Type == null || player2Type == null || player1Name == null || player2Name == null) {
+            throw new IllegalArgumentException("Tipe dan nama karakter tidak boleh null");
+        }
+        this.seed = seed;
+        this.player1Type = player1Type;
+        this.player1Name = player1Name;
+        this.player2Type = player2Type;
+        this.player2Name = player2Name;
+        this.actions = actions.clone();
+    }
+
+    /**
+     * Membuat ulang battle awal (belum di-start) dengan karakter dan seed yang sama.
+     */
+    public Battle createBattle() {
+        BaseCharacter player1 = CharacterFactory.createCharacter(player1Type, player1Name);
+        BaseCharacter player2 = CharacterFactory.createCharacter(player2Type, player2Name);
+        return new Battle(player1, player2, seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getPlayer1Type() {
+        return player1Type;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public String getPlayer2Type() {
+        return player2Type;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public int getActionCount() {
+        return actions.length;
+    }
+
+    public int getAction(int index) {
+        return actions[index];
+    }
+
+    // ====================================================================
+    // TEXT FORMAT - satu baris, mudah disalin oleh tim support
+    // ====================================================================
+
+    /**
+     * Format: v1;seed;tipeP1;namaP1;tipeP2;namaP2;a1,a2,a3...
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append(SEPARATOR)
+                .append(seed).append(SEPARATOR)
+                .append(escape(player1Type)).append(SEPARATOR)
+                .append(escape(player1Name)).append(SEPARATOR)
+                .append(escape(player2Type)).append(SEPARATOR)
+                .append(escape(player2Name)).append(SEPARATOR);
+        for (int i = 0; i < actions.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(actions[i]);
+        }
+        return sb.toString();
+    }
+
+    public static BattleRecording parse(String text) {
+        String[] parts = text.trim().split(SEPARATOR, -1);
+        if (parts.length != 7 || !FORMAT_VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Format rekaman tidak valid");
+        }
+
+        int[] actions = new int[0];
+        if (!parts[6].isEmpty()) {
+            String[] tokens = parts[6].split(",");
+            actions = new int[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                actions[i] = Integer.parseInt(tokens[i].trim());
+            }
+        }
+
+        return new BattleRecording(Long.parseLong(parts[1]),
+                unescape(parts[2]), unescape(parts[3]),
+                unescape(parts[4]), unescape(parts[5]),
+                actions);
+    }
+
+    private static String escape(String value) {
+        return value.replace("%", "%25").replace(SEPARATOR, "%3B");
+    }
+
+    private static String unescape(String value) {
+        return value.replace("%3B", SEPARATOR).replace("%25", "%");
+    }
+
+    /**
+     * Builder untuk merekam input selama battle berlangsung.
+     */
+    public static class Builder {
+        private final long seed;
+        private final String player1Type;
+        private final String player1Name;
+        private final String player2Type;
+        private final String player2Name;
+        private int[] actions = new int[64];
+        private int actionCount;
+
+        public Builder(long seed, String player1Type, String player1Name,
+                String player2Type, String player2Name) {
+            this.seed = seed;
+            this.player1Type = player1Type;
+            this.player1Name = player1Name;
+            this.player2Type = player2Type;
+            this.player2Name = player2Name;
+        }
+
+        /**
+         * Mencatat satu panggilan executePlayerAction (index skill berbasis 1)
+         * atau SURRENDER.
+         */
+        public Builder addAction(int skillIndex) {
+            if (actionCount == actions.length) {
+                actions = Arrays.copyOf(actions, actions.length * 2);
+            }
+            actions[actionCount++] = skillIndex;
+            return this;
+        }
+
+        public BattleRecording build() {
+            return new BattleRecording(seed, player1Type, player1Name, player2Type, player2Name,
+                    Arrays.copyOf(actions, actionCount));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.game.battle.replay;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleSnapshot;
+import com.utils.Constants;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Memutar ulang BattleRecording secara headless dengan kecepatan penuh.
+ *
+ * Setiap checkpointInterval turn, state battle disimpan sebagai BattleSnapshot.
+ * seekToTurn(n) mulai dari checkpoint terdekat sebelum n, sehingga lompat ke turn
+ * manapun hanya butuh memutar ulang paling banyak checkpointInterval turn.
+ */
+public class ReplayPlayer {
+
+    private final BattleRecording recording;
+    private final int checkpointInterval;
+    private final Battle battle;
+
+    // turn → (snapshot, posisi cursor) di awal turn tersebut
+    private final TreeMap<Integer, Checkpoint> checkpoints = new TreeMap<>();
+
+    private int cursor; // Index aksi berikutnya di rekaman
+    private int turnStartCursor; // Posisi cursor saat turn berjalan dimulai
+
+    public ReplayPlayer(BattleRecording recording) {
+        this(recording, Constants.REPLAY_CHECKPOINT_INTERVAL);
+    }
+
+    public ReplayPlayer(BattleRecording recording, int checkpointInterval) {
+        if (recording == null) {
+            throw new IllegalArgumentException("Rekaman tidak boleh null");
+        }
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Interval checkpoint harus lebih dari 0");
+        }
+        this.recording = recording;
+        this.checkpointInterval = checkpointInterval;
+        this.battle = recording.createBattle();
+
+        battle.start();
+        this.cursor = 0;
+        this.turnStartCursor = 0;
+        saveCheckpoint();
+    }
+
+    /**
+     * Apakah masih ada aksi yang bisa diputar.
+     */
+    public boolean hasNext() {
+        return cursor < recording.getActionCount() && !battle.isBattleFinished();
+    }
+
+    /**
+     * Memutar satu input pemain, termasuk endTurn jika aksinya berhasil.
+     */
+    public void step() {
+        if (!hasNext()) {
+            throw new IllegalStateException("Tidak ada aksi tersisa untuk diputar");
+        }
+
+        int action = recording.getAction(cursor++);
+        if (action == BattleRecording.SURRENDER) {
+            battle.surrender();
+            return;
+        }
+
+        // Sama seperti GameWindow: aksi gagal (FP kurang) tidak mengakhiri giliran
+        if (battle.executePlayerAction(action) && !battle.isBattleFinished()) {
+            int turnBefore = battle.getTurnCount();
+            battle.endTurn();
+            if (battle.getTurnCount() != turnBefore) {
+                turnStartCursor = cursor;
+                if (battle.getTurnCount() % checkpointInterval == 0) {
+                    saveCheckpoint();
+                }
+            }
+        }
+    }
+
+    /**
+     * Memutar semua aksi yang tersisa.
+     */
+    public Battle playToEnd() {
+        while (hasNext()) {
+            step();
+        }
+        return battle;
+    }
+
+    /**
+     * Memposisikan battle di awal turn yang diminta (sebelum aksi pertama turn itu).
+     * Jika battle selesai sebelum turn tersebut, battle berhenti di akhir rekaman.
+     */
+    public Battle seekToTurn(int turn) {
+        if (turn < 1) {
+            throw new IllegalArgumentException("Turn dimulai dari 1");
+        }
+
+        Map.Entry<Integer, Checkpoint> entry = checkpoints.floorEntry(turn);
+        boolean canContinue = battle.getTurnCount() < turn
+                || (battle.getTurnCount() == turn && cursor == turnStartCursor);
+        if (!canContinue || entry.getValue().cursor > cursor) {
+            restore(entry.getValue());
+        }
+
+        while (hasNext() && battle.getTurnCount() < turn) {
+            step();
+        }
+        return battle;
+    }
+
+    public Battle getBattle() {
+        return battle;
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    private void saveCheckpoint() {
+        checkpoints.computeIfAbsent(battle.getTurnCount(), turn -> new Checkpoint(battle.snapshot(), cursor));
+    }
+
+    private void restore(Checkpoint checkpoint) {
+        battle.restore(checkpoint.snapshot);
+        cursor = checkpoint.cursor;
+        turnStartCursor = checkpoint.cursor;
+    }
+
+    private static class Checkpoint {
+        private final BattleSnapshot snapshot;
+        private final int cursor;
+
+        Checkpoint(BattleSnapshot snapshot, int cursor) {
+            this.snapshot = snapshot;
+            this.cursor = cursor;
+        }
+    }
+}
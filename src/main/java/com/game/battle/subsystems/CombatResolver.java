@@ -2,16 +2,53 @@ package com.game.battle.subsystems;
 
 import com.game.battle.BattleAction;
 import com.game.battle.BattleLog;
+import com.game.battle.events.BattleEvent;
+import com.game.battle.events.BattleEventBus;
+import com.game.battle.events.BattleEventListener;
+import com.game.battle.events.BattleEventType;
 import com.game.characters.BaseCharacter;
 import com.game.skills.Skill;
 import com.game.utils.GameStrings;
-import java.util.List;
+import com.utils.Constants;
 import java.util.logging.Logger;
 
 /**
  * Subsystem untuk mengeksekusi combat actions.
+ *
+ * Damage, healing, crit, dodge dan effectiveness sebuah aksi diisi dari event
+ * DAMAGE_APPLIED / HEALED / CRIT / DODGED yang dipublikasikan selama
+ * Skill.use, bukan dihitung ulang dari selisih HP. Resolver hanya terpasang
+ * sebagai recorder bus selama Skill.use (bukan subscriber), jadi di luar itu
+ * dan tanpa subscriber lain publish event tetap jalur murah.
+ *
+ * Hot path tidak mengalokasikan objek: BattleAction didaur ulang oleh
+ * BattleLog, event dipakai ulang oleh bus, dan deskripsi "FP digunakan"
+ * diambil dari cache.
  */
-public class CombatResolver {
+public class CombatResolver implements BattleEventListener {
+
+    // "FP digunakan: N" untuk setiap cost 0..DEFAULT_MAX_FP
+    private static final String[] FP_USED_DESCRIPTIONS = new String[Constants.DEFAULT_MAX_FP + 1];
+
+    static {
+        for (int cost = 0; cost < FP_USED_DESCRIPTIONS.length; cost++) {
+            FP_USED_DESCRIPTIONS[cost] = "FP digunakan: " + cost;
+        }
+    }
+
+    private final BattleEventBus eventBus;
+
+    // Aksi yang sedang diisi dari event (hanya selama Skill.use)
+    private BattleAction recording;
+    private BaseCharacter recordingAttacker;
+    private BaseCharacter recordingDefender;
+
+    public CombatResolver(BattleEventBus eventBus) {
+        if (eventBus == null) {
+            throw new IllegalArgumentException("Event bus tidak boleh null");
+        }
+        this.eventBus = eventBus;
+    }
 
     public boolean executeAction(BaseCharacter attacker, BaseCharacter defender,
             int skillIndex, BattleLog battleLog, Logger logger) {
@@ -22,13 +59,12 @@ public class CombatResolver {
         // 2. Check if can move (Freeze check)
         if (!attacker.canMove()) {
             // Log freeze action
-            BattleAction freezeAction = new BattleAction(
+            BattleAction freezeAction = battleLog.recordAction(
                     attacker.getName(),
                     "FROZEN",
                     "Terkena Freeze",
                     "");
             freezeAction.setDescription("Tidak bisa bergerak karena terkena efek Freeze!");
-            battleLog.addAction(freezeAction);
             battleLog.displayLastAction();
 
             // End turn effects (duration decrement)
@@ -36,15 +72,13 @@ public class CombatResolver {
             return true; // Turn berhasil tapi tidak bisa action
         }
 
-        List<Skill> skills = attacker.getSkills();
-
         // Validasi index
-        if (skillIndex < 1 || skillIndex > skills.size()) {
+        if (skillIndex < 1 || skillIndex > attacker.getSkillCount()) {
             logger.info(GameStrings.MSG_INVALID_SKILL);
             return false;
         }
 
-        Skill selectedSkill = skills.get(skillIndex - 1);
+        Skill selectedSkill = attacker.getSkill(skillIndex - 1);
 
         // 3. Check FP BEFORE execution
         if (attacker.getFocusPoints() < selectedSkill.getFpCost()) {
@@ -52,49 +86,37 @@ public class CombatResolver {
             return false; // Return false to allow re-selection
         }
 
-        // Log aksi
+        // Log aksi dulu, lalu isi detailnya dari event selama skill dieksekusi
         String targetName = selectedSkill.isSelfTargeting() ? attacker.getName() : defender.getName();
-        BattleAction action = new BattleAction(
+        BattleAction action = battleLog.recordAction(
                 attacker.getName(),
                 "SKILL",
                 selectedSkill.getName(),
                 targetName);
 
-        // Simpan HP attacker DAN defender untuk tracking healing & damage
-        int defenderHpBefore = defender.getHealthPoints();
-        int attackerHpBefore = attacker.getHealthPoints();
-
-        // Eksekusi skill
-        logger.fine("");
-        selectedSkill.use(attacker, defender);
-        logger.fine("");
-
-        // Hitung damage DAN healing
-        int damageDealt = defenderHpBefore - defender.getHealthPoints();
-        int healingDone = attacker.getHealthPoints() - attackerHpBefore;
-
-        // Record BOTH if applicable (e.g. Drain skill)
-        if (damageDealt > 0) {
-            action.setDamageDealt(damageDealt);
-        }
-        if (healingDone > 0) {
-            action.setHealingDone(healingDone);
-        }
-
-        // Retrieve detailed mechanics from defender
-        BaseCharacter.DamageDetails details = defender.getLastDamageDetails();
-        if (details != null) {
-            action.setCritical(details.getisCritical());
-            action.setDodged(details.getisDodged());
-            action.setEffectiveness(details.getEffectiveness());
+        recording = action;
+        recordingAttacker = attacker;
+        recordingDefender = defender;
+        eventBus.setRecorder(this);
+        try {
+            logger.fine("");
+            selectedSkill.use(attacker, defender);
+            logger.fine("");
+        } finally {
+            eventBus.setRecorder(null);
+            recording = null;
+            recordingAttacker = null;
+            recordingDefender = null;
         }
 
         // Set deskripsi
-        if (selectedSkill.getFpCost() > 0) {
-            action.setDescription("FP digunakan: " + selectedSkill.getFpCost());
+        int fpCost = selectedSkill.getFpCost();
+        if (fpCost > 0) {
+            action.setDescription(fpCost < FP_USED_DESCRIPTIONS.length
+                    ? FP_USED_DESCRIPTIONS[fpCost]
+                    : "FP digunakan: " + fpCost);
         }
 
-        battleLog.addAction(action);
         battleLog.displayLastAction();
 
         // 4. Process End Turn Effects (Duration decrement)
@@ -102,4 +124,35 @@ public class CombatResolver {
 
         return true;
     }
+
+    @Override
+    public void onEvent(BattleEvent event) {
+        BattleAction action = recording;
+        if (action == null) {
+            return;
+        }
+        BattleEventType type = event.getType();
+        BaseCharacter target = event.getTarget();
+        if (type == BattleEventType.DAMAGE_APPLIED) {
+            if (target == recordingDefender) {
+                action.setDamageDealt(action.getDamageDealt() + event.getAmount());
+                if (event.getSource() == recordingAttacker) {
+                    action.setEffectiveness(event.getMultiplier());
+                }
+            }
+        } else if (type == BattleEventType.HEALED) {
+            // Damage dan healing dicatat bersamaan (misal skill Drain)
+            if (target == recordingAttacker) {
+                action.setHealingDone(action.getHealingDone() + event.getAmount());
+            }
+        } else if (type == BattleEventType.CRIT) {
+            if (target == recordingDefender) {
+                action.setCritical(true);
+            }
+        } else if (type == BattleEventType.DODGED) {
+            if (target == recordingDefender) {
+                action.setDodged(true);
+            }
+        }
+    }
 }
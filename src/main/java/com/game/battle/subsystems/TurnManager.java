@@ -2,9 +2,10 @@ package com.game.battle.subsystems;
 
 import com.game.battle.BattleState;
 import com.game.characters.BaseCharacter;
+import com.game.utils.BattleRandom;
 import com.game.utils.GameStrings;
 import com.utils.Constants;
-import java.util.Random;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -15,14 +16,18 @@ public class TurnManager {
     private BattleState currentState;
     private BattleState firstTurn;
     private int turnCount;
-    private static final Random random = new Random();
+    private final BattleRandom random;
 
-    public TurnManager() {
+    public TurnManager(BattleRandom random) {
+        this.random = random;
         this.currentState = BattleState.WAITING;
         this.turnCount = 0;
     }
 
     public void displayBattleIntro(BaseCharacter player1, BaseCharacter player2, Logger logger) {
+        if (!logger.isLoggable(Level.INFO)) {
+            return;
+        }
         logger.info("\n" + GameStrings.BATTLE_START_TITLE);
         logger.info(player1.getName() + " (HP: " + player1.getHealthPoints() + "/"
                 + player1.getMaxHealthPoints() + ")");
@@ -37,7 +42,7 @@ public class TurnManager {
         } else if (player2.getSpeed() > player1.getSpeed()) {
             firstTurn = BattleState.PLAYER2_TURN;
         } else {
-            // Coin flip
+            // Coin flip (RNG milik battle, bisa di-seed)
             firstTurn = random.nextBoolean() ? BattleState.PLAYER1_TURN : BattleState.PLAYER2_TURN;
         }
     }
@@ -48,6 +53,9 @@ public class TurnManager {
     }
 
     public void displayTurnOrderInfo(BaseCharacter player1, BaseCharacter player2, Logger logger) {
+        if (!logger.isLoggable(Level.INFO)) {
+            return;
+        }
         logger.info("Penentuan Giliran:");
         if (player1.getSpeed() > player2.getSpeed()) {
             logger.info("   " + player1.getName() + " memiliki speed lebih tinggi! Jalan duluan!\n");
@@ -77,7 +85,20 @@ public class TurnManager {
         this.currentState = BattleState.FINISHED;
     }
 
+    /**
+     * Mengembalikan state giliran dari snapshot.
+     */
+    public void restore(BattleState currentState, BattleState firstTurn, int turnCount) {
+        this.currentState = currentState;
+        this.firstTurn = firstTurn;
+        this.turnCount = turnCount;
+    }
+
     // Getters
+    public BattleState getFirstTurn() {
+        return firstTurn;
+    }
+
     public BattleState getCurrentState() {
         return currentState;
     }
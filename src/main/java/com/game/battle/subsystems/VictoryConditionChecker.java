@@ -5,6 +5,7 @@ import com.game.battle.BattleLog;
 import com.game.battle.BattleState;
 import com.game.characters.BaseCharacter;
 import com.game.utils.GameStrings;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -22,15 +23,16 @@ public class VictoryConditionChecker {
                                BattleLog battleLog, Logger logger) {
         this.surrenderWinner = opponent;
 
-        logger.info(String.format("\n" + GameStrings.MSG_SURRENDERED, surrenderer.getName()));
-        logger.info(String.format(GameStrings.MSG_WINNER, opponent.getName()) + "\n");
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info(String.format("\n" + GameStrings.MSG_SURRENDERED, surrenderer.getName()));
+            logger.info(String.format(GameStrings.MSG_WINNER, opponent.getName()) + "\n");
+        }
 
-        BattleAction action = new BattleAction(
+        battleLog.recordAction(
                 surrenderer.getName(),
                 "SURRENDER",
                 "Menyerah",
                 "");
-        battleLog.addAction(action);
     }
 
     public boolean isBattleFinished(BaseCharacter player1, BaseCharacter player2, BattleState currentState) {
@@ -38,6 +40,17 @@ public class VictoryConditionChecker {
                 || (player1.getHealthPoints() <= 0 || player2.getHealthPoints() <= 0);
     }
 
+    /**
+     * Pemenang karena surrender (null jika belum ada yang menyerah).
+     */
+    public BaseCharacter getSurrenderWinner() {
+        return surrenderWinner;
+    }
+
+    public void setSurrenderWinner(BaseCharacter surrenderWinner) {
+        this.surrenderWinner = surrenderWinner;
+    }
+
     public BaseCharacter determineWinner(BaseCharacter player1, BaseCharacter player2) {
         // Cek jika winner sudah ditentukan (surrender case)
         if (surrenderWinner != null) {
@@ -1,24 +1,32 @@
 package com.game.characters;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import com.game.battle.events.BattleEventBus;
 import com.game.skills.Skill;
+import com.game.skills.effects.EffectKind;
+import com.game.skills.effects.EffectTimingWheel;
 import com.game.skills.effects.StatusEffect;
-import com.game.skills.effects.FreezeEffect;
+import com.game.utils.BattleRandom;
+import com.game.utils.SplitMixRandom;
 import com.utils.Constants;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Iterator;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Kelas abstrak yang menjadi dasar untuk semua karakter dalam game.
  * Mengimplementasikan prinsip Abstraksi, Pewarisan, dan Enkapsulasi.
+ *
+ * Data tetap (elemen, stat dasar, skill) ada di CharacterArchetype yang
+ * dipakai bersama; objek karakter hanya menyimpan state battle yang berubah.
  */
 public abstract class BaseCharacter {
 
+    private static final Logger LOGGER = Logger.getLogger(BaseCharacter.class.getName());
+
     // 1. ATRIBUT INTI (PRIVATE untuk Enkapsulasi)
-    private String name;
+    private final CharacterArchetype archetype;
+    private final String name;
     private int healthPoints;
-    private int maxHealthPoints;
 
     private int attackPower;
     private int defense;
@@ -28,20 +36,24 @@ public abstract class BaseCharacter {
     private int focusPoints;
     private int maxFocusPoints;
 
-    // Daftar Skill yang akan menampung objek turunan Skill (Polimorfisme)
-    private final List<Skill> skills;
+    // Efek aktif (urutan dipasang), jadwal habisnya, efek yang tick, dan mask
+    // jenis efek. Dibuat saat efek pertama dipasang supaya karakter tanpa efek
+    // tetap kecil
+    private EffectTimingWheel effectWheel;
 
-    // Daftar efek status aktif pada karakter
-    private final List<StatusEffect> activeEffects;
+    // RNG untuk dodge/crit. Di-inject oleh Battle supaya satu battle = satu stream;
+    // dibuat sendiri hanya jika karakter dipakai di luar Battle
+    private BattleRandom random;
 
-    Logger logger = Logger.getLogger(getClass().getName());
+    // Event bus milik battle; default silent sampai karakter masuk ke Battle
+    private BattleEventBus eventBus;
 
     // ====================================================================
     // 2. KONSTRUKTOR
     // ====================================================================
 
-    protected BaseCharacter(String name, int maxHp, int attack, int defense, int speed) {
-        // Input validation
+    protected BaseCharacter(String name, CharacterArchetype archetype) {
+        // Stat sudah divalidasi sekali oleh archetype; di sini cukup nama
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Nama karakter tidak boleh kosong");
         }
@@ -49,57 +61,41 @@ public abstract class BaseCharacter {
             throw new IllegalArgumentException(
                     "Nama karakter terlalu panjang (max " + Constants.MAX_NAME_LENGTH + " karakter)");
         }
-        if (maxHp < Constants.MIN_HP || maxHp > Constants.MAX_HP) {
-            throw new IllegalArgumentException("Max HP harus antara " + Constants.MIN_HP + " dan " + Constants.MAX_HP);
-        }
-        if (attack < Constants.MIN_STAT || attack > Constants.MAX_STAT) {
-            throw new IllegalArgumentException(
-                    "Attack harus antara " + Constants.MIN_STAT + " dan " + Constants.MAX_STAT);
-        }
-        if (defense < Constants.MIN_STAT || defense > Constants.MAX_STAT) {
-            throw new IllegalArgumentException(
-                    "Defense harus antara " + Constants.MIN_STAT + " dan " + Constants.MAX_STAT);
-        }
-        if (speed < Constants.MIN_STAT || speed > Constants.MAX_STAT) {
-            throw new IllegalArgumentException(
-                    "Speed harus antara " + Constants.MIN_STAT + " dan " + Constants.MAX_STAT);
+        if (archetype == null) {
+            throw new IllegalArgumentException("Archetype karakter tidak boleh null");
         }
 
+        this.archetype = archetype;
         this.name = name.trim();
-        this.maxHealthPoints = maxHp;
-        this.healthPoints = maxHp; // HP awal diatur ke maksimal
-        this.attackPower = attack;
-        this.defense = defense;
-        this.speed = speed;
-
-        // Inisialisasi FP dari Constants
-        this.maxFocusPoints = Constants.DEFAULT_MAX_FP;
-        this.focusPoints = Constants.DEFAULT_STARTING_FP;
+        this.healthPoints = archetype.getMaxHealthPoints(); // HP awal diatur ke maksimal
+        this.attackPower = archetype.getAttackPower();
+        this.defense = archetype.getDefense();
+        this.speed = archetype.getSpeed();
+        this.maxFocusPoints = archetype.getMaxFocusPoints();
+        this.focusPoints = archetype.getStartingFocusPoints();
 
-        this.skills = new ArrayList<>();
-        this.activeEffects = new ArrayList<>();
-
-        // Panggil metode abstrak. Subclass wajib mengisi daftar skill-nya di sini.
-        initializeSkills();
+        this.eventBus = BattleEventBus.silent();
     }
 
     // ====================================================================
-    // 3. METODE ABSTRAK (Diharuskan ada di subclass - Abstraksi)
+    // 3. DATA ARCHETYPE
     // ====================================================================
 
     /**
-     * Metode ini harus diimplementasikan oleh setiap subclass (Warrior, Mage, dsb.)
-     * untuk menambahkan 4 skill spesifik mereka ke dalam daftar 'skills'.
+     * Data tetap karakter ini (dipakai bersama oleh semua karakter sejenis).
      */
-    protected abstract void initializeSkills();
+    public CharacterArchetype getArchetype() {
+        return archetype;
+    }
 
     /**
      * Mendapatkan tipe elemen karakter.
-     * Harus diimplementasikan oleh setiap subclass.
-     * 
+     *
      * @return ElementType karakter (FIRE, WATER, EARTH, WIND, atau NEUTRAL)
      */
-    public abstract ElementType getElementType();
+    public ElementType getElementType() {
+        return archetype.getElementType();
+    }
 
     // ====================================================================
     // 4. METODE KONKRET (Dapat digunakan oleh semua subclass)
@@ -112,9 +108,12 @@ public abstract class BaseCharacter {
     public void takeDamage(int rawDamage) {
         int finalDamage = Math.max(0, rawDamage - this.defense);
         this.healthPoints -= finalDamage;
+        eventBus.damageApplied(null, this, finalDamage, 1.0, false);
 
-        String damage = this.name + " menerima " + finalDamage + " kerusakan.";
-        logger.info(damage);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String damage = this.name + " menerima " + finalDamage + " kerusakan.";
+            LOGGER.info(damage);
+        }
     }
 
     /**
@@ -126,86 +125,60 @@ public abstract class BaseCharacter {
         if (this.healthPoints < 0) {
             this.healthPoints = 0;
         }
-        String damageMsg = this.name + " menerima " + damage + " true damage.";
-        logger.info(damageMsg);
-    }
-    // Store last damage details for battle log
-    private DamageDetails lastDamageDetails;
-
-    public static class DamageDetails {
-        private boolean isCritical;
-        private boolean isDodged;
-        private double effectiveness;
-        private int damageTaken;
-
-        public DamageDetails() {
-            this.isCritical = false;
-            this.isDodged = false;
-            this.effectiveness = 1.0;
-            this.damageTaken = 0;
-        }
-
-        public boolean getisCritical() {
-            return this.isCritical;
-        }
-
-        public boolean getisDodged() {
-            return this.isDodged;
-        }   
-
-        public double getEffectiveness() {
-            return this.effectiveness;
-        }
-
-        public int getDamageTaken() {
-            return this.damageTaken;
+        eventBus.damageApplied(null, this, damage, 1.0, false);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String damageMsg = this.name + " menerima " + damage + " true damage.";
+            LOGGER.info(damageMsg);
         }
     }
 
-    public DamageDetails getLastDamageDetails() {
-        return lastDamageDetails;
-    }
-
     /**
      * Versi takeDamage dengan mekanik Dodge, Critical Hit, dan Elemental Advantage.
      */
     public void takeDamageWithMechanics(int rawDamage, BaseCharacter attacker) {
-        lastDamageDetails = new DamageDetails();
+        if (random == null) {
+            random = new SplitMixRandom();
+        }
 
-        // 1. Cek Dodge (using ThreadLocalRandom for thread safety)
+        // 1. Cek Dodge (RNG milik battle)
         double dodgeChance = calculateDodgeChance(attacker);
-        if (ThreadLocalRandom.current().nextDouble() * 100 < dodgeChance) {
-            String dodge = this.name + " menghindari serangan! (Dodge)"; 
-            logger.info(dodge);
-            lastDamageDetails.isDodged = true;
+        if (random.nextDouble() * 100 < dodgeChance) {
+            if (LOGGER.isLoggable(Level.INFO)) {
+                String dodge = this.name + " menghindari serangan! (Dodge)";
+                LOGGER.info(dodge);
+            }
+            eventBus.dodged(attacker, this);
             return;
         }
 
-        // 2. Cek Critical Hit (using ThreadLocalRandom for thread safety)
+        // 2. Cek Critical Hit (RNG milik battle)
         double critChance = attacker.calculateCritChance();
-        boolean isCrit = ThreadLocalRandom.current().nextDouble() * 100 < critChance;
-        lastDamageDetails.isCritical = isCrit;
+        boolean isCrit = random.nextDouble() * 100 < critChance;
 
         int finalDamage = rawDamage;
         if (isCrit) {
             finalDamage = (int) (rawDamage * Constants.CRIT_DAMAGE_MULTIPLIER);
-            logger.info(attacker.getName() + " melakukan Critical Hit!");
+            eventBus.crit(attacker, this);
+            if (LOGGER.isLoggable(Level.INFO)) {
+                LOGGER.info(attacker.getName() + " melakukan Critical Hit!");
+            }
         }
 
         // 3. Apply Elemental Advantage
         double elementalMultiplier = ElementalAdvantage.getMultiplier(
                 attacker.getElementType(),
                 this.getElementType());
-        lastDamageDetails.effectiveness = elementalMultiplier;
 
         finalDamage = (int) (finalDamage * elementalMultiplier);
 
         // Display effectiveness message
-        String effectivenessMsg = ElementalAdvantage.getEffectivenessMessage(
-                attacker.getElementType(),
-                this.getElementType());
-        if (!effectivenessMsg.isEmpty()) {
-            logger.info(effectivenessMsg);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String effectivenessMsg = ElementalAdvantage.getEffectivenessMessage(
+                    attacker.getElementType(),
+                    this.getElementType());
+            if (!effectivenessMsg.isEmpty()) {
+                LOGGER.info(effectivenessMsg);
+            }
         }
 
         // 4. Apply Defense
@@ -215,10 +188,12 @@ public abstract class BaseCharacter {
             this.healthPoints = 0;
         }
 
-        lastDamageDetails.damageTaken = finalDamage;
+        eventBus.damageApplied(attacker, this, finalDamage, elementalMultiplier, isCrit);
 
-        String receiveDamage = this.name + " menerima " + finalDamage + " kerusakan." + (isCrit ? " (CRIT!)" : "");
-        logger.info(receiveDamage);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String receiveDamage = this.name + " menerima " + finalDamage + " kerusakan." + (isCrit ? " (CRIT!)" : "");
+            LOGGER.info(receiveDamage);
+        }
     }
 
     /**
@@ -243,16 +218,20 @@ public abstract class BaseCharacter {
 
     /**
      * Logika dasar untuk menyembuhkan HP.
-     * Tidak akan melebihi maxHealthPoints.
+     * Tidak akan melebihi max HP.
      */
     public void heal(int healAmount) {
+        int hpBefore = this.healthPoints;
         this.healthPoints += healAmount;
-        if (this.healthPoints > this.maxHealthPoints) {
-            this.healthPoints = this.maxHealthPoints;
+        if (this.healthPoints > archetype.getMaxHealthPoints()) {
+            this.healthPoints = archetype.getMaxHealthPoints();
         }
+        eventBus.healed(this, this.healthPoints - hpBefore);
 
-        String healInfo = this.name + " menyembuhkan diri sebesar " + healAmount + " HP.";
-        logger.info(healInfo);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String healInfo = this.name + " menyembuhkan diri sebesar " + healAmount + " HP.";
+            LOGGER.info(healInfo);
+        }
     }
 
     /**
@@ -262,11 +241,16 @@ public abstract class BaseCharacter {
     public boolean useFocusPoints(int amount) {
         if (this.focusPoints >= amount) {
             this.focusPoints -= amount;
+            if (amount > 0) {
+                eventBus.fpSpent(this, amount);
+            }
             return true;
         }
 
-        String insufficientFp = this.name + " tidak cukup FP!"; 
-        logger.info(insufficientFp);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String insufficientFp = this.name + " tidak cukup FP!";
+            LOGGER.info(insufficientFp);
+        }
         return false;
     }
 
@@ -284,62 +268,147 @@ public abstract class BaseCharacter {
      * Menambahkan efek status ke karakter.
      */
     public void addEffect(StatusEffect effect) {
-        this.activeEffects.add(effect);
+        effectWheel().schedule(effect);
+        effect.apply(this);
+    }
+
+    /**
+     * Memasang efek baru berjenis kind. Objek efek diambil dari pool timing
+     * wheel karakter ini dan kembali ke sana setelah habis, jadi skill yang
+     * memasang efek setiap giliran tidak mengalokasi.
+     */
+    public void addEffect(EffectKind kind, int duration, int param) {
+        EffectTimingWheel wheel = effectWheel();
+        StatusEffect effect = wheel.obtain(kind, duration, param);
+        wheel.schedule(effect);
         effect.apply(this);
     }
 
+    private EffectTimingWheel effectWheel() {
+        if (effectWheel == null) {
+            effectWheel = new EffectTimingWheel(Constants.EFFECT_WHEEL_SLOTS);
+        }
+        return effectWheel;
+    }
+
     /**
      * Memproses efek di AWAL giliran (DoT, Stat changes).
+     * Hanya efek yang punya tick yang dikunjungi.
      */
     public void applyStartTurnEffects() {
-        for (StatusEffect effect : activeEffects) {
+        if (effectWheel == null) {
+            return;
+        }
+        // Linked list intrusif wheel, jadi tidak ada alokasi per giliran
+        for (StatusEffect effect = effectWheel.getFirstTicking(); effect != null;
+             effect = effectWheel.getNextTicking(effect)) {
             effect.tick(this);
         }
     }
 
     /**
-     * Memproses efek di AKHIR giliran (Duration decrement, Removal).
+     * Memproses efek di AKHIR giliran: timing wheel maju satu giliran dan
+     * hanya efek yang habis yang diproses (sudah dilepas wheel dari daftar
+     * efek aktif dalam O(1), tinggal remove()).
      */
     public void applyEndTurnEffects() {
-        Iterator<StatusEffect> iterator = activeEffects.iterator();
-        while (iterator.hasNext()) {
-            StatusEffect effect = iterator.next();
-
-            effect.decrementDuration();
-
-            if (effect.isExpired()) {
-                effect.remove(this);
-                iterator.remove();
-            }
+        if (effectWheel == null) {
+            return;
+        }
+        int expired = effectWheel.advance();
+        for (int i = 0; i < expired; i++) {
+            StatusEffect effect = effectWheel.getExpired(i);
+            effect.remove(this);
         }
+        effectWheel.recycleExpired();
     }
 
     /**
      * Cek apakah karakter bisa bergerak (tidak terkena Freeze).
      */
     public boolean canMove() {
-        for (StatusEffect effect : activeEffects) {
-            if (effect instanceof FreezeEffect) {
-                return false;
-            }
+        return !isFrozen();
+    }
+
+    /**
+     * true jika ada minimal satu efek aktif berjenis kind (satu bit test).
+     */
+    public boolean hasEffect(EffectKind kind) {
+        return (getEffectMask() & kind.bit()) != 0;
+    }
+
+    public boolean isFrozen() {
+        return hasEffect(EffectKind.FREEZE);
+    }
+
+    public boolean isBurning() {
+        return hasEffect(EffectKind.BURN);
+    }
+
+    public boolean isGuarded() {
+        return hasEffect(EffectKind.GUARD);
+    }
+
+    /**
+     * Mask jenis efek aktif: bit EffectKind.bit() menyala jika efek itu ada.
+     */
+    public int getEffectMask() {
+        return effectWheel == null ? 0 : effectWheel.getKindMask();
+    }
+
+    /**
+     * Efek aktif pertama (urutan dipasang), atau null. Iterasi tanpa copy
+     * list untuk UI dan hot path: lanjutkan dengan getNextEffect().
+     */
+    public StatusEffect getFirstEffect() {
+        return effectWheel == null ? null : effectWheel.getFirstScheduled();
+    }
+
+    /**
+     * Efek aktif setelah effect, atau null jika effect yang terakhir.
+     */
+    public StatusEffect getNextEffect(StatusEffect effect) {
+        return effectWheel.getNextScheduled(effect);
+    }
+
+    /**
+     * Efek aktif ke-index. O(index); untuk iterasi pakai getFirstEffect().
+     *
+     * @param index Index 0-based
+     */
+    public StatusEffect getEffect(int index) {
+        if (index < 0 || index >= getEffectCount()) {
+            throw new IndexOutOfBoundsException("Index efek: " + index);
         }
-        return true;
+        StatusEffect effect = getFirstEffect();
+        for (int i = 0; i < index; i++) {
+            effect = getNextEffect(effect);
+        }
+        return effect;
+    }
+
+    public int getEffectCount() {
+        return effectWheel == null ? 0 : effectWheel.getScheduledCount();
     }
 
     /**
-     * Mendapatkan daftar efek aktif (untuk display).
+     * Mendapatkan daftar efek aktif (salinan, untuk display).
      */
     public List<StatusEffect> getActiveEffects() {
-        return new ArrayList<>(activeEffects);
+        List<StatusEffect> effects = new ArrayList<>(getEffectCount());
+        for (StatusEffect effect = getFirstEffect(); effect != null; effect = getNextEffect(effect)) {
+            effects.add(effect);
+        }
+        return effects;
     }
 
     /**
      * Mendapatkan nama-nama efek aktif sebagai List<String>.
-     * Digunakan untuk display di battle UI.
+     * Membuat list baru; untuk repaint pakai getEffectCount()/getEffect(int).
      */
     public List<String> getActiveEffectNames() {
-        List<String> effectNames = new ArrayList<>();
-        for (StatusEffect effect : activeEffects) {
+        List<String> effectNames = new ArrayList<>(getEffectCount());
+        for (StatusEffect effect = getFirstEffect(); effect != null; effect = getNextEffect(effect)) {
             effectNames.add(effect.getName());
         }
         return effectNames;
@@ -357,9 +426,69 @@ public abstract class BaseCharacter {
         applyEndTurnEffects();
     }
 
-    // Helper untuk menambahkan skill (dipanggil dari initializeSkills() subclass)
-    protected void addSkill(Skill skill) {
-        this.skills.add(skill);
+    // ====================================================================
+    // STATE ENCODING - untuk snapshot / fork battle (tanpa reflection)
+    // ====================================================================
+
+    // hp, fp, maxFp, attack, defense, speed, jumlah efek
+    private static final int STATE_HEADER_INTS = 7;
+    // kind, durasi, parameter internal
+    private static final int STATE_INTS_PER_EFFECT = 3;
+
+    /**
+     * Jumlah int yang dibutuhkan writeState untuk state saat ini.
+     */
+    public int stateSize() {
+        return STATE_HEADER_INTS + getEffectCount() * STATE_INTS_PER_EFFECT;
+    }
+
+    /**
+     * Menulis state mutable karakter (HP, FP, stat, efek) ke buffer.
+     *
+     * @return Offset setelah data karakter ini
+     */
+    public int writeState(int[] buffer, int offset) {
+        buffer[offset++] = healthPoints;
+        buffer[offset++] = focusPoints;
+        buffer[offset++] = maxFocusPoints;
+        buffer[offset++] = attackPower;
+        buffer[offset++] = defense;
+        buffer[offset++] = speed;
+        buffer[offset++] = getEffectCount();
+        for (StatusEffect effect = getFirstEffect(); effect != null; effect = getNextEffect(effect)) {
+            buffer[offset++] = effect.getKind().ordinal();
+            buffer[offset++] = effect.getDuration();
+            buffer[offset++] = effect.getStateParam();
+        }
+        return offset;
+    }
+
+    /**
+     * Membaca state yang ditulis writeState. Efek tidak di-apply ulang
+     * karena stat yang tersimpan sudah termasuk pengaruh efek tersebut.
+     * Objek efek lama dipakai ulang (EffectTimingWheel.obtain), jadi restore
+     * berulang tidak mengalokasi.
+     *
+     * @return Offset setelah data karakter ini
+     */
+    public int readState(int[] buffer, int offset) {
+        this.healthPoints = buffer[offset++];
+        this.focusPoints = buffer[offset++];
+        this.maxFocusPoints = buffer[offset++];
+        this.attackPower = buffer[offset++];
+        this.defense = buffer[offset++];
+        this.speed = buffer[offset++];
+        int effectCount = buffer[offset++];
+
+        EffectTimingWheel wheel = effectWheel();
+        wheel.clear();
+        for (int i = 0; i < effectCount; i++) {
+            EffectKind kind = EffectKind.fromOrdinal(buffer[offset++]);
+            int duration = buffer[offset++];
+            int param = buffer[offset++];
+            wheel.schedule(wheel.obtain(kind, duration, param));
+        }
+        return offset;
     }
 
     // ====================================================================
@@ -376,7 +505,7 @@ public abstract class BaseCharacter {
     }
 
     public int getMaxHealthPoints() {
-        return maxHealthPoints;
+        return archetype.getMaxHealthPoints();
     }
 
     public int getAttackPower() {
@@ -401,7 +530,20 @@ public abstract class BaseCharacter {
 
     public List<Skill> getSkills() {
         // Defensive copy untuk mencegah external modification
-        return new ArrayList<>(skills);
+        return new ArrayList<>(archetype.getSkills());
+    }
+
+    /**
+     * Akses skill tanpa copy list (untuk hot path combat).
+     *
+     * @param index Index 0-based
+     */
+    public Skill getSkill(int index) {
+        return archetype.getSkills().get(index);
+    }
+
+    public int getSkillCount() {
+        return archetype.getSkills().size();
     }
 
     // Setters
@@ -417,6 +559,30 @@ public abstract class BaseCharacter {
         this.speed = speed;
     }
 
+    /**
+     * Mengganti sumber RNG karakter. Dipanggil oleh Battle saat battle dibuat.
+     */
+    public void setRandom(BattleRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random tidak boleh null");
+        }
+        this.random = random;
+    }
+
+    /**
+     * Menghubungkan karakter ke event bus battle. Dipanggil oleh Battle.
+     */
+    public void setEventBus(BattleEventBus eventBus) {
+        if (eventBus == null) {
+            throw new IllegalArgumentException("Event bus tidak boleh null");
+        }
+        this.eventBus = eventBus;
+    }
+
+    public BattleEventBus getEventBus() {
+        return eventBus;
+    }
+
     public void setMaxFocusPoints(int maxFp) {
         this.maxFocusPoints = maxFp;
         this.focusPoints = maxFp;
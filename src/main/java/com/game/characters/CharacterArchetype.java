@@ -0,0 +1,144 @@
+package com.game.characters;
+
+import com.game.skills.Skill;
+import com.game.skills.SkillRegistry;
+import com.utils.Constants;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data tetap satu jenis karakter: elemen, stat dasar, FP, dan daftar skill.
+ *
+ * Immutable dan dipakai bersama oleh semua karakter sejenis (flyweight),
+ * sehingga validasi stat dan pembuatan daftar skill cukup sekali. State yang
+ * berubah selama battle (HP, FP, stat saat ini, efek) ada di BaseCharacter.
+ */
+public final class CharacterArchetype {
+
+    private static final Map<ElementType, CharacterArchetype> BY_ELEMENT = new EnumMap<>(ElementType.class);
+
+    static {
+        register(new CharacterArchetype(ElementType.FIRE, Constants.FIRE_MAX_HP, Constants.FIRE_ATTACK,
+                Constants.FIRE_DEFENSE, Constants.FIRE_SPEED, SkillRegistry.getLoadout(ElementType.FIRE)));
+        register(new CharacterArchetype(ElementType.WATER, Constants.WATER_MAX_HP, Constants.WATER_ATTACK,
+                Constants.WATER_DEFENSE, Constants.WATER_SPEED, SkillRegistry.getLoadout(ElementType.WATER)));
+        register(new CharacterArchetype(ElementType.EARTH, Constants.EARTH_MAX_HP, Constants.EARTH_ATTACK,
+                Constants.EARTH_DEFENSE, Constants.EARTH_SPEED, SkillRegistry.getLoadout(ElementType.EARTH)));
+        register(new CharacterArchetype(ElementType.WIND, Constants.WIND_MAX_HP, Constants.WIND_ATTACK,
+                Constants.WIND_DEFENSE, Constants.WIND_SPEED, SkillRegistry.getLoadout(ElementType.WIND)));
+    }
+
+    private final ElementType elementType;
+    private final int maxHealthPoints;
+    private final int attackPower;
+    private final int defense;
+    private final int speed;
+    private final int maxFocusPoints;
+    private final int startingFocusPoints;
+    private final List<Skill> skills;
+
+    public CharacterArchetype(ElementType elementType, int maxHp, int attack, int defense, int speed,
+                              List<Skill> skills) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("Elemen tidak boleh null");
+        }
+        if (maxHp < Constants.MIN_HP || maxHp > Constants.MAX_HP) {
+            throw new IllegalArgumentException("Max HP harus antara " + Constants.MIN_HP + " dan " + Constants.MAX_HP);
+        }
+        if (attack < Constants.MIN_STAT || attack > Constants.MAX_STAT) {
+            throw new IllegalArgumentException(
+                    "Attack harus antara " + Constants.MIN_STAT + " dan " + Constants.MAX_STAT);
+        }
+        if (defense < Constants.MIN_STAT || defense > Constants.MAX_STAT) {
+            throw new IllegalArgumentException(
+                    "Defense harus antara " + Constants.MIN_STAT + " dan " + Constants.MAX_STAT);
+        }
+        if (speed < Constants.MIN_STAT || speed > Constants.MAX_STAT) {
+            throw new IllegalArgumentException(
+                    "Speed harus antara " + Constants.MIN_STAT + " dan " + Constants.MAX_STAT);
+        }
+        if (skills == null) {
+            throw new IllegalArgumentException("Daftar skill tidak boleh null");
+        }
+
+        this.elementType = elementType;
+        this.maxHealthPoints = maxHp;
+        this.attackPower = attack;
+        this.defense = defense;
+        this.speed = speed;
+        this.maxFocusPoints = Constants.DEFAULT_MAX_FP;
+        this.startingFocusPoints = Constants.DEFAULT_STARTING_FP;
+        this.skills = Collections.unmodifiableList(new ArrayList<>(skills));
+    }
+
+    private static void register(CharacterArchetype archetype) {
+        BY_ELEMENT.put(archetype.getElementType(), archetype);
+    }
+
+    /**
+     * Archetype bawaan untuk elemen (FIRE, WATER, EARTH, WIND).
+     */
+    public static CharacterArchetype of(ElementType elementType) {
+        CharacterArchetype archetype = BY_ELEMENT.get(elementType);
+        if (archetype == null) {
+            throw new IllegalArgumentException("Tidak ada karakter untuk elemen: " + elementType);
+        }
+        return archetype;
+    }
+
+    /**
+     * Memastikan elemen punya karakter (bukan null / NEUTRAL), untuk validasi
+     * input dari luar (protokol server, matchmaking).
+     *
+     * @return Elemen yang sama
+     */
+    public static ElementType requirePlayable(ElementType elementType) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("Elemen tidak boleh null");
+        }
+        of(elementType);
+        return elementType;
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    public int getMaxHealthPoints() {
+        return maxHealthPoints;
+    }
+
+    public int getAttackPower() {
+        return attackPower;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getMaxFocusPoints() {
+        return maxFocusPoints;
+    }
+
+    public int getStartingFocusPoints() {
+        return startingFocusPoints;
+    }
+
+    /**
+     * Daftar skill (read-only, dipakai bersama oleh semua karakter sejenis).
+     */
+    public List<Skill> getSkills() {
+        return skills;
+    }
+}
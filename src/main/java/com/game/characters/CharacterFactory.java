@@ -1,42 +1,59 @@
 package com.game.characters;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Membuat karakter dari pilihan menu atau nama elemen.
+ *
+ * Pembuatan karakter berupa lookup tabel per ElementType; skill setiap
+ * karakter diambil dari loadout di SkillRegistry. Pilihan tidak dikenal
+ * menghasilkan karakter Fire.
+ */
 public class CharacterFactory {
 
+    private static final ElementType[] CHOICES = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND
+    };
+
+    private static final Map<ElementType, Function<String, BaseCharacter>> CONSTRUCTORS =
+            new EnumMap<>(ElementType.class);
+
+    static {
+        CONSTRUCTORS.put(ElementType.FIRE, FireCharacter::new);
+        CONSTRUCTORS.put(ElementType.WATER, WaterCharacter::new);
+        CONSTRUCTORS.put(ElementType.EARTH, EarthCharacter::new);
+        CONSTRUCTORS.put(ElementType.WIND, WindCharacter::new);
+    }
+
     private CharacterFactory() {
         // Private constructor to prevent instantiation
     }
 
     public static BaseCharacter createCharacter(int choice, String name) {
-        switch (choice) {
-            case 1:
-                return new FireCharacter(name);
-            case 2:
-                return new WaterCharacter(name);
-            case 3:
-                return new EarthCharacter(name);
-            case 4:
-                return new WindCharacter(name);
-            default:
-                return new FireCharacter(name);
+        if (choice < 1 || choice > CHOICES.length) {
+            return createCharacter(ElementType.FIRE, name);
         }
+        return createCharacter(CHOICES[choice - 1], name);
     }
 
     public static BaseCharacter createCharacter(String type, String name) {
         if (type == null) {
-            return new FireCharacter(name);
+            return createCharacter(ElementType.FIRE, name);
+        }
+        try {
+            return createCharacter(ElementType.valueOf(type.toUpperCase()), name);
+        } catch (IllegalArgumentException e) {
+            return createCharacter(ElementType.FIRE, name);
         }
+    }
 
-        switch (type.toUpperCase()) {
-            case "FIRE":
-                return new FireCharacter(name);
-            case "WATER":
-                return new WaterCharacter(name);
-            case "EARTH":
-                return new EarthCharacter(name);
-            case "WIND":
-                return new WindCharacter(name);
-            default:
-                return new FireCharacter(name);
+    public static BaseCharacter createCharacter(ElementType type, String name) {
+        Function<String, BaseCharacter> constructor = CONSTRUCTORS.get(type);
+        if (constructor == null) {
+            constructor = CONSTRUCTORS.get(ElementType.FIRE);
         }
+        return constructor.apply(name);
     }
 }
@@ -1,85 +1,156 @@
 package com.game.characters;
 
+import com.game.utils.ConfigLoader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
  * Utility class untuk menghitung elemental advantage.
  * Menentukan damage multiplier berdasarkan matchup elemen.
+ *
+ * Multiplier dan pesan effectiveness disimpan di tabel [attacker][defender]
+ * (index = ordinal ElementType) yang dibangun sekali dari konfigurasi
+ * /data/elements.properties, atau file dari system property game.elements.
+ * Setiap hit cukup satu pembacaan array.
  */
 public class ElementalAdvantage {
 
-    // Damage multipliers
+    /** System property untuk file konfigurasi elemen di luar classpath. */
+    public static final String CONFIG_PROPERTY = "game.elements";
+    private static final String CONFIG_RESOURCE = "/data/elements.properties";
+
+    // Default bila konfigurasi tidak ada / tidak valid
+    private static final String DEFAULT_CYCLE = "FIRE,WIND,EARTH,WATER";
     private static final double ADVANTAGE_MULTIPLIER = 1.2;
     private static final double NEUTRAL_MULTIPLIER = 1.0;
     private static final double DISADVANTAGE_MULTIPLIER = 0.9;
+    private static final String ADVANTAGE_MESSAGE = "Sangat efektif!";
+    private static final String DISADVANTAGE_MESSAGE = "Kurang efektif...";
 
-    /**
-     * Menghitung damage multiplier berdasarkan elemental matchup.
-     * 
-     * @param attackerElement Elemen penyerang
-     * @param defenderElement Elemen defender
-     * @return Multiplier untuk damage (0.75, 1.0, atau 1.5)
-     */
-    private ElementalAdvantage(){
-        
-    }
-    public static double getMultiplier(ElementType attackerElement, ElementType defenderElement) {
-        // Neutral element tidak punya advantage/disadvantage
-        if (attackerElement == ElementType.NEUTRAL || defenderElement == ElementType.NEUTRAL) {
-            return NEUTRAL_MULTIPLIER;
-        }
+    private static final Logger LOGGER = Logger.getLogger(ElementalAdvantage.class.getName());
+    private static final ElementType[] ELEMENTS = ElementType.values();
 
-        // Same element = neutral
-        if (attackerElement == defenderElement) {
-            return NEUTRAL_MULTIPLIER;
-        }
-
-        // Check advantage
-        if (hasAdvantage(attackerElement, defenderElement)) {
-            return ADVANTAGE_MULTIPLIER;
-        }
+    private static final double[][] MULTIPLIER = new double[ELEMENTS.length][ELEMENTS.length];
+    private static final String[][] MESSAGE = new String[ELEMENTS.length][ELEMENTS.length];
 
-        // Check disadvantage
-        if (hasAdvantage(defenderElement, attackerElement)) {
-            return DISADVANTAGE_MULTIPLIER;
+    static {
+        try {
+            buildTables(ConfigLoader.load(CONFIG_PROPERTY, CONFIG_RESOURCE));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Konfigurasi elemen tidak valid, pakai siklus default", e);
+            buildTables(new Properties());
         }
+    }
 
-        return NEUTRAL_MULTIPLIER;
+    private ElementalAdvantage() {
+        // Private constructor to prevent instantiation
     }
 
     /**
-     * Cek apakah attacker punya advantage terhadap defender.
-     * 
-     * Elemental Cycle: Fire > Wind > Earth > Water > Fire
+     * Menghitung damage multiplier berdasarkan elemental matchup.
+     *
+     * @param attackerElement Elemen penyerang
+     * @param defenderElement Elemen defender
+     * @return Multiplier untuk damage (default 1.2, 1.0, atau 0.9)
      */
-    private static boolean hasAdvantage(ElementType attacker, ElementType defender) {
-        switch (attacker) {
-            case FIRE:
-                return defender == ElementType.WIND;
-            case WIND:
-                return defender == ElementType.EARTH;
-            case EARTH:
-                return defender == ElementType.WATER;
-            case WATER:
-                return defender == ElementType.FIRE;
-            default:
-                return false;
-        }
+    public static double getMultiplier(ElementType attackerElement, ElementType defenderElement) {
+        return MULTIPLIER[attackerElement.ordinal()][defenderElement.ordinal()];
     }
 
     /**
      * Mendapatkan deskripsi effectiveness untuk UI.
-     * 
+     *
      * @param attacker Elemen penyerang
      * @param defender Elemen defender
      * @return Message effectiveness (empty string jika neutral)
      */
     public static String getEffectivenessMessage(ElementType attacker, ElementType defender) {
-        double multiplier = getMultiplier(attacker, defender);
+        return MESSAGE[attacker.ordinal()][defender.ordinal()];
+    }
+
+    // ====================================================================
+    // KONFIGURASI
+    // ====================================================================
+
+    /**
+     * Mengisi tabel dari konfigurasi: elemen di siklus unggul terhadap elemen
+     * sesudahnya, lalu override matchup.ATTACKER.DEFENDER diterapkan.
+     * Elemen di luar siklus (misal NEUTRAL) netral terhadap semua.
+     */
+    private static void buildTables(Properties config) {
+        double advantage = parseMultiplier(config, "multiplier.advantage", ADVANTAGE_MULTIPLIER);
+        double neutral = parseMultiplier(config, "multiplier.neutral", NEUTRAL_MULTIPLIER);
+        double disadvantage = parseMultiplier(config, "multiplier.disadvantage", DISADVANTAGE_MULTIPLIER);
+        String advantageMessage = config.getProperty("message.advantage", ADVANTAGE_MESSAGE);
+        String disadvantageMessage = config.getProperty("message.disadvantage", DISADVANTAGE_MESSAGE);
+
+        double[][] multiplier = new double[ELEMENTS.length][ELEMENTS.length];
+        for (double[] row : multiplier) {
+            Arrays.fill(row, neutral);
+        }
+
+        // Siklus 2 elemen tidak ditutup (A > B saja), supaya B tidak sekaligus > A
+        String[] cycle = config.getProperty("element.cycle", DEFAULT_CYCLE).split(",");
+        int links = cycle.length > 2 ? cycle.length : cycle.length - 1;
+        for (int i = 0; i < links; i++) {
+            ElementType strong = parseElement(cycle[i]);
+            ElementType weak = parseElement(cycle[(i + 1) % cycle.length]);
+            multiplier[strong.ordinal()][weak.ordinal()] = advantage;
+            multiplier[weak.ordinal()][strong.ordinal()] = disadvantage;
+        }
 
-        if (multiplier > NEUTRAL_MULTIPLIER) {
-            return "Sangat efektif!";
-        } else if (multiplier < NEUTRAL_MULTIPLIER) {
-            return "Kurang efektif...";
+        for (String name : config.stringPropertyNames()) {
+            if (!name.startsWith("matchup.")) {
+                continue;
+            }
+            String[] pair = name.substring("matchup.".length()).split("\\.");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Format matchup tidak valid: " + name);
+            }
+            multiplier[parseElement(pair[0]).ordinal()][parseElement(pair[1]).ordinal()] =
+                    parseMultiplier(config, name, neutral);
+        }
+
+        // Tabel baru valid penuh, baru disalin (tidak setengah terisi bila ada error)
+        for (int attacker = 0; attacker < ELEMENTS.length; attacker++) {
+            for (int defender = 0; defender < ELEMENTS.length; defender++) {
+                double value = multiplier[attacker][defender];
+                MULTIPLIER[attacker][defender] = value;
+                if (value > neutral) {
+                    MESSAGE[attacker][defender] = advantageMessage;
+                } else if (value < neutral) {
+                    MESSAGE[attacker][defender] = disadvantageMessage;
+                } else {
+                    MESSAGE[attacker][defender] = "";
+                }
+            }
+        }
+    }
+
+    private static ElementType parseElement(String name) {
+        try {
+            return ElementType.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Elemen tidak dikenal di konfigurasi: " + name, e);
+        }
+    }
+
+    private static double parseMultiplier(Properties config, String key, double defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double multiplier = Double.parseDouble(value.trim());
+            if (multiplier < 0) {
+                throw new IllegalArgumentException("Multiplier tidak boleh negatif: " + key);
+            }
+            return multiplier;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Multiplier tidak valid: " + key + "=" + value, e);
         }
-        return "";
     }
 }
@@ -11,7 +11,6 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
-import java.util.List;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -23,6 +22,8 @@ import javax.swing.SwingConstants;
 import javax.swing.Timer;
 
 import com.game.characters.BaseCharacter;
+import com.game.skills.effects.EffectKind;
+import com.game.skills.effects.StatusEffect;
 import com.game.utils.ResourceLoader;
 
 /**
@@ -68,6 +69,8 @@ public class BattlePanel extends JPanel {
     // Constants
     private static final String CARD_SKILLS = "SKILLS";
     private static final String CARD_TEXT = "TEXT";
+    private static final Font STATUS_ICON_FONT = new Font("Segoe UI Emoji", Font.PLAIN, 20);
+    private static final Font STATUS_NAME_FONT = new Font("Arial", Font.PLAIN, 10);
 
     // Listeners
     private transient SkillActionListener skillListener;
@@ -610,29 +613,30 @@ public class BattlePanel extends JPanel {
     }
 
     private void drawStatusIcons(Graphics2D g2, BaseCharacter character, int x, int y) {
-        List<String> effects = character.getActiveEffectNames();
-        if (effects.isEmpty())
-            return;
-
-        g2.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 20));
+        // Baca efek langsung dari karakter (tanpa list baru setiap repaint)
         int iconX = x;
+        for (StatusEffect effect = character.getFirstEffect(); effect != null;
+             effect = character.getNextEffect(effect)) {
+            g2.setFont(STATUS_ICON_FONT);
+            g2.drawString(getEffectIcon(effect.getKind()), iconX, y);
 
-        for (String effect : effects) {
-            String icon = getEffectIcon(effect);
-            g2.drawString(icon, iconX, y);
-
-            g2.setFont(new Font(arial, Font.PLAIN, 10));
-            g2.drawString(effect, iconX + 25, y - 5);
-            g2.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 20));
+            g2.setFont(STATUS_NAME_FONT);
+            g2.drawString(effect.getName(), iconX + 25, y - 5);
 
             iconX += 80;
         }
     }
 
-    private String getEffectIcon(String effectName) {
-        if (effectName.contains("Burn")) return "🔥";
-        if (effectName.contains("Freeze")) return "❄️";
-        if (effectName.contains("Guard")) return "🛡️";
-        return "⚡";
+    private String getEffectIcon(EffectKind kind) {
+        switch (kind) {
+            case BURN:
+                return "🔥";
+            case FREEZE:
+                return "❄️";
+            case GUARD:
+                return "🛡️";
+            default:
+                return "⚡";
+        }
     }
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.game.gui;
 
+import com.game.ai.ExpectiminimaxAI;
+import com.game.ai.SearchResult;
 import com.game.battle.Battle;
 import com.game.battle.BattleAction;
 import com.game.battle.BattleActionInfo;
 import com.game.battle.PokemonBattleTextFormatter;
 import com.game.characters.*;
+import com.game.simulation.fast.FastBattleState;
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Main Application Controller untuk Turn-Based Battle Game.
@@ -19,6 +24,8 @@ import java.util.List;
  * - Handle application lifecycle
  */
 public class GameWindow {
+    private static final Logger LOGGER = Logger.getLogger(GameWindow.class.getName());
+
     private JFrame frame;
     private CardLayout cardLayout;
     private JPanel mainContainer;
@@ -34,6 +41,10 @@ public class GameWindow {
     private Battle currentBattle;
     private int playerSelectionStep = 0; // 0 = player1, 1 = player2
 
+    // Mode VS Computer: Player 2 dijalankan AI di worker thread (bukan EDT)
+    private boolean vsComputer;
+    private ExpectiminimaxAI computer;
+
     // Card names
     private static final String MENU_CARD = "MENU";
     private static final String SELECTION_CARD = "SELECTION";
@@ -78,7 +89,10 @@ public class GameWindow {
     private void initializePanels() {
         // Main Menu Panel
         menuPanel = new MainMenuPanel();
-        menuPanel.setCharacterSelectionListener(type -> startCharacterSelection());
+        menuPanel.setCharacterSelectionListener(type -> {
+            vsComputer = "VS_COMPUTER".equals(type);
+            startCharacterSelection();
+        });
 
         // Character Selection Panel
         selectionPanel = new CharacterSelectionPanel();
@@ -129,6 +143,8 @@ public class GameWindow {
     private void startBattle() {
         // Create battle instance
         currentBattle = new Battle(player1, player2);
+        // AI baru per battle supaya worker dari battle sebelumnya tidak berbagi state
+        computer = vsComputer ? new ExpectiminimaxAI() : null;
 
         // Setup battle panel
         battlePanel.updateCharacters(player1, player2);
@@ -148,6 +164,52 @@ public class GameWindow {
 
         // Switch to battle screen
         cardLayout.show(mainContainer, BATTLE_CARD);
+
+        startComputerTurnIfNeeded();
+    }
+
+    /**
+     * Jika giliran milik AI: kunci tombol, salin state battle di EDT, lalu
+     * cari langkah di worker thread dan jalankan hasilnya kembali di EDT.
+     */
+    private void startComputerTurnIfNeeded() {
+        if (computer == null || currentBattle == null || currentBattle.isBattleFinished()
+                || currentBattle.getCurrentPlayer() != player2) {
+            return;
+        }
+        battlePanel.setSkillButtonsEnabled(false);
+
+        Battle battle = currentBattle;
+        ExpectiminimaxAI ai = computer;
+        FastBattleState root = new FastBattleState(1);
+        root.copyFrom(0, battle);
+
+        new SwingWorker<SearchResult, Void>() {
+            @Override
+            protected SearchResult doInBackground() {
+                return ai.search(root, 0);
+            }
+
+            @Override
+            protected void done() {
+                if (battle != currentBattle) {
+                    return; // Battle sudah diganti / kembali ke menu
+                }
+                int skillIndex = 1;
+                try {
+                    SearchResult result = get();
+                    skillIndex = result.getSkillIndex();
+                    if (LOGGER.isLoggable(Level.INFO)) {
+                        LOGGER.info("AI: " + result);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    LOGGER.log(Level.WARNING, "Pencarian AI gagal, pakai Basic Attack", e.getCause());
+                }
+                handleSkillAction(skillIndex - 1);
+            }
+        }.execute();
     }
 
     private void handleSkillAction(int skillIndex) {
@@ -178,9 +240,8 @@ public class GameWindow {
         updateBattleUI();
 
         // Get the last action log to display with Pokemon-style formatting
-        List<BattleAction> actions = currentBattle.getBattleLog().getLastActions(1);
-        if (!actions.isEmpty()) {
-            BattleAction lastAction = actions.get(0);
+        BattleAction lastAction = currentBattle.getBattleLog().getLastAction();
+        if (lastAction != null) {
             String message = formatBattleMessagePokemonStyle(lastAction);
             battlePanel.showBattleTextWithTypewriter(message);
         } else {
@@ -221,6 +282,8 @@ public class GameWindow {
         // Show skills for next player
         battlePanel.showSkills();
         battlePanel.setSkillButtonsEnabled(true);
+
+        startComputerTurnIfNeeded();
     }
 
     private void updateBattleUI() {
@@ -287,6 +350,7 @@ public class GameWindow {
         player1 = null;
         player2 = null;
         currentBattle = null;
+        computer = null;
         playerSelectionStep = 0;
 
         // Reset battle panel UI state
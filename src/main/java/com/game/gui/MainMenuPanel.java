@@ -31,6 +31,7 @@ public class MainMenuPanel extends JPanel {
         JButton howToPlayButton;
         JButton exitButton;
         JButton startButton;
+        JButton vsComputerButton;
         // Game Title
         JLabel titleLabel = new JLabel("TURN-BASED BATTLE", SwingConstants.CENTER);
         titleLabel.setFont(new Font(arial, Font.BOLD, 48));
@@ -50,7 +51,7 @@ public class MainMenuPanel extends JPanel {
         int buttonHeight = 55;
         int startX = (820 - buttonWidth) / 2;
         int startY = 240;
-        int spacing = 25;
+        int spacing = 15;
 
         // Start Game Button
         startButton = createMenuButton("START GAME", new Color(50, 180, 80));
@@ -62,15 +63,25 @@ public class MainMenuPanel extends JPanel {
         });
         add(startButton);
 
+        // VS Computer Button (Player 2 dimainkan AI)
+        vsComputerButton = createMenuButton("VS COMPUTER", new Color(150, 90, 200));
+        vsComputerButton.setBounds(startX, startY + buttonHeight + spacing, buttonWidth, buttonHeight);
+        vsComputerButton.addActionListener(e -> {
+            if (listener != null) {
+                listener.onCharacterSelected("VS_COMPUTER");
+            }
+        });
+        add(vsComputerButton);
+
         // How to Play Button
         howToPlayButton = createMenuButton("HOW TO PLAY", new Color(80, 120, 200));
-        howToPlayButton.setBounds(startX, startY + buttonHeight + spacing, buttonWidth, buttonHeight);
+        howToPlayButton.setBounds(startX, startY + (buttonHeight + spacing) * 2, buttonWidth, buttonHeight);
         howToPlayButton.addActionListener(e -> showHowToPlay());
         add(howToPlayButton);
 
         // Exit Button
         exitButton = createMenuButton("EXIT", new Color(200, 80, 80));
-        exitButton.setBounds(startX, startY + (buttonHeight + spacing) * 2, buttonWidth, buttonHeight);
+        exitButton.setBounds(startX, startY + (buttonHeight + spacing) * 3, buttonWidth, buttonHeight);
         exitButton.addActionListener(e -> {
             int choice = JOptionPane.showConfirmDialog(
                     this,
@@ -135,7 +146,8 @@ public class MainMenuPanel extends JPanel {
                 "• Each player takes turns selecting skills\n" +
                 "• Skills cost FP (Focus Points) to use\n" +
                 "• FP regenerates each turn cycle\n" +
-                "• Turn order is determined by Speed stat\n\n" +
+                "• Turn order is determined by Speed stat\n" +
+                "• VS COMPUTER: Player 2 is played by the AI\n\n" +
                 "ELEMENTAL SYSTEM:\n" +
                 "Fire > Wind > Earth > Water > Fire\n" +
                 "• Advantage: 1.5x damage\n" +
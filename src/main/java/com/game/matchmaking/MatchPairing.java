@@ -0,0 +1,49 @@
+package com.game.matchmaking;
+
+import com.game.battle.Battle;
+import com.game.characters.CharacterFactory;
+
+/**
+ * Dua pemain yang dipasangkan matchmaking, siap dijadikan Battle.
+ */
+public final class MatchPairing {
+
+    private final QueuedPlayer player1;
+    private final QueuedPlayer player2;
+    private final long matchedAtMillis;
+
+    MatchPairing(QueuedPlayer player1, QueuedPlayer player2, long matchedAtMillis) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.matchedAtMillis = matchedAtMillis;
+    }
+
+    /**
+     * Membuat Battle (belum di-start) dengan elemen pilihan kedua pemain.
+     */
+    public Battle createBattle(long seed) {
+        return new Battle(
+                CharacterFactory.createCharacter(player1.getElement(), "Player " + player1.getPlayerId()),
+                CharacterFactory.createCharacter(player2.getElement(), "Player " + player2.getPlayerId()),
+                seed);
+    }
+
+    public QueuedPlayer getPlayer1() {
+        return player1;
+    }
+
+    public QueuedPlayer getPlayer2() {
+        return player2;
+    }
+
+    public int getRatingDifference() {
+        return Math.abs(player1.getRating() - player2.getRating());
+    }
+
+    /**
+     * Waktu tunggu terlama di antara kedua pemain (milidetik).
+     */
+    public long getMaxWaitMillis() {
+        return matchedAtMillis - Math.min(player1.getEnqueuedAtMillis(), player2.getEnqueuedAtMillis());
+    }
+}
@@ -0,0 +1,117 @@
+package com.game.matchmaking;
+
+import com.game.characters.ElementType;
+import com.game.characters.ElementalAdvantage;
+import com.game.server.LatencyHistogram;
+import com.game.utils.SplitMixRandom;
+import java.util.List;
+
+/**
+ * Benchmark sintetis MatchmakingQueue.
+ *
+ * Antrean diisi QUEUED pemain (rating ~ normal(1500, 350), elemen acak, waktu
+ * masuk tersebar dalam 30 detik terakhir), lalu QUERIES pemain baru datang
+ * satu per milidetik (clock palsu): enqueue + findMatch diukur per
+ * kedatangan. Setiap pasangan yang terbentuk diganti satu pemain baru supaya
+ * ukuran antrean tetap. Terakhir satu putaran matchWaiting atas seluruh antrean.
+ *
+ * Usage: MatchmakingBenchMain [QUEUED] [QUERIES] [SEED]
+ * Contoh: mvn exec:java@matchmaking -Dexec.args="100000 200000 42"
+ */
+public class MatchmakingBenchMain {
+
+    private static final ElementType[] ELEMENTS = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND};
+    private static final double MEAN_RATING = 1500;
+    private static final double RATING_DEVIATION = 350;
+    private static final long PREFILL_SPREAD_MS = 30_000;
+
+    private MatchmakingBenchMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        int queued = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : SplitMixRandom.newSeed();
+
+        long[] now = {0};
+        MatchmakingQueue queue = new MatchmakingQueue(() -> now[0]);
+        SplitMixRandom random = new SplitMixRandom(seed);
+        long nextId = 1;
+
+        for (int i = 0; i < queued; i++) {
+            now[0] = (long) i * PREFILL_SPREAD_MS / queued;
+            enqueueRandom(queue, nextId++, random);
+        }
+        now[0] = PREFILL_SPREAD_MS;
+
+        System.out.println("=== MATCHMAKING BENCHMARK ===");
+        System.out.println("Antrean " + queue.size() + " pemain, " + queries + " kedatangan, seed " + seed);
+
+        // Warmup JIT dengan antrean yang sama, lalu ukur
+        nextId = run(queue, random, now, queries / 4, nextId, new LatencyHistogram(), new long[3]);
+
+        LatencyHistogram latency = new LatencyHistogram();
+        long[] totals = new long[3];
+        run(queue, random, now, queries, nextId, latency, totals);
+
+        long pairs = totals[0];
+        System.out.printf("Query (µs)      : p50=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                latency.percentile(50) / 1000.0, latency.percentile(99) / 1000.0,
+                latency.percentile(99.9) / 1000.0, latency.getMax() / 1000.0);
+        System.out.printf("Langsung dapat  : %.1f%% kedatangan%n", 100.0 * pairs / queries);
+        System.out.printf("Selisih rating  : %.1f rata-rata%n", pairs == 0 ? 0 : (double) totals[1] / pairs);
+        System.out.printf("Elemen netral   : %.1f%% pasangan%n", pairs == 0 ? 0 : 100.0 * totals[2] / pairs);
+        System.out.println("Ukuran antrean  : " + queue.size());
+
+        int before = queue.size();
+        long start = System.nanoTime();
+        List<MatchPairing> swept = queue.matchWaiting(Integer.MAX_VALUE);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("matchWaiting    : %d pasangan dari %d pemain dalam %.1f ms (%.2f µs/pemain)%n",
+                swept.size(), before, elapsed / 1_000_000.0, elapsed / 1000.0 / before);
+    }
+
+    /**
+     * @param totals Diisi [pasangan, total selisih rating, pasangan netral]
+     * @return Id pemain berikutnya yang belum dipakai
+     */
+    private static long run(MatchmakingQueue queue, SplitMixRandom random, long[] now, int arrivals,
+                            long firstId, LatencyHistogram latency, long[] totals) {
+        long nextId = firstId;
+        for (int i = 0; i < arrivals; i++) {
+            now[0]++;
+            long id = nextId++;
+            long start = System.nanoTime();
+            enqueueRandom(queue, id, random);
+            MatchPairing pairing = queue.findMatch(id);
+            latency.record(System.nanoTime() - start);
+
+            if (pairing != null) {
+                totals[0]++;
+                totals[1] += pairing.getRatingDifference();
+                ElementType a = pairing.getPlayer1().getElement();
+                ElementType b = pairing.getPlayer2().getElement();
+                if (ElementalAdvantage.getMultiplier(a, b) == ElementalAdvantage.getMultiplier(b, a)) {
+                    totals[2]++;
+                }
+                // Pemain lama yang terpasang diganti supaya ukuran antrean tetap
+                enqueueRandom(queue, nextId++, random);
+            }
+        }
+        return nextId;
+    }
+
+    private static void enqueueRandom(MatchmakingQueue queue, long id, SplitMixRandom random) {
+        queue.enqueue(id, ELEMENTS[random.nextInt(ELEMENTS.length)], gaussianRating(random));
+    }
+
+    private static int gaussianRating(SplitMixRandom random) {
+        // Box-Muller
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        double gaussian = Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+        return (int) Math.max(0, Math.round(MEAN_RATING + RATING_DEVIATION * gaussian));
+    }
+}
@@ -0,0 +1,311 @@
+package com.game.matchmaking;
+
+import com.game.characters.CharacterArchetype;
+import com.game.characters.ElementType;
+import com.game.characters.ElementalAdvantage;
+import com.utils.Constants;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Antrean matchmaking mode server: memasangkan pemain berdasarkan rating dan
+ * elemen pilihannya.
+ *
+ * Index = band rating (lebar MATCHMAKING_RATING_BAND) x elemen, masing-masing
+ * daftar FIFO. Pencarian lawan hanya memeriksa band di dalam window rating
+ * pemain (paling banyak MATCHMAKING_MAX_SCAN kandidat per daftar), jadi
+ * biayanya tidak tergantung jumlah pemain yang antre.
+ *
+ * Aturan pasangan:
+ * - selisih rating masuk window kedua pemain; window melebar selama menunggu
+ * - elemen netral (tidak ada yang unggul) selalu boleh; pemain yang elemennya
+ *   kalah unggul baru mau setelah menunggu MATCHMAKING_ELEMENT_RELAX_MS
+ * - dari kandidat yang lolos, dipilih selisih rating terkecil
+ *
+ * Tidak thread-safe: panggil dari satu thread (mis. satu shard
+ * ShardedBattleExecutor).
+ */
+public final class MatchmakingQueue {
+
+    private static final ElementType[] ELEMENTS = ElementType.values();
+    private static final int BAND_COUNT = Constants.MATCHMAKING_MAX_RATING / Constants.MATCHMAKING_RATING_BAND + 1;
+
+    /**
+     * [self][lawan] = true jika elemen lawan unggul atas elemen self.
+     */
+    private static final boolean[][] DISADVANTAGED = new boolean[ELEMENTS.length][ELEMENTS.length];
+
+    static {
+        for (ElementType self : ELEMENTS) {
+            for (ElementType opponent : ELEMENTS) {
+                DISADVANTAGED[self.ordinal()][opponent.ordinal()] =
+                        ElementalAdvantage.getMultiplier(opponent, self) > ElementalAdvantage.getMultiplier(self, opponent);
+            }
+        }
+    }
+
+    private final QueuedPlayer[][] bandHeads = new QueuedPlayer[BAND_COUNT][ELEMENTS.length];
+    private final QueuedPlayer[][] bandTails = new QueuedPlayer[BAND_COUNT][ELEMENTS.length];
+    private final Map<Long, QueuedPlayer> byId = new HashMap<>();
+    private final LongSupplier clock;
+    private QueuedPlayer oldest;
+    private QueuedPlayer newest;
+
+    public MatchmakingQueue() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock Sumber waktu dalam milidetik (bisa dipalsukan untuk simulasi)
+     */
+    public MatchmakingQueue(LongSupplier clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock tidak boleh null");
+        }
+        this.clock = clock;
+    }
+
+    // ====================================================================
+    // ANTREAN
+    // ====================================================================
+
+    /**
+     * Memasukkan pemain ke antrean (tanpa langsung mencari lawan, lihat findMatch).
+     */
+    public QueuedPlayer enqueue(long playerId, ElementType element, int rating) {
+        CharacterArchetype.requirePlayable(element);
+        if (rating < 0) {
+            throw new IllegalArgumentException("Rating tidak boleh negatif: " + rating);
+        }
+        if (byId.containsKey(playerId)) {
+            throw new IllegalArgumentException("Pemain " + playerId + " sudah ada di antrean");
+        }
+
+        QueuedPlayer player = new QueuedPlayer(playerId, element, rating, clock.getAsLong());
+        player.band = bandOf(rating);
+        linkBand(player);
+        linkQueue(player);
+        byId.put(playerId, player);
+        return player;
+    }
+
+    /**
+     * @return false jika pemain tidak ada di antrean (mis. sudah dipasangkan)
+     */
+    public boolean cancel(long playerId) {
+        QueuedPlayer player = byId.get(playerId);
+        if (player == null) {
+            return false;
+        }
+        remove(player);
+        return true;
+    }
+
+    /**
+     * Mencari lawan untuk satu pemain. Jika ketemu, keduanya keluar dari antrean.
+     *
+     * @return Pasangan (pemain yang menunggu lebih lama = player1), atau null
+     */
+    public MatchPairing findMatch(long playerId) {
+        QueuedPlayer player = byId.get(playerId);
+        if (player == null) {
+            throw new IllegalArgumentException("Pemain " + playerId + " tidak ada di antrean");
+        }
+        long now = clock.getAsLong();
+        QueuedPlayer opponent = findOpponent(player, now);
+        if (opponent == null) {
+            return null;
+        }
+        return pair(player, opponent, now);
+    }
+
+    /**
+     * Satu putaran matchmaking untuk pemain yang menunggu, dari yang paling
+     * lama. Dipanggil berkala, supaya window yang melebar ikut dipakai.
+     *
+     * @param maxPairs Batas pasangan per putaran
+     */
+    public List<MatchPairing> matchWaiting(int maxPairs) {
+        List<MatchPairing> pairings = new ArrayList<>();
+        long now = clock.getAsLong();
+        QueuedPlayer player = oldest;
+        while (player != null && pairings.size() < maxPairs) {
+            QueuedPlayer next = player.queueNext;
+            QueuedPlayer opponent = findOpponent(player, now);
+            if (opponent != null) {
+                if (opponent == next) {
+                    next = next.queueNext;
+                }
+                pairings.add(pair(player, opponent, now));
+            }
+            player = next;
+        }
+        return pairings;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public boolean contains(long playerId) {
+        return byId.containsKey(playerId);
+    }
+
+    /**
+     * Lama pemain terdepan sudah menunggu (milidetik), 0 jika antrean kosong.
+     */
+    public long getOldestWaitMillis() {
+        return oldest == null ? 0 : clock.getAsLong() - oldest.getEnqueuedAtMillis();
+    }
+
+    // ====================================================================
+    // PENCARIAN
+    // ====================================================================
+
+    /**
+     * Memeriksa band dari yang terdekat ke rating pemain, berhenti begitu
+     * band berikutnya tidak mungkin lebih dekat dari kandidat terbaik.
+     */
+    private QueuedPlayer findOpponent(QueuedPlayer player, long now) {
+        int window = window(player, now);
+        int lowBand = bandOf(Math.max(0, player.getRating() - window));
+        int highBand = bandOf(player.getRating() + window);
+        int home = player.band;
+
+        QueuedPlayer best = null;
+        int bestDifference = Integer.MAX_VALUE;
+        for (int distance = 0; home - distance >= lowBand || home + distance <= highBand; distance++) {
+            if (best != null && bestDifference <= (distance - 1) * Constants.MATCHMAKING_RATING_BAND) {
+                break;
+            }
+            for (int side = 0; side < 2; side++) {
+                int band = side == 0 ? home - distance : home + distance;
+                if ((side == 1 && distance == 0) || band < lowBand || band > highBand) {
+                    continue;
+                }
+                QueuedPlayer candidate = bestInBand(player, band, window, now);
+                if (candidate != null) {
+                    int difference = Math.abs(candidate.getRating() - player.getRating());
+                    if (difference < bestDifference) {
+                        best = candidate;
+                        bestDifference = difference;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private QueuedPlayer bestInBand(QueuedPlayer player, int band, int window, long now) {
+        int self = player.getElement().ordinal();
+        boolean playerRelaxed = now - player.getEnqueuedAtMillis() >= Constants.MATCHMAKING_ELEMENT_RELAX_MS;
+
+        QueuedPlayer best = null;
+        int bestDifference = Integer.MAX_VALUE;
+        for (int element = 0; element < ELEMENTS.length; element++) {
+            if (DISADVANTAGED[self][element] && !playerRelaxed) {
+                continue;
+            }
+            boolean candidateDisadvantaged = DISADVANTAGED[element][self];
+            int scanned = 0;
+            for (QueuedPlayer candidate = bandHeads[band][element];
+                 candidate != null && scanned < Constants.MATCHMAKING_MAX_SCAN;
+                 candidate = candidate.bandNext, scanned++) {
+                if (candidate == player) {
+                    continue;
+                }
+                if (candidateDisadvantaged
+                        && now - candidate.getEnqueuedAtMillis() < Constants.MATCHMAKING_ELEMENT_RELAX_MS) {
+                    // Semua kandidat berikutnya lebih baru, jadi juga belum mau
+                    break;
+                }
+                int difference = Math.abs(candidate.getRating() - player.getRating());
+                if (difference < bestDifference && difference <= window && difference <= window(candidate, now)) {
+                    best = candidate;
+                    bestDifference = difference;
+                }
+            }
+        }
+        return best;
+    }
+
+    private MatchPairing pair(QueuedPlayer player, QueuedPlayer opponent, long now) {
+        remove(player);
+        remove(opponent);
+        if (opponent.getEnqueuedAtMillis() < player.getEnqueuedAtMillis()) {
+            return new MatchPairing(opponent, player, now);
+        }
+        return new MatchPairing(player, opponent, now);
+    }
+
+    private static int window(QueuedPlayer player, long now) {
+        long waited = Math.max(0, now - player.getEnqueuedAtMillis());
+        long window = Constants.MATCHMAKING_INITIAL_WINDOW
+                + Constants.MATCHMAKING_WINDOW_GROWTH_PER_SECOND * waited / 1000;
+        return (int) Math.min(Constants.MATCHMAKING_MAX_WINDOW, window);
+    }
+
+    private static int bandOf(int rating) {
+        return Math.min(BAND_COUNT - 1, rating / Constants.MATCHMAKING_RATING_BAND);
+    }
+
+    // ====================================================================
+    // LINKED LIST INTRUSIF
+    // ====================================================================
+
+    private void linkBand(QueuedPlayer player) {
+        int element = player.getElement().ordinal();
+        QueuedPlayer tail = bandTails[player.band][element];
+        player.bandPrev = tail;
+        if (tail == null) {
+            bandHeads[player.band][element] = player;
+        } else {
+            tail.bandNext = player;
+        }
+        bandTails[player.band][element] = player;
+    }
+
+    private void linkQueue(QueuedPlayer player) {
+        player.queuePrev = newest;
+        if (newest == null) {
+            oldest = player;
+        } else {
+            newest.queueNext = player;
+        }
+        newest = player;
+    }
+
+    private void remove(QueuedPlayer player) {
+        int element = player.getElement().ordinal();
+        if (player.bandPrev == null) {
+            bandHeads[player.band][element] = player.bandNext;
+        } else {
+            player.bandPrev.bandNext = player.bandNext;
+        }
+        if (player.bandNext == null) {
+            bandTails[player.band][element] = player.bandPrev;
+        } else {
+            player.bandNext.bandPrev = player.bandPrev;
+        }
+
+        if (player.queuePrev == null) {
+            oldest = player.queueNext;
+        } else {
+            player.queuePrev.queueNext = player.queueNext;
+        }
+        if (player.queueNext == null) {
+            newest = player.queuePrev;
+        } else {
+            player.queueNext.queuePrev = player.queuePrev;
+        }
+
+        player.bandPrev = null;
+        player.bandNext = null;
+        player.queuePrev = null;
+        player.queueNext = null;
+        byId.remove(player.getPlayerId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.game.matchmaking;
+
+import com.game.characters.ElementType;
+
+/**
+ * Pemain di antrean matchmaking: id, elemen pilihan, rating, dan waktu masuk.
+ *
+ * Sekaligus node dua linked list intrusif milik MatchmakingQueue (daftar per
+ * band+elemen dan urutan masuk global), jadi masuk/keluar antrean O(1)
+ * tanpa alokasi node tambahan.
+ */
+public final class QueuedPlayer {
+
+    private final long playerId;
+    private final ElementType element;
+    private final int rating;
+    private final long enqueuedAtMillis;
+
+    // Dikelola MatchmakingQueue
+    int band;
+    QueuedPlayer bandPrev;
+    QueuedPlayer bandNext;
+    QueuedPlayer queuePrev;
+    QueuedPlayer queueNext;
+
+    QueuedPlayer(long playerId, ElementType element, int rating, long enqueuedAtMillis) {
+        this.playerId = playerId;
+        this.element = element;
+        this.rating = rating;
+        this.enqueuedAtMillis = enqueuedAtMillis;
+    }
+
+    public long getPlayerId() {
+        return playerId;
+    }
+
+    public ElementType getElement() {
+        return element;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public long getEnqueuedAtMillis() {
+        return enqueuedAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "Player " + playerId + " (" + element + ", " + rating + ")";
+    }
+}
@@ -0,0 +1,209 @@
+package com.game.rating;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.characters.ElementType;
+import com.utils.Constants;
+import java.io.IOException;
+
+/**
+ * Mengubah hasil pertandingan menjadi rating Elo, per pemain dan per elemen.
+ *
+ * Hasil dikumpulkan dulu di batch (array primitif, tanpa objek per
+ * pertandingan) dan diterapkan ke RatingStore saat batch penuh atau flush():
+ * pertumbuhan file dicek sekali per batch, lalu setiap hasil hanya mengubah
+ * dua record pemain (plus dua record elemen jika elemennya beda) di tempat.
+ * Urutan penerapan = urutan record(), jadi rating akhir sama dengan
+ * memproses hasil satu per satu.
+ *
+ * Pemain dengan kurang dari RATING_PROVISIONAL_GAMES pertandingan memakai
+ * K-factor lebih besar. Tidak thread-safe: satu engine per store.
+ */
+public final class RatingEngine {
+
+    // 10^(d / scale) = e^(d * ln10 / scale); Math.exp lebih murah dari Math.pow
+    private static final double LN10_PER_SCALE = Math.log(10.0) / Constants.RATING_SCALE;
+    private static final double[] SCORE_PLAYER1 = {0.5, 1.0, 0.0}; // index = outcome
+
+    private final RatingStore store;
+    private final int[] player1s;
+    private final int[] player2s;
+    private final byte[] elements;
+    private final byte[] outcomes;
+    private int pending;
+    private int maxPendingId = -1;
+    private long applied;
+
+    public RatingEngine(RatingStore store) {
+        this(store, Constants.RATING_BATCH_SIZE);
+    }
+
+    public RatingEngine(RatingStore store, int batchSize) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store tidak boleh null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch harus lebih dari 0 hasil");
+        }
+        this.store = store;
+        this.player1s = new int[batchSize];
+        this.player2s = new int[batchSize];
+        this.elements = new byte[batchSize];
+        this.outcomes = new byte[batchSize];
+    }
+
+    // ====================================================================
+    // INPUT
+    // ====================================================================
+
+    /**
+     * Mencatat battle yang sudah berakhir: isBattleFinished() atau sudah
+     * melewati SIMULATION_MAX_TURNS. Winner null (batas turn tercapai)
+     * dihitung seri.
+     *
+     * @return Outcome yang dicatat (RatingFormat.OUTCOME_*)
+     * @throws IllegalStateException jika battle masih berjalan
+     */
+    public int recordBattle(int player1, int player2, Battle battle) throws IOException {
+        if (battle == null) {
+            throw new IllegalArgumentException("Battle tidak boleh null");
+        }
+        if (!battle.isBattleFinished() && battle.getTurnCount() <= Constants.SIMULATION_MAX_TURNS) {
+            throw new IllegalStateException("Battle belum selesai (turn " + battle.getTurnCount() + ")");
+        }
+        BaseCharacter winner = battle.getWinner();
+        int outcome = RatingFormat.OUTCOME_DRAW;
+        if (winner == battle.getPlayer1()) {
+            outcome = RatingFormat.OUTCOME_PLAYER1_WIN;
+        } else if (winner == battle.getPlayer2()) {
+            outcome = RatingFormat.OUTCOME_PLAYER2_WIN;
+        }
+        record(player1, player2, battle.getPlayer1().getElementType(), battle.getPlayer2().getElementType(),
+                outcome);
+        return outcome;
+    }
+
+    /**
+     * Mencatat satu hasil; diterapkan ke store saat batch penuh atau flush().
+     *
+     * @param outcome RatingFormat.OUTCOME_DRAW / OUTCOME_PLAYER1_WIN / OUTCOME_PLAYER2_WIN
+     */
+    public void record(int player1, int player2, ElementType element1, ElementType element2, int outcome)
+            throws IOException {
+        validate(player1, player2, outcome);
+        int packed = RatingFormat.packElements(RatingStore.elementSlot(element1), RatingStore.elementSlot(element2));
+        if (pending == player1s.length) {
+            flush();
+        }
+        player1s[pending] = player1;
+        player2s[pending] = player2;
+        elements[pending] = (byte) packed;
+        outcomes[pending] = (byte) outcome;
+        maxPendingId = Math.max(maxPendingId, Math.max(player1, player2));
+        pending++;
+    }
+
+    /**
+     * Memutar ulang seluruh log dalam satu pass berurutan.
+     *
+     * @return Jumlah hasil yang diterapkan
+     */
+    public long rerate(ResultLogReader log) throws IOException {
+        long[] count = {0};
+        IOException[] failure = {null};
+        log.scan((player1, player2, element1, element2, outcome) -> {
+            try {
+                record(player1, player2, element1, element2, outcome);
+            } catch (IOException e) {
+                failure[0] = e;
+                return false;
+            }
+            count[0]++;
+            return true;
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        flush();
+        return count[0];
+    }
+
+    static void validate(int player1, int player2, int outcome) {
+        if (player1 < 0 || player2 < 0) {
+            throw new IllegalArgumentException("Id pemain tidak boleh negatif: " + player1 + " vs " + player2);
+        }
+        if (player1 == player2) {
+            throw new IllegalArgumentException("Pemain tidak bisa melawan dirinya sendiri: " + player1);
+        }
+        if (outcome < RatingFormat.OUTCOME_DRAW || outcome > RatingFormat.OUTCOME_PLAYER2_WIN) {
+            throw new IllegalArgumentException("Outcome tidak dikenal: " + outcome);
+        }
+    }
+
+    // ====================================================================
+    // PENERAPAN BATCH
+    // ====================================================================
+
+    /**
+     * Menerapkan semua hasil yang masih di batch ke store (belum force ke disk).
+     */
+    public void flush() throws IOException {
+        if (pending == 0) {
+            return;
+        }
+        store.ensureCapacity(maxPendingId);
+        for (int i = 0; i < pending; i++) {
+            double score = SCORE_PLAYER1[outcomes[i]];
+            apply(RatingStore.playerOffset(player1s[i]), RatingStore.playerOffset(player2s[i]), score, true);
+
+            int element1 = (elements[i] >> 4) & 0xF;
+            int element2 = elements[i] & 0xF;
+            if (element1 != element2) {
+                apply(RatingStore.elementOffset(element1), RatingStore.elementOffset(element2), score, false);
+            }
+        }
+        applied += pending;
+        pending = 0;
+        maxPendingId = -1;
+    }
+
+    private void apply(int offset1, int offset2, double score1, boolean player) {
+        double rating1 = store.ratingAt(offset1);
+        double rating2 = store.ratingAt(offset2);
+        double expected1 = expectedScore(rating1, rating2);
+        double delta1 = kFactor(offset1, player) * (score1 - expected1);
+        double delta2 = kFactor(offset2, player) * (expected1 - score1);
+        store.update(offset1, rating1 + delta1, score1 == 1.0);
+        store.update(offset2, rating2 + delta2, score1 == 0.0);
+    }
+
+    private double kFactor(int offset, boolean player) {
+        if (!player) {
+            return Constants.RATING_ELEMENT_K_FACTOR;
+        }
+        return store.gamesAt(offset) < Constants.RATING_PROVISIONAL_GAMES
+                ? Constants.RATING_PROVISIONAL_K_FACTOR
+                : Constants.RATING_K_FACTOR;
+    }
+
+    /**
+     * Peluang (skor harapan) pemain dengan rating1 melawan rating2.
+     */
+    public static double expectedScore(double rating1, double rating2) {
+        return 1.0 / (1.0 + Math.exp((rating2 - rating1) * LN10_PER_SCALE));
+    }
+
+    /**
+     * Jumlah hasil yang sudah diterapkan ke store.
+     */
+    public long getApplied() {
+        return applied;
+    }
+
+    /**
+     * Jumlah hasil yang masih menunggu di batch.
+     */
+    public int getPending() {
+        return pending;
+    }
+}
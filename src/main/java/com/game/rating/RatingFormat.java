@@ -0,0 +1,115 @@
+package com.game.rating;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Layout biner file rating (RatingStore) dan log hasil pertandingan (ResultLog).
+ *
+ * Kedua file diawali header 16 byte: magic (int), version (short),
+ * recordSize (short), lalu 8 byte yang artinya tergantung file.
+ *
+ * Store - header[8..16) = kapasitas pemain (long), lalu ELEMENT_SLOTS record
+ * elemen (index = ordinal ElementType) diikuti record pemain (index = id):
+ * <pre>
+ *  0  double rating
+ *  8  int    games   (0 = belum pernah bertanding, rating dianggap RATING_INITIAL)
+ * 12  int    wins
+ * </pre>
+ *
+ * Log - satu record per pertandingan, urut waktu:
+ * <pre>
+ *  0  int  player1
+ *  4  int  player2
+ *  8  byte elements (ordinal elemen player1 di 4 bit atas, player2 di 4 bit bawah)
+ *  9  byte outcome  (OUTCOME_DRAW / OUTCOME_PLAYER1_WIN / OUTCOME_PLAYER2_WIN)
+ * </pre>
+ */
+public final class RatingFormat {
+
+    public static final int HEADER_SIZE = 16;
+    public static final short VERSION = 1;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    public static final int STORE_MAGIC = 0x52544E47; // "RTNG"
+    public static final int STORE_RECORD_SIZE = 16;
+    public static final int LOG_MAGIC = 0x524C4F47; // "RLOG"
+    public static final int LOG_RECORD_SIZE = 10;
+
+    /**
+     * Elemen yang punya karakter (FIRE, WATER, EARTH, WIND); NEUTRAL tidak dipakai.
+     */
+    public static final int ELEMENT_SLOTS = 4;
+
+    // Offset field record store
+    static final int OFF_RATING = 0;
+    static final int OFF_GAMES = 8;
+    static final int OFF_WINS = 12;
+
+    // Offset field record log
+    static final int OFF_PLAYER1 = 0;
+    static final int OFF_PLAYER2 = 4;
+    static final int OFF_ELEMENTS = 8;
+    static final int OFF_OUTCOME = 9;
+
+    static final int OFF_HEADER_EXTRA = 8;
+
+    public static final int OUTCOME_DRAW = 0;
+    public static final int OUTCOME_PLAYER1_WIN = 1;
+    public static final int OUTCOME_PLAYER2_WIN = 2;
+
+    private RatingFormat() {
+        // Private constructor to prevent instantiation
+    }
+
+    static void writeHeader(FileChannel channel, int magic, int recordSize, long extra) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        header.putInt(magic);
+        header.putShort(VERSION);
+        header.putShort((short) recordSize);
+        header.putLong(extra);
+        header.flip();
+        long position = 0;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+    }
+
+    /**
+     * @return 8 byte terakhir header (isinya tergantung jenis file)
+     */
+    static long validateHeader(FileChannel channel, int magic, int recordSize, String kind) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("File " + kind + " terlalu kecil untuk header");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        long position = 0;
+        while (header.hasRemaining()) {
+            int read = channel.read(header, position);
+            if (read < 0) {
+                throw new IOException("Header " + kind + " tidak lengkap");
+            }
+            position += read;
+        }
+        header.flip();
+
+        if (header.getInt() != magic) {
+            throw new IOException("Bukan file " + kind + " (magic salah)");
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException("Versi " + kind + " tidak didukung: " + version);
+        }
+        short size = header.getShort();
+        if (size != recordSize) {
+            throw new IOException("Ukuran record " + kind + " tidak cocok: " + size);
+        }
+        return header.getLong();
+    }
+
+    static int packElements(int element1, int element2) {
+        return (element1 << 4) | element2;
+    }
+}
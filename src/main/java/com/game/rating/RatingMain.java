@@ -0,0 +1,280 @@
+package com.game.rating;
+
+import com.game.battle.Battle;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.characters.ElementalAdvantage;
+import com.game.simulation.BattleSimulator;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * CLI rating: memainkan battle sungguhan, membuat log hasil sintetis,
+ * me-rating ulang log dalam satu pass, dan menampilkan rating teratas.
+ *
+ * Log sintetis memakai "kemampuan asli" tersembunyi per pemain
+ * (~ normal(1500, 350), diturunkan dari seed + id) ditambah kekuatan elemen
+ * dan bonus keunggulan elemen. Jika SEED yang sama diberikan ke rerate,
+ * korelasi rating hasil dengan kemampuan asli ikut dicetak.
+ *
+ * Usage:
+ *   RatingMain play STORE [BATTLES] [PLAYERS] [SEED]
+ *   RatingMain generate LOG [RESULTS] [PLAYERS] [SEED]
+ *   RatingMain rerate LOG STORE [SEED]
+ *   RatingMain top STORE [N]
+ * Contoh: mvn exec:java@rating -Dexec.args="generate results.log 100000000 1000000 42"
+ */
+public class RatingMain {
+
+    private static final ElementType[] ELEMENTS = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND};
+
+    // Model log sintetis (dalam poin rating)
+    private static final double MEAN_SKILL = 1500;
+    private static final double SKILL_DEVIATION = 350;
+    private static final double[] ELEMENT_STRENGTH = {40, 0, -25, -15}; // index = ordinal
+    private static final double ADVANTAGE_BONUS = 80;
+    private static final double DRAW_PROBABILITY = 0.02;
+
+    private RatingMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            printUsage();
+            return;
+        }
+        String mode = args[0];
+        if ("play".equals(mode)) {
+            play(Paths.get(args[1]), intArg(args, 2, 10_000), intArg(args, 3, 1000), seedArg(args, 4));
+        } else if ("generate".equals(mode)) {
+            generate(Paths.get(args[1]), args.length > 2 ? Long.parseLong(args[2]) : 10_000_000L,
+                    intArg(args, 3, 1_000_000), seedArg(args, 4));
+        } else if ("rerate".equals(mode) && args.length >= 3) {
+            rerate(Paths.get(args[1]), Paths.get(args[2]), args.length > 3 ? Long.valueOf(args[3]) : null);
+        } else if ("top".equals(mode)) {
+            top(Paths.get(args[1]), intArg(args, 2, 10));
+        } else {
+            printUsage();
+        }
+    }
+
+    // ====================================================================
+    // MODE
+    // ====================================================================
+
+    /**
+     * Battle sungguhan (RandomSkillPolicy) antar pemain acak; hasilnya lewat
+     * RatingEngine.recordBattle langsung ke store.
+     */
+    private static void play(Path storePath, int battles, int players, long seed) throws IOException {
+        if (players < 2) {
+            throw new IllegalArgumentException("Minimal 2 pemain");
+        }
+        GameLogging.setQuiet(true);
+        BattleSimulator simulator = new BattleSimulator();
+        SplitMixRandom random = new SplitMixRandom(seed);
+        int[] outcomes = new int[3];
+
+        long start = System.nanoTime();
+        try (RatingStore store = new RatingStore(storePath)) {
+            RatingEngine engine = new RatingEngine(store);
+            for (int b = 0; b < battles; b++) {
+                int player1 = random.nextInt(players);
+                int player2 = (player1 + 1 + random.nextInt(players - 1)) % players;
+                ElementType element1 = ELEMENTS[random.nextInt(ELEMENTS.length)];
+                ElementType element2 = ELEMENTS[random.nextInt(ELEMENTS.length)];
+                long battleSeed = SplitMixRandom.mix64(seed + b);
+
+                Battle battle = new Battle(
+                        CharacterFactory.createCharacter(element1, "Player " + player1),
+                        CharacterFactory.createCharacter(element2, "Player " + player2),
+                        battleSeed);
+                simulator.simulate(battle, new SplitMixRandom(battleSeed).split());
+                outcomes[engine.recordBattle(player1, player2, battle)]++;
+            }
+            engine.flush();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.println("=== RATING: PLAY ===");
+            System.out.printf("%d battle dalam %.2f detik (%.0f battle/detik)%n", battles, seconds, battles / seconds);
+            System.out.println("P1 menang " + outcomes[RatingFormat.OUTCOME_PLAYER1_WIN]
+                    + ", P2 menang " + outcomes[RatingFormat.OUTCOME_PLAYER2_WIN]
+                    + ", seri " + outcomes[RatingFormat.OUTCOME_DRAW]);
+            printElements(store);
+        }
+    }
+
+    private static void generate(Path logPath, long results, int players, long seed) throws IOException {
+        if (players < 2) {
+            throw new IllegalArgumentException("Minimal 2 pemain");
+        }
+        double[] skills = hiddenSkills(players, seed);
+        SplitMixRandom random = new SplitMixRandom(SplitMixRandom.mix64(~seed));
+
+        long start = System.nanoTime();
+        try (ResultLogWriter writer = new ResultLogWriter(logPath)) {
+            for (long r = 0; r < results; r++) {
+                int player1 = random.nextInt(players);
+                int player2 = (player1 + 1 + random.nextInt(players - 1)) % players;
+                int element1 = random.nextInt(ELEMENTS.length);
+                int element2 = random.nextInt(ELEMENTS.length);
+
+                double strength1 = skills[player1] + ELEMENT_STRENGTH[element1];
+                double strength2 = skills[player2] + ELEMENT_STRENGTH[element2];
+                double edge1 = ElementalAdvantage.getMultiplier(ELEMENTS[element1], ELEMENTS[element2]);
+                double edge2 = ElementalAdvantage.getMultiplier(ELEMENTS[element2], ELEMENTS[element1]);
+                if (edge1 > edge2) {
+                    strength1 += ADVANTAGE_BONUS;
+                } else if (edge2 > edge1) {
+                    strength2 += ADVANTAGE_BONUS;
+                }
+
+                int outcome;
+                if (random.nextDouble() < DRAW_PROBABILITY) {
+                    outcome = RatingFormat.OUTCOME_DRAW;
+                } else if (random.nextDouble() < RatingEngine.expectedScore(strength1, strength2)) {
+                    outcome = RatingFormat.OUTCOME_PLAYER1_WIN;
+                } else {
+                    outcome = RatingFormat.OUTCOME_PLAYER2_WIN;
+                }
+                writer.append(player1, player2, ELEMENTS[element1], ELEMENTS[element2], outcome);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("=== RATING: GENERATE ===");
+        System.out.printf("%d hasil, %d pemain, seed %d -> %s (%.1f MB) dalam %.2f detik%n",
+                results, players, seed, logPath, Files.size(logPath) / 1_048_576.0, seconds);
+    }
+
+    private static void rerate(Path logPath, Path storePath, Long seed) throws IOException {
+        try (ResultLogReader log = new ResultLogReader(logPath);
+             RatingStore store = new RatingStore(storePath)) {
+            RatingEngine engine = new RatingEngine(store);
+
+            long start = System.nanoTime();
+            long results = engine.rerate(log);
+            long applied = System.nanoTime();
+            store.force();
+            long forced = System.nanoTime();
+
+            double seconds = (applied - start) / 1_000_000_000.0;
+            double megabytes = results * (double) RatingFormat.LOG_RECORD_SIZE / 1_048_576.0;
+            System.out.println("=== RATING: RERATE ===");
+            System.out.printf("%d hasil dalam %.2f detik (%.2f juta hasil/detik, %.0f MB/detik)%n",
+                    results, seconds, results / seconds / 1_000_000.0, megabytes / seconds);
+            System.out.printf("force() store: %.1f ms, %d slot pemain (%.1f MB)%n",
+                    (forced - applied) / 1_000_000.0, store.getCapacity(), Files.size(storePath) / 1_048_576.0);
+            printElements(store);
+            if (seed != null) {
+                printCorrelation(store, seed);
+            }
+        }
+    }
+
+    private static void top(Path storePath, int count) throws IOException {
+        try (RatingStore store = new RatingStore(storePath)) {
+            // Min-heap berisi count pemain terbaik sejauh ini
+            PriorityQueue<Integer> best = new PriorityQueue<>(
+                    (a, b) -> Double.compare(store.getRating(a), store.getRating(b)));
+            int rated = 0;
+            for (int id = 0; id < store.getCapacity(); id++) {
+                if (store.getGames(id) < Constants.RATING_PROVISIONAL_GAMES) {
+                    continue;
+                }
+                rated++;
+                best.add(id);
+                if (best.size() > count) {
+                    best.poll();
+                }
+            }
+
+            Integer[] ranked = best.toArray(new Integer[0]);
+            Arrays.sort(ranked, (a, b) -> Double.compare(store.getRating(b), store.getRating(a)));
+            System.out.println("=== RATING: TOP " + count + " dari " + rated + " pemain non-provisional ===");
+            for (int i = 0; i < ranked.length; i++) {
+                int id = ranked[i];
+                System.out.printf("%3d. Player %-9d %7.1f  (%d main, %d menang)%n",
+                        i + 1, id, store.getRating(id), store.getGames(id), store.getWins(id));
+            }
+            printElements(store);
+        }
+    }
+
+    // ====================================================================
+    // OUTPUT
+    // ====================================================================
+
+    private static void printElements(RatingStore store) {
+        System.out.println("Rating elemen:");
+        for (ElementType element : ELEMENTS) {
+            System.out.printf("  %-6s %7.1f  (%d main lintas elemen)%n",
+                    element, store.getElementRating(element), store.getElementGames(element));
+        }
+    }
+
+    /**
+     * Korelasi Pearson rating vs kemampuan asli, untuk pemain non-provisional.
+     */
+    private static void printCorrelation(RatingStore store, long seed) {
+        double[] skills = hiddenSkills(store.getCapacity(), seed);
+        long n = 0;
+        double sumX = 0, sumY = 0, sumXX = 0, sumYY = 0, sumXY = 0;
+        for (int id = 0; id < store.getCapacity(); id++) {
+            if (store.getGames(id) < Constants.RATING_PROVISIONAL_GAMES) {
+                continue;
+            }
+            double x = skills[id];
+            double y = store.getRating(id);
+            n++;
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumYY += y * y;
+            sumXY += x * y;
+        }
+        if (n < 2) {
+            return;
+        }
+        double covariance = sumXY - sumX * sumY / n;
+        double correlation = covariance / Math.sqrt((sumXX - sumX * sumX / n) * (sumYY - sumY * sumY / n));
+        System.out.printf("Korelasi dengan kemampuan asli: %.4f (%d pemain non-provisional)%n", correlation, n);
+    }
+
+    private static double[] hiddenSkills(int players, long seed) {
+        double[] skills = new double[players];
+        SplitMixRandom random = new SplitMixRandom(seed);
+        for (int id = 0; id < players; id++) {
+            // Box-Muller
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            skills[id] = MEAN_SKILL + SKILL_DEVIATION * Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+        }
+        return skills;
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    private static long seedArg(String[] args, int index) {
+        return args.length > index ? Long.parseLong(args[index]) : SplitMixRandom.newSeed();
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage:");
+        System.out.println("  RatingMain play STORE [BATTLES] [PLAYERS] [SEED]");
+        System.out.println("  RatingMain generate LOG [RESULTS] [PLAYERS] [SEED]");
+        System.out.println("  RatingMain rerate LOG STORE [SEED]");
+        System.out.println("  RatingMain top STORE [N]");
+    }
+}
@@ -0,0 +1,186 @@
+package com.game.rating;
+
+import com.game.characters.ElementType;
+import com.utils.Constants;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Rating pemain dan elemen di file lokal yang di-memory-map.
+ *
+ * Record berukuran tetap (lihat RatingFormat) dan di-index langsung dengan id
+ * pemain, jadi membaca/mengubah rating = satu akses memori tanpa parsing atau
+ * objek. Perubahan langsung ada di page cache; force() / close() memastikan
+ * sudah sampai disk.
+ *
+ * File tumbuh dua kali lipat saat id pemain melewati kapasitas. Seluruh file
+ * dipetakan sebagai satu MappedByteBuffer, jadi batasnya MAX_PLAYERS
+ * (~134 juta pemain, ~2 GB). Tidak thread-safe.
+ */
+public final class RatingStore implements Closeable {
+
+    public static final int MAX_PLAYERS = (Integer.MAX_VALUE - RatingFormat.HEADER_SIZE)
+            / RatingFormat.STORE_RECORD_SIZE - RatingFormat.ELEMENT_SLOTS;
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final FileChannel channel;
+    private MappedByteBuffer map;
+    private int capacity;
+
+    public RatingStore(Path path) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            int storedCapacity = 0;
+            if (channel.size() == 0) {
+                RatingFormat.writeHeader(channel, RatingFormat.STORE_MAGIC, RatingFormat.STORE_RECORD_SIZE, 0L);
+            } else {
+                long extra = RatingFormat.validateHeader(channel, RatingFormat.STORE_MAGIC,
+                        RatingFormat.STORE_RECORD_SIZE, "rating");
+                if (extra < 0 || extra > MAX_PLAYERS || channel.size() < fileSize((int) extra)) {
+                    throw new IOException("File rating rusak atau terpotong (kapasitas " + extra + ")");
+                }
+                storedCapacity = (int) extra;
+            }
+            remap(storedCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // ====================================================================
+    // PEMAIN
+    // ====================================================================
+
+    public double getRating(int playerId) {
+        return hasSlot(playerId) ? ratingAt(playerOffset(playerId)) : Constants.RATING_INITIAL;
+    }
+
+    public int getGames(int playerId) {
+        return hasSlot(playerId) ? gamesAt(playerOffset(playerId)) : 0;
+    }
+
+    public int getWins(int playerId) {
+        return hasSlot(playerId) ? winsAt(playerOffset(playerId)) : 0;
+    }
+
+    /**
+     * Jumlah slot pemain di file (id 0..capacity-1), termasuk yang belum bertanding.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // ====================================================================
+    // ELEMEN
+    // ====================================================================
+
+    public double getElementRating(ElementType element) {
+        return ratingAt(elementOffset(elementSlot(element)));
+    }
+
+    public int getElementGames(ElementType element) {
+        return gamesAt(elementOffset(elementSlot(element)));
+    }
+
+    static int elementSlot(ElementType element) {
+        if (element == null || element.ordinal() >= RatingFormat.ELEMENT_SLOTS) {
+            throw new IllegalArgumentException("Elemen tidak punya rating: " + element);
+        }
+        return element.ordinal();
+    }
+
+    // ====================================================================
+    // AKSES RECORD (dipakai RatingEngine)
+    // ====================================================================
+
+    /**
+     * Memperbesar file jika playerId belum punya slot.
+     */
+    void ensureCapacity(int playerId) throws IOException {
+        if (playerId < capacity) {
+            return;
+        }
+        if (playerId >= MAX_PLAYERS) {
+            throw new IllegalArgumentException("Id pemain melebihi kapasitas store: " + playerId);
+        }
+        long grown = Math.min(MAX_PLAYERS, Math.max(MIN_CAPACITY, capacity * 2L));
+        remap((int) Math.max(playerId + 1L, grown));
+    }
+
+    static int playerOffset(int playerId) {
+        return RatingFormat.HEADER_SIZE + (RatingFormat.ELEMENT_SLOTS + playerId) * RatingFormat.STORE_RECORD_SIZE;
+    }
+
+    static int elementOffset(int slot) {
+        return RatingFormat.HEADER_SIZE + slot * RatingFormat.STORE_RECORD_SIZE;
+    }
+
+    double ratingAt(int offset) {
+        return map.getInt(offset + RatingFormat.OFF_GAMES) == 0
+                ? Constants.RATING_INITIAL
+                : map.getDouble(offset + RatingFormat.OFF_RATING);
+    }
+
+    int gamesAt(int offset) {
+        return map.getInt(offset + RatingFormat.OFF_GAMES);
+    }
+
+    int winsAt(int offset) {
+        return map.getInt(offset + RatingFormat.OFF_WINS);
+    }
+
+    void update(int offset, double rating, boolean won) {
+        map.putDouble(offset + RatingFormat.OFF_RATING, rating);
+        map.putInt(offset + RatingFormat.OFF_GAMES, map.getInt(offset + RatingFormat.OFF_GAMES) + 1);
+        if (won) {
+            map.putInt(offset + RatingFormat.OFF_WINS, map.getInt(offset + RatingFormat.OFF_WINS) + 1);
+        }
+    }
+
+    // ====================================================================
+    // FILE
+    // ====================================================================
+
+    /**
+     * Menulis halaman yang berubah ke disk.
+     */
+    public void force() {
+        map.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (map != null) {
+            map.force();
+            map = null;
+        }
+        channel.close();
+    }
+
+    private void remap(int newCapacity) throws IOException {
+        // Memetakan melewati ujung file otomatis memperbesar file (isi baru = nol)
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(newCapacity));
+        map.order(RatingFormat.BYTE_ORDER);
+        map.putLong(RatingFormat.OFF_HEADER_EXTRA, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private static long fileSize(int capacity) {
+        return RatingFormat.HEADER_SIZE
+                + (RatingFormat.ELEMENT_SLOTS + (long) capacity) * RatingFormat.STORE_RECORD_SIZE;
+    }
+
+    private boolean hasSlot(int playerId) {
+        if (playerId < 0) {
+            throw new IllegalArgumentException("Id pemain tidak boleh negatif: " + playerId);
+        }
+        return playerId < capacity;
+    }
+}
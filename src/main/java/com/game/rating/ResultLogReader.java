@@ -0,0 +1,100 @@
+package com.game.rating;
+
+import com.game.characters.ElementType;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pembaca log hasil pertandingan, satu pass berurutan.
+ *
+ * Berbeda dengan BattleJournalReader (memory-map per segmen untuk akses
+ * acak), log dibaca lewat satu direct buffer besar yang dipakai ulang: file
+ * ratusan juta record cukup dilewati sekali dari depan, jadi read()
+ * berurutan membiarkan readahead kernel bekerja tanpa memetakan seluruh file.
+ */
+public class ResultLogReader implements Closeable {
+
+    private static final ElementType[] ELEMENTS = ElementType.values();
+
+    // Dibulatkan ke kelipatan record supaya record tidak terbelah antar read
+    private static final int BUFFER_RECORDS = 104_857;
+
+    private final FileChannel channel;
+    private final long recordCount;
+
+    public ResultLogReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            RatingFormat.validateHeader(channel, RatingFormat.LOG_MAGIC, RatingFormat.LOG_RECORD_SIZE, "log hasil");
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        // Record terakhir yang tidak lengkap diabaikan
+        this.recordCount = (channel.size() - RatingFormat.HEADER_SIZE) / RatingFormat.LOG_RECORD_SIZE;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Scan semua record dari awal. Berhenti jika visitor mengembalikan false.
+     *
+     * @return Jumlah record yang dikunjungi
+     */
+    public long scan(ResultVisitor visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * RatingFormat.LOG_RECORD_SIZE)
+                .order(RatingFormat.BYTE_ORDER);
+        long position = RatingFormat.HEADER_SIZE;
+        long end = RatingFormat.HEADER_SIZE + recordCount * RatingFormat.LOG_RECORD_SIZE;
+        long visited = 0;
+
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    throw new IOException("Log hasil berakhir sebelum record ke-" + recordCount);
+                }
+            }
+            position += buffer.limit();
+
+            int records = buffer.limit() / RatingFormat.LOG_RECORD_SIZE;
+            for (int i = 0; i < records; i++) {
+                int offset = i * RatingFormat.LOG_RECORD_SIZE;
+                int elements = buffer.get(offset + RatingFormat.OFF_ELEMENTS);
+                int element1 = (elements >> 4) & 0xF;
+                int element2 = elements & 0xF;
+                if (element1 >= RatingFormat.ELEMENT_SLOTS || element2 >= RatingFormat.ELEMENT_SLOTS) {
+                    throw new IOException("Elemen tidak valid di record ke-" + visited + ": 0x"
+                            + Integer.toHexString(elements & 0xFF));
+                }
+                int outcome = buffer.get(offset + RatingFormat.OFF_OUTCOME);
+                if (outcome < RatingFormat.OUTCOME_DRAW || outcome > RatingFormat.OUTCOME_PLAYER2_WIN) {
+                    throw new IOException("Outcome tidak valid di record ke-" + visited + ": " + outcome);
+                }
+                visited++;
+                if (!visitor.visit(
+                        buffer.getInt(offset + RatingFormat.OFF_PLAYER1),
+                        buffer.getInt(offset + RatingFormat.OFF_PLAYER2),
+                        ELEMENTS[element1],
+                        ELEMENTS[element2],
+                        outcome)) {
+                    return visited;
+                }
+            }
+        }
+        return visited;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
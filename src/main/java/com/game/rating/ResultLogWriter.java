@@ -0,0 +1,107 @@
+package com.game.rating;
+
+import com.game.characters.ElementType;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Penulis log hasil pertandingan append-only (10 byte per pertandingan).
+ *
+ * Sama seperti BattleJournalWriter: record dikumpulkan di direct ByteBuffer
+ * dan ditulis ke FileChannel saat buffer penuh, flush(), atau close().
+ * Tidak thread-safe.
+ */
+public class ResultLogWriter implements Closeable {
+
+    private static final int DEFAULT_BATCH_RECORDS = 65_536;
+
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+    private long recordsWritten;
+
+    public ResultLogWriter(Path path) throws IOException {
+        this(path, DEFAULT_BATCH_RECORDS);
+    }
+
+    public ResultLogWriter(Path path, int batchRecords) throws IOException {
+        if (batchRecords <= 0) {
+            throw new IllegalArgumentException("Batch harus lebih dari 0 record");
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        this.batch = ByteBuffer.allocateDirect(batchRecords * RatingFormat.LOG_RECORD_SIZE)
+                .order(RatingFormat.BYTE_ORDER);
+
+        try {
+            prepareFile();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void prepareFile() throws IOException {
+        if (channel.size() == 0) {
+            RatingFormat.writeHeader(channel, RatingFormat.LOG_MAGIC, RatingFormat.LOG_RECORD_SIZE, 0L);
+            channel.position(RatingFormat.HEADER_SIZE);
+            return;
+        }
+
+        RatingFormat.validateHeader(channel, RatingFormat.LOG_MAGIC, RatingFormat.LOG_RECORD_SIZE, "log hasil");
+        // Potong record terakhir yang tidak lengkap (misal proses crash saat menulis)
+        long records = (channel.size() - RatingFormat.HEADER_SIZE) / RatingFormat.LOG_RECORD_SIZE;
+        long validEnd = RatingFormat.HEADER_SIZE + records * RatingFormat.LOG_RECORD_SIZE;
+        if (validEnd != channel.size()) {
+            channel.truncate(validEnd);
+        }
+        channel.position(validEnd);
+    }
+
+    /**
+     * Menambahkan satu hasil pertandingan ke log.
+     *
+     * @param outcome RatingFormat.OUTCOME_DRAW / OUTCOME_PLAYER1_WIN / OUTCOME_PLAYER2_WIN
+     */
+    public void append(int player1, int player2, ElementType element1, ElementType element2, int outcome)
+            throws IOException {
+        RatingEngine.validate(player1, player2, outcome);
+        int elements = RatingFormat.packElements(
+                RatingStore.elementSlot(element1), RatingStore.elementSlot(element2));
+        if (!batch.hasRemaining()) {
+            flush();
+        }
+        batch.putInt(player1);
+        batch.putInt(player2);
+        batch.put((byte) elements);
+        batch.put((byte) outcome);
+        recordsWritten++;
+    }
+
+    /**
+     * Menulis semua record yang masih di buffer ke file.
+     */
+    public void flush() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.game.rating;
+
+import com.game.characters.ElementType;
+
+/**
+ * Callback untuk scan log hasil pertandingan. Kembalikan false untuk berhenti lebih awal.
+ */
+public interface ResultVisitor {
+
+    /**
+     * @param outcome RatingFormat.OUTCOME_DRAW / OUTCOME_PLAYER1_WIN / OUTCOME_PLAYER2_WIN
+     */
+    boolean visit(int player1, int player2, ElementType element1, ElementType element2, int outcome);
+}
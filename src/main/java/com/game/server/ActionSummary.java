@@ -0,0 +1,108 @@
+package com.game.server;
+
+import com.game.battle.BattleAction;
+
+/**
+ * Ringkasan BattleAction terakhir dalam bentuk angka, untuk protokol biner.
+ *
+ * BattleAction di BattleLog didaur ulang saat log berputar, jadi match
+ * menyalin field yang dibutuhkan ke sini tepat setelah aksi dicatat.
+ */
+public final class ActionSummary {
+
+    public static final int TYPE_NONE = 0;
+    public static final int TYPE_SKILL = 1;
+    public static final int TYPE_FROZEN = 2;
+    public static final int TYPE_SURRENDER = 3;
+
+    int type;
+    int actor;
+    boolean critical;
+    boolean dodged;
+    int damage;
+    int healing;
+    int effectivenessPercent;
+
+    void copyFrom(BattleAction action, int actorIndex) {
+        switch (action.getActionType()) {
+            case "SKILL":
+                type = TYPE_SKILL;
+                break;
+            case "FROZEN":
+                type = TYPE_FROZEN;
+                break;
+            case "SURRENDER":
+                type = TYPE_SURRENDER;
+                break;
+            default:
+                type = TYPE_NONE;
+        }
+        actor = actorIndex;
+        critical = action.isCritical();
+        dodged = action.isDodged();
+        damage = action.getDamageDealt();
+        healing = action.getHealingDone();
+        effectivenessPercent = (int) Math.round(action.getEffectiveness() * 100);
+    }
+
+    void copyFrom(ActionSummary other) {
+        type = other.type;
+        actor = other.actor;
+        critical = other.critical;
+        dodged = other.dodged;
+        damage = other.damage;
+        healing = other.healing;
+        effectivenessPercent = other.effectivenessPercent;
+    }
+
+    void clear() {
+        type = TYPE_NONE;
+        actor = 0;
+        critical = false;
+        dodged = false;
+        damage = 0;
+        healing = 0;
+        effectivenessPercent = 0;
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    /**
+     * @return Salah satu TYPE_*
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * @return 1 atau 2 (pemain yang beraksi), 0 jika tidak ada aksi
+     */
+    public int getActor() {
+        return actor;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public boolean isDodged() {
+        return dodged;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getHealing() {
+        return healing;
+    }
+
+    /**
+     * @return Multiplier elemen x100 (50, 100, 200, ...)
+     */
+    public int getEffectivenessPercent() {
+        return effectivenessPercent;
+    }
+}
@@ -0,0 +1,316 @@
+package com.game.server;
+
+import com.game.characters.CharacterArchetype;
+import com.game.characters.ElementType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Protokol biner game server: frame [u16 panjang][payload], big-endian.
+ *
+ * <pre>
+ * Perintah (byte pertama = opcode):
+ *   NEW       1  p1:u8 p2:u8 seed:i64    (elemen = ordinal ElementType)
+ *   ACT       2  skill:u8                (index skill 1-based, seperti LineProtocol)
+ *   SURRENDER 3
+ *   STATE     4
+ *   QUIT      5
+ *
+ * Balasan (byte pertama = kode):
+ *   OK    0  state
+ *   NEW   1  id:i64 state
+ *   ERR   2  len:u8 pesan:UTF-8
+ *   BYE   3
+ *
+ * state = mask:u8 lalu field yang bit-nya menyala, urut bit:
+ *   0 turn:u16  1 current:u8  2 p1Hp:i16  3 p1Fp:i16  4 p2Hp:i16  5 p2Fp:i16
+ *   6 status:u8 (ordinal Match.Status)
+ *   7 aksi: type:u8 actor:u8 flags:u8 (bit0 crit, bit1 dodge) damage:u16 healing:u16 eff%:u16
+ * </pre>
+ *
+ * Balasan ACT/SURRENDER hanya memuat field yang berubah sejak balasan
+ * sebelumnya (delta) plus ringkasan aksi; NEW dan STATE selalu memuat state
+ * penuh. Karena itu satu instance dipakai per koneksi. Tidak thread-safe.
+ */
+public final class BinaryProtocol {
+
+    public static final int OP_NEW = 1;
+    public static final int OP_ACT = 2;
+    public static final int OP_SURRENDER = 3;
+    public static final int OP_STATE = 4;
+    public static final int OP_QUIT = 5;
+
+    public static final int RESP_OK = 0;
+    public static final int RESP_NEW = 1;
+    public static final int RESP_ERR = 2;
+    public static final int RESP_BYE = 3;
+
+    public static final int FRAME_HEADER_LENGTH = 2;
+    private static final int MAX_ERROR_CHARS = 80;
+
+    /**
+     * Panjang maksimum satu frame balasan (termasuk header); pemanggil
+     * handle() harus menyediakan sisa buffer sebesar ini.
+     */
+    public static final int MAX_RESPONSE_LENGTH = FRAME_HEADER_LENGTH + 2 + MAX_ERROR_CHARS * 3;
+
+    private static final int FIELD_TURN = 1;
+    private static final int FIELD_CURRENT = 1 << 1;
+    private static final int FIELD_P1_HP = 1 << 2;
+    private static final int FIELD_P1_FP = 1 << 3;
+    private static final int FIELD_P2_HP = 1 << 4;
+    private static final int FIELD_P2_FP = 1 << 5;
+    private static final int FIELD_STATUS = 1 << 6;
+    private static final int FIELD_ACTION = 1 << 7;
+    private static final int FULL_STATE = FIELD_ACTION - 1;
+
+    private static final int FLAG_CRITICAL = 1;
+    private static final int FLAG_DODGED = 1 << 1;
+
+    private static final ElementType[] ELEMENTS = ElementType.values();
+    private static final Match.Status[] STATUSES = Match.Status.values();
+
+    private final MatchSession session;
+    private final MatchState state = new MatchState();
+    private final MatchState sent = new MatchState();
+
+    public BinaryProtocol(MatchSession session) {
+        if (session == null) {
+            throw new IllegalArgumentException("Session tidak boleh null");
+        }
+        this.session = session;
+    }
+
+    // ====================================================================
+    // SERVER
+    // ====================================================================
+
+    /**
+     * Menjalankan satu frame perintah dan menulis satu frame balasan.
+     *
+     * @param request Payload perintah (position..limit, tanpa header panjang)
+     * @param out Buffer tujuan, sisa minimal MAX_RESPONSE_LENGTH
+     * @return false jika client mengirim QUIT (koneksi ditutup setelah flush)
+     */
+    public boolean handle(ByteBuffer request, ByteBuffer out) {
+        int start = out.position();
+        out.position(start + FRAME_HEADER_LENGTH);
+        boolean open = true;
+        try {
+            int op = request.hasRemaining() ? request.get() & 0xFF : 0;
+            switch (op) {
+                case OP_NEW:
+                    expectLength(request, 10);
+                    String player1Type = readElement(request);
+                    String player2Type = readElement(request);
+                    Match match = session.start(player1Type, player2Type, request.getLong());
+                    out.put((byte) RESP_NEW).putLong(match.getId());
+                    writeState(match, out, FULL_STATE);
+                    break;
+                case OP_ACT:
+                    expectLength(request, 1);
+                    if (!session.executePlayerAction(request.get() & 0xFF)) {
+                        writeError(out, "Aksi ditolak (FP kurang atau skill index salah)");
+                        break;
+                    }
+                    out.put((byte) RESP_OK);
+                    writeState(session.getCurrent(), out, FIELD_ACTION);
+                    break;
+                case OP_SURRENDER:
+                    expectLength(request, 0);
+                    session.surrender();
+                    out.put((byte) RESP_OK);
+                    writeState(session.getCurrent(), out, FIELD_ACTION);
+                    break;
+                case OP_STATE:
+                    expectLength(request, 0);
+                    out.put((byte) RESP_OK);
+                    writeState(session.requireMatch(), out, FULL_STATE);
+                    break;
+                case OP_QUIT:
+                    out.put((byte) RESP_BYE);
+                    open = false;
+                    break;
+                default:
+                    writeError(out, "Opcode tidak dikenal: " + op);
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            out.position(start + FRAME_HEADER_LENGTH);
+            writeError(out, e.getMessage());
+        }
+        out.putShort(start, (short) (out.position() - start - FRAME_HEADER_LENGTH));
+        return open;
+    }
+
+    private void writeState(Match match, ByteBuffer out, int forcedFields) {
+        match.readState(state);
+        int mask = forcedFields | changedFields();
+        out.put((byte) mask);
+        if ((mask & FIELD_TURN) != 0) {
+            out.putShort((short) state.turn);
+        }
+        if ((mask & FIELD_CURRENT) != 0) {
+            out.put((byte) state.current);
+        }
+        if ((mask & FIELD_P1_HP) != 0) {
+            out.putShort((short) state.player1Hp);
+        }
+        if ((mask & FIELD_P1_FP) != 0) {
+            out.putShort((short) state.player1Fp);
+        }
+        if ((mask & FIELD_P2_HP) != 0) {
+            out.putShort((short) state.player2Hp);
+        }
+        if ((mask & FIELD_P2_FP) != 0) {
+            out.putShort((short) state.player2Fp);
+        }
+        if ((mask & FIELD_STATUS) != 0) {
+            out.put((byte) state.status.ordinal());
+        }
+        if ((mask & FIELD_ACTION) != 0) {
+            ActionSummary action = state.lastAction;
+            int flags = (action.critical ? FLAG_CRITICAL : 0) | (action.dodged ? FLAG_DODGED : 0);
+            out.put((byte) action.type)
+                    .put((byte) action.actor)
+                    .put((byte) flags)
+                    .putShort((short) action.damage)
+                    .putShort((short) action.healing)
+                    .putShort((short) action.effectivenessPercent);
+        }
+        sent.copyFrom(state);
+    }
+
+    private int changedFields() {
+        int mask = 0;
+        if (state.turn != sent.turn) {
+            mask |= FIELD_TURN;
+        }
+        if (state.current != sent.current) {
+            mask |= FIELD_CURRENT;
+        }
+        if (state.player1Hp != sent.player1Hp) {
+            mask |= FIELD_P1_HP;
+        }
+        if (state.player1Fp != sent.player1Fp) {
+            mask |= FIELD_P1_FP;
+        }
+        if (state.player2Hp != sent.player2Hp) {
+            mask |= FIELD_P2_HP;
+        }
+        if (state.player2Fp != sent.player2Fp) {
+            mask |= FIELD_P2_FP;
+        }
+        if (state.status != sent.status) {
+            mask |= FIELD_STATUS;
+        }
+        return mask;
+    }
+
+    private static void writeError(ByteBuffer out, String message) {
+        String text = message == null ? "Error" : message;
+        if (text.length() > MAX_ERROR_CHARS) {
+            text = text.substring(0, MAX_ERROR_CHARS);
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.put((byte) RESP_ERR).put((byte) bytes.length).put(bytes);
+    }
+
+    private static void expectLength(ByteBuffer request, int length) {
+        if (request.remaining() != length) {
+            throw new IllegalArgumentException("Panjang frame salah untuk opcode");
+        }
+    }
+
+    private static String readElement(ByteBuffer request) {
+        int ordinal = request.get() & 0xFF;
+        if (ordinal >= ELEMENTS.length) {
+            throw new IllegalArgumentException("Elemen tidak dikenal: " + ordinal);
+        }
+        return CharacterArchetype.requirePlayable(ELEMENTS[ordinal]).name();
+    }
+
+    // ====================================================================
+    // CLIENT
+    // ====================================================================
+
+    public static void putNew(ByteBuffer out, ElementType player1, ElementType player2, long seed) {
+        out.putShort((short) 11)
+                .put((byte) OP_NEW)
+                .put((byte) player1.ordinal())
+                .put((byte) player2.ordinal())
+                .putLong(seed);
+    }
+
+    public static void putAct(ByteBuffer out, int skillIndex) {
+        out.putShort((short) 2).put((byte) OP_ACT).put((byte) skillIndex);
+    }
+
+    /**
+     * Perintah tanpa argumen: OP_SURRENDER, OP_STATE atau OP_QUIT.
+     */
+    public static void putCommand(ByteBuffer out, int op) {
+        out.putShort((short) 1).put((byte) op);
+    }
+
+    /**
+     * Membaca satu payload balasan dan menerapkannya ke state client.
+     * Untuk RESP_ERR, payload dibiarkan di posisi pesan (lihat readErrorMessage).
+     *
+     * @return Kode balasan (RESP_*)
+     */
+    public static int readResponse(ByteBuffer payload, MatchState state) {
+        int code = payload.get() & 0xFF;
+        if (code == RESP_NEW) {
+            state.matchId = payload.getLong();
+            state.lastAction.clear();
+            applyState(payload, state);
+        } else if (code == RESP_OK) {
+            applyState(payload, state);
+        }
+        return code;
+    }
+
+    public static String readErrorMessage(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.get() & 0xFF];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void applyState(ByteBuffer payload, MatchState state) {
+        int mask = payload.get() & 0xFF;
+        if ((mask & FIELD_TURN) != 0) {
+            state.turn = payload.getShort() & 0xFFFF;
+        }
+        if ((mask & FIELD_CURRENT) != 0) {
+            state.current = payload.get();
+        }
+        if ((mask & FIELD_P1_HP) != 0) {
+            state.player1Hp = payload.getShort();
+        }
+        if ((mask & FIELD_P1_FP) != 0) {
+            state.player1Fp = payload.getShort();
+        }
+        if ((mask & FIELD_P2_HP) != 0) {
+            state.player2Hp = payload.getShort();
+        }
+        if ((mask & FIELD_P2_FP) != 0) {
+            state.player2Fp = payload.getShort();
+        }
+        if ((mask & FIELD_STATUS) != 0) {
+            state.status = STATUSES[payload.get()];
+        }
+        if ((mask & FIELD_ACTION) != 0) {
+            ActionSummary action = state.lastAction;
+            action.type = payload.get();
+            action.actor = payload.get();
+            int flags = payload.get();
+            action.critical = (flags & FLAG_CRITICAL) != 0;
+            action.dodged = (flags & FLAG_DODGED) != 0;
+            action.damage = payload.getShort() & 0xFFFF;
+            action.healing = payload.getShort() & 0xFFFF;
+            action.effectivenessPercent = payload.getShort() & 0xFFFF;
+        } else {
+            state.lastAction.clear();
+        }
+    }
+}
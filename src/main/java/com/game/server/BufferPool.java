@@ -0,0 +1,59 @@
+package com.game.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Pool direct ByteBuffer berukuran tetap untuk transport NIO.
+ *
+ * Direct buffer mahal dibuat (di luar heap, dibebaskan lewat GC) tapi bisa
+ * dibaca/ditulis socket tanpa copy tambahan, jadi dipakai ulang. Koneksi
+ * hanya memegang buffer selama ada frame yang belum lengkap atau balasan
+ * yang belum terkirim; koneksi idle tidak memegang buffer sama sekali.
+ * Hanya dipakai thread selector (tidak thread-safe).
+ */
+public final class BufferPool {
+
+    private final int bufferSize;
+    private final int maxRetained;
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+    private long allocated;
+
+    public BufferPool(int bufferSize, int maxRetained) {
+        if (bufferSize <= 0 || maxRetained < 0) {
+            throw new IllegalArgumentException("Ukuran pool tidak valid: " + bufferSize + "/" + maxRetained);
+        }
+        this.bufferSize = bufferSize;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * @return Buffer kosong (position 0, limit = capacity)
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.pollLast();
+        if (buffer == null) {
+            allocated++;
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        if (free.size() < maxRetained) {
+            free.addLast(buffer);
+        }
+    }
+
+    /**
+     * Jumlah direct buffer yang pernah dibuat (bukan diambil dari pool).
+     */
+    public long getAllocatedCount() {
+        return allocated;
+    }
+
+    public int getFreeCount() {
+        return free.size();
+    }
+}
@@ -0,0 +1,155 @@
+package com.game.server;
+
+import com.utils.Constants;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Game server TCP: satu session (thread) per koneksi, protokol LineProtocol.
+ *
+ * Setiap session memiliki match-nya sendiri, jadi Battle tidak pernah dipakai
+ * dua thread sekaligus; yang dibagi hanya MatchRegistry. Dengan virtual
+ * thread (Java 21+) session yang menunggu perintah berikutnya hampir tidak
+ * memakan resource, sehingga ribuan match bisa hidup di satu JVM.
+ */
+public final class GameServer implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(GameServer.class.getName());
+
+    private final MatchRegistry registry = new MatchRegistry();
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final Thread acceptThread;
+    private volatile boolean running = true;
+
+    /**
+     * Membuka port dan mulai menerima koneksi di thread terpisah.
+     *
+     * @param port Port TCP (0 = port bebas, lihat getPort())
+     */
+    public GameServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port), Constants.SERVER_ACCEPT_BACKLOG);
+        this.sessions = SessionThreads.newExecutor("game-session");
+        this.acceptThread = new Thread(this::acceptLoop, "game-server-accept");
+        acceptThread.start();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(Constants.SERVER_IDLE_TIMEOUT_MS);
+                connections.add(socket);
+                sessions.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    LOGGER.log(Level.WARNING, "Gagal menerima koneksi", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        MatchSession session = new MatchSession(registry);
+        try (BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            StringBuilder line = new StringBuilder();
+            while (readLine(in, line)) {
+                String response = line.length() > Constants.SERVER_MAX_LINE_LENGTH
+                        ? LineProtocol.ERR + "Baris terlalu panjang"
+                        : LineProtocol.handle(session, line.toString());
+                out.write(response);
+                out.write('\n');
+                out.flush();
+                if (LineProtocol.BYE.equals(response)) {
+                    break;
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            LOGGER.fine("Koneksi idle ditutup");
+        } catch (SocketException e) {
+            // Client memutus koneksi / server ditutup
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Session gagal", e);
+        } finally {
+            session.close();
+            connections.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Membaca satu baris ke buffer. Karakter setelah batas panjang dibuang
+     * (baris tetap dianggap terlalu panjang) supaya client tidak bisa
+     * menghabiskan memori server.
+     *
+     * @return false jika koneksi ditutup sebelum ada baris
+     */
+    private static boolean readLine(BufferedReader in, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                return true;
+            }
+            if (c != '\r' && line.length() <= Constants.SERVER_MAX_LINE_LENGTH) {
+                line.append((char) c);
+            }
+        }
+        return line.length() > 0;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public MatchRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        for (Socket socket : connections) {
+            closeQuietly(socket);
+        }
+        sessions.shutdown();
+        try {
+            sessions.awaitTermination(5, TimeUnit.SECONDS);
+            acceptThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Sudah tertutup
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.game.server;
+
+import com.game.utils.GameLogging;
+import com.utils.Constants;
+import java.io.IOException;
+
+/**
+ * CLI untuk menjalankan game server sampai proses dihentikan.
+ *
+ * Usage: GameServerMain [PORT]
+ * Contoh: mvn exec:java@server -Dexec.args="7777"
+ * Coba: nc localhost 7777 lalu ketik "NEW FIRE WATER 42", "ACT 1", "STATE", "QUIT"
+ */
+public class GameServerMain {
+
+    private GameServerMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Constants.SERVER_DEFAULT_PORT;
+
+        GameLogging.setQuiet(true);
+        GameServer server = new GameServer(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // Proses sedang berhenti
+            }
+        }));
+
+        System.out.println("Game server listen di port " + server.getPort()
+                + " (session thread: " + (SessionThreads.isVirtualThreadSupported() ? "virtual" : "platform") + ")");
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,91 @@
+package com.game.server;
+
+/**
+ * Histogram latency log-linear (gaya HdrHistogram) dengan presisi ~3%.
+ *
+ * Nilai < 64 disimpan persis; di atasnya setiap pangkat dua dibagi 32
+ * bucket (galat relatif maks 1/32). Record tidak mengalokasi dan ukurannya
+ * tetap (~2000 bucket untuk seluruh rentang long), jadi satu histogram per
+ * thread client cukup, lalu digabung dengan merge() di akhir. Tidak thread-safe.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int HALF_SUB_COUNT = SUB_COUNT / 2;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS + 1) * HALF_SUB_COUNT + HALF_SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long max;
+
+    /**
+     * @param value Nilai non-negatif (mis. nanodetik)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Nilai tidak boleh negatif: " + value);
+        }
+        counts[indexOf(value)]++;
+        count++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @param percentile 0-100
+     * @return Batas atas bucket yang memuat percentile tersebut (0 jika kosong)
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile harus 0-100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        // value >>> shift selalu di [32, 64)
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BITS - 1);
+        return shift * HALF_SUB_COUNT + (int) (value >>> shift);
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_COUNT - 1;
+        long sub = index % HALF_SUB_COUNT + HALF_SUB_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+package com.game.server;
+
+import com.game.characters.CharacterArchetype;
+import com.game.characters.ElementType;
+import com.game.utils.SplitMixRandom;
+
+/**
+ * Protokol teks game server: satu perintah per baris, satu balasan per baris.
+ *
+ * <pre>
+ * NEW &lt;P1_ELEMEN&gt; &lt;P2_ELEMEN&gt; [SEED]  -> OK id=&lt;id&gt; &lt;state&gt;
+ * ACT &lt;SKILL_INDEX&gt;                   -> OK &lt;state&gt;   (skill pemain yang sedang giliran)
+ * SURRENDER                           -> OK &lt;state&gt;   (pemain yang sedang giliran menyerah)
+ * STATE                               -> OK &lt;state&gt;
+ * QUIT                                -> BYE
+ * </pre>
+ *
+ * state = turn=N current=0|1|2 p1=HP/FP p2=HP/FP status=RUNNING|P1_WIN|P2_WIN|DRAW
+ * (current=0 setelah match selesai).
+ * Perintah yang gagal dibalas "ERR &lt;pesan&gt;" dan koneksi tetap terbuka.
+ */
+public final class LineProtocol {
+
+    public static final String OK = "OK ";
+    public static final String ERR = "ERR ";
+    public static final String BYE = "BYE";
+
+    private LineProtocol() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Menjalankan satu baris perintah pada session.
+     *
+     * @return Baris balasan (tanpa newline); BYE berarti koneksi harus ditutup
+     */
+    public static String handle(MatchSession session, String line) {
+        String[] parts = line.trim().split("\\s+");
+        try {
+            switch (parts[0].toUpperCase()) {
+                case "NEW":
+                    return handleNew(session, parts);
+                case "ACT":
+                    expectArgs(parts, 2, 2);
+                    if (!session.executePlayerAction(parseInt(parts[1]))) {
+                        return ERR + "Aksi ditolak (FP kurang atau skill index salah)";
+                    }
+                    return OK + session.getCurrent().describe();
+                case "SURRENDER":
+                    expectArgs(parts, 1, 1);
+                    session.surrender();
+                    return OK + session.getCurrent().describe();
+                case "STATE":
+                    expectArgs(parts, 1, 1);
+                    return OK + session.requireMatch().describe();
+                case "QUIT":
+                    return BYE;
+                default:
+                    return ERR + "Perintah tidak dikenal: " + parts[0];
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ERR + e.getMessage();
+        }
+    }
+
+    private static String handleNew(MatchSession session, String[] parts) {
+        expectArgs(parts, 3, 4);
+        String player1Type = parseElement(parts[1]);
+        String player2Type = parseElement(parts[2]);
+        long seed = parts.length > 3 ? parseLong(parts[3]) : SplitMixRandom.newSeed();
+        Match match = session.start(player1Type, player2Type, seed);
+        return OK + "id=" + match.getId() + " " + match.describe();
+    }
+
+    private static void expectArgs(String[] parts, int min, int max) {
+        if (parts.length < min || parts.length > max) {
+            throw new IllegalArgumentException("Jumlah argumen salah untuk " + parts[0].toUpperCase());
+        }
+    }
+
+    private static String parseElement(String value) {
+        ElementType type;
+        try {
+            type = ElementType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Elemen tidak dikenal: " + value, e);
+        }
+        return CharacterArchetype.requirePlayable(type).name();
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Angka tidak valid: " + value, e);
+        }
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Angka tidak valid: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.game.server;
+
+import com.game.characters.ElementType;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Load generator untuk game server: N client paralel, masing-masing
+ * memainkan M match sampai selesai dengan skill acak.
+ *
+ * Setiap client satu koneksi TCP dan satu thread (virtual jika tersedia).
+ * Latency diukur per perintah (kirim sampai balasan diterima), digabung dari
+ * histogram per client.
+ *
+ * Usage: LoadGeneratorMain [CLIENTS] [MATCHES_PER_CLIENT] [HOST|embedded] [PORT] [SEED]
+ * Contoh: mvn exec:java@loadgen -Dexec.args="64 50 embedded"
+ */
+public class LoadGeneratorMain {
+
+    private static final String EMBEDDED = "embedded";
+    private static final int SKILL_CHOICES = 4;
+
+    private LoadGeneratorMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int matchesPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        String host = args.length > 2 ? args[2] : EMBEDDED;
+        int port = args.length > 3 ? Integer.parseInt(args[3]) : Constants.SERVER_DEFAULT_PORT;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : SplitMixRandom.newSeed();
+
+        GameLogging.setQuiet(true);
+        GameServer embedded = null;
+        if (EMBEDDED.equals(host)) {
+            embedded = new GameServer(0);
+            host = "localhost";
+            port = embedded.getPort();
+        }
+
+        try {
+            run(host, port, clients, matchesPerClient, seed);
+            if (embedded != null) {
+                MatchRegistry registry = embedded.getRegistry();
+                System.out.println("Registry     : " + registry.getCreatedCount() + " dibuat, "
+                        + registry.getFinishedCount() + " selesai, " + registry.getLiveCount() + " hidup");
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private static void run(String host, int port, int clients, int matchesPerClient, long seed)
+            throws InterruptedException, ExecutionException {
+        System.out.println("=== LOAD GENERATOR ===");
+        System.out.println("Server       : " + host + ":" + port);
+        System.out.println("Client       : " + clients + " x " + matchesPerClient + " match (seed " + seed + ")");
+        System.out.println("Thread       : " + (SessionThreads.isVirtualThreadSupported() ? "virtual" : "platform"));
+
+        ExecutorService executor = SessionThreads.newExecutor("loadgen-client");
+        List<Future<LatencyHistogram>> results = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            long clientSeed = seed + i;
+            results.add(executor.submit(() -> playMatches(host, port, matchesPerClient, clientSeed)));
+        }
+        LatencyHistogram latency = new LatencyHistogram();
+        for (Future<LatencyHistogram> result : results) {
+            latency.merge(result.get());
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("Durasi       : %.2f detik%n", seconds);
+        System.out.printf("Match        : %d (%.0f match/detik)%n",
+                (long) clients * matchesPerClient, clients * matchesPerClient / seconds);
+        System.out.printf("Perintah     : %d (%.0f perintah/detik)%n", latency.getCount(), latency.getCount() / seconds);
+        System.out.printf("Latency (µs) : p50=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                latency.percentile(50) / 1000.0, latency.percentile(99) / 1000.0,
+                latency.percentile(99.9) / 1000.0, latency.getMax() / 1000.0);
+    }
+
+    private static LatencyHistogram playMatches(String host, int port, int matches, long seed) {
+        LatencyHistogram latency = new LatencyHistogram();
+        SplitMixRandom random = new SplitMixRandom(seed);
+        ElementType[] elements = {ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND};
+
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            for (int m = 0; m < matches; m++) {
+                String response = send(in, out, latency, "NEW "
+                        + elements[random.nextInt(elements.length)] + " "
+                        + elements[random.nextInt(elements.length)] + " " + SplitMixRandom.mix64(seed + m));
+                expectOk(response);
+                while (response.endsWith("status=RUNNING")) {
+                    response = send(in, out, latency, "ACT " + (1 + random.nextInt(SKILL_CHOICES)));
+                    if (response.startsWith(LineProtocol.ERR)) {
+                        // FP kurang: Basic Attack selalu bisa dipakai
+                        response = send(in, out, latency, "ACT 1");
+                    }
+                    expectOk(response);
+                }
+            }
+            send(in, out, latency, "QUIT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return latency;
+    }
+
+    private static String send(BufferedReader in, Writer out, LatencyHistogram latency, String command)
+            throws IOException {
+        long start = System.nanoTime();
+        out.write(command);
+        out.write('\n');
+        out.flush();
+        String response = in.readLine();
+        latency.record(System.nanoTime() - start);
+        if (response == null) {
+            throw new IOException("Koneksi ditutup server setelah: " + command);
+        }
+        return response;
+    }
+
+    private static void expectOk(String response) {
+        if (!response.startsWith(LineProtocol.OK)) {
+            throw new IllegalStateException("Balasan tidak terduga: " + response);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.game.server;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.utils.Constants;
+
+/**
+ * Satu match yang hidup di server: Battle + status hasilnya.
+ *
+ * Perintah datang dari satu session, tapi registry (monitoring) bisa membaca
+ * status dari thread lain, jadi semua akses lewat method synchronized.
+ */
+public final class Match {
+
+    /** Status match di protokol. */
+    public enum Status {
+        RUNNING,
+        P1_WIN,
+        P2_WIN,
+        DRAW
+    }
+
+    private final long id;
+    private final Battle battle;
+    private Status status = Status.RUNNING;
+    private final ActionSummary lastAction = new ActionSummary();
+
+    Match(long id, String player1Type, String player2Type, long seed) {
+        this.id = id;
+        BaseCharacter player1 = CharacterFactory.createCharacter(player1Type, "P1 " + player1Type);
+        BaseCharacter player2 = CharacterFactory.createCharacter(player2Type, "P2 " + player2Type);
+        this.battle = new Battle(player1, player2, seed);
+        battle.start();
+    }
+
+    /**
+     * Menjalankan skill pemain yang sedang giliran, lalu pindah giliran.
+     *
+     * @return false jika aksi ditolak (FP kurang / skill index salah); giliran tidak berpindah
+     */
+    public synchronized boolean executePlayerAction(int skillIndex) {
+        checkRunning();
+        int actor = currentPlayerIndex();
+        if (!battle.executePlayerAction(skillIndex)) {
+            return false;
+        }
+        lastAction.copyFrom(battle.getBattleLog().getLastAction(), actor);
+        finishTurn();
+        return true;
+    }
+
+    public synchronized void surrender() {
+        checkRunning();
+        int actor = currentPlayerIndex();
+        battle.surrender();
+        lastAction.copyFrom(battle.getBattleLog().getLastAction(), actor);
+        updateStatus();
+    }
+
+    private void finishTurn() {
+        if (!battle.isBattleFinished()) {
+            battle.endTurn();
+        }
+        updateStatus();
+        // Sama dengan simulasi headless: lewat batas turn dihitung seri
+        if (status == Status.RUNNING && battle.getTurnCount() > Constants.SIMULATION_MAX_TURNS) {
+            status = Status.DRAW;
+        }
+    }
+
+    private void updateStatus() {
+        if (!battle.isBattleFinished()) {
+            return;
+        }
+        BaseCharacter winner = battle.getWinner();
+        if (winner == battle.getPlayer1()) {
+            status = Status.P1_WIN;
+        } else if (winner == battle.getPlayer2()) {
+            status = Status.P2_WIN;
+        } else {
+            status = Status.DRAW;
+        }
+    }
+
+    private void checkRunning() {
+        if (status != Status.RUNNING) {
+            throw new IllegalStateException("Match " + id + " sudah selesai");
+        }
+    }
+
+    /**
+     * Ringkasan state untuk protokol:
+     * turn=N current=0|1|2 p1=HP/FP p2=HP/FP status=RUNNING|P1_WIN|P2_WIN|DRAW
+     * (current=0 jika battle sudah selesai)
+     */
+    public synchronized String describe() {
+        BaseCharacter player1 = battle.getPlayer1();
+        BaseCharacter player2 = battle.getPlayer2();
+        return "turn=" + battle.getTurnCount()
+                + " current=" + currentPlayerIndex()
+                + " p1=" + player1.getHealthPoints() + "/" + player1.getFocusPoints()
+                + " p2=" + player2.getHealthPoints() + "/" + player2.getFocusPoints()
+                + " status=" + status;
+    }
+
+    /**
+     * Menyalin state match (termasuk ringkasan aksi terakhir) ke out,
+     * tanpa alokasi. Dipakai protokol biner.
+     */
+    public synchronized void readState(MatchState out) {
+        BaseCharacter player1 = battle.getPlayer1();
+        BaseCharacter player2 = battle.getPlayer2();
+        out.matchId = id;
+        out.turn = battle.getTurnCount();
+        out.current = currentPlayerIndex();
+        out.player1Hp = player1.getHealthPoints();
+        out.player1Fp = player1.getFocusPoints();
+        out.player2Hp = player2.getHealthPoints();
+        out.player2Fp = player2.getFocusPoints();
+        out.status = status;
+        out.lastAction.copyFrom(lastAction);
+    }
+
+    private int currentPlayerIndex() {
+        if (battle.isBattleFinished()) {
+            return 0;
+        }
+        return battle.getCurrentPlayer() == battle.getPlayer1() ? 1 : 2;
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    public long getId() {
+        return id;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+}
@@ -0,0 +1,52 @@
+package com.game.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Daftar match yang sedang hidup di server, diindeks id match.
+ *
+ * Dipakai bersama oleh semua session (thread-safe). Match masuk saat dibuat
+ * dan keluar saat selesai atau koneksinya putus.
+ */
+public final class MatchRegistry {
+
+    private final Map<Long, Match> live = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicLong finished = new AtomicLong();
+
+    public Match create(String player1Type, String player2Type, long seed) {
+        Match match = new Match(nextId.getAndIncrement(), player1Type, player2Type, seed);
+        live.put(match.getId(), match);
+        return match;
+    }
+
+    /**
+     * @return Match yang masih hidup, atau null
+     */
+    public Match get(long id) {
+        return live.get(id);
+    }
+
+    /**
+     * Mengeluarkan match dari registry (selesai atau ditinggal).
+     */
+    public void remove(Match match) {
+        if (live.remove(match.getId()) != null && match.isFinished()) {
+            finished.incrementAndGet();
+        }
+    }
+
+    public int getLiveCount() {
+        return live.size();
+    }
+
+    public long getCreatedCount() {
+        return nextId.get() - 1;
+    }
+
+    public long getFinishedCount() {
+        return finished.get();
+    }
+}
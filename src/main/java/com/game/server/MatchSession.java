@@ -0,0 +1,73 @@
+package com.game.server;
+
+/**
+ * State satu koneksi client: match yang sedang dimainkan (paling banyak satu).
+ *
+ * Tidak terikat transport; protokol (teks atau biner) memanggil method di
+ * sini dari thread session-nya. Match yang selesai langsung dikeluarkan dari
+ * registry, tapi tetap bisa dibaca statusnya sampai match baru dimulai.
+ */
+public final class MatchSession {
+
+    private final MatchRegistry registry;
+    private Match current;
+
+    public MatchSession(MatchRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry tidak boleh null");
+        }
+        this.registry = registry;
+    }
+
+    public Match start(String player1Type, String player2Type, long seed) {
+        if (current != null && !current.isFinished()) {
+            throw new IllegalStateException("Match " + current.getId() + " masih berjalan");
+        }
+        current = registry.create(player1Type, player2Type, seed);
+        return current;
+    }
+
+    /**
+     * @return false jika aksi ditolak (FP kurang / skill index salah)
+     */
+    public boolean executePlayerAction(int skillIndex) {
+        boolean accepted = requireMatch().executePlayerAction(skillIndex);
+        releaseIfFinished();
+        return accepted;
+    }
+
+    public void surrender() {
+        requireMatch().surrender();
+        releaseIfFinished();
+    }
+
+    /**
+     * Dipanggil saat koneksi ditutup: match yang ditinggal dibuang.
+     */
+    public void close() {
+        if (current != null) {
+            registry.remove(current);
+            current = null;
+        }
+    }
+
+    private void releaseIfFinished() {
+        if (current.isFinished()) {
+            registry.remove(current);
+        }
+    }
+
+    public Match requireMatch() {
+        if (current == null) {
+            throw new IllegalStateException("Belum ada match (kirim NEW dulu)");
+        }
+        return current;
+    }
+
+    /**
+     * @return Match terakhir (bisa sudah selesai), atau null
+     */
+    public Match getCurrent() {
+        return current;
+    }
+}
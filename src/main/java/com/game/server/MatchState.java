@@ -0,0 +1,80 @@
+package com.game.server;
+
+/**
+ * Salinan state match yang dikirim ke client: turn, giliran, HP/FP kedua
+ * pemain, status, dan ringkasan aksi terakhir.
+ *
+ * Mutable dan dipakai ulang: server mengisi lewat Match.readState(), client
+ * biner menerapkan delta dari server ke instance miliknya.
+ */
+public final class MatchState {
+
+    long matchId;
+    int turn;
+    int current;
+    int player1Hp;
+    int player1Fp;
+    int player2Hp;
+    int player2Fp;
+    Match.Status status = Match.Status.RUNNING;
+    final ActionSummary lastAction = new ActionSummary();
+
+    void copyFrom(MatchState other) {
+        matchId = other.matchId;
+        turn = other.turn;
+        current = other.current;
+        player1Hp = other.player1Hp;
+        player1Fp = other.player1Fp;
+        player2Hp = other.player2Hp;
+        player2Fp = other.player2Fp;
+        status = other.status;
+        lastAction.copyFrom(other.lastAction);
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    public long getMatchId() {
+        return matchId;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * @return 1 atau 2 (pemain yang sedang giliran), 0 jika match selesai
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    public int getPlayer1Hp() {
+        return player1Hp;
+    }
+
+    public int getPlayer1Fp() {
+        return player1Fp;
+    }
+
+    public int getPlayer2Hp() {
+        return player2Hp;
+    }
+
+    public int getPlayer2Fp() {
+        return player2Fp;
+    }
+
+    public Match.Status getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status != Match.Status.RUNNING;
+    }
+
+    public ActionSummary getLastAction() {
+        return lastAction;
+    }
+}
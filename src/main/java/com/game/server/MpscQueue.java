@@ -0,0 +1,60 @@
+package com.game.server;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Antrean lock-free multi-producer single-consumer (linked list gaya Vyukov).
+ *
+ * Producer hanya melakukan satu getAndSet pada tail lalu menyambung node
+ * sebelumnya; consumer membaca dari head tanpa operasi atomik. Ada jendela
+ * singkat di mana tail sudah maju tapi sambungan next belum terlihat: poll()
+ * lalu mengembalikan null walau isEmpty() false, jadi consumer cukup
+ * mencoba lagi. poll()/isEmpty() hanya boleh dipanggil satu thread consumer.
+ */
+final class MpscQueue<T> {
+
+    private static final class Node<T> {
+        T value;
+        volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node<T>> tail;
+    private Node<T> head;
+
+    MpscQueue() {
+        Node<T> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Aman dipanggil dari banyak thread sekaligus.
+     */
+    void offer(T value) {
+        Node<T> node = new Node<>(value);
+        Node<T> previous = tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    /**
+     * @return Elemen terdepan, atau null jika kosong (atau producer belum selesai menyambung)
+     */
+    T poll() {
+        Node<T> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        T value = next.value;
+        next.value = null;
+        head = next;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return head == tail.get();
+    }
+}
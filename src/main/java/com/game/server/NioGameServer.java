@@ -0,0 +1,302 @@
+package com.game.server;
+
+import com.utils.Constants;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Game server non-blocking: satu thread selector melayani semua koneksi
+ * dengan protokol biner (BinaryProtocol).
+ *
+ * Berbeda dengan GameServer (satu thread per koneksi), koneksi idle di sini
+ * hanya sebuah SelectionKey + MatchSession, tanpa thread dan tanpa buffer.
+ * Buffer baca/tulis diambil dari BufferPool (direct) saat ada data, semua
+ * balasan dari satu kali baca (perintah yang di-pipeline) dikumpulkan dan
+ * dikirim dengan satu gather write. Jika socket penuh, koneksi berhenti
+ * dibaca sampai antreannya terkirim (backpressure).
+ */
+public final class NioGameServer implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(NioGameServer.class.getName());
+    private static final int MAX_GATHER = 16;
+    private static final long IDLE_CHECK_INTERVAL_MS = 1000;
+
+    private final MatchRegistry registry = new MatchRegistry();
+    private final BufferPool buffers = new BufferPool(Constants.SERVER_NIO_BUFFER_SIZE, Constants.SERVER_NIO_POOL_MAX);
+    private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread selectorThread;
+    private volatile boolean running = true;
+    private volatile int connectionCount;
+    private long lastIdleCheck = System.currentTimeMillis();
+
+    /**
+     * Membuka port dan mulai melayani koneksi di thread selector.
+     *
+     * @param port Port TCP (0 = port bebas, lihat getPort())
+     */
+    public NioGameServer(int port) throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        serverChannel.bind(new InetSocketAddress(port), Constants.SERVER_ACCEPT_BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.selectorThread = new Thread(this::selectLoop, "game-server-nio");
+        selectorThread.start();
+    }
+
+    // ====================================================================
+    // SELECTOR LOOP
+    // ====================================================================
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select(this::process, IDLE_CHECK_INTERVAL_MS);
+                closeIdleConnections();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Selector gagal", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection) {
+                    close((Connection) key.attachment());
+                }
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException e) {
+                // Sedang berhenti
+            }
+        }
+    }
+
+    private void process(SelectionKey key) {
+        if (key.isAcceptable()) {
+            acceptAll();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isWritable()) {
+                flush(connection);
+            }
+            if (key.isValid() && key.isReadable()) {
+                read(connection);
+            }
+        } catch (IOException e) {
+            close(connection);
+        }
+    }
+
+    private void acceptAll() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Connection connection = new Connection(channel, new MatchSession(registry));
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                connectionCount++;
+            }
+        } catch (IOException e) {
+            if (running) {
+                LOGGER.log(Level.WARNING, "Gagal menerima koneksi", e);
+            }
+        }
+    }
+
+    /**
+     * Membaca sebanyak mungkin, menjalankan setiap frame lengkap, lalu
+     * mengirim semua balasannya sekaligus.
+     */
+    private void read(Connection connection) throws IOException {
+        if (connection.in == null) {
+            connection.in = buffers.acquire();
+        }
+        ByteBuffer in = connection.in;
+        if (connection.channel.read(in) < 0) {
+            close(connection);
+            return;
+        }
+        connection.lastActive = System.currentTimeMillis();
+
+        in.flip();
+        ByteBuffer out = null;
+        while (in.remaining() >= BinaryProtocol.FRAME_HEADER_LENGTH) {
+            int length = in.getShort(in.position()) & 0xFFFF;
+            if (length == 0 || length > Constants.SERVER_MAX_FRAME_LENGTH) {
+                // Client tidak mengikuti protokol: putuskan tanpa balasan
+                if (out != null) {
+                    buffers.release(out);
+                }
+                close(connection);
+                return;
+            }
+            int frameEnd = in.position() + BinaryProtocol.FRAME_HEADER_LENGTH + length;
+            if (frameEnd > in.limit()) {
+                break;
+            }
+            if (out == null || out.remaining() < BinaryProtocol.MAX_RESPONSE_LENGTH) {
+                if (out != null) {
+                    connection.pending.addLast(out.flip());
+                }
+                out = buffers.acquire();
+            }
+            int limit = in.limit();
+            in.position(in.position() + BinaryProtocol.FRAME_HEADER_LENGTH).limit(frameEnd);
+            boolean open = connection.protocol.handle(in, out);
+            in.limit(limit).position(frameEnd);
+            if (!open) {
+                connection.closing = true;
+                break;
+            }
+        }
+        if (out != null) {
+            connection.pending.addLast(out.flip());
+        }
+
+        in.compact();
+        if (in.position() == 0 || connection.closing) {
+            buffers.release(in);
+            connection.in = null;
+        }
+        flush(connection);
+    }
+
+    /**
+     * Gather write semua balasan yang antre. Jika socket penuh, tunggu
+     * OP_WRITE dan berhenti membaca perintah baru dari koneksi ini.
+     */
+    private void flush(Connection connection) throws IOException {
+        ArrayDeque<ByteBuffer> pending = connection.pending;
+        while (!pending.isEmpty()) {
+            int count = 0;
+            for (ByteBuffer buffer : pending) {
+                gather[count++] = buffer;
+                if (count == MAX_GATHER) {
+                    break;
+                }
+            }
+            long written = connection.channel.write(gather, 0, count);
+            Arrays.fill(gather, 0, count, null);
+            while (!pending.isEmpty() && !pending.peekFirst().hasRemaining()) {
+                buffers.release(pending.pollFirst());
+            }
+            if (written == 0) {
+                break;
+            }
+        }
+
+        if (connection.closing && pending.isEmpty()) {
+            close(connection);
+            return;
+        }
+        int interest = pending.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_WRITE;
+        // Ubah interest set hanya jika berbeda (setiap perubahan = syscall epoll_ctl)
+        if (connection.key.interestOps() != interest) {
+            connection.key.interestOps(interest);
+        }
+    }
+
+    private void closeIdleConnections() {
+        long now = System.currentTimeMillis();
+        if (now - lastIdleCheck < IDLE_CHECK_INTERVAL_MS) {
+            return;
+        }
+        lastIdleCheck = now;
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (attachment instanceof Connection
+                    && now - ((Connection) attachment).lastActive > Constants.SERVER_IDLE_TIMEOUT_MS) {
+                close((Connection) attachment);
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        if (connection.closed) {
+            return;
+        }
+        connection.closed = true;
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            // Sudah tertutup
+        }
+        connection.session.close();
+        if (connection.in != null) {
+            buffers.release(connection.in);
+            connection.in = null;
+        }
+        while (!connection.pending.isEmpty()) {
+            buffers.release(connection.pending.pollFirst());
+        }
+        connectionCount--;
+    }
+
+    // ====================================================================
+    // PUBLIC API
+    // ====================================================================
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public MatchRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Jumlah koneksi yang sedang terbuka.
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * State per koneksi, hanya disentuh thread selector.
+     */
+    private static final class Connection {
+        final SocketChannel channel;
+        final MatchSession session;
+        final BinaryProtocol protocol;
+        final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>(2);
+        SelectionKey key;
+        ByteBuffer in;
+        long lastActive = System.currentTimeMillis();
+        boolean closing;
+        boolean closed;
+
+        Connection(SocketChannel channel, MatchSession session) {
+            this.channel = channel;
+            this.session = session;
+            this.protocol = new BinaryProtocol(session);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.game.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor satu-thread-per-session.
+ *
+ * Di Java 21+ memakai virtual thread (Executors.newVirtualThreadPerTaskExecutor,
+ * dipanggil lewat reflection karena project dikompilasi untuk Java 11), jadi
+ * ribuan session yang menunggu I/O hanya memakan sedikit memori. Di JVM lama
+ * jatuh ke cached pool thread platform (daemon).
+ */
+public final class SessionThreads {
+
+    private SessionThreads() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static ExecutorService newExecutor(String namePrefix) {
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            return virtualThreads;
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    /**
+     * true jika JVM ini mendukung virtual thread.
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.game.server;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleSnapshot;
+import com.game.characters.CharacterFactory;
+import com.game.simulation.RandomSkillPolicy;
+import com.game.simulation.SkillPolicy;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+
+/**
+ * Benchmark ShardedBattleExecutor: PRODUCERS thread mengirim COMMANDS
+ * perintah "main satu giliran" ke BATTLES battle acak, tanpa lock apa pun
+ * di Battle.
+ *
+ * Setelah selesai dicetak perintah/detik dan statistik per shard (antrean
+ * maksimum, service time, waktu tunggu). Lalu setiap battle dicek: state
+ * akhirnya harus sama persis dengan battle yang dijalankan sendirian dengan
+ * jumlah giliran yang sama (tidak ada data race), dan semua perintahnya
+ * harus dijalankan oleh satu thread yang sama.
+ *
+ * Usage: ShardBenchMain [SHARDS] [BATTLES] [COMMANDS] [PRODUCERS] [SEED]
+ * Contoh: mvn exec:java@shards -Dexec.args="4 1000 2000000 4 42"
+ */
+public class ShardBenchMain {
+
+    /**
+     * Producer menahan diri jika antrean shard tujuan sepanjang ini.
+     */
+    private static final long MAX_QUEUE_DEPTH = 10_000;
+
+    private static final String[] ELEMENTS = {"FIRE", "WATER", "EARTH", "WIND"};
+
+    private ShardBenchMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int shardCount = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int battles = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long commands = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000L;
+        int producers = args.length > 3 ? Integer.parseInt(args[3]) : shardCount;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : SplitMixRandom.newSeed();
+
+        GameLogging.setQuiet(true);
+        System.out.println("=== SHARDED BATTLE EXECUTOR ===");
+        System.out.println(shardCount + " shard, " + battles + " battle, " + commands + " perintah, "
+                + producers + " producer, seed " + seed);
+
+        BattleSlot[] slots = new BattleSlot[battles];
+        try (ShardedBattleExecutor executor = new ShardedBattleExecutor(shardCount)) {
+            // Battle dibuat di shard pemiliknya, jadi tidak pernah disentuh thread lain
+            for (int i = 0; i < battles; i++) {
+                int id = i;
+                executor.execute(id, () -> slots[id] = new BattleSlot(id, seed));
+            }
+            long[] setupCommands = new long[shardCount];
+            for (int shard = 0; shard < shardCount; shard++) {
+                setupCommands[shard] = executor.snapshot(shard).getCompleted() + 1;
+            }
+
+            long startNanos = System.nanoTime();
+            Thread[] threads = new Thread[producers];
+            for (int p = 0; p < producers; p++) {
+                long share = commands / producers + (p < commands % producers ? 1 : 0);
+                SplitMixRandom random = new SplitMixRandom(SplitMixRandom.mix64(seed + p));
+                threads[p] = new Thread(() -> produce(executor, slots, share, random), "producer-" + p);
+                threads[p].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // snapshot() lewat antrean shard, jadi sekaligus menunggu semua perintah selesai
+            ShardStats[] stats = new ShardStats[shardCount];
+            for (int shard = 0; shard < shardCount; shard++) {
+                stats[shard] = executor.snapshot(shard);
+            }
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+            System.out.printf("Throughput : %.0f perintah/detik (%.2f detik)%n", commands / seconds, seconds);
+            System.out.println();
+            System.out.println("Shard  Perintah  Antrean max  Service p50/p99 (µs)  Tunggu p50/p99 (µs)");
+            for (ShardStats s : stats) {
+                System.out.printf("%5d  %8d  %11d  %9.1f / %-9.1f  %8.1f / %.1f%n",
+                        s.getShard(), s.getCompleted() - setupCommands[s.getShard()], s.getMaxQueueDepth(),
+                        s.getServiceTime().percentile(50) / 1000.0, s.getServiceTime().percentile(99) / 1000.0,
+                        s.getQueueWait().percentile(50) / 1000.0, s.getQueueWait().percentile(99) / 1000.0);
+            }
+        }
+
+        verify(slots, seed);
+    }
+
+    private static void produce(ShardedBattleExecutor executor, BattleSlot[] slots, long commands,
+                                SplitMixRandom random) {
+        for (long c = 0; c < commands; c++) {
+            int id = random.nextInt(slots.length);
+            while (executor.getQueueDepth(executor.shardOf(id)) > MAX_QUEUE_DEPTH) {
+                Thread.yield();
+            }
+            executor.execute(id, () -> slots[id].step());
+        }
+    }
+
+    private static void verify(BattleSlot[] slots, long seed) {
+        int wrongThread = 0;
+        int mismatches = 0;
+        for (int id = 0; id < slots.length; id++) {
+            BattleSlot slot = slots[id];
+            if (slot.foreignSteps > 0) {
+                wrongThread++;
+            }
+            BattleSlot sequential = new BattleSlot(id, seed);
+            for (long s = 0; s < slot.steps; s++) {
+                sequential.step();
+            }
+            if (sequential.digest() != slot.digest()) {
+                mismatches++;
+            }
+        }
+        System.out.println();
+        System.out.println("Battle di luar thread shard : " + wrongThread);
+        System.out.println("Beda dengan eksekusi urut   : " + mismatches + "/" + slots.length);
+    }
+
+    /**
+     * Satu battle yang dimainkan terus-menerus; hanya disentuh thread shard-nya.
+     */
+    private static final class BattleSlot {
+        private static final SkillPolicy POLICY = new RandomSkillPolicy();
+
+        final Thread owner = Thread.currentThread();
+        final Battle battle;
+        final BattleSnapshot start;
+        final SplitMixRandom policyRandom;
+        long steps;
+        long foreignSteps;
+        int finishedBattles;
+
+        BattleSlot(int id, long seed) {
+            long battleSeed = SplitMixRandom.mix64(seed + id);
+            String player1Type = ELEMENTS[id & 3];
+            String player2Type = ELEMENTS[(id >> 2) & 3];
+            battle = new Battle(
+                    CharacterFactory.createCharacter(player1Type, "P1 " + player1Type),
+                    CharacterFactory.createCharacter(player2Type, "P2 " + player2Type),
+                    battleSeed);
+            battle.start();
+            start = battle.snapshot();
+            policyRandom = new SplitMixRandom(battleSeed).split();
+        }
+
+        /**
+         * Satu giliran (sama dengan loop BattleSimulator); battle yang selesai
+         * diulang dari awal.
+         */
+        void step() {
+            steps++;
+            if (Thread.currentThread() != owner) {
+                foreignSteps++;
+            }
+            if (battle.isBattleFinished() || battle.getTurnCount() > Constants.SIMULATION_MAX_TURNS) {
+                finishedBattles++;
+                battle.restore(start);
+            }
+            if (!battle.executePlayerAction(POLICY.chooseSkill(battle, policyRandom))) {
+                battle.executePlayerAction(1);
+            }
+            if (!battle.isBattleFinished()) {
+                battle.endTurn();
+            }
+        }
+
+        long digest() {
+            long hash = finishedBattles;
+            hash = hash * 31 + battle.getTurnCount();
+            hash = hash * 31 + battle.getPlayer1().getHealthPoints();
+            hash = hash * 31 + battle.getPlayer1().getFocusPoints();
+            hash = hash * 31 + battle.getPlayer2().getHealthPoints();
+            hash = hash * 31 + battle.getPlayer2().getFocusPoints();
+            return hash;
+        }
+    }
+}
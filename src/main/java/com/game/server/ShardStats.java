@@ -0,0 +1,66 @@
+package com.game.server;
+
+/**
+ * Snapshot statistik satu shard ShardedBattleExecutor.
+ *
+ * Histogram diambil oleh thread shard itu sendiri (lewat antreannya), jadi
+ * konsisten dengan semua perintah yang masuk sebelum snapshot diminta.
+ */
+public final class ShardStats {
+
+    private final int shard;
+    private final long completed;
+    private final long queueDepth;
+    private final long maxQueueDepth;
+    private final LatencyHistogram serviceTime;
+    private final LatencyHistogram queueWait;
+
+    ShardStats(int shard, long completed, long queueDepth, long maxQueueDepth,
+               LatencyHistogram serviceTime, LatencyHistogram queueWait) {
+        this.shard = shard;
+        this.completed = completed;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.serviceTime = serviceTime;
+        this.queueWait = queueWait;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    /**
+     * Jumlah perintah yang sudah selesai dijalankan (tidak termasuk snapshot ini).
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Perintah yang masih antre saat snapshot diambil.
+     */
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Antrean terpanjang yang pernah dilihat shard.
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Lama eksekusi per perintah (nanodetik).
+     */
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Lama perintah menunggu di antrean sebelum dijalankan (nanodetik).
+     */
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+}
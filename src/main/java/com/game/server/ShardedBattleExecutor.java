@@ -0,0 +1,277 @@
+package com.game.server;
+
+import com.game.utils.SplitMixRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scheduler single-writer untuk banyak battle: setiap battle dipatok ke satu
+ * dari N thread shard (hash id battle), dan semua perintahnya lewat antrean
+ * MPSC lock-free milik shard itu.
+ *
+ * Battle, TurnManager dan BaseCharacter tidak thread-safe. Dengan executor
+ * ini tidak perlu lock: perintah untuk satu battle selalu dijalankan
+ * berurutan oleh thread yang sama, sedangkan battle berbeda berjalan paralel
+ * di shard berbeda. State battle sebaiknya juga dibuat di shard-nya
+ * (execute(id, ...) pertama), supaya tidak pernah disentuh thread lain.
+ *
+ * Shard yang antreannya kosong parkir (LockSupport) dan dibangunkan producer.
+ * Setelah close() setiap perintah yang sudah diterima execute() tetap
+ * dijalankan; perintah yang datang setelah shard berhenti ditolak dengan
+ * IllegalStateException, tidak pernah hilang diam-diam.
+ */
+public final class ShardedBattleExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ShardedBattleExecutor.class.getName());
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    /**
+     * Bit di Shard.submitted: shard sudah berhenti dan tidak menerima perintah.
+     */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final Shard[] shards;
+    private volatile boolean running = true;
+
+    /**
+     * @param shardCount Jumlah thread shard (biasanya = jumlah core)
+     */
+    public ShardedBattleExecutor(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Jumlah shard harus lebih dari 0: " + shardCount);
+        }
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    /**
+     * Shard pemilik battle; sama untuk id yang sama selama executor hidup.
+     */
+    public int shardOf(long battleId) {
+        return (int) ((SplitMixRandom.mix64(battleId) >>> 1) % shards.length);
+    }
+
+    /**
+     * Menjalankan perintah di thread shard pemilik battle, setelah semua
+     * perintah battle (shard) itu yang masuk lebih dulu.
+     */
+    public void execute(long battleId, Runnable command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Perintah tidak boleh null");
+        }
+        if (!running) {
+            throw new IllegalStateException("Executor sudah ditutup");
+        }
+        shards[shardOf(battleId)].offer(command);
+    }
+
+    /**
+     * Seperti execute(), tapi hasil (atau exception) perintah dikembalikan
+     * lewat CompletableFuture.
+     */
+    public <T> CompletableFuture<T> submit(long battleId, Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(battleId, () -> {
+            try {
+                result.complete(command.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Jumlah perintah yang sedang antre di shard (bisa dibaca kapan saja).
+     */
+    public long getQueueDepth(int shard) {
+        return shards[shard].depth();
+    }
+
+    /**
+     * Mengambil statistik shard lewat antreannya sendiri, jadi histogram
+     * dibaca oleh thread pemiliknya. Menunggu semua perintah sebelumnya.
+     *
+     * Dari perintah yang berjalan di shard itu sendiri statistik langsung
+     * dihitung (menunggu antrean sendiri = deadlock). Dari shard lain ditolak,
+     * karena dua shard yang saling menunggu juga deadlock.
+     */
+    public ShardStats snapshot(int shard) {
+        if (shard < 0 || shard >= shards.length) {
+            throw new IllegalArgumentException("Shard tidak ada: " + shard);
+        }
+        if (!running) {
+            throw new IllegalStateException("Executor sudah ditutup");
+        }
+        Shard owner = shards[shard];
+        Thread current = Thread.currentThread();
+        if (current == owner.thread) {
+            return owner.stats();
+        }
+        for (Shard other : shards) {
+            if (current == other.thread) {
+                throw new IllegalStateException(
+                        "Snapshot shard " + shard + " tidak boleh diminta dari shard " + other.index);
+            }
+        }
+        CompletableFuture<ShardStats> result = new CompletableFuture<>();
+        owner.offer(() -> result.complete(owner.stats()));
+        return result.join();
+    }
+
+    /**
+     * Menunggu semua perintah yang sudah masuk selesai, lalu menghentikan shard.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Shard shard : shards) {
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ====================================================================
+    // SHARD
+    // ====================================================================
+
+    /**
+     * Satu thread + antreannya. Field non-volatile hanya disentuh thread shard.
+     */
+    private final class Shard implements Runnable {
+        final int index;
+        final Thread thread;
+        final MpscQueue<Task> queue = new MpscQueue<>();
+        // Jumlah perintah yang diterima; bit CLOSED diset shard saat berhenti
+        final AtomicLong submitted = new AtomicLong();
+        volatile long completed;
+        volatile boolean parked;
+        long maxDepth;
+        final LatencyHistogram serviceTime = new LatencyHistogram();
+        final LatencyHistogram queueWait = new LatencyHistogram();
+
+        Shard(int index) {
+            this.index = index;
+            this.thread = new Thread(this, "battle-shard-" + index);
+            thread.setDaemon(true);
+        }
+
+        void offer(Runnable command) {
+            // Dihitung sebelum masuk antrean supaya depth() tidak pernah negatif,
+            // dan supaya shard tidak berhenti selama perintah ini belum masuk
+            if (submitted.getAndIncrement() < 0) {
+                submitted.decrementAndGet();
+                throw new IllegalStateException("Executor sudah ditutup");
+            }
+            queue.offer(new Task(command, System.nanoTime()));
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        long depth() {
+            return (submitted.get() & ~CLOSED) - completed;
+        }
+
+        /**
+         * Berhenti hanya jika semua perintah yang sudah diterima selesai;
+         * gagal jika ada producer yang baru saja menambah submitted.
+         */
+        boolean tryTerminate() {
+            long accepted = submitted.get();
+            return accepted == completed && submitted.compareAndSet(accepted, accepted | CLOSED);
+        }
+
+        ShardStats stats() {
+            LatencyHistogram service = new LatencyHistogram();
+            service.merge(serviceTime);
+            LatencyHistogram wait = new LatencyHistogram();
+            wait.merge(queueWait);
+            // Snapshot ini sendiri masih dihitung antre; jangan ikut dilaporkan
+            return new ShardStats(index, completed, depth() - 1, maxDepth, service, wait);
+        }
+
+        @Override
+        public void run() {
+            int idleSpins = 0;
+            while (true) {
+                Task task = queue.poll();
+                if (task != null) {
+                    idleSpins = 0;
+                    runTask(task);
+                    continue;
+                }
+                if (!queue.isEmpty()) {
+                    // Producer sedang menyambung node
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (!running) {
+                    if (tryTerminate()) {
+                        return;
+                    }
+                    // Producer sudah menambah submitted tapi node belum masuk antrean
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (idleSpins < SPINS_BEFORE_PARK) {
+                    idleSpins++;
+                    Thread.onSpinWait();
+                    continue;
+                }
+                parked = true;
+                if (queue.isEmpty() && running) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+            }
+        }
+
+        private void runTask(Task task) {
+            long depth = depth();
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+            long start = System.nanoTime();
+            queueWait.record(Math.max(0, start - task.enqueuedNanos));
+            try {
+                task.command.run();
+            } catch (RuntimeException e) {
+                // Satu perintah rusak tidak boleh menghentikan shard (dan semua battle-nya)
+                LOGGER.log(Level.WARNING, "Perintah gagal di shard " + index, e);
+            }
+            serviceTime.record(Math.max(0, System.nanoTime() - start));
+            completed++;
+        }
+    }
+
+    private static final class Task {
+        final Runnable command;
+        final long enqueuedNanos;
+
+        Task(Runnable command, long enqueuedNanos) {
+            this.command = command;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.game.server;
+
+import com.game.characters.ElementType;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Benchmark transport protokol biner: NioGameServer (satu thread selector)
+ * vs baseline satu thread per koneksi dengan protokol yang sama.
+ *
+ * Untuk setiap transport: buka IDLE koneksi yang masing-masing memegang satu
+ * match lalu diam, kemudian ACTIVE client memainkan MATCHES match sampai
+ * selesai. Dicetak jumlah thread server untuk koneksi idle, match/detik,
+ * perintah/detik dan latency per perintah. Setiap match yang selesai dicek
+ * dengan STATE: state hasil delta di client harus sama dengan state penuh.
+ *
+ * Usage: TransportBenchMain [IDLE] [ACTIVE] [MATCHES_PER_CLIENT] [SEED]
+ * Contoh: mvn exec:java@transport -Dexec.args="5000 32 50 42"
+ */
+public class TransportBenchMain {
+
+    private static final int SKILL_CHOICES = 4;
+    private static final ElementType[] ELEMENTS = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND};
+
+    private TransportBenchMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        int idle = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int active = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int matches = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : SplitMixRandom.newSeed();
+
+        GameLogging.setQuiet(true);
+        System.out.println("=== TRANSPORT BENCHMARK (protokol biner) ===");
+        System.out.println("Idle " + idle + ", aktif " + active + " x " + matches + " match, seed " + seed);
+
+        try (NioGameServer server = new NioGameServer(0)) {
+            run("nio", server.getPort(), idle, active, matches, seed);
+        }
+        try (ThreadPerConnectionServer server = new ThreadPerConnectionServer()) {
+            run("thread", server.getPort(), idle, active, matches, seed);
+        }
+    }
+
+    private static void run(String name, int port, int idle, int active, int matches, long seed)
+            throws IOException, InterruptedException, ExecutionException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadsBefore = threads.getThreadCount();
+
+        List<BinaryClient> idleClients = new ArrayList<>(idle);
+        try {
+            for (int i = 0; i < idle; i++) {
+                BinaryClient client = new BinaryClient(port);
+                idleClients.add(client);
+                client.newMatch(ELEMENTS[i & 3], ELEMENTS[(i >> 2) & 3], seed + i);
+            }
+            int serverThreads = threads.getThreadCount() - threadsBefore;
+
+            ExecutorService executor = SessionThreads.newExecutor("bench-client");
+            List<Future<ClientResult>> futures = new ArrayList<>();
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < active; i++) {
+                long clientSeed = SplitMixRandom.mix64(seed + i);
+                futures.add(executor.submit(() -> playMatches(port, matches, clientSeed)));
+            }
+            LatencyHistogram latency = new LatencyHistogram();
+            long mismatches = 0;
+            for (Future<ClientResult> future : futures) {
+                ClientResult result = future.get();
+                latency.merge(result.latency);
+                mismatches += result.mismatches;
+            }
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            executor.shutdown();
+
+            System.out.printf("%n[%s]%n", name);
+            System.out.printf("Thread server : %d untuk %d koneksi idle%n", serverThreads, idle);
+            System.out.printf("Match         : %.0f match/detik%n", (double) active * matches / seconds);
+            System.out.printf("Perintah      : %.0f perintah/detik%n", latency.getCount() / seconds);
+            System.out.printf("Latency (µs)  : p50=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                    latency.percentile(50) / 1000.0, latency.percentile(99) / 1000.0,
+                    latency.percentile(99.9) / 1000.0, latency.getMax() / 1000.0);
+            System.out.println("Delta salah   : " + mismatches);
+        } finally {
+            for (BinaryClient client : idleClients) {
+                client.close();
+            }
+        }
+    }
+
+    private static ClientResult playMatches(int port, int matches, long seed) throws IOException {
+        ClientResult result = new ClientResult();
+        SplitMixRandom random = new SplitMixRandom(seed);
+        MatchState check = new MatchState();
+        try (BinaryClient client = new BinaryClient(port)) {
+            for (int m = 0; m < matches; m++) {
+                long start = System.nanoTime();
+                client.newMatch(ELEMENTS[random.nextInt(4)], ELEMENTS[random.nextInt(4)], SplitMixRandom.mix64(seed + m));
+                result.latency.record(System.nanoTime() - start);
+                while (!client.state.isFinished()) {
+                    start = System.nanoTime();
+                    int code = client.act(1 + random.nextInt(SKILL_CHOICES));
+                    if (code == BinaryProtocol.RESP_ERR) {
+                        // FP kurang: Basic Attack selalu bisa dipakai
+                        code = client.act(1);
+                    }
+                    result.latency.record(System.nanoTime() - start);
+                    client.expect(code, BinaryProtocol.RESP_OK);
+                }
+                client.state(check);
+                if (!sameState(client.state, check)) {
+                    result.mismatches++;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean sameState(MatchState a, MatchState b) {
+        return a.getMatchId() == b.getMatchId()
+                && a.getTurn() == b.getTurn()
+                && a.getCurrent() == b.getCurrent()
+                && a.getPlayer1Hp() == b.getPlayer1Hp()
+                && a.getPlayer1Fp() == b.getPlayer1Fp()
+                && a.getPlayer2Hp() == b.getPlayer2Hp()
+                && a.getPlayer2Fp() == b.getPlayer2Fp()
+                && a.getStatus() == b.getStatus();
+    }
+
+    private static final class ClientResult {
+        final LatencyHistogram latency = new LatencyHistogram();
+        long mismatches;
+    }
+
+    /**
+     * Client blocking sederhana untuk protokol biner.
+     */
+    private static final class BinaryClient implements AutoCloseable {
+        private final SocketChannel channel;
+        private final ByteBuffer out = ByteBuffer.allocate(64);
+        private final ByteBuffer in = ByteBuffer.allocate(512);
+        final MatchState state = new MatchState();
+        private String lastError;
+
+        BinaryClient(int port) throws IOException {
+            channel = SocketChannel.open(new InetSocketAddress("localhost", port));
+            channel.socket().setTcpNoDelay(true);
+        }
+
+        void newMatch(ElementType player1, ElementType player2, long seed) throws IOException {
+            BinaryProtocol.putNew(out, player1, player2, seed);
+            expect(call(state), BinaryProtocol.RESP_NEW);
+        }
+
+        int act(int skillIndex) throws IOException {
+            BinaryProtocol.putAct(out, skillIndex);
+            return call(state);
+        }
+
+        void state(MatchState into) throws IOException {
+            into.copyFrom(state);
+            BinaryProtocol.putCommand(out, BinaryProtocol.OP_STATE);
+            expect(call(into), BinaryProtocol.RESP_OK);
+        }
+
+        private int call(MatchState into) throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            out.clear();
+
+            in.clear();
+            readAtLeast(BinaryProtocol.FRAME_HEADER_LENGTH);
+            int length = in.getShort(0) & 0xFFFF;
+            readAtLeast(BinaryProtocol.FRAME_HEADER_LENGTH + length);
+            in.flip().position(BinaryProtocol.FRAME_HEADER_LENGTH);
+            int code = BinaryProtocol.readResponse(in, into);
+            if (code == BinaryProtocol.RESP_ERR) {
+                lastError = BinaryProtocol.readErrorMessage(in);
+            }
+            return code;
+        }
+
+        void expect(int code, int expected) {
+            if (code != expected) {
+                throw new IllegalStateException("Balasan tidak terduga (kode " + code + "): " + lastError);
+            }
+        }
+
+        private void readAtLeast(int bytes) throws IOException {
+            while (in.position() < bytes) {
+                if (channel.read(in) < 0) {
+                    throw new IOException("Koneksi ditutup server");
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Baseline: satu thread (virtual jika tersedia) per koneksi, I/O blocking,
+     * heap buffer per koneksi, protokol biner yang sama dengan NioGameServer.
+     */
+    private static final class ThreadPerConnectionServer implements AutoCloseable {
+        private final MatchRegistry registry = new MatchRegistry();
+        private final ServerSocketChannel serverChannel;
+        private final ExecutorService sessions = SessionThreads.newExecutor("bench-session");
+        private final List<SocketChannel> connections = new ArrayList<>();
+        private final Thread acceptThread;
+
+        ThreadPerConnectionServer() throws IOException {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(0), Constants.SERVER_ACCEPT_BACKLOG);
+            acceptThread = new Thread(this::acceptLoop, "bench-accept");
+            acceptThread.start();
+        }
+
+        int getPort() {
+            return serverChannel.socket().getLocalPort();
+        }
+
+        private void acceptLoop() {
+            try {
+                while (true) {
+                    SocketChannel channel = serverChannel.accept();
+                    channel.socket().setTcpNoDelay(true);
+                    synchronized (connections) {
+                        connections.add(channel);
+                    }
+                    sessions.execute(() -> serve(channel));
+                }
+            } catch (IOException e) {
+                // Server ditutup
+            }
+        }
+
+        private void serve(SocketChannel channel) {
+            MatchSession session = new MatchSession(registry);
+            BinaryProtocol protocol = new BinaryProtocol(session);
+            ByteBuffer in = ByteBuffer.allocate(Constants.SERVER_NIO_BUFFER_SIZE);
+            ByteBuffer out = ByteBuffer.allocate(Constants.SERVER_NIO_BUFFER_SIZE);
+            try {
+                boolean open = true;
+                while (open && channel.read(in) >= 0) {
+                    in.flip();
+                    while (open && in.remaining() >= BinaryProtocol.FRAME_HEADER_LENGTH) {
+                        int frameEnd = in.position() + BinaryProtocol.FRAME_HEADER_LENGTH
+                                + (in.getShort(in.position()) & 0xFFFF);
+                        if (frameEnd > in.limit() || out.remaining() < BinaryProtocol.MAX_RESPONSE_LENGTH) {
+                            break;
+                        }
+                        int limit = in.limit();
+                        in.position(in.position() + BinaryProtocol.FRAME_HEADER_LENGTH).limit(frameEnd);
+                        open = protocol.handle(in, out);
+                        in.limit(limit).position(frameEnd);
+                    }
+                    in.compact();
+                    out.flip();
+                    while (out.hasRemaining()) {
+                        channel.write(out);
+                    }
+                    out.clear();
+                }
+            } catch (IOException e) {
+                // Client memutus koneksi / server ditutup
+            } finally {
+                session.close();
+                synchronized (connections) {
+                    connections.remove(channel);
+                }
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Sudah tertutup
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverChannel.close();
+            synchronized (connections) {
+                for (SocketChannel channel : connections) {
+                    channel.close();
+                }
+            }
+            sessions.shutdown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.game.simulation;
+
+import com.game.ai.BattleAI;
+import com.game.ai.ExpectiminimaxAI;
+import com.game.ai.MctsAI;
+import com.game.ai.SearchPolicy;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+
+/**
+ * CLI untuk mengukur AI (expectiminimax atau MCTS) melawan RandomSkillPolicy.
+ * AI bergantian menjadi Player 1 dan Player 2, semua pasangan elemen dirotasi.
+ * Throughput pencarian (node/detik, atau playout/detik untuk MCTS) dipakai
+ * untuk menakar tingkat kesulitan AI terhadap hardware.
+ *
+ * Usage: AiMatchMain [N] [BUDGET_MS] [SEED] [AI] [THREADS]
+ *   AI      : "expectimax" (default) atau "mcts"
+ *   THREADS : jumlah thread MCTS (default: jumlah core)
+ * Contoh: mvn exec:java@ai -Dexec.args="32 50 42 mcts 8"
+ */
+public class AiMatchMain {
+
+    private AiMatchMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        long budgetMillis = args.length > 1 ? Long.parseLong(args[1]) : Constants.AI_TIME_BUDGET_MS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : SplitMixRandom.newSeed();
+        boolean mcts = args.length > 3 && args[3].equalsIgnoreCase("mcts");
+        int threads = args.length > 4 ? Integer.parseInt(args[4])
+                : Runtime.getRuntime().availableProcessors();
+
+        GameLogging.setQuiet(true);
+
+        BattleAI searcher = mcts
+                ? new MctsAI(threads, budgetMillis, Long.MAX_VALUE, seed)
+                : new ExpectiminimaxAI(budgetMillis, Constants.AI_MAX_DEPTH);
+        SearchPolicy ai = new SearchPolicy(searcher);
+        RandomSkillPolicy random = new RandomSkillPolicy();
+        BattleSimulator aiFirst = new BattleSimulator(ai, random, Constants.SIMULATION_MAX_TURNS);
+        BattleSimulator aiSecond = new BattleSimulator(random, ai, Constants.SIMULATION_MAX_TURNS);
+
+        String[] types = MatchupMatrixRunner.ELEMENT_TYPES;
+        int wins = 0;
+        int draws = 0;
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < battles; i++) {
+            String player1Type = types[i % types.length];
+            String player2Type = types[(i / types.length) % types.length];
+            boolean aiIsPlayer1 = (i / (types.length * types.length)) % 2 == 0;
+
+            SimulationResult result = (aiIsPlayer1 ? aiFirst : aiSecond)
+                    .simulate(player1Type, player2Type, SplitMixRandom.mix64(seed + i));
+            if (result.getWinner() == SimulationResult.DRAW) {
+                draws++;
+            } else if ((result.getWinner() == 1) == aiIsPlayer1) {
+                wins++;
+            }
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        if (searcher instanceof MctsAI) {
+            ((MctsAI) searcher).close();
+        }
+
+        System.out.println(mcts ? "=== MCTS AI (" + threads + " thread) vs RANDOM ==="
+                : "=== EXPECTIMINIMAX AI vs RANDOM ===");
+        System.out.println("Battles      : " + battles + " (seed " + seed + ")");
+        System.out.printf("AI menang    : %d (%.1f%%), seri %d%n", wins, 100.0 * wins / battles, draws);
+        System.out.println("Budget       : " + budgetMillis + " ms per langkah");
+        System.out.println("Langkah AI   : " + ai.getSearchCount());
+        System.out.printf("Rata2 depth  : %.1f ply%n", ai.getAverageDepth());
+        System.out.printf("Throughput   : %.0f %s/detik%n", ai.getNodesPerSecond(), mcts ? "playout" : "node");
+        System.out.printf("Waktu        : %.2f detik%n", seconds);
+    }
+}
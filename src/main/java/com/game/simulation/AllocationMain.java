@@ -0,0 +1,129 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleSnapshot;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.utils.BattleRandom;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import java.lang.management.ManagementFactory;
+
+/**
+ * CLI untuk mengukur alokasi heap per aksi di object engine (setara
+ * gc.alloc.rate.norm dari JMH -prof gc), memakai counter alokasi per thread
+ * dari JVM.
+ *
+ * Tiga skenario, masing-masing setelah warmup:
+ * - attack : hanya Basic Attack (damage path murni: dodge, crit, elemen, log)
+ * - random : RandomSkillPolicy (termasuk skill yang memasang status effect)
+ * - create : pembuatan karakter lewat CharacterFactory (hanya state battle,
+ *            archetype dan skill dipakai bersama)
+ *
+ * Battle di-restore ke snapshot awal setiap kali selesai, supaya yang diukur
+ * hanya giliran steady-state, bukan pembuatan karakter/battle.
+ *
+ * Usage: AllocationMain [ACTIONS]
+ * Contoh: mvn exec:java@alloc -Dexec.args="1000000"
+ */
+public class AllocationMain {
+
+    private static final long SEED = 42L;
+    private static final int CREATE_BATCH = 4096;
+
+    private AllocationMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        long actions = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+
+        com.sun.management.ThreadMXBean threads = threadBean();
+        if (threads == null) {
+            System.out.println("JVM tidak mendukung pengukuran alokasi per thread");
+            return;
+        }
+
+        GameLogging.setQuiet(true);
+        System.out.println("=== ALOKASI PER AKSI (object engine) ===");
+        measure("attack", false, actions, threads);
+        measure("random", true, actions, threads);
+        measureCreate(actions, threads);
+    }
+
+    private static void measure(String name, boolean randomSkills, long actions,
+                                com.sun.management.ThreadMXBean threads) {
+        Battle battle = new Battle(
+                CharacterFactory.createCharacter("FIRE", "P1 FIRE"),
+                CharacterFactory.createCharacter("WIND", "P2 WIND"),
+                SEED);
+        battle.start();
+        BattleSnapshot start = battle.snapshot();
+        SkillPolicy policy = new RandomSkillPolicy();
+        BattleRandom policyRandom = new SplitMixRandom(SEED);
+
+        // Warmup supaya JIT (dan escape analysis) sudah aktif
+        run(battle, start, policy, policyRandom, randomSkills, actions);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        run(battle, start, policy, policyRandom, randomSkills, actions);
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.printf("%-7s: %.2f byte/aksi, %.0f aksi/detik (%d aksi)%n",
+                name, (double) allocated / actions, actions * 1_000_000_000.0 / elapsed, actions);
+    }
+
+    private static void measureCreate(long count, com.sun.management.ThreadMXBean threads) {
+        BaseCharacter[] sink = new BaseCharacter[CREATE_BATCH];
+        create(sink, count);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        create(sink, count);
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.printf("%-7s: %.2f byte/karakter, %.0f karakter/detik (%d karakter)%n",
+                "create", (double) allocated / count, count * 1_000_000_000.0 / elapsed, count);
+    }
+
+    private static void create(BaseCharacter[] sink, long count) {
+        // Disimpan ke array supaya pembuatan objek tidak dihapus escape analysis
+        for (long i = 0; i < count; i++) {
+            sink[(int) (i % sink.length)] = CharacterFactory.createCharacter(1 + (int) (i & 3), "P");
+        }
+    }
+
+    private static void run(Battle battle, BattleSnapshot start, SkillPolicy policy,
+                            BattleRandom policyRandom, boolean randomSkills, long actions) {
+        for (long i = 0; i < actions; i++) {
+            if (battle.isBattleFinished()) {
+                battle.restore(start);
+            }
+            int skillIndex = randomSkills
+                    ? policy.chooseSkill(battle, policyRandom)
+                    : 1;
+            battle.executePlayerAction(skillIndex);
+            if (!battle.isBattleFinished()) {
+                battle.endTurn();
+            }
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
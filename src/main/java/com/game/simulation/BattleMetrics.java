@@ -0,0 +1,149 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.battle.events.BattleEvent;
+import com.game.battle.events.BattleEventListener;
+import com.game.characters.BaseCharacter;
+
+/**
+ * Subscriber event bus yang mengumpulkan statistik combat per slot pemain.
+ * Bisa dipakai ulang untuk banyak battle (akumulatif); tidak thread-safe,
+ * gunakan satu instance per worker lalu gabungkan dengan merge().
+ */
+public class BattleMetrics implements BattleEventListener {
+
+    private BaseCharacter player1;
+    private BaseCharacter player2;
+
+    // Index 0 = player 1, index 1 = player 2
+    private final long[] skillsUsed = new long[2];
+    private final long[] hits = new long[2];
+    private final long[] damageDealt = new long[2];
+    private final long[] crits = new long[2];
+    private final long[] dodges = new long[2]; // serangan lawan yang dihindari slot ini
+    private final long[] healing = new long[2];
+    private final long[] fpSpent = new long[2];
+    private final long[] effectsApplied = new long[2]; // efek yang dipasang pada slot ini
+    private final long[] effectDamage = new long[2]; // damage DoT yang diterima slot ini
+
+    /**
+     * Mulai mengikuti battle baru (subscribe ke event bus-nya).
+     */
+    public void track(Battle battle) {
+        this.player1 = battle.getPlayer1();
+        this.player2 = battle.getPlayer2();
+        battle.getEventBus().subscribe(this);
+    }
+
+    @Override
+    public void onEvent(BattleEvent event) {
+        switch (event.getType()) {
+            case SKILL_USED:
+                skillsUsed[slotOf(event.getSource())]++;
+                break;
+            case DAMAGE_APPLIED:
+                // Damage tanpa source berasal dari status effect (dihitung di EFFECT_TICKED)
+                if (event.getSource() != null) {
+                    int slot = slotOf(event.getSource());
+                    hits[slot]++;
+                    damageDealt[slot] += event.getAmount();
+                }
+                break;
+            case CRIT:
+                crits[slotOf(event.getSource())]++;
+                break;
+            case DODGED:
+                dodges[slotOf(event.getTarget())]++;
+                break;
+            case HEALED:
+                healing[slotOf(event.getTarget())] += event.getAmount();
+                break;
+            case FP_SPENT:
+                fpSpent[slotOf(event.getSource())] += event.getAmount();
+                break;
+            case EFFECT_APPLIED:
+                effectsApplied[slotOf(event.getTarget())]++;
+                break;
+            case EFFECT_TICKED:
+                effectDamage[slotOf(event.getTarget())] += event.getAmount();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private int slotOf(BaseCharacter character) {
+        return character == player1 ? 0 : 1;
+    }
+
+    /**
+     * Menambahkan hasil dari instance lain (misal dari worker thread lain).
+     */
+    public void merge(BattleMetrics other) {
+        for (int i = 0; i < 2; i++) {
+            skillsUsed[i] += other.skillsUsed[i];
+            hits[i] += other.hits[i];
+            damageDealt[i] += other.damageDealt[i];
+            crits[i] += other.crits[i];
+            dodges[i] += other.dodges[i];
+            healing[i] += other.healing[i];
+            fpSpent[i] += other.fpSpent[i];
+            effectsApplied[i] += other.effectsApplied[i];
+            effectDamage[i] += other.effectDamage[i];
+        }
+    }
+
+    // Getters (slot: 1 atau 2)
+    public long getSkillsUsed(int slot) {
+        return skillsUsed[slot - 1];
+    }
+
+    public long getHits(int slot) {
+        return hits[slot - 1];
+    }
+
+    public long getDamageDealt(int slot) {
+        return damageDealt[slot - 1];
+    }
+
+    public long getCrits(int slot) {
+        return crits[slot - 1];
+    }
+
+    public long getDodges(int slot) {
+        return dodges[slot - 1];
+    }
+
+    public long getHealing(int slot) {
+        return healing[slot - 1];
+    }
+
+    public long getFpSpent(int slot) {
+        return fpSpent[slot - 1];
+    }
+
+    public long getEffectsApplied(int slot) {
+        return effectsApplied[slot - 1];
+    }
+
+    public long getEffectDamage(int slot) {
+        return effectDamage[slot - 1];
+    }
+
+    /**
+     * Ringkasan per slot untuk output CLI.
+     */
+    public String format(int slot) {
+        long slotHits = getHits(slot);
+        long attacks = slotHits + dodges[2 - slot]; // serangan yang di-dodge lawan tidak menjadi hit
+        return String.format("skill=%d hit=%d dmg/hit=%.2f crit=%.2f%% dodged=%.2f%% heal=%d fp=%d efek-diterima=%d",
+                getSkillsUsed(slot),
+                slotHits,
+                slotHits == 0 ? 0.0 : (double) getDamageDealt(slot) / slotHits,
+                slotHits == 0 ? 0.0 : getCrits(slot) * 100.0 / slotHits,
+                attacks == 0 ? 0.0 : dodges[2 - slot] * 100.0 / attacks,
+                getHealing(slot),
+                getFpSpent(slot),
+                getEffectsApplied(slot));
+    }
+}
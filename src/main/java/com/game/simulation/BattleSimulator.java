@@ -0,0 +1,181 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleAction;
+import com.game.battle.journal.BattleJournalWriter;
+import com.game.battle.replay.BattleRecording;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.skills.CompiledSkill;
+import com.game.skills.Skill;
+import com.game.utils.BattleRandom;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Engine simulasi headless di atas {@link Battle}.
+ * Menjalankan alur yang sama dengan GameWindow (start → action → endTurn)
+ * tanpa menyentuh Swing/AWT, sehingga bisa jalan di server tanpa display.
+ */
+public class BattleSimulator {
+
+    private final SkillPolicy player1Policy;
+    private final SkillPolicy player2Policy;
+    private final int maxTurns;
+    private BattleMetrics metrics; // Opsional, null = tidak ada subscriber
+    private BattleJournalWriter journal; // Opsional, null = tidak direkam
+
+    public BattleSimulator() {
+        this(new RandomSkillPolicy(), new RandomSkillPolicy(), Constants.SIMULATION_MAX_TURNS);
+    }
+
+    public BattleSimulator(SkillPolicy player1Policy, SkillPolicy player2Policy, int maxTurns) {
+        if (player1Policy == null || player2Policy == null) {
+            throw new IllegalArgumentException("Policy tidak boleh null");
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turns harus lebih dari 0");
+        }
+        this.player1Policy = player1Policy;
+        this.player2Policy = player2Policy;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Membuat dua karakter via CharacterFactory lalu menjalankan pertarungan sampai selesai.
+     */
+    public SimulationResult simulate(String player1Type, String player2Type) {
+        return simulate(player1Type, player2Type, SplitMixRandom.newSeed());
+    }
+
+    /**
+     * Versi reproducible: seed yang sama selalu menghasilkan pertarungan yang sama,
+     * termasuk pilihan skill dari policy.
+     */
+    public SimulationResult simulate(String player1Type, String player2Type, long seed) {
+        return simulate(player1Type, player2Type, seed, null);
+    }
+
+    /**
+     * Menjalankan battle seperti simulate(...) dan mengembalikan rekamannya
+     * (seed + urutan input) untuk replay.
+     */
+    public BattleRecording record(String player1Type, String player2Type, long seed) {
+        BattleRecording.Builder recorder = new BattleRecording.Builder(seed,
+                player1Type, playerName(1, player1Type), player2Type, playerName(2, player2Type));
+        simulate(player1Type, player2Type, seed, recorder);
+        return recorder.build();
+    }
+
+    private SimulationResult simulate(String player1Type, String player2Type, long seed,
+            BattleRecording.Builder recorder) {
+        BaseCharacter player1 = CharacterFactory.createCharacter(player1Type, playerName(1, player1Type));
+        BaseCharacter player2 = CharacterFactory.createCharacter(player2Type, playerName(2, player2Type));
+
+        // Stream policy diturunkan dari instance terpisah supaya RNG battle tetap
+        // identik dengan new Battle(p1, p2, seed) - syarat untuk replay
+        BattleRandom policyRandom = new SplitMixRandom(seed).split();
+        // Seed sekaligus menjadi id battle di journal
+        return simulate(seed, new Battle(player1, player2, seed), policyRandom, recorder);
+    }
+
+    private static String playerName(int slot, String type) {
+        return "P" + slot + " " + type;
+    }
+
+    /**
+     * Menjalankan battle yang sudah dibuat sampai isBattleFinished() atau batas turn.
+     */
+    public SimulationResult simulate(Battle battle, BattleRandom policyRandom) {
+        return simulate(0L, battle, policyRandom, null);
+    }
+
+    private SimulationResult simulate(long battleId, Battle battle, BattleRandom policyRandom,
+            BattleRecording.Builder recorder) {
+        if (metrics != null) {
+            metrics.track(battle);
+        }
+        battle.start();
+
+        while (!battle.isBattleFinished() && battle.getTurnCount() <= maxTurns) {
+            BaseCharacter current = battle.getCurrentPlayer();
+            SkillPolicy policy = current == battle.getPlayer1() ? player1Policy : player2Policy;
+
+            int skillIndex = policy.chooseSkill(battle, policyRandom);
+            boolean success = battle.executePlayerAction(skillIndex);
+            if (recorder != null) {
+                recorder.addAction(skillIndex);
+            }
+            if (!success) {
+                // Aksi ditolak (FP kurang / index salah) - fallback ke Basic Attack yang selalu gratis
+                skillIndex = 1;
+                battle.executePlayerAction(skillIndex);
+                if (recorder != null) {
+                    recorder.addAction(skillIndex);
+                }
+            }
+            if (journal != null) {
+                record(battleId, battle, current, skillIndex);
+            }
+
+            if (battle.isBattleFinished()) {
+                break;
+            }
+            battle.endTurn();
+        }
+
+        return toResult(battle);
+    }
+
+    /**
+     * Mengaktifkan pengumpulan statistik via event bus untuk battle berikutnya.
+     */
+    public void setMetrics(BattleMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Merekam setiap aksi battle berikutnya ke journal biner.
+     * Writer tidak ditutup oleh simulator.
+     */
+    public void setJournal(BattleJournalWriter journal) {
+        this.journal = journal;
+    }
+
+    private void record(long battleId, Battle battle, BaseCharacter actor, int skillIndex) {
+        BattleAction action = battle.getBattleLog().getLastAction();
+        Skill skill = actor.getSkill(skillIndex - 1);
+        if (!(skill instanceof CompiledSkill)) {
+            throw new IllegalArgumentException("Skill tanpa id registry tidak bisa dijurnal: " + skill.getName());
+        }
+        boolean selfTarget = skill.isSelfTargeting();
+        int actorSlot = actor == battle.getPlayer1() ? 1 : 2;
+        int targetSlot = selfTarget ? actorSlot : 3 - actorSlot;
+        BaseCharacter target = selfTarget ? actor : battle.getOpponentPlayer();
+
+        try {
+            journal.append(battleId, battle.getTurnCount(), actorSlot, ((CompiledSkill) skill).getId(), targetSlot,
+                    action, target.getHealthPoints());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Gagal menulis journal", e);
+        }
+    }
+
+    private SimulationResult toResult(Battle battle) {
+        BaseCharacter winner = battle.getWinner();
+        int winnerSlot = SimulationResult.DRAW;
+        if (winner == battle.getPlayer1()) {
+            winnerSlot = 1;
+        } else if (winner == battle.getPlayer2()) {
+            winnerSlot = 2;
+        }
+
+        return new SimulationResult(
+                winnerSlot,
+                battle.getTurnCount(),
+                battle.getPlayer1().getHealthPoints(),
+                battle.getPlayer2().getHealthPoints());
+    }
+}
@@ -0,0 +1,25 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.utils.BattleRandom;
+
+/**
+ * Basis SkillPolicy yang hanya butuh karakter yang mendapat giliran dan
+ * lawannya (tanpa giliran / turn count dari Battle).
+ */
+public abstract class CharacterSkillPolicy implements SkillPolicy {
+
+    @Override
+    public final int chooseSkill(Battle battle, BattleRandom random) {
+        return chooseSkill(battle.getCurrentPlayer(), battle.getOpponentPlayer(), random);
+    }
+
+    /**
+     * @param self     Karakter yang sedang mendapat giliran
+     * @param opponent Karakter lawan
+     * @param random   Stream RNG khusus policy (terpisah dari RNG mekanik battle)
+     * @return Index skill berbasis 1 (sama seperti Battle.executePlayerAction)
+     */
+    public abstract int chooseSkill(BaseCharacter self, BaseCharacter opponent, BattleRandom random);
+}
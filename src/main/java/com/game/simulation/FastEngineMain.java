@@ -0,0 +1,205 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.simulation.fast.FastBattleEngine;
+import com.game.simulation.fast.FastBattleSimulator;
+import com.game.simulation.fast.FastBattleState;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+
+/**
+ * CLI untuk fast engine (struct-of-arrays).
+ *
+ * Usage:
+ *   FastEngineMain verify [N] [SEED]  - bandingkan fast engine vs object engine
+ *                                       setelah setiap aksi dan endTurn
+ *   FastEngineMain bench [N] [SEED]   - throughput object engine vs fast engine
+ * Contoh: mvn exec:java@fast -Dexec.args="verify 20000 42"
+ */
+public class FastEngineMain {
+
+    private static final ElementType[] TYPES = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND
+    };
+
+    private FastEngineMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "verify";
+        long battles = args.length > 1 ? Long.parseLong(args[1]) : 10_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : SplitMixRandom.newSeed();
+
+        GameLogging.setQuiet(true);
+
+        if ("verify".equals(command)) {
+            verify(battles, seed);
+        } else if ("bench".equals(command)) {
+            bench(battles, seed);
+        } else {
+            System.out.println("Usage: FastEngineMain verify|bench [N] [SEED]");
+        }
+    }
+
+    // ====================================================================
+    // VERIFY - kesetaraan langkah demi langkah
+    // ====================================================================
+
+    private static void verify(long battles, long baseSeed) {
+        FastBattleState state = new FastBattleState(1);
+        FastBattleSimulator fastSimulator = new FastBattleSimulator(1, Constants.SIMULATION_MAX_TURNS);
+        BattleSimulator objectSimulator = new BattleSimulator();
+        SkillPolicy policy = new RandomSkillPolicy();
+
+        long mismatches = 0;
+        for (long i = 0; i < battles; i++) {
+            ElementType type1 = TYPES[(int) (i % TYPES.length)];
+            ElementType type2 = TYPES[(int) ((i / TYPES.length) % TYPES.length)];
+            long seed = SplitMixRandom.mix64(baseSeed + i);
+
+            // 1. Lockstep: object engine dan fast engine dengan aksi yang sama
+            String error = compareStepByStep(state, policy, type1, type2, seed);
+            if (error != null) {
+                mismatches++;
+                if (mismatches <= 5) {
+                    System.out.println("MISMATCH battle " + i + " (" + type1 + " vs " + type2
+                            + ", seed " + seed + "): " + error);
+                }
+                continue;
+            }
+
+            // 2. Hasil akhir FastBattleSimulator vs BattleSimulator
+            long[] tally = new long[FastBattleSimulator.TALLY_SLOTS];
+            fastSimulator.run(type1, type2, baseSeed, i, i + 1, tally, 0);
+            SimulationResult expected = objectSimulator.simulate(type1.name(), type2.name(), seed);
+            int winner = tally[0] == 1 ? 1 : (tally[1] == 1 ? 2 : SimulationResult.DRAW);
+            if (winner != expected.getWinner() || tally[3] != expected.getTurnCount()) {
+                mismatches++;
+                if (mismatches <= 5) {
+                    System.out.println("MISMATCH battle " + i + ": simulator winner " + winner + "/"
+                            + expected.getWinner() + ", turns " + tally[3] + "/" + expected.getTurnCount());
+                }
+            }
+        }
+        System.out.println("Verifikasi  : " + battles + " battle, " + fastSimulator.getActionCount() + " aksi, "
+                + mismatches + " mismatch (seed " + baseSeed + ")");
+    }
+
+    private static String compareStepByStep(FastBattleState state, SkillPolicy policy,
+            ElementType type1, ElementType type2, long seed) {
+        Battle battle = new Battle(
+                CharacterFactory.createCharacter(type1.name(), "P1 " + type1),
+                CharacterFactory.createCharacter(type2.name(), "P2 " + type2),
+                seed);
+        SplitMixRandom policyRandom = new SplitMixRandom(seed).split();
+        state.init(0, type1, type2, seed);
+
+        battle.start();
+        FastBattleEngine.start(state, 0);
+        String error = compare(battle, state, "start");
+
+        while (error == null && !battle.isBattleFinished()
+                && battle.getTurnCount() <= Constants.SIMULATION_MAX_TURNS) {
+            int skillIndex = policy.chooseSkill(battle, policyRandom);
+
+            boolean objectSuccess = battle.executePlayerAction(skillIndex);
+            boolean fastSuccess = FastBattleEngine.step(state, 0, skillIndex);
+            if (objectSuccess != fastSuccess) {
+                return "hasil aksi berbeda di turn " + battle.getTurnCount();
+            }
+            if (!objectSuccess) {
+                battle.executePlayerAction(1);
+                FastBattleEngine.step(state, 0, 1);
+            }
+            error = compare(battle, state, "aksi skill " + skillIndex);
+            if (error != null || battle.isBattleFinished()) {
+                break;
+            }
+
+            battle.endTurn();
+            FastBattleEngine.endTurn(state, 0);
+            error = compare(battle, state, "endTurn");
+        }
+
+        if (error == null && battle.isBattleFinished() != FastBattleEngine.isFinished(state, 0)) {
+            error = "status selesai berbeda";
+        }
+        return error;
+    }
+
+    private static String compare(Battle battle, FastBattleState state, String stage) {
+        if (battle.getCurrentState() != state.getCurrentState(0)
+                || battle.getTurnCount() != state.getTurnCount(0)) {
+            return stage + ": state/turn " + battle.getCurrentState() + "/" + battle.getTurnCount()
+                    + " vs " + state.getCurrentState(0) + "/" + state.getTurnCount(0);
+        }
+        if (((SplitMixRandom) battle.getRandom()).getState() != state.getRandomState(0)) {
+            return stage + ": posisi RNG berbeda (turn " + battle.getTurnCount() + ")";
+        }
+        String error = compareCharacter(battle.getPlayer1(), state, FastBattleState.PLAYER1);
+        if (error == null) {
+            error = compareCharacter(battle.getPlayer2(), state, FastBattleState.PLAYER2);
+        }
+        return error == null ? null : stage + " (turn " + battle.getTurnCount() + "): " + error;
+    }
+
+    private static String compareCharacter(BaseCharacter character, FastBattleState state, int slot) {
+        long effects = FastBattleState.packEffects(character);
+        if (character.getHealthPoints() != state.getHealthPoints(0, slot)
+                || character.getFocusPoints() != state.getFocusPoints(0, slot)
+                || character.getAttackPower() != state.getAttackPower(0, slot)
+                || character.getDefense() != state.getDefense(0, slot)
+                || character.getSpeed() != state.getSpeed(0, slot)
+                || effects != state.getEffects(0, slot)) {
+            return character.getName()
+                    + " object[hp=" + character.getHealthPoints() + " fp=" + character.getFocusPoints()
+                    + " def=" + character.getDefense() + " fx=" + Long.toHexString(effects) + "]"
+                    + " fast[hp=" + state.getHealthPoints(0, slot) + " fp=" + state.getFocusPoints(0, slot)
+                    + " def=" + state.getDefense(0, slot)
+                    + " fx=" + Long.toHexString(state.getEffects(0, slot)) + "]";
+        }
+        return null;
+    }
+
+    // ====================================================================
+    // BENCH - throughput satu thread
+    // ====================================================================
+
+    private static void bench(long battles, long baseSeed) {
+        long objectBattles = Math.max(1, battles / 20);
+
+        BattleSimulator objectSimulator = new BattleSimulator();
+        long startNanos = System.nanoTime();
+        for (long i = 0; i < objectBattles; i++) {
+            ElementType type1 = TYPES[(int) (i % TYPES.length)];
+            ElementType type2 = TYPES[(int) ((i / TYPES.length) % TYPES.length)];
+            objectSimulator.simulate(type1.name(), type2.name(), SplitMixRandom.mix64(baseSeed + i));
+        }
+        double objectSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        FastBattleSimulator fastSimulator = new FastBattleSimulator();
+        long[] tally = new long[FastBattleSimulator.TALLY_SLOTS];
+        long perPair = Math.max(1, battles / (TYPES.length * TYPES.length));
+        startNanos = System.nanoTime();
+        for (ElementType type1 : TYPES) {
+            for (ElementType type2 : TYPES) {
+                fastSimulator.run(type1, type2, baseSeed, 0, perPair, tally, 0);
+            }
+        }
+        double fastSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long fastBattles = perPair * TYPES.length * TYPES.length;
+
+        System.out.println("=== FAST ENGINE BENCH (1 thread) ===");
+        System.out.printf("Object engine : %d battle, %.0f battle/detik%n",
+                objectBattles, objectBattles / objectSeconds);
+        System.out.printf("Fast engine   : %d battle, %.0f battle/detik, %.1f juta aksi/detik%n",
+                fastBattles, fastBattles / fastSeconds, fastSimulator.getActionCount() / fastSeconds / 1e6);
+        System.out.printf("Speedup       : %.1fx%n",
+                (fastBattles / fastSeconds) / (objectBattles / objectSeconds));
+    }
+}
@@ -0,0 +1,105 @@
+package com.game.simulation;
+
+import com.game.battle.journal.BattleJournalReader;
+import com.game.battle.journal.JournalFormat;
+import com.game.battle.journal.JournalRecord;
+import com.game.battle.journal.JournalVisitor;
+import com.game.skills.SkillRegistry;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * CLI audit: scan file journal (memory-mapped) dan cetak ringkasan per skill
+ * (id SkillRegistry, jadi skill yang sama dari elemen berbeda digabung).
+ *
+ * Usage: JournalStatsMain FILE_JOURNAL
+ * Contoh: mvn exec:java@journal -Dexec.args="battles.bjrn"
+ */
+public class JournalStatsMain {
+
+    private JournalStatsMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: JournalStatsMain FILE_JOURNAL");
+            return;
+        }
+
+        Stats stats = new Stats();
+        long startNanos = System.nanoTime();
+        try (BattleJournalReader reader = new BattleJournalReader(Paths.get(args[0]))) {
+            reader.scan(stats);
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.println("=== JOURNAL " + args[0] + " ===");
+        System.out.println("Aksi        : " + stats.records);
+        System.out.println("Battle      : " + stats.battles);
+        System.out.println("Frozen      : " + stats.frozen);
+        System.out.println("Surrender   : " + stats.surrenders);
+        for (int id = 0; id < SkillRegistry.size(); id++) {
+            if (stats.uses[id] == 0) {
+                continue;
+            }
+            System.out.printf("%-12s: dipakai=%d dmg/aksi=%.2f heal/aksi=%.2f crit=%d dodge=%d%n",
+                    SkillRegistry.get(id).getName(), stats.uses[id],
+                    (double) stats.damage[id] / stats.uses[id],
+                    (double) stats.healing[id] / stats.uses[id],
+                    stats.crits[id], stats.dodges[id]);
+        }
+        System.out.printf("Scan        : %.3f detik (%.0f aksi/detik)%n",
+                seconds, seconds == 0 ? 0.0 : stats.records / seconds);
+    }
+
+    /**
+     * Agregasi primitif - tidak ada objek per record.
+     */
+    private static class Stats implements JournalVisitor {
+        private long records;
+        private long battles;
+        private long frozen;
+        private long surrenders;
+        private long lastBattleId;
+        private final long[] uses = new long[SkillRegistry.size()];
+        private final long[] damage = new long[SkillRegistry.size()];
+        private final long[] healing = new long[SkillRegistry.size()];
+        private final long[] crits = new long[SkillRegistry.size()];
+        private final long[] dodges = new long[SkillRegistry.size()];
+
+        @Override
+        public boolean visit(JournalRecord record) {
+            long battleId = record.getBattleId();
+            if (records == 0 || battleId != lastBattleId) {
+                battles++;
+                lastBattleId = battleId;
+            }
+            records++;
+
+            int actionType = record.getActionType();
+            if (actionType == JournalFormat.ACTION_FROZEN) {
+                frozen++;
+                return true;
+            } else if (actionType == JournalFormat.ACTION_SURRENDER) {
+                surrenders++;
+                return true;
+            }
+
+            int id = record.getSkillId();
+            // Id di luar registry: journal dari definisi skill yang berbeda
+            if (id >= 0 && id < uses.length) {
+                uses[id]++;
+                damage[id] += record.getDamage();
+                healing[id] += record.getHealing();
+                if (record.isCritical()) {
+                    crits[id]++;
+                }
+                if (record.isDodged()) {
+                    dodges[id]++;
+                }
+            }
+            return true;
+        }
+    }
+}
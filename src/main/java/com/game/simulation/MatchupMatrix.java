@@ -0,0 +1,119 @@
+package com.game.simulation;
+
+import java.util.Locale;
+
+/**
+ * Hasil Monte Carlo untuk semua pasangan elemen.
+ * Menyimpan tally mentah dan menghitung win-rate + Wilson confidence interval.
+ */
+public class MatchupMatrix {
+
+    /** z-score untuk confidence interval 95%. */
+    private static final double Z_95 = 1.959964;
+
+    private final String[] types;
+    // [p1Type][p2Type] → jumlah kemenangan / seri / total turn
+    private final long[][] player1Wins;
+    private final long[][] player2Wins;
+    private final long[][] draws;
+    private final long[][] totalTurns;
+
+    public MatchupMatrix(String[] types) {
+        int n = types.length;
+        this.types = types.clone();
+        this.player1Wins = new long[n][n];
+        this.player2Wins = new long[n][n];
+        this.draws = new long[n][n];
+        this.totalTurns = new long[n][n];
+    }
+
+    void add(int row, int col, long p1Wins, long p2Wins, long drawCount, long turns) {
+        player1Wins[row][col] += p1Wins;
+        player2Wins[row][col] += p2Wins;
+        draws[row][col] += drawCount;
+        totalTurns[row][col] += turns;
+    }
+
+    public String[] getTypes() {
+        return types.clone();
+    }
+
+    public long getBattles(int row, int col) {
+        return player1Wins[row][col] + player2Wins[row][col] + draws[row][col];
+    }
+
+    public long getPlayer1Wins(int row, int col) {
+        return player1Wins[row][col];
+    }
+
+    public long getPlayer2Wins(int row, int col) {
+        return player2Wins[row][col];
+    }
+
+    public long getDraws(int row, int col) {
+        return draws[row][col];
+    }
+
+    public double getAverageTurns(int row, int col) {
+        long battles = getBattles(row, col);
+        return battles == 0 ? 0.0 : (double) totalTurns[row][col] / battles;
+    }
+
+    /**
+     * Win-rate player 1 (baris) melawan player 2 (kolom). Seri dihitung bukan menang.
+     */
+    public double getWinRate(int row, int col) {
+        long battles = getBattles(row, col);
+        return battles == 0 ? 0.0 : (double) player1Wins[row][col] / battles;
+    }
+
+    /**
+     * Batas bawah Wilson score interval 95% untuk win-rate.
+     */
+    public double getWinRateLower(int row, int col) {
+        return wilsonBound(player1Wins[row][col], getBattles(row, col), -1);
+    }
+
+    /**
+     * Batas atas Wilson score interval 95% untuk win-rate.
+     */
+    public double getWinRateUpper(int row, int col) {
+        return wilsonBound(player1Wins[row][col], getBattles(row, col), 1);
+    }
+
+    private static double wilsonBound(long wins, long battles, int sign) {
+        if (battles == 0) {
+            return sign < 0 ? 0.0 : 1.0;
+        }
+        double n = battles;
+        double p = wins / n;
+        double z2 = Z_95 * Z_95;
+        double center = p + z2 / (2 * n);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+        return (center + sign * margin) / (1 + z2 / n);
+    }
+
+    /**
+     * Format tabel win-rate (baris = P1, kolom = P2) untuk output CLI.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-8s", "P1\\P2"));
+        for (String type : types) {
+            sb.append(String.format(Locale.ROOT, "%24s", type));
+        }
+        sb.append('\n');
+
+        for (int row = 0; row < types.length; row++) {
+            sb.append(String.format(Locale.ROOT, "%-8s", types[row]));
+            for (int col = 0; col < types.length; col++) {
+                sb.append(String.format(Locale.ROOT, "%24s", String.format(Locale.ROOT, "%.2f%% [%.2f-%.2f]",
+                        getWinRate(row, col) * 100,
+                        getWinRateLower(row, col) * 100,
+                        getWinRateUpper(row, col) * 100)));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
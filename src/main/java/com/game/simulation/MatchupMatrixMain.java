@@ -0,0 +1,50 @@
+package com.game.simulation;
+
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CLI untuk menjalankan matchup matrix Monte Carlo secara paralel.
+ *
+ * Usage: MatchupMatrixMain [BATTLE_PER_PAIR] [THREADS] [SEED] [ENGINE]
+ * ENGINE: "fast" (default, struct-of-arrays) atau "object" (Battle + BaseCharacter)
+ * Contoh: mvn exec:java@matrix -Dexec.args="100000 32 42 fast"
+ */
+public class MatchupMatrixMain {
+
+    private MatchupMatrixMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        long battlesPerPair = args.length > 0 ? Long.parseLong(args[0]) : 10_000L;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : SplitMixRandom.newSeed();
+        boolean fastEngine = args.length <= 3 || !"object".equalsIgnoreCase(args[3]);
+
+        GameLogging.setQuiet(true);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long startNanos = System.nanoTime();
+            MatchupMatrix matrix = new MatchupMatrixRunner(pool, MatchupMatrixRunner.ELEMENT_TYPES, fastEngine)
+                    .run(battlesPerPair, seed);
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+            long totalBattles = battlesPerPair * MatchupMatrixRunner.ELEMENT_TYPES.length
+                    * MatchupMatrixRunner.ELEMENT_TYPES.length;
+
+            System.out.println("=== MATCHUP MATRIX (win-rate P1, 95% CI) ===");
+            System.out.print(matrix.format());
+            System.out.println("Battles    : " + totalBattles + " (" + battlesPerPair + " per pair)");
+            System.out.println("Threads    : " + threads);
+            System.out.println("Engine     : " + (fastEngine ? "fast" : "object"));
+            System.out.println("Seed       : " + seed);
+            System.out.printf("Waktu      : %.2f detik%n", seconds);
+            System.out.printf("Throughput : %.0f battle/detik%n", totalBattles / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
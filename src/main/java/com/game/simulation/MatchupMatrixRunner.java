@@ -0,0 +1,169 @@
+package com.game.simulation;
+
+import com.game.characters.ElementType;
+import com.game.simulation.fast.FastBattleSimulator;
+import com.game.utils.SplitMixRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runner Monte Carlo berbasis Fork/Join untuk semua pasangan elemen.
+ *
+ * Seluruh battle (pairs × battlesPerPair) dipetakan ke satu ruang index global,
+ * lalu dibelah secara rekursif. Setiap leaf punya tally lokal sendiri (long[]),
+ * sehingga tidak ada state mutable yang di-share antar thread selama simulasi.
+ * Seed setiap battle diturunkan dari base seed + index global, jadi hasil run
+ * identik berapapun jumlah thread-nya. Fast engine (struct-of-arrays)
+ * menghasilkan matrix yang sama persis dengan object engine.
+ */
+public class MatchupMatrixRunner {
+
+    /** Semua tipe yang dikenali CharacterFactory.createCharacter(String, String). */
+    public static final String[] ELEMENT_TYPES = { "FIRE", "WATER", "EARTH", "WIND" };
+
+    // Jumlah battle per leaf task - cukup besar supaya overhead fork tidak dominan
+    private static final int LEAF_BATTLES = 2048;
+
+    // Slot per pair di dalam tally array: p1 wins, p2 wins, draws, turns
+    private static final int SLOTS = 4;
+
+    private final ForkJoinPool pool;
+    private final String[] types;
+    private final boolean fastEngine;
+
+    public MatchupMatrixRunner(ForkJoinPool pool) {
+        this(pool, ELEMENT_TYPES);
+    }
+
+    public MatchupMatrixRunner(ForkJoinPool pool, String[] types) {
+        this(pool, types, false);
+    }
+
+    /**
+     * @param fastEngine true untuk memakai FastBattleSimulator (tanpa object model)
+     */
+    public MatchupMatrixRunner(ForkJoinPool pool, String[] types, boolean fastEngine) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool tidak boleh null");
+        }
+        if (types == null || types.length == 0) {
+            throw new IllegalArgumentException("Daftar tipe tidak boleh kosong");
+        }
+        this.pool = pool;
+        this.types = types.clone();
+        this.fastEngine = fastEngine;
+    }
+
+    /**
+     * Mensimulasikan battlesPerPair pertarungan untuk setiap pasangan (types × types).
+     */
+    public MatchupMatrix run(long battlesPerPair) {
+        return run(battlesPerPair, SplitMixRandom.newSeed());
+    }
+
+    /**
+     * Versi reproducible dengan base seed eksplisit.
+     */
+    public MatchupMatrix run(long battlesPerPair, long baseSeed) {
+        if (battlesPerPair <= 0) {
+            throw new IllegalArgumentException("Jumlah battle harus lebih dari 0");
+        }
+
+        int pairs = types.length * types.length;
+        long[] tally = pool.invoke(
+                new BatchTask(types, fastEngine, battlesPerPair, baseSeed, 0, pairs * battlesPerPair));
+
+        MatchupMatrix matrix = new MatchupMatrix(types);
+        for (int pair = 0; pair < pairs; pair++) {
+            int base = pair * SLOTS;
+            matrix.add(pair / types.length, pair % types.length,
+                    tally[base], tally[base + 1], tally[base + 2], tally[base + 3]);
+        }
+        return matrix;
+    }
+
+    /**
+     * Task rekursif atas range index battle global [from, to).
+     * Index global i → pair (i / battlesPerPair).
+     */
+    private static class BatchTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[] types;
+        private final boolean fastEngine;
+        private final long battlesPerPair;
+        private final long baseSeed;
+        private final long from;
+        private final long to;
+
+        BatchTask(String[] types, boolean fastEngine, long battlesPerPair, long baseSeed, long from, long to) {
+            this.types = types;
+            this.fastEngine = fastEngine;
+            this.battlesPerPair = battlesPerPair;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_BATTLES) {
+                return fastEngine ? simulateRangeFast() : simulateRange();
+            }
+
+            long mid = (from + to) >>> 1;
+            BatchTask left = new BatchTask(types, fastEngine, battlesPerPair, baseSeed, from, mid);
+            BatchTask right = new BatchTask(types, fastEngine, battlesPerPair, baseSeed, mid, to);
+            left.fork();
+            long[] rightTally = right.compute();
+            long[] leftTally = left.join();
+
+            for (int i = 0; i < leftTally.length; i++) {
+                leftTally[i] += rightTally[i];
+            }
+            return leftTally;
+        }
+
+        private long[] simulateRange() {
+            long[] tally = new long[types.length * types.length * SLOTS];
+            BattleSimulator simulator = new BattleSimulator();
+
+            for (long i = from; i < to; i++) {
+                int pair = (int) (i / battlesPerPair);
+                String player1Type = types[pair / types.length];
+                String player2Type = types[pair % types.length];
+
+                SimulationResult result = simulator.simulate(player1Type, player2Type,
+                        SplitMixRandom.mix64(baseSeed + i));
+                int base = pair * SLOTS;
+                if (result.getWinner() == 1) {
+                    tally[base]++;
+                } else if (result.getWinner() == 2) {
+                    tally[base + 1]++;
+                } else {
+                    tally[base + 2]++;
+                }
+                tally[base + 3] += result.getTurnCount();
+            }
+            return tally;
+        }
+
+        private long[] simulateRangeFast() {
+            long[] tally = new long[types.length * types.length * SLOTS];
+            FastBattleSimulator simulator = new FastBattleSimulator();
+
+            // Range dipecah per pair supaya satu panggilan run() = satu matchup
+            long i = from;
+            while (i < to) {
+                int pair = (int) (i / battlesPerPair);
+                long pairEnd = Math.min(to, (pair + 1) * battlesPerPair);
+                simulator.run(ElementType.valueOf(types[pair / types.length]),
+                        ElementType.valueOf(types[pair % types.length]),
+                        baseSeed, i, pairEnd, tally, pair * SLOTS);
+                i = pairEnd;
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.game.simulation;
+
+import com.game.characters.BaseCharacter;
+import com.game.utils.BattleRandom;
+
+/**
+ * Policy sederhana: memilih skill secara acak dari skill yang FP-nya cukup.
+ * Cukup untuk balance check karena tidak pernah memilih aksi yang gagal.
+ */
+public class RandomSkillPolicy extends CharacterSkillPolicy {
+
+    @Override
+    public int chooseSkill(BaseCharacter self, BaseCharacter opponent, BattleRandom random) {
+        int skillCount = self.getSkillCount();
+
+        int affordable = 0;
+        for (int i = 0; i < skillCount; i++) {
+            if (self.getSkill(i).getFpCost() <= self.getFocusPoints()) {
+                affordable++;
+            }
+        }
+        if (affordable == 0) {
+            return 1;
+        }
+
+        int pick = random.nextInt(affordable);
+        for (int i = 0; i < skillCount; i++) {
+            if (self.getSkill(i).getFpCost() <= self.getFocusPoints()) {
+                if (pick == 0) {
+                    return i + 1;
+                }
+                pick--;
+            }
+        }
+        return 1;
+    }
+}
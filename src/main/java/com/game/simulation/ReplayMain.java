@@ -0,0 +1,120 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.battle.replay.BattleRecording;
+import com.game.battle.replay.ReplayPlayer;
+import com.game.characters.BaseCharacter;
+import com.game.skills.effects.StatusEffect;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+
+/**
+ * CLI replay untuk tim support.
+ *
+ * Usage:
+ *   ReplayMain record P1_TYPE P2_TYPE SEED   → cetak rekaman satu baris
+ *   ReplayMain play "REKAMAN" [TURN]         → state battle di awal TURN (atau di akhir)
+ *   ReplayMain verify JUMLAH [SEED]          → cek replay == simulasi asli
+ */
+public class ReplayMain {
+
+    private ReplayMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: ReplayMain record P1_TYPE P2_TYPE SEED | play REKAMAN [TURN] | verify JUMLAH [SEED]");
+            return;
+        }
+        GameLogging.setQuiet(true);
+
+        switch (args[0]) {
+            case "record":
+                BattleRecording recording = new BattleSimulator()
+                        .record(args[1].toUpperCase(), args[2].toUpperCase(), Long.parseLong(args[3]));
+                System.out.println(recording.encode());
+                break;
+            case "play":
+                play(BattleRecording.parse(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : -1);
+                break;
+            case "verify":
+                int battles = Integer.parseInt(args[1]);
+                long seed = args.length > 2 ? Long.parseLong(args[2]) : SplitMixRandom.newSeed();
+                if (!verify(battles, seed)) {
+                    System.exit(1);
+                }
+                break;
+            default:
+                System.out.println("Perintah tidak dikenal: " + args[0]);
+        }
+    }
+
+    private static void play(BattleRecording recording, int turn) {
+        ReplayPlayer player = new ReplayPlayer(recording);
+        Battle battle = turn > 0 ? player.seekToTurn(turn) : player.playToEnd();
+
+        System.out.println("Turn        : " + battle.getTurnCount() + " (" + battle.getCurrentState() + ")");
+        System.out.println("Aksi        : " + player.getCursor() + "/" + recording.getActionCount());
+        System.out.println(describe(battle.getPlayer1()));
+        System.out.println(describe(battle.getPlayer2()));
+        if (battle.isBattleFinished()) {
+            BaseCharacter winner = battle.getWinner();
+            System.out.println("Pemenang    : " + (winner != null ? winner.getName() : "-"));
+        }
+    }
+
+    private static String describe(BaseCharacter character) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-12s: HP %d/%d, FP %d/%d, ATK %d, DEF %d, SPD %d",
+                character.getName(),
+                character.getHealthPoints(), character.getMaxHealthPoints(),
+                character.getFocusPoints(), character.getMaxFocusPoints(),
+                character.getAttackPower(), character.getDefense(), character.getSpeed()));
+        for (StatusEffect effect : character.getActiveEffects()) {
+            sb.append(", ").append(effect.getName()).append('(').append(effect.getDuration()).append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Simulasi ulang JUMLAH battle dengan rekaman, lalu cek hasil replay penuh dan
+     * replay via seek (mulai dari checkpoint) identik dengan simulasi aslinya.
+     */
+    private static boolean verify(int battles, long seed) {
+        String[] types = MatchupMatrixRunner.ELEMENT_TYPES;
+        BattleSimulator simulator = new BattleSimulator();
+        int mismatches = 0;
+
+        for (int i = 0; i < battles; i++) {
+            String player1Type = types[i % types.length];
+            String player2Type = types[(i / types.length) % types.length];
+            long battleSeed = SplitMixRandom.mix64(seed + i);
+
+            SimulationResult expected = simulator.simulate(player1Type, player2Type, battleSeed);
+            BattleRecording recording = simulator.record(player1Type, player2Type, battleSeed);
+
+            Battle replayed = new ReplayPlayer(recording).playToEnd();
+
+            // Seek ke tengah lalu lanjut sampai akhir - harus sama persis
+            ReplayPlayer seeking = new ReplayPlayer(recording, 3);
+            seeking.playToEnd();
+            seeking.seekToTurn(Math.max(1, expected.getTurnCount() / 2));
+            Battle resumed = seeking.playToEnd();
+
+            if (!matches(expected, replayed) || !matches(expected, resumed)) {
+                mismatches++;
+                System.out.println("MISMATCH seed=" + battleSeed + " " + player1Type + " vs " + player2Type);
+            }
+        }
+
+        System.out.println("Verifikasi  : " + battles + " battle, " + mismatches + " mismatch (seed " + seed + ")");
+        return mismatches == 0;
+    }
+
+    private static boolean matches(SimulationResult expected, Battle battle) {
+        return expected.getTurnCount() == battle.getTurnCount()
+                && expected.getPlayer1Hp() == battle.getPlayer1().getHealthPoints()
+                && expected.getPlayer2Hp() == battle.getPlayer2().getHealthPoints();
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.simulation;
+
+/**
+ * Hasil satu pertarungan headless.
+ * Immutable supaya aman dikumpulkan dari banyak simulasi.
+ */
+public class SimulationResult {
+
+    /** Nilai winner saat pertarungan berakhir tanpa pemenang (batas turn tercapai). */
+    public static final int DRAW = 0;
+
+    private final int winner; // 1 = player 1, 2 = player 2, 0 = draw
+    private final int turnCount;
+    private final int player1Hp;
+    private final int player2Hp;
+
+    public SimulationResult(int winner, int turnCount, int player1Hp, int player2Hp) {
+        this.winner = winner;
+        this.turnCount = turnCount;
+        this.player1Hp = player1Hp;
+        this.player2Hp = player2Hp;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public boolean isDraw() {
+        return winner == DRAW;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getPlayer1Hp() {
+        return player1Hp;
+    }
+
+    public int getPlayer2Hp() {
+        return player2Hp;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{winner=" + winner + ", turns=" + turnCount
+                + ", p1Hp=" + player1Hp + ", p2Hp=" + player2Hp + "}";
+    }
+}
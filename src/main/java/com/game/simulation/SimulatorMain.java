@@ -0,0 +1,77 @@
+package com.game.simulation;
+
+import com.game.battle.journal.BattleJournalWriter;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * CLI entry point untuk simulasi batch tanpa GUI.
+ *
+ * Usage: SimulatorMain [P1_TYPE] [P2_TYPE] [JUMLAH_BATTLE] [SEED] [FILE_JOURNAL]
+ * Contoh: mvn exec:java@simulate -Dexec.args="FIRE WATER 10000 42 battles.bjrn"
+ */
+public class SimulatorMain {
+
+    private SimulatorMain() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        String player1Type = args.length > 0 ? args[0].toUpperCase() : "FIRE";
+        String player2Type = args.length > 1 ? args[1].toUpperCase() : "WATER";
+        int battles = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : SplitMixRandom.newSeed();
+        Path journalPath = args.length > 4 ? Paths.get(args[4]) : null;
+
+        // Log per-aksi tidak berguna untuk batch run
+        GameLogging.setQuiet(true);
+
+        BattleSimulator simulator = new BattleSimulator();
+        BattleMetrics metrics = new BattleMetrics();
+        simulator.setMetrics(metrics);
+        BattleJournalWriter journal = journalPath != null ? new BattleJournalWriter(journalPath) : null;
+        simulator.setJournal(journal);
+        int player1Wins = 0;
+        int player2Wins = 0;
+        int draws = 0;
+        long totalTurns = 0;
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < battles; i++) {
+            SimulationResult result = simulator.simulate(player1Type, player2Type, SplitMixRandom.mix64(seed + i));
+            if (result.getWinner() == 1) {
+                player1Wins++;
+            } else if (result.getWinner() == 2) {
+                player2Wins++;
+            } else {
+                draws++;
+            }
+            totalTurns += result.getTurnCount();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.println("=== SIMULASI " + player1Type + " vs " + player2Type + " ===");
+        System.out.println("Battles     : " + battles);
+        System.out.println("Seed        : " + seed);
+        System.out.printf("P1 menang   : %d (%.2f%%)%n", player1Wins, percent(player1Wins, battles));
+        System.out.printf("P2 menang   : %d (%.2f%%)%n", player2Wins, percent(player2Wins, battles));
+        System.out.printf("Seri        : %d (%.2f%%)%n", draws, percent(draws, battles));
+        System.out.printf("Rata2 turn  : %.2f%n", battles == 0 ? 0.0 : (double) totalTurns / battles);
+        System.out.printf("Throughput  : %.0f battle/detik%n", seconds == 0 ? 0.0 : battles / seconds);
+        System.out.println("Statistik P1: " + metrics.format(1));
+        System.out.println("Statistik P2: " + metrics.format(2));
+        if (journal != null) {
+            System.out.println("Journal     : " + journal.getRecordsWritten() + " aksi -> " + journalPath);
+        }
+    }
+
+    private static double percent(int count, int total) {
+        return total == 0 ? 0.0 : count * 100.0 / total;
+    }
+}
@@ -0,0 +1,22 @@
+package com.game.simulation;
+
+import com.game.battle.Battle;
+import com.game.utils.BattleRandom;
+
+/**
+ * STRATEGY PATTERN - Pemilih skill untuk pemain non-manusia.
+ * Dipakai oleh simulator headless untuk menggantikan klik tombol di GUI.
+ *
+ * Policy yang cukup melihat kedua karakter bisa extend CharacterSkillPolicy.
+ */
+public interface SkillPolicy {
+
+    /**
+     * Memilih skill yang akan digunakan pada giliran ini.
+     *
+     * @param battle Battle yang sedang berjalan; pemain yang mendapat giliran = getCurrentPlayer()
+     * @param random Stream RNG khusus policy (terpisah dari RNG mekanik battle)
+     * @return Index skill berbasis 1 (sama seperti Battle.executePlayerAction)
+     */
+    int chooseSkill(Battle battle, BattleRandom random);
+}
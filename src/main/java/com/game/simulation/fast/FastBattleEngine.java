@@ -0,0 +1,360 @@
+package com.game.simulation.fast;
+
+import static com.game.simulation.fast.FastBattleState.BURN_BUCKETS;
+import static com.game.simulation.fast.FastBattleState.BURN_FIELD;
+import static com.game.simulation.fast.FastBattleState.BURN_SHIFT;
+import static com.game.simulation.fast.FastBattleState.COUNT_BITS;
+import static com.game.simulation.fast.FastBattleState.FINISHED;
+import static com.game.simulation.fast.FastBattleState.FREEZE_BUCKETS;
+import static com.game.simulation.fast.FastBattleState.FREEZE_FIELD;
+import static com.game.simulation.fast.FastBattleState.FREEZE_SHIFT;
+import static com.game.simulation.fast.FastBattleState.GUARD_BITS;
+import static com.game.simulation.fast.FastBattleState.GUARD_BUCKETS;
+import static com.game.simulation.fast.FastBattleState.GUARD_MASK;
+import static com.game.simulation.fast.FastBattleState.GUARD_SHIFT;
+import static com.game.simulation.fast.FastBattleState.PLAYER1_TURN;
+import static com.game.simulation.fast.FastBattleState.PLAYER2_TURN;
+import static com.game.simulation.fast.FastBattleState.SKILLS_PER_CHARACTER;
+
+import com.game.characters.ElementType;
+import com.game.characters.ElementalAdvantage;
+import com.game.skills.CompiledSkill;
+import com.game.skills.EffectSpec;
+import com.game.skills.Skill;
+import com.game.skills.SkillRegistry;
+import com.utils.Constants;
+
+/**
+ * Aturan battle untuk FastBattleState, setara dengan Battle + CombatResolver +
+ * kelas skill/efek pada object model (termasuk urutan pemakaian RNG), tapi
+ * langsung di atas array primitif tanpa alokasi.
+ *
+ * Kesetaraannya diverifikasi oleh FastEngineMain verify.
+ */
+public final class FastBattleEngine {
+
+    // Hasil serangan: diundi dari RNG battle, atau dipaksa (node chance pada AI search)
+    public static final int OUTCOME_RANDOM = 0;
+    public static final int OUTCOME_HIT = 1;
+    public static final int OUTCOME_CRIT = 2;
+    public static final int OUTCOME_DODGE = 3;
+
+    // Sama dengan GuardEffect: +50% defense
+    private static final double GUARD_DEFENSE_RATIO = 0.5;
+    private static final int NO_GUARD = -1;
+
+    // Tabel per id skill, dikompilasi sekali dari SkillRegistry
+    private static final int SKILL_COUNT = SkillRegistry.size();
+    private static final int[] SKILL_COST = new int[SKILL_COUNT];
+    private static final double[] SKILL_DAMAGE_MULTIPLIER = new double[SKILL_COUNT]; // 0 = tanpa damage
+    private static final int[] SKILL_HEAL = new int[SKILL_COUNT];
+    private static final boolean[] SKILL_SELF_EFFECT = new boolean[SKILL_COUNT];
+    // Burn/Freeze: bit yang ditambahkan ke bitfield efek target (0 = tanpa efek)
+    private static final long[] SKILL_EFFECT_ADD = new long[SKILL_COUNT];
+    // Guard: posisi field boost di bitfield efek (NO_GUARD = tanpa guard)
+    private static final int[] SKILL_GUARD_SHIFT = new int[SKILL_COUNT];
+    // null = didukung; selain itu alasan skill tidak bisa disimulasikan
+    private static final String[] UNSUPPORTED = new String[SKILL_COUNT];
+
+    // Multiplier elemen [attacker][defender], dihitung sekali dari ElementalAdvantage
+    private static final double[][] ELEMENT_MULTIPLIER;
+
+    static {
+        for (int id = 0; id < SKILL_COUNT; id++) {
+            compileSkill(SkillRegistry.get(id));
+        }
+
+        ElementType[] types = ElementType.values();
+        ELEMENT_MULTIPLIER = new double[types.length][types.length];
+        for (ElementType attacker : types) {
+            for (ElementType defender : types) {
+                ELEMENT_MULTIPLIER[attacker.ordinal()][defender.ordinal()] =
+                        ElementalAdvantage.getMultiplier(attacker, defender);
+            }
+        }
+    }
+
+    private FastBattleEngine() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Mengisi tabel fast engine untuk satu skill. Efek yang tidak muat di
+     * bitfield FastBattleState (durasi di luar bucket, burn dengan damage
+     * custom, attack buff) ditandai tidak didukung.
+     */
+    private static void compileSkill(CompiledSkill skill) {
+        int id = skill.getId();
+        SKILL_COST[id] = skill.getFpCost();
+        SKILL_DAMAGE_MULTIPLIER[id] = skill.getDamageMultiplier();
+        SKILL_HEAL[id] = skill.getHealAmount();
+        SKILL_SELF_EFFECT[id] = skill.isSelfTargeting();
+        SKILL_GUARD_SHIFT[id] = NO_GUARD;
+
+        EffectSpec effect = skill.getEffect();
+        if (effect == null) {
+            return;
+        }
+        int duration = effect.getDuration();
+        switch (effect.getKind()) {
+            case BURN:
+                if (effect.getParam() != Constants.BURN_DAMAGE_PER_TURN) {
+                    UNSUPPORTED[id] = "burn dengan damage custom";
+                } else if (duration > BURN_BUCKETS) {
+                    UNSUPPORTED[id] = "durasi burn " + duration;
+                } else {
+                    SKILL_EFFECT_ADD[id] = FastBattleState.countBit(BURN_SHIFT, BURN_BUCKETS, duration);
+                }
+                break;
+            case FREEZE:
+                if (duration > FREEZE_BUCKETS) {
+                    UNSUPPORTED[id] = "durasi freeze " + duration;
+                } else {
+                    SKILL_EFFECT_ADD[id] = FastBattleState.countBit(FREEZE_SHIFT, FREEZE_BUCKETS, duration);
+                }
+                break;
+            case GUARD:
+                if (duration > GUARD_BUCKETS) {
+                    UNSUPPORTED[id] = "durasi guard " + duration;
+                } else {
+                    SKILL_GUARD_SHIFT[id] = FastBattleState.guardShift(duration);
+                }
+                break;
+            default:
+                UNSUPPORTED[id] = "efek " + effect.getKind();
+                break;
+        }
+    }
+
+    /**
+     * Id fast engine untuk skill object model (= id di SkillRegistry).
+     */
+    static int skillId(Skill skill) {
+        if (!(skill instanceof CompiledSkill)) {
+            throw new IllegalArgumentException("Skill tidak didukung fast engine: " + skill.getName());
+        }
+        int id = ((CompiledSkill) skill).getId();
+        if (UNSUPPORTED[id] != null) {
+            throw new IllegalArgumentException("Skill tidak didukung fast engine: "
+                    + skill.getName() + " (" + UNSUPPORTED[id] + ")");
+        }
+        return id;
+    }
+
+    public static int getSkillCost(int skillId) {
+        return SKILL_COST[skillId];
+    }
+
+    /**
+     * true jika skill memberi damage (punya hasil dodge/crit).
+     */
+    public static boolean isDamageSkill(int skillId) {
+        return SKILL_DAMAGE_MULTIPLIER[skillId] > 0;
+    }
+
+    /**
+     * Id skill ke-skillIndex (1-based) milik pemain yang sedang jalan.
+     */
+    public static int getSkillId(FastBattleState s, int battle, int slot, int skillIndex) {
+        return s.skills[(battle * 2 + slot) * SKILLS_PER_CHARACTER + skillIndex - 1];
+    }
+
+    // ====================================================================
+    // ALUR BATTLE (setara Battle.start / executePlayerAction / endTurn)
+    // ====================================================================
+
+    public static void start(FastBattleState s, int battle) {
+        int p1 = battle * 2;
+        int p2 = p1 + 1;
+        int first;
+        if (s.speed[p1] > s.speed[p2]) {
+            first = PLAYER1_TURN;
+        } else if (s.speed[p2] > s.speed[p1]) {
+            first = PLAYER2_TURN;
+        } else {
+            first = FastRandom.nextBoolean(s.rngState, s.rngGamma, battle) ? PLAYER1_TURN : PLAYER2_TURN;
+        }
+        s.turnState[battle] = first;
+        s.turnCount[battle] = 1;
+    }
+
+    /**
+     * Slot pemain yang sedang jalan (0 atau 1). Hanya valid saat battle berjalan.
+     */
+    public static int currentSlot(FastBattleState s, int battle) {
+        return s.turnState[battle] == PLAYER1_TURN ? 0 : 1;
+    }
+
+    /**
+     * Menjalankan satu aksi pemain yang sedang jalan.
+     *
+     * @return false jika index skill tidak valid atau FP tidak cukup
+     *         (efek awal giliran tetap sudah diproses, sama seperti CombatResolver)
+     */
+    public static boolean step(FastBattleState s, int battle, int skillIndex) {
+        return step(s, battle, skillIndex, OUTCOME_RANDOM);
+    }
+
+    /**
+     * Versi step dengan hasil serangan yang ditentukan pemanggil (OUTCOME_*).
+     * Selain OUTCOME_RANDOM, RNG battle tidak disentuh.
+     */
+    public static boolean step(FastBattleState s, int battle, int skillIndex, int outcome) {
+        int attacker = battle * 2 + currentSlot(s, battle);
+        int defender = attacker ^ 1;
+
+        // 1. Start turn effects: setiap Burn = takeDamage (dikurangi defense) + takeTrueDamage
+        int burns = FastBattleState.burnCount(s.effects[attacker]);
+        for (int i = 0; i < burns; i++) {
+            int hp = s.hp[attacker] - Math.max(0, Constants.BURN_DAMAGE_PER_TURN - s.defense[attacker]);
+            hp -= Constants.BURN_DAMAGE_PER_TURN;
+            s.hp[attacker] = Math.max(0, hp);
+        }
+
+        // 2. Freeze: giliran dilewati
+        if (FastBattleState.isFrozen(s.effects[attacker])) {
+            endTurnEffects(s, attacker);
+            return true;
+        }
+
+        if (skillIndex < 1 || skillIndex > SKILLS_PER_CHARACTER) {
+            return false;
+        }
+        int skill = s.skills[attacker * SKILLS_PER_CHARACTER + skillIndex - 1];
+
+        // 3. FP
+        int cost = SKILL_COST[skill];
+        if (s.fp[attacker] < cost) {
+            return false;
+        }
+        s.fp[attacker] -= cost;
+
+        // 4. Efek skill: damage, heal, lalu efek (urutan sama dengan CompiledSkill)
+        if (SKILL_DAMAGE_MULTIPLIER[skill] > 0) {
+            int damage = (int) (s.attack[attacker] * SKILL_DAMAGE_MULTIPLIER[skill]);
+            applyDamage(s, battle, attacker, defender, damage, outcome);
+        }
+        if (SKILL_HEAL[skill] > 0) {
+            s.hp[attacker] = Math.min(s.maxHp[attacker], s.hp[attacker] + SKILL_HEAL[skill]);
+        }
+        int effectTarget = SKILL_SELF_EFFECT[skill] ? attacker : defender;
+        s.effects[effectTarget] += SKILL_EFFECT_ADD[skill];
+        if (SKILL_GUARD_SHIFT[skill] != NO_GUARD) {
+            int boost = (int) (s.defense[effectTarget] * GUARD_DEFENSE_RATIO);
+            s.defense[effectTarget] += boost;
+            s.effects[effectTarget] += (long) boost << SKILL_GUARD_SHIFT[skill];
+        }
+
+        // 5. End turn effects
+        endTurnEffects(s, attacker);
+        return true;
+    }
+
+    /**
+     * Setara BaseCharacter.takeDamageWithMechanics: dodge, crit, elemen, defense.
+     */
+    private static void applyDamage(FastBattleState s, int battle, int attacker, int defender,
+            int rawDamage, int outcome) {
+        boolean crit;
+        if (outcome == OUTCOME_RANDOM) {
+            if (FastRandom.nextDouble(s.rngState, s.rngGamma, battle) * 100 < dodgeChance(s, attacker, defender)) {
+                return;
+            }
+            crit = FastRandom.nextDouble(s.rngState, s.rngGamma, battle) * 100 < critChance(s, attacker);
+        } else if (outcome == OUTCOME_DODGE) {
+            return;
+        } else {
+            crit = outcome == OUTCOME_CRIT;
+        }
+
+        int damage = rawDamage;
+        if (crit) {
+            damage = (int) (rawDamage * Constants.CRIT_DAMAGE_MULTIPLIER);
+        }
+
+        damage = (int) (damage * ELEMENT_MULTIPLIER[s.element[attacker]][s.element[defender]]);
+        damage = Math.max(0, damage - s.defense[defender]);
+        s.hp[defender] = Math.max(0, s.hp[defender] - damage);
+    }
+
+    /**
+     * Dodge chance (persen) defender terhadap attacker, sama dengan
+     * BaseCharacter.calculateDodgeChance. Parameter = index karakter.
+     */
+    static double dodgeChance(FastBattleState s, int attacker, int defender) {
+        double speedDiff = (double) s.speed[defender] - s.speed[attacker];
+        return Math.min(Constants.MAX_DODGE_CHANCE, Math.max(0, speedDiff / Constants.DODGE_SPEED_DIVISOR * 100));
+    }
+
+    /**
+     * Crit chance (persen) attacker, sama dengan BaseCharacter.calculateCritChance.
+     */
+    static double critChance(FastBattleState s, int attacker) {
+        return Math.min(Constants.MAX_CRIT_CHANCE,
+                Constants.BASE_CRIT_CHANCE + s.speed[attacker] / Constants.CRIT_SPEED_DIVISOR);
+    }
+
+    /**
+     * Peluang dodge (0..1) bila pemain yang sedang jalan menyerang lawannya.
+     */
+    public static double currentDodgeProbability(FastBattleState s, int battle) {
+        int attacker = battle * 2 + currentSlot(s, battle);
+        return dodgeChance(s, attacker, attacker ^ 1) / 100;
+    }
+
+    /**
+     * Peluang crit (0..1) serangan pemain yang sedang jalan, bila tidak di-dodge.
+     */
+    public static double currentCritProbability(FastBattleState s, int battle) {
+        return critChance(s, battle * 2 + currentSlot(s, battle)) / 100;
+    }
+
+    /**
+     * Decrement durasi semua efek karakter; Guard yang habis mengembalikan defense.
+     */
+    private static void endTurnEffects(FastBattleState s, int c) {
+        long packed = s.effects[c];
+        if (packed == 0L) {
+            return;
+        }
+        long burn = (packed & BURN_FIELD) >>> COUNT_BITS;
+        long freeze = ((packed & FREEZE_FIELD) >>> COUNT_BITS) & FREEZE_FIELD;
+        long expiredGuard = (packed >>> GUARD_SHIFT) & GUARD_MASK;
+        long remainingGuard = (packed >>> (GUARD_SHIFT + GUARD_BITS)) & GUARD_MASK;
+
+        s.defense[c] -= (int) expiredGuard;
+        s.effects[c] = burn | freeze | (remainingGuard << GUARD_SHIFT);
+    }
+
+    public static void endTurn(FastBattleState s, int battle) {
+        int state = s.turnState[battle];
+        if (state == PLAYER1_TURN) {
+            s.turnState[battle] = PLAYER2_TURN;
+        } else if (state == PLAYER2_TURN) {
+            s.turnState[battle] = PLAYER1_TURN;
+            s.turnCount[battle]++;
+
+            int p1 = battle * 2;
+            s.fp[p1] = Math.min(s.maxFp[p1], s.fp[p1] + Constants.FP_REGEN_PER_TURN);
+            s.fp[p1 + 1] = Math.min(s.maxFp[p1 + 1], s.fp[p1 + 1] + Constants.FP_REGEN_PER_TURN);
+        }
+    }
+
+    public static boolean isFinished(FastBattleState s, int battle) {
+        int p1 = battle * 2;
+        return s.turnState[battle] == FINISHED || s.hp[p1] <= 0 || s.hp[p1 + 1] <= 0;
+    }
+
+    /**
+     * Pemenang berdasarkan HP: 1, 2, atau 0 (belum ada / draw).
+     */
+    public static int winner(FastBattleState s, int battle) {
+        int p1 = battle * 2;
+        if (s.hp[p1] <= 0) {
+            return 2;
+        } else if (s.hp[p1 + 1] <= 0) {
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.game.simulation.fast;
+
+import com.game.characters.ElementType;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+
+/**
+ * Padanan BattleSimulator (RandomSkillPolicy untuk kedua pemain) di atas
+ * FastBattleState. Battle dijalankan per batch secara lockstep: setiap putaran
+ * memajukan satu aksi untuk semua battle yang masih aktif, lalu battle yang
+ * selesai dikeluarkan dari daftar aktif.
+ *
+ * Seed battle ke-i = SplitMixRandom.mix64(baseSeed + i), sama dengan
+ * MatchupMatrixRunner, sehingga hasilnya identik dengan object engine.
+ * Instance tidak thread-safe; buat satu per thread.
+ */
+public class FastBattleSimulator {
+
+    /** Default jumlah battle per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    // Slot tally per pair: p1 wins, p2 wins, draws, turns
+    public static final int TALLY_SLOTS = 4;
+
+    private final FastBattleState state;
+    private final int maxTurns;
+
+    // RNG policy per battle (terpisah dari RNG battle, seperti BattleSimulator)
+    private final long[] policyState;
+    private final long[] policyGamma;
+    private final int[] active;
+
+    private long actionCount;
+
+    public FastBattleSimulator() {
+        this(DEFAULT_BATCH_SIZE, Constants.SIMULATION_MAX_TURNS);
+    }
+
+    public FastBattleSimulator(int batchSize, int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turn harus lebih dari 0");
+        }
+        this.state = new FastBattleState(batchSize);
+        this.maxTurns = maxTurns;
+        this.policyState = new long[batchSize];
+        this.policyGamma = new long[batchSize];
+        this.active = new int[batchSize];
+    }
+
+    /**
+     * Mensimulasikan battle dengan index global [from, to) untuk satu pair,
+     * menambahkan hasilnya ke tally[offset .. offset + TALLY_SLOTS).
+     */
+    public void run(ElementType player1Type, ElementType player2Type, long baseSeed,
+            long from, long to, long[] tally, int offset) {
+        int batchSize = state.getCapacity();
+        for (long batchStart = from; batchStart < to; batchStart += batchSize) {
+            int count = (int) Math.min(batchSize, to - batchStart);
+            runBatch(player1Type, player2Type, baseSeed, batchStart, count, tally, offset);
+        }
+    }
+
+    private void runBatch(ElementType player1Type, ElementType player2Type, long baseSeed,
+            long firstIndex, int count, long[] tally, int offset) {
+        for (int b = 0; b < count; b++) {
+            long seed = SplitMixRandom.mix64(baseSeed + firstIndex + b);
+            state.init(b, player1Type, player2Type, seed);
+            FastBattleEngine.start(state, b);
+            FastRandom.seedSplit(seed, policyState, policyGamma, b);
+            active[b] = b;
+        }
+
+        int activeCount = count;
+        while (activeCount > 0) {
+            int i = 0;
+            while (i < activeCount) {
+                int b = active[i];
+                playTurn(b);
+
+                if (FastBattleEngine.isFinished(state, b) || state.turnCount[b] > maxTurns) {
+                    record(b, tally, offset);
+                    active[i] = active[--activeCount];
+                } else {
+                    i++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Satu iterasi loop BattleSimulator: pilih skill, eksekusi (fallback ke
+     * Basic Attack bila ditolak), lalu endTurn bila battle belum selesai.
+     */
+    private void playTurn(int b) {
+        int skillIndex = chooseRandomSkill(b);
+        actionCount++;
+        if (!FastBattleEngine.step(state, b, skillIndex)) {
+            actionCount++;
+            FastBattleEngine.step(state, b, 1);
+        }
+        if (!FastBattleEngine.isFinished(state, b)) {
+            FastBattleEngine.endTurn(state, b);
+        }
+    }
+
+    /**
+     * Setara RandomSkillPolicy: uniform di antara skill yang FP-nya cukup.
+     */
+    private int chooseRandomSkill(int b) {
+        int slot = FastBattleEngine.currentSlot(state, b);
+        int fp = state.getFocusPoints(b, slot);
+
+        int affordable = 0;
+        for (int i = 1; i <= FastBattleState.SKILLS_PER_CHARACTER; i++) {
+            if (FastBattleEngine.getSkillCost(FastBattleEngine.getSkillId(state, b, slot, i)) <= fp) {
+                affordable++;
+            }
+        }
+        if (affordable == 0) {
+            return 1;
+        }
+
+        int pick = FastRandom.nextInt(policyState, policyGamma, b, affordable);
+        for (int i = 1; i <= FastBattleState.SKILLS_PER_CHARACTER; i++) {
+            if (FastBattleEngine.getSkillCost(FastBattleEngine.getSkillId(state, b, slot, i)) <= fp) {
+                if (pick == 0) {
+                    return i;
+                }
+                pick--;
+            }
+        }
+        return 1;
+    }
+
+    private void record(int b, long[] tally, int offset) {
+        int winner = FastBattleEngine.winner(state, b);
+        if (winner == 1) {
+            tally[offset]++;
+        } else if (winner == 2) {
+            tally[offset + 1]++;
+        } else {
+            tally[offset + 2]++;
+        }
+        tally[offset + 3] += state.turnCount[b];
+    }
+
+    /**
+     * Total aksi (executePlayerAction) yang sudah dijalankan instance ini.
+     */
+    public long getActionCount() {
+        return actionCount;
+    }
+}
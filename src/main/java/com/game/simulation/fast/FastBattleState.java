@@ -0,0 +1,351 @@
+package com.game.simulation.fast;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleState;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.skills.effects.StatusEffect;
+import com.game.utils.BattleRandom;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+
+/**
+ * State banyak battle sekaligus dalam bentuk struct-of-arrays.
+ *
+ * Data karakter disimpan di index (battle * 2 + slot), slot 0 = Player 1 dan
+ * slot 1 = Player 2. Status effect disimpan sebagai bitfield satu long per
+ * karakter (lihat layout bitfield di bawah). Tidak ada objek per battle maupun per
+ * karakter, jadi satu instance bisa dipakai ulang untuk jutaan battle.
+ *
+ * Aturan permainannya ada di FastBattleEngine.
+ */
+public final class FastBattleState {
+
+    public static final int PLAYER1 = 0;
+    public static final int PLAYER2 = 1;
+
+    // Kode state battle = ordinal BattleState
+    static final int WAITING = BattleState.WAITING.ordinal();
+    static final int PLAYER1_TURN = BattleState.PLAYER1_TURN.ordinal();
+    static final int PLAYER2_TURN = BattleState.PLAYER2_TURN.ordinal();
+    static final int FINISHED = BattleState.FINISHED.ordinal();
+
+    public static final int SKILLS_PER_CHARACTER = 4;
+
+    // ====================================================================
+    // LAYOUT BITFIELD EFEK (satu long per karakter)
+    //   bit  0-11 : jumlah Burn dengan sisa durasi 1, 2, 3 (4 bit per durasi)
+    //   bit 12-19 : jumlah Freeze dengan sisa durasi 1, 2 (4 bit per durasi)
+    //   bit 24-39 : total defense boost Guard dengan sisa durasi 1
+    //   bit 40-55 : total defense boost Guard dengan sisa durasi 2
+    // Decrement durasi = geser setiap field ke bucket durasi di bawahnya.
+    // ====================================================================
+
+    static final int COUNT_BITS = 4;
+    static final long COUNT_MASK = 0xFL;
+    static final int BURN_SHIFT = 0;
+    static final int BURN_BUCKETS = 3;
+    static final long BURN_FIELD = 0xFFFL;
+    static final int FREEZE_SHIFT = 12;
+    static final int FREEZE_BUCKETS = 2;
+    static final long FREEZE_FIELD = 0xFFL << FREEZE_SHIFT;
+    static final int GUARD_SHIFT = 24;
+    static final int GUARD_BITS = 16;
+    static final int GUARD_BUCKETS = 2;
+    static final long GUARD_MASK = 0xFFFFL;
+    /** Jumlah bit terbawah bitfield efek yang dipakai (di atasnya selalu 0). */
+    public static final int EFFECT_BITS = GUARD_SHIFT + GUARD_BUCKETS * GUARD_BITS;
+
+    private static final BattleState[] STATES = BattleState.values();
+    private static final ElementType[] ELEMENTS = ElementType.values();
+
+    // Template stat & skill per elemen, diambil dari karakter object model
+    private static final BaseCharacter[] TEMPLATES = new BaseCharacter[ELEMENTS.length];
+
+    static {
+        for (ElementType type : ELEMENTS) {
+            if (type != ElementType.NEUTRAL) {
+                TEMPLATES[type.ordinal()] = CharacterFactory.createCharacter(type.name(), type.name());
+            }
+        }
+    }
+
+    private final int capacity;
+
+    // Per karakter (index = battle * 2 + slot)
+    final int[] hp;
+    final int[] maxHp;
+    final int[] fp;
+    final int[] maxFp;
+    final int[] attack;
+    final int[] defense;
+    final int[] speed;
+    final int[] element;
+    final long[] effects;
+    // Per karakter, SKILLS_PER_CHARACTER id skill (lihat FastBattleEngine.SKILL_*)
+    final int[] skills;
+
+    // Per battle
+    final int[] turnState;
+    final int[] turnCount;
+    final long[] rngState;
+    final long[] rngGamma;
+
+    public FastBattleState(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasitas harus lebih dari 0");
+        }
+        this.capacity = capacity;
+
+        int characters = capacity * 2;
+        this.hp = new int[characters];
+        this.maxHp = new int[characters];
+        this.fp = new int[characters];
+        this.maxFp = new int[characters];
+        this.attack = new int[characters];
+        this.defense = new int[characters];
+        this.speed = new int[characters];
+        this.element = new int[characters];
+        this.effects = new long[characters];
+        this.skills = new int[characters * SKILLS_PER_CHARACTER];
+
+        this.turnState = new int[capacity];
+        this.turnCount = new int[capacity];
+        this.rngState = new long[capacity];
+        this.rngGamma = new long[capacity];
+    }
+
+    // ====================================================================
+    // INISIALISASI
+    // ====================================================================
+
+    /**
+     * Menyiapkan battle baru (belum start), setara dengan
+     * new Battle(createCharacter(type1), createCharacter(type2), seed).
+     */
+    public void init(int battle, ElementType player1Type, ElementType player2Type, long seed) {
+        initCharacter(battle * 2, player1Type);
+        initCharacter(battle * 2 + 1, player2Type);
+
+        turnState[battle] = WAITING;
+        turnCount[battle] = 0;
+        rngState[battle] = seed;
+        rngGamma[battle] = SplitMixRandom.GOLDEN_GAMMA;
+    }
+
+    private void initCharacter(int c, ElementType type) {
+        BaseCharacter template = type == null ? null : TEMPLATES[type.ordinal()];
+        if (template == null) {
+            throw new IllegalArgumentException("Tipe elemen tidak didukung fast engine: " + type);
+        }
+        loadCharacter(c, template);
+        hp[c] = template.getMaxHealthPoints();
+        effects[c] = 0L;
+    }
+
+    /**
+     * Menyalin state lengkap sebuah Battle object model ke slot battle ini.
+     * Posisi RNG ikut disalin bila battle memakai SplitMixRandom; kalau tidak,
+     * slot diberi seed baru. Pemenang surrender tidak ikut disalin.
+     */
+    public void copyFrom(int battle, Battle source) {
+        loadCharacter(battle * 2, source.getPlayer1());
+        loadCharacter(battle * 2 + 1, source.getPlayer2());
+
+        turnState[battle] = source.getCurrentState().ordinal();
+        turnCount[battle] = source.getTurnCount();
+
+        BattleRandom random = source.getRandom();
+        if (random instanceof SplitMixRandom) {
+            rngState[battle] = ((SplitMixRandom) random).getState();
+            rngGamma[battle] = ((SplitMixRandom) random).getGamma();
+        } else {
+            rngState[battle] = SplitMixRandom.newSeed();
+            rngGamma[battle] = SplitMixRandom.GOLDEN_GAMMA;
+        }
+    }
+
+    private void loadCharacter(int c, BaseCharacter character) {
+        if (character.getSkillCount() != SKILLS_PER_CHARACTER) {
+            throw new IllegalArgumentException("Fast engine membutuhkan tepat "
+                    + SKILLS_PER_CHARACTER + " skill per karakter");
+        }
+        for (int i = 0; i < SKILLS_PER_CHARACTER; i++) {
+            skills[c * SKILLS_PER_CHARACTER + i] = FastBattleEngine.skillId(character.getSkill(i));
+        }
+
+        hp[c] = character.getHealthPoints();
+        maxHp[c] = character.getMaxHealthPoints();
+        fp[c] = character.getFocusPoints();
+        maxFp[c] = character.getMaxFocusPoints();
+        attack[c] = character.getAttackPower();
+        defense[c] = character.getDefense();
+        speed[c] = character.getSpeed();
+        element[c] = character.getElementType().ordinal();
+        effects[c] = packEffects(character);
+    }
+
+    /**
+     * Menyalin satu battle ke slot lain (atau ke instance lain).
+     */
+    public void copyTo(int battle, FastBattleState target, int targetBattle) {
+        int from = battle * 2;
+        int to = targetBattle * 2;
+        System.arraycopy(hp, from, target.hp, to, 2);
+        System.arraycopy(maxHp, from, target.maxHp, to, 2);
+        System.arraycopy(fp, from, target.fp, to, 2);
+        System.arraycopy(maxFp, from, target.maxFp, to, 2);
+        System.arraycopy(attack, from, target.attack, to, 2);
+        System.arraycopy(defense, from, target.defense, to, 2);
+        System.arraycopy(speed, from, target.speed, to, 2);
+        System.arraycopy(element, from, target.element, to, 2);
+        System.arraycopy(effects, from, target.effects, to, 2);
+        System.arraycopy(skills, from * SKILLS_PER_CHARACTER,
+                target.skills, to * SKILLS_PER_CHARACTER, 2 * SKILLS_PER_CHARACTER);
+
+        target.turnState[targetBattle] = turnState[battle];
+        target.turnCount[targetBattle] = turnCount[battle];
+        target.rngState[targetBattle] = rngState[battle];
+        target.rngGamma[targetBattle] = rngGamma[battle];
+    }
+
+    /**
+     * Mengganti RNG battle dengan stream baru dari seed (misal per playout MCTS).
+     */
+    public void setRandomSeed(int battle, long seed) {
+        rngState[battle] = seed;
+        rngGamma[battle] = SplitMixRandom.GOLDEN_GAMMA;
+    }
+
+    // ====================================================================
+    // ENCODING EFEK
+    // ====================================================================
+
+    /**
+     * Mengubah efek aktif karakter object model menjadi bitfield efek (tanpa copy list).
+     * Hanya efek yang bisa muncul dari skill (Burn, Freeze, Guard) yang didukung.
+     */
+    public static long packEffects(BaseCharacter character) {
+        long packed = 0L;
+        for (StatusEffect effect = character.getFirstEffect(); effect != null;
+             effect = character.getNextEffect(effect)) {
+            int duration = effect.getDuration();
+            switch (effect.getKind()) {
+                case BURN:
+                    if (effect.getStateParam() != Constants.BURN_DAMAGE_PER_TURN) {
+                        throw new IllegalArgumentException("Burn dengan damage custom tidak didukung fast engine");
+                    }
+                    packed += countBit(BURN_SHIFT, BURN_BUCKETS, duration);
+                    break;
+                case FREEZE:
+                    packed += countBit(FREEZE_SHIFT, FREEZE_BUCKETS, duration);
+                    break;
+                case GUARD:
+                    checkDuration(GUARD_BUCKETS, duration);
+                    packed += (long) effect.getStateParam() << guardShift(duration);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Efek tidak didukung fast engine: " + effect.getName());
+            }
+        }
+        return packed;
+    }
+
+    static long countBit(int fieldShift, int buckets, int duration) {
+        checkDuration(buckets, duration);
+        return 1L << (fieldShift + (duration - 1) * COUNT_BITS);
+    }
+
+    static int guardShift(int duration) {
+        return GUARD_SHIFT + (duration - 1) * GUARD_BITS;
+    }
+
+    private static void checkDuration(int buckets, int duration) {
+        if (duration < 1 || duration > buckets) {
+            throw new IllegalArgumentException("Durasi efek di luar jangkauan fast engine: " + duration);
+        }
+    }
+
+    static int burnCount(long packed) {
+        return (int) ((packed & COUNT_MASK)
+                + ((packed >>> COUNT_BITS) & COUNT_MASK)
+                + ((packed >>> (2 * COUNT_BITS)) & COUNT_MASK));
+    }
+
+    static boolean isFrozen(long packed) {
+        return (packed & FREEZE_FIELD) != 0;
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getHealthPoints(int battle, int slot) {
+        return hp[battle * 2 + slot];
+    }
+
+    public int getMaxHealthPoints(int battle, int slot) {
+        return maxHp[battle * 2 + slot];
+    }
+
+    public int getFocusPoints(int battle, int slot) {
+        return fp[battle * 2 + slot];
+    }
+
+    public int getMaxFocusPoints(int battle, int slot) {
+        return maxFp[battle * 2 + slot];
+    }
+
+    public int getAttackPower(int battle, int slot) {
+        return attack[battle * 2 + slot];
+    }
+
+    public int getDefense(int battle, int slot) {
+        return defense[battle * 2 + slot];
+    }
+
+    public int getSpeed(int battle, int slot) {
+        return speed[battle * 2 + slot];
+    }
+
+    public ElementType getElementType(int battle, int slot) {
+        return ELEMENTS[element[battle * 2 + slot]];
+    }
+
+    public long getEffects(int battle, int slot) {
+        return effects[battle * 2 + slot];
+    }
+
+    public boolean isFrozen(int battle, int slot) {
+        return isFrozen(effects[battle * 2 + slot]);
+    }
+
+    /**
+     * Total tick Burn yang masih akan diterima (jumlah Burn × sisa durasi).
+     */
+    public int getPendingBurnTicks(int battle, int slot) {
+        long packed = effects[battle * 2 + slot];
+        int ticks = 0;
+        for (int duration = 1; duration <= BURN_BUCKETS; duration++) {
+            ticks += duration * (int) ((packed >>> (BURN_SHIFT + (duration - 1) * COUNT_BITS)) & COUNT_MASK);
+        }
+        return ticks;
+    }
+
+    public BattleState getCurrentState(int battle) {
+        return STATES[turnState[battle]];
+    }
+
+    public int getTurnCount(int battle) {
+        return turnCount[battle];
+    }
+
+    public long getRandomState(int battle) {
+        return rngState[battle];
+    }
+}
@@ -0,0 +1,51 @@
+package com.game.simulation.fast;
+
+import com.game.utils.SplitMixRandom;
+
+/**
+ * SplitMix64 dengan state di long[] (satu slot per battle). Menghasilkan stream
+ * yang identik dengan SplitMixRandom untuk state dan gamma yang sama, tanpa
+ * objek RNG per battle.
+ */
+final class FastRandom {
+
+    private FastRandom() {
+        // Private constructor to prevent instantiation
+    }
+
+    private static long nextSeed(long[] state, long[] gamma, int index) {
+        long seed = state[index] + gamma[index];
+        state[index] = seed;
+        return seed;
+    }
+
+    /**
+     * Mengisi slot index dengan generator hasil new SplitMixRandom(seed).split().
+     */
+    static void seedSplit(long seed, long[] state, long[] gamma, int index) {
+        long first = seed + SplitMixRandom.GOLDEN_GAMMA;
+        state[index] = SplitMixRandom.mix64(first);
+        gamma[index] = SplitMixRandom.mixGamma(first + SplitMixRandom.GOLDEN_GAMMA);
+    }
+
+    static double nextDouble(long[] state, long[] gamma, int index) {
+        return (SplitMixRandom.mix64(nextSeed(state, gamma, index)) >>> 11) * SplitMixRandom.DOUBLE_UNIT;
+    }
+
+    static boolean nextBoolean(long[] state, long[] gamma, int index) {
+        return SplitMixRandom.mix32(nextSeed(state, gamma, index)) < 0;
+    }
+
+    static int nextInt(long[] state, long[] gamma, int index, int bound) {
+        int r = SplitMixRandom.mix32(nextSeed(state, gamma, index));
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0;
+                u = SplitMixRandom.mix32(nextSeed(state, gamma, index)) >>> 1) {
+            // Rejection sampling, sama persis dengan SplitMixRandom.nextInt
+        }
+        return r;
+    }
+}
@@ -0,0 +1,111 @@
+package com.game.skills;
+
+import com.game.characters.BaseCharacter;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Skill hasil kompilasi satu definisi dari SkillRegistry.
+ *
+ * Immutable flyweight: satu instance per definisi, dipakai bersama oleh semua
+ * karakter (state per karakter seperti FP dan efek ada di BaseCharacter).
+ * Urutan pemakaian sama untuk semua skill: bayar FP, damage, heal, lalu efek.
+ */
+public final class CompiledSkill implements Skill {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledSkill.class.getName());
+    private static final String USER = "{user}";
+    private static final String TARGET = "{target}";
+
+    private final int id;
+    private final String key;
+    private final String name;
+    private final int fpCost;
+    private final boolean selfTargeting;
+    private final double damageMultiplier;
+    private final int healAmount;
+    private final EffectSpec effect; // null = tanpa efek
+    private final String[] messageLines;
+
+    CompiledSkill(int id, String key, String name, int fpCost, boolean selfTargeting,
+                  double damageMultiplier, int healAmount, EffectSpec effect, String message) {
+        this.id = id;
+        this.key = key;
+        this.name = name;
+        this.fpCost = fpCost;
+        this.selfTargeting = selfTargeting;
+        this.damageMultiplier = damageMultiplier;
+        this.healAmount = healAmount;
+        this.effect = effect;
+        this.messageLines = message.isEmpty() ? new String[0] : message.split("\n");
+    }
+
+    @Override
+    public void use(BaseCharacter user, BaseCharacter target) {
+        // Skill gratis tetap lewat useFocusPoints supaya konsisten
+        if (!user.useFocusPoints(fpCost)) {
+            return;
+        }
+        user.getEventBus().skillUsed(user, target, name);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            for (String line : messageLines) {
+                LOGGER.info(line.replace(USER, user.getName()).replace(TARGET, target.getName()));
+            }
+        }
+
+        if (damageMultiplier > 0) {
+            target.takeDamageWithMechanics((int) (user.getAttackPower() * damageMultiplier), user);
+        }
+        if (healAmount > 0) {
+            user.heal(healAmount);
+        }
+        if (effect != null) {
+            effect.applyTo(selfTargeting ? user : target);
+        }
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    /**
+     * Id skill di registry (posisi di daftar skills).
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getFpCost() {
+        return fpCost;
+    }
+
+    @Override
+    public boolean isSelfTargeting() {
+        return selfTargeting;
+    }
+
+    public double getDamageMultiplier() {
+        return damageMultiplier;
+    }
+
+    public int getHealAmount() {
+        return healAmount;
+    }
+
+    /**
+     * @return Spesifikasi efek, atau null jika skill tidak memasang efek
+     */
+    public EffectSpec getEffect() {
+        return effect;
+    }
+}
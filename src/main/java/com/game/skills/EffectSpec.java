@@ -0,0 +1,64 @@
+package com.game.skills;
+
+import com.game.characters.BaseCharacter;
+import com.game.skills.effects.EffectKind;
+import com.game.skills.effects.StatusEffect;
+
+/**
+ * Spesifikasi status effect yang dipasang sebuah skill (jenis + durasi + parameter).
+ *
+ * Immutable: satu spec dipakai bersama. Efek yang menyimpan durasi sisa
+ * diambil dari pool timing wheel target setiap kali skill dipakai (applyTo).
+ */
+public final class EffectSpec {
+
+    private final EffectKind kind;
+    private final int duration;
+    private final int param;
+
+    /**
+     * @param param Damage per turn untuk BURN, bonus attack untuk ATTACK_BUFF,
+     *              diabaikan untuk FREEZE dan GUARD (boost dihitung saat apply)
+     */
+    public EffectSpec(EffectKind kind, int duration, int param) {
+        if (kind == null) {
+            throw new IllegalArgumentException("Jenis efek tidak boleh null");
+        }
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Durasi efek harus lebih dari 0");
+        }
+        if (param < 0) {
+            throw new IllegalArgumentException("Parameter efek tidak boleh negatif");
+        }
+        this.kind = kind;
+        this.duration = duration;
+        this.param = param;
+    }
+
+    /**
+     * Memasang efek ini ke target lewat pool timing wheel-nya (tanpa alokasi
+     * setelah efek pertama per jenis).
+     */
+    public void applyTo(BaseCharacter target) {
+        target.addEffect(kind, duration, param);
+    }
+
+    /**
+     * Efek baru di luar pool (misal untuk ditampilkan atau dibandingkan).
+     */
+    public StatusEffect create() {
+        return kind.create(duration, param);
+    }
+
+    public EffectKind getKind() {
+        return kind;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getParam() {
+        return param;
+    }
+}
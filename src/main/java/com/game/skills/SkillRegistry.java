@@ -0,0 +1,190 @@
+package com.game.skills;
+
+import com.game.characters.ElementType;
+import com.game.skills.effects.EffectKind;
+import com.game.utils.ConfigLoader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Registry semua skill, dibangun sekali dari /data/skills.properties atau
+ * file dari system property game.skills (designer bisa menambah skill tanpa
+ * compile ulang).
+ *
+ * Setiap definisi dikompilasi sekali menjadi CompiledSkill yang dipakai
+ * bersama oleh semua karakter. Id skill = posisi di daftar skills, sehingga
+ * lookup dan tabel per skill (fast engine, AI) cukup berupa array.
+ */
+public final class SkillRegistry {
+
+    /** System property untuk file definisi skill di luar classpath. */
+    public static final String CONFIG_PROPERTY = "game.skills";
+    private static final String CONFIG_RESOURCE = "/data/skills.properties";
+
+    private static final ElementType[] ELEMENTS = ElementType.values();
+
+    private static final CompiledSkill[] SKILLS;
+    private static final Map<String, CompiledSkill> BY_KEY = new HashMap<>();
+    private static final List<List<Skill>> LOADOUTS = new ArrayList<>(ELEMENTS.length);
+
+    static {
+        try {
+            Properties config = ConfigLoader.load(CONFIG_PROPERTY, CONFIG_RESOURCE);
+            SKILLS = compileSkills(config);
+            for (CompiledSkill skill : SKILLS) {
+                BY_KEY.put(skill.getKey(), skill);
+            }
+            for (ElementType element : ELEMENTS) {
+                LOADOUTS.add(compileLoadout(config, element));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Definisi skill tidak valid: " + e.getMessage(), e);
+        }
+    }
+
+    private SkillRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static CompiledSkill get(int id) {
+        if (id < 0 || id >= SKILLS.length) {
+            throw new IllegalArgumentException("Id skill tidak dikenal: " + id);
+        }
+        return SKILLS[id];
+    }
+
+    public static CompiledSkill get(String key) {
+        CompiledSkill skill = BY_KEY.get(key);
+        if (skill == null) {
+            throw new IllegalArgumentException("Skill tidak dikenal: " + key);
+        }
+        return skill;
+    }
+
+    /**
+     * Jumlah skill terdaftar (id valid: 0 sampai size() - 1).
+     */
+    public static int size() {
+        return SKILLS.length;
+    }
+
+    /**
+     * Daftar skill untuk elemen tertentu (read-only, dipakai bersama).
+     */
+    public static List<Skill> getLoadout(ElementType element) {
+        return LOADOUTS.get(element.ordinal());
+    }
+
+    // ====================================================================
+    // KOMPILASI DEFINISI
+    // ====================================================================
+
+    private static CompiledSkill[] compileSkills(Properties config) {
+        String[] keys = splitList(required(config, "skills"));
+        CompiledSkill[] skills = new CompiledSkill[keys.length];
+        for (int id = 0; id < keys.length; id++) {
+            skills[id] = compileSkill(config, id, keys[id]);
+            for (int other = 0; other < id; other++) {
+                if (skills[other].getKey().equals(keys[id])) {
+                    throw new IllegalArgumentException("Skill terdaftar dua kali: " + keys[id]);
+                }
+            }
+        }
+        return skills;
+    }
+
+    private static CompiledSkill compileSkill(Properties config, int id, String key) {
+        String prefix = "skill." + key + ".";
+        String name = required(config, prefix + "name");
+        int cost = parseInt(config, prefix + "cost", 0);
+        double damage = parseDouble(config, prefix + "damage", 0.0);
+        int heal = parseInt(config, prefix + "heal", 0);
+        String message = config.getProperty(prefix + "message", "").trim();
+
+        String target = config.getProperty(prefix + "target", "OPPONENT").trim().toUpperCase();
+        if (!target.equals("SELF") && !target.equals("OPPONENT")) {
+            throw new IllegalArgumentException("Target harus SELF atau OPPONENT: " + prefix + "target");
+        }
+
+        EffectSpec effect = null;
+        String effectName = config.getProperty(prefix + "effect");
+        if (effectName != null) {
+            EffectKind kind;
+            try {
+                kind = EffectKind.valueOf(effectName.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Efek tidak dikenal: " + prefix + "effect=" + effectName, e);
+            }
+            effect = new EffectSpec(kind,
+                    parseInt(config, prefix + "effect.duration", 1),
+                    parseInt(config, prefix + "effect.param", 0));
+        }
+
+        return new CompiledSkill(id, key, name, cost, target.equals("SELF"), damage, heal, effect, message);
+    }
+
+    private static List<Skill> compileLoadout(Properties config, ElementType element) {
+        String value = config.getProperty("loadout." + element.name());
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<Skill> loadout = new ArrayList<>();
+        for (String key : splitList(value)) {
+            loadout.add(get(key));
+        }
+        return Collections.unmodifiableList(loadout);
+    }
+
+    private static String required(Properties config, String key) {
+        String value = config.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Properti wajib tidak ada: " + key);
+        }
+        return value.trim();
+    }
+
+    private static String[] splitList(String value) {
+        String[] items = value.split(",");
+        for (int i = 0; i < items.length; i++) {
+            items[i] = items[i].trim();
+        }
+        return items;
+    }
+
+    private static int parseInt(Properties config, String key, int defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number < 0) {
+                throw new IllegalArgumentException("Nilai tidak boleh negatif: " + key);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Angka tidak valid: " + key + "=" + value, e);
+        }
+    }
+
+    private static double parseDouble(Properties config, String key, double defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double number = Double.parseDouble(value.trim());
+            if (number < 0) {
+                throw new IllegalArgumentException("Nilai tidak boleh negatif: " + key);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Angka tidak valid: " + key + "=" + value, e);
+        }
+    }
+}
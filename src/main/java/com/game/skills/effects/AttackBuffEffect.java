@@ -1,5 +1,6 @@
 package com.game.skills.effects;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import com.game.characters.BaseCharacter;
 
@@ -9,17 +10,40 @@ import com.game.characters.BaseCharacter;
 public class AttackBuffEffect extends StatusEffect {
 
     private int attackBonus;
-    Logger logger = Logger.getLogger(getClass().getName());
+    private static final Logger LOGGER = Logger.getLogger(AttackBuffEffect.class.getName());
     public AttackBuffEffect(int duration, int attackBonus) {
         super("Attack Buff", duration, EffectType.BUFF);
         this.attackBonus = attackBonus;
     }
 
+    @Override
+    public EffectKind getKind() {
+        return EffectKind.ATTACK_BUFF;
+    }
+
+    @Override
+    public int getStateParam() {
+        return attackBonus;
+    }
+
+    @Override
+    protected void setStateParam(int param) {
+        this.attackBonus = param;
+    }
+
     @Override
     public void apply(BaseCharacter target) {
         target.setAttackPower(target.getAttackPower() + attackBonus);
-        String gainAttackBuffStr = target.getName() + " mendapat Attack Buff! (+" + attackBonus + " Attack)"; 
-        logger.info(gainAttackBuffStr);
+        target.getEventBus().effectApplied(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String gainAttackBuffStr = target.getName() + " mendapat Attack Buff! (+" + attackBonus + " Attack)";
+            LOGGER.info(gainAttackBuffStr);
+        }
+    }
+
+    @Override
+    public boolean isTicking() {
+        return false;
     }
 
     @Override
@@ -30,6 +54,9 @@ public class AttackBuffEffect extends StatusEffect {
     @Override
     public void remove(BaseCharacter target) {
         target.setAttackPower(target.getAttackPower() - attackBonus);
-        logger.info(target.getName() + " kehilangan Attack Buff.");
+        target.getEventBus().effectExpired(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(target.getName() + " kehilangan Attack Buff.");
+        }
     }
 }
@@ -1,12 +1,13 @@
 package com.game.skills.effects;
 
 import com.game.characters.BaseCharacter;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 /**
  * Efek Burn: Memberikan damage setiap giliran.
  */
 public class BurnEffect extends StatusEffect {
-    Logger logger = Logger.getLogger(getClass().getName());
+    private static final Logger LOGGER = Logger.getLogger(BurnEffect.class.getName());
     private int damagePerTurn;
 
     public BurnEffect(int duration, int damagePerTurn) {
@@ -14,21 +15,45 @@ public class BurnEffect extends StatusEffect {
         this.damagePerTurn = damagePerTurn;
     }
 
+    @Override
+    public EffectKind getKind() {
+        return EffectKind.BURN;
+    }
+
+    @Override
+    public int getStateParam() {
+        return damagePerTurn;
+    }
+
+    @Override
+    protected void setStateParam(int param) {
+        this.damagePerTurn = param;
+    }
+
     @Override
     public void apply(BaseCharacter target) {
-        logger.info(target.getName() + " terbakar! (Burn)");
+        target.getEventBus().effectApplied(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(target.getName() + " terbakar! (Burn)");
+        }
     }
 
     @Override
     public void tick(BaseCharacter target) {
         target.takeDamage(damagePerTurn);
         target.takeTrueDamage(damagePerTurn);
-        String gainBurnStr = target.getName() + " menerima " + damagePerTurn + " damage dari Burn!";
-        logger.info(gainBurnStr);
+        target.getEventBus().effectTicked(target, this, damagePerTurn);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String gainBurnStr = target.getName() + " menerima " + damagePerTurn + " damage dari Burn!";
+            LOGGER.info(gainBurnStr);
+        }
     }
 
     @Override
     public void remove(BaseCharacter target) {
-        logger.info(target.getName() + " tidak lagi terbakar.");
+        target.getEventBus().effectExpired(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(target.getName() + " tidak lagi terbakar.");
+        }
     }
 }
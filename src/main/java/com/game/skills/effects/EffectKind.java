@@ -0,0 +1,51 @@
+package com.game.skills.effects;
+
+/**
+ * Jenis konkret status effect. Dipakai untuk encode/decode efek ke snapshot
+ * battle secara primitif (kind + durasi + satu parameter) tanpa reflection.
+ */
+public enum EffectKind {
+    BURN {
+        @Override
+        public StatusEffect create(int duration, int param) {
+            return new BurnEffect(duration, param);
+        }
+    },
+    FREEZE {
+        @Override
+        public StatusEffect create(int duration, int param) {
+            return new FreezeEffect(duration);
+        }
+    },
+    GUARD {
+        @Override
+        public StatusEffect create(int duration, int param) {
+            return GuardEffect.restored(duration, param);
+        }
+    },
+    ATTACK_BUFF {
+        @Override
+        public StatusEffect create(int duration, int param) {
+            return new AttackBuffEffect(duration, param);
+        }
+    };
+
+    private static final EffectKind[] VALUES = values();
+
+    /**
+     * Bit jenis efek ini di mask efek karakter (lihat BaseCharacter.getEffectMask()).
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Membuat ulang efek dengan durasi dan parameter internal tertentu
+     * (tanpa apply - stat karakter sudah mencerminkan efek ini).
+     */
+    public abstract StatusEffect create(int duration, int param);
+
+    public static EffectKind fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,304 @@
+package com.game.skills.effects;
+
+import java.util.Arrays;
+
+/**
+ * Timing wheel untuk status effect milik satu karakter, diindeks giliran.
+ *
+ * Efek disimpan di slot (giliran habis mod jumlah slot) sebagai linked list
+ * intrusif, jadi advance() hanya menyentuh efek di slot giliran itu: O(efek
+ * yang habis), bukan O(semua efek). Durasi tidak lagi dikurangi satu per satu;
+ * StatusEffect.getDuration() dihitung dari giliran habis dikurangi giliran
+ * sekarang. Efek dengan durasi >= jumlah slot ikut tinggal di slot-nya dan
+ * dilewati sampai gilirannya tiba (hashed wheel).
+ *
+ * Selain itu wheel menyimpan daftar semua efek terjadwal, daftar efek yang
+ * punya tick (isTicking()) dan jumlah efek per EffectKind, sehingga
+ * pemrosesan awal giliran O(efek yang tick) dan cek jenis efek cukup satu bit
+ * test. Kedua daftar juga linked list intrusif (dua arah), jadi efek yang
+ * habis dilepas O(1) tanpa mencari posisinya.
+ *
+ * Urutan efek (daftar, tick, remove) sama dengan urutan dijadwalkan.
+ *
+ * Efek yang dibuat obtain() kembali ke pool per EffectKind saat dilepas
+ * clear() atau setelah habis (recycleExpired()), jadi skill yang memasang efek
+ * tiap giliran dan restore snapshot berulang tidak mengalokasi efek baru.
+ * Efek dari luar (schedule() langsung) tidak pernah masuk pool. Jangan
+ * menyimpan referensi ke efek pool yang sudah dilepas.
+ */
+public final class EffectTimingWheel {
+
+    private static final EffectKind[] KINDS = EffectKind.values();
+
+    private final StatusEffect[] heads;
+    private final StatusEffect[] tails;
+    private final int slotMask;
+    private long turn;
+
+    private StatusEffect firstScheduled;
+    private StatusEffect lastScheduled;
+    private int scheduledCount;
+    private StatusEffect firstTicking;
+    private StatusEffect lastTicking;
+    private int tickingCount;
+    private final int[] kindCounts = new int[KINDS.length];
+    private int kindMask;
+    // Efek obtain() yang sudah dilepas, per jenis, dirantai lewat nextInSlot
+    private final StatusEffect[] pooled = new StatusEffect[KINDS.length];
+
+    // Efek yang habis di advance() terakhir (dipakai ulang, tanpa alokasi)
+    private StatusEffect[] expired = new StatusEffect[4];
+    private int expiredCount;
+
+    /**
+     * @param slots Jumlah slot, pangkat 2 (idealnya > durasi efek terpanjang)
+     */
+    public EffectTimingWheel(int slots) {
+        if (slots <= 0 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("Jumlah slot timing wheel harus pangkat 2: " + slots);
+        }
+        this.heads = new StatusEffect[slots];
+        this.tails = new StatusEffect[slots];
+        this.slotMask = slots - 1;
+    }
+
+    /**
+     * Menjadwalkan efek berdasarkan durasinya saat ini. Efek habis setelah
+     * sejumlah advance() sebanyak durasinya (minimal satu).
+     */
+    public void schedule(StatusEffect effect) {
+        if (effect.wheel != null) {
+            throw new IllegalStateException("Efek sudah terjadwal: " + effect.getName());
+        }
+        long expiryTurn = turn + effect.getDuration();
+        effect.wheel = this;
+        effect.expiryTurn = expiryTurn;
+
+        int slot = (int) (Math.max(expiryTurn, turn + 1) & slotMask);
+        if (tails[slot] == null) {
+            heads[slot] = effect;
+        } else {
+            tails[slot].nextInSlot = effect;
+        }
+        tails[slot] = effect;
+
+        effect.prevScheduled = lastScheduled;
+        if (lastScheduled == null) {
+            firstScheduled = effect;
+        } else {
+            lastScheduled.nextScheduled = effect;
+        }
+        lastScheduled = effect;
+        scheduledCount++;
+
+        if (effect.isTicking()) {
+            effect.prevTicking = lastTicking;
+            if (lastTicking == null) {
+                firstTicking = effect;
+            } else {
+                lastTicking.nextTicking = effect;
+            }
+            lastTicking = effect;
+            tickingCount++;
+        }
+        int kind = effect.getKind().ordinal();
+        if (kindCounts[kind]++ == 0) {
+            kindMask |= KINDS[kind].bit();
+        }
+    }
+
+    /**
+     * Efek dengan jenis, durasi dan parameter tertentu (seperti
+     * EffectKind.create) untuk dijadwalkan di wheel ini; memakai ulang efek
+     * pool jika ada. Efek ini kembali ke pool saat dilepas.
+     */
+    public StatusEffect obtain(EffectKind kind, int duration, int param) {
+        StatusEffect effect = pooled[kind.ordinal()];
+        if (effect == null) {
+            effect = kind.create(duration, param);
+            effect.pooled = true;
+            return effect;
+        }
+        pooled[kind.ordinal()] = effect.nextInSlot;
+        effect.nextInSlot = null;
+        effect.reset(duration, param);
+        return effect;
+    }
+
+    /**
+     * Memajukan wheel satu giliran dan melepas efek yang habis.
+     *
+     * @return Jumlah efek yang habis; baca dengan getExpired(i) sebelum advance() berikutnya
+     */
+    public int advance() {
+        Arrays.fill(expired, 0, expiredCount, null);
+        expiredCount = 0;
+        turn++;
+
+        int slot = (int) (turn & slotMask);
+        StatusEffect previous = null;
+        StatusEffect effect = heads[slot];
+        while (effect != null) {
+            StatusEffect next = effect.nextInSlot;
+            if (effect.expiryTurn <= turn) {
+                if (previous == null) {
+                    heads[slot] = next;
+                } else {
+                    previous.nextInSlot = next;
+                }
+                if (tails[slot] == effect) {
+                    tails[slot] = previous;
+                }
+                release(effect);
+                addExpired(effect);
+            } else {
+                previous = effect;
+            }
+            effect = next;
+        }
+        return expiredCount;
+    }
+
+    public StatusEffect getExpired(int index) {
+        if (index < 0 || index >= expiredCount) {
+            throw new IndexOutOfBoundsException("Index efek habis: " + index);
+        }
+        return expired[index];
+    }
+
+    /**
+     * Mengembalikan efek yang habis di advance() terakhir ke pool obtain().
+     * Panggil setelah semua remove() selesai; sesudahnya getExpired() kosong.
+     */
+    public void recycleExpired() {
+        for (int i = 0; i < expiredCount; i++) {
+            recycle(expired[i]);
+            expired[i] = null;
+        }
+        expiredCount = 0;
+    }
+
+    /**
+     * Melepas semua efek (misal saat restore snapshot). Efek obtain() yang
+     * dilepas masuk pool dan boleh dipakai ulang kapan saja.
+     */
+    public void clear() {
+        for (int slot = 0; slot < heads.length; slot++) {
+            StatusEffect effect = heads[slot];
+            while (effect != null) {
+                StatusEffect next = effect.nextInSlot;
+                release(effect);
+                recycle(effect);
+                effect = next;
+            }
+            heads[slot] = null;
+            tails[slot] = null;
+        }
+        Arrays.fill(expired, 0, expiredCount, null);
+        expiredCount = 0;
+    }
+
+    private void release(StatusEffect effect) {
+        if (effect.prevScheduled == null) {
+            firstScheduled = effect.nextScheduled;
+        } else {
+            effect.prevScheduled.nextScheduled = effect.nextScheduled;
+        }
+        if (effect.nextScheduled == null) {
+            lastScheduled = effect.prevScheduled;
+        } else {
+            effect.nextScheduled.prevScheduled = effect.prevScheduled;
+        }
+        scheduledCount--;
+
+        if (effect.isTicking()) {
+            if (effect.prevTicking == null) {
+                firstTicking = effect.nextTicking;
+            } else {
+                effect.prevTicking.nextTicking = effect.nextTicking;
+            }
+            if (effect.nextTicking == null) {
+                lastTicking = effect.prevTicking;
+            } else {
+                effect.nextTicking.prevTicking = effect.prevTicking;
+            }
+            tickingCount--;
+        }
+        effect.detach((int) (effect.expiryTurn - turn));
+
+        int kind = effect.getKind().ordinal();
+        if (--kindCounts[kind] == 0) {
+            kindMask &= ~KINDS[kind].bit();
+        }
+    }
+
+    // Efek dari luar wheel (schedule() langsung) bisa masih dipegang pemanggil
+    private void recycle(StatusEffect effect) {
+        if (!effect.pooled) {
+            return;
+        }
+        int kind = effect.getKind().ordinal();
+        effect.nextInSlot = pooled[kind];
+        pooled[kind] = effect;
+    }
+
+    private void addExpired(StatusEffect effect) {
+        if (expiredCount == expired.length) {
+            expired = Arrays.copyOf(expired, expiredCount * 2);
+        }
+        expired[expiredCount++] = effect;
+    }
+
+    // ====================================================================
+    // GETTERS
+    // ====================================================================
+
+    /**
+     * Jumlah advance() sejak wheel dibuat.
+     */
+    public long getTurn() {
+        return turn;
+    }
+
+    /**
+     * Efek terjadwal pertama (paling lama), atau null jika kosong.
+     * Lanjutkan dengan getNextScheduled().
+     */
+    public StatusEffect getFirstScheduled() {
+        return firstScheduled;
+    }
+
+    /**
+     * Efek terjadwal setelah effect, atau null jika effect yang terakhir.
+     */
+    public StatusEffect getNextScheduled(StatusEffect effect) {
+        return effect.nextScheduled;
+    }
+
+    public int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    /**
+     * Efek pertama yang punya tick, urut sesuai jadwal (null jika tidak ada).
+     * Lanjutkan dengan getNextTicking().
+     */
+    public StatusEffect getFirstTicking() {
+        return firstTicking;
+    }
+
+    public StatusEffect getNextTicking(StatusEffect effect) {
+        return effect.nextTicking;
+    }
+
+    public int getTickingCount() {
+        return tickingCount;
+    }
+
+    /**
+     * OR dari EffectKind.bit() semua efek terjadwal.
+     */
+    public int getKindMask() {
+        return kindMask;
+    }
+}
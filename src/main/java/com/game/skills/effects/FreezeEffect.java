@@ -1,4 +1,5 @@
 package com.game.skills.effects;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import com.game.characters.BaseCharacter;
 
@@ -6,24 +7,48 @@ import com.game.characters.BaseCharacter;
  * Efek Freeze: Membuat karakter tidak bisa bergerak selama durasi tertentu.
  */
 public class FreezeEffect extends StatusEffect {
-    Logger logger = Logger.getLogger(getClass().getName());
+    private static final Logger LOGGER = Logger.getLogger(FreezeEffect.class.getName());
     public FreezeEffect(int duration) {
         super("Freeze", duration, EffectType.DEBUFF);
     }
 
+    @Override
+    public EffectKind getKind() {
+        return EffectKind.FREEZE;
+    }
+
+    @Override
+    public int getStateParam() {
+        return 0;
+    }
+
+    @Override
+    protected void setStateParam(int param) {
+        // Freeze tidak punya state selain durasi
+    }
+
     @Override
     public void apply(BaseCharacter target) {
-        logger.info(target.getName() + " membeku! (Freeze)");
+        target.getEventBus().effectApplied(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(target.getName() + " membeku! (Freeze)");
+        }
     }
 
     @Override
     public void tick(BaseCharacter target) {
         // Freeze tidak memberikan damage, hanya mencegah gerakan
-        logger.info(target.getName() + " masih membeku dan tidak bisa bergerak!");
+        target.getEventBus().effectTicked(target, this, 0);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(target.getName() + " masih membeku dan tidak bisa bergerak!");
+        }
     }
 
     @Override
     public void remove(BaseCharacter target) {
-        logger.info(target.getName() + " tidak lagi membeku.");
+        target.getEventBus().effectExpired(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(target.getName() + " tidak lagi membeku.");
+        }
     }
 }
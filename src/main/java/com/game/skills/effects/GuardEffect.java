@@ -1,6 +1,7 @@
 package com.game.skills.effects;
 
 import com.game.characters.BaseCharacter;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -9,7 +10,7 @@ import java.util.logging.Logger;
  */
 public class GuardEffect extends StatusEffect {
 
-    Logger logger = Logger.getLogger(getClass().getName());
+    private static final Logger LOGGER = Logger.getLogger(GuardEffect.class.getName());
     private int defenseBoost; // Berapa defense yang ditambahkan
 
     public GuardEffect() {
@@ -17,6 +18,31 @@ public class GuardEffect extends StatusEffect {
         this.defenseBoost = 0; // Akan dihitung saat apply
     }
 
+    // Untuk restore snapshot: boost sudah dihitung saat apply efek aslinya
+    private GuardEffect(int duration, int defenseBoost) {
+        super("Guard", duration, EffectType.BUFF);
+        this.defenseBoost = defenseBoost;
+    }
+
+    static GuardEffect restored(int duration, int defenseBoost) {
+        return new GuardEffect(duration, defenseBoost);
+    }
+
+    @Override
+    public EffectKind getKind() {
+        return EffectKind.GUARD;
+    }
+
+    @Override
+    public int getStateParam() {
+        return defenseBoost;
+    }
+
+    @Override
+    protected void setStateParam(int param) {
+        this.defenseBoost = param;
+    }
+
     @Override
     public void apply(BaseCharacter target) {
         // Hitung defense boost: 50% dari current defense
@@ -24,8 +50,16 @@ public class GuardEffect extends StatusEffect {
         
         // Tingkatkan defense target
         target.setDefense(target.getDefense() + defenseBoost);
-        String targetName = "🛡️  " + target.getName() + " meningkatkan defense sebesar +" + defenseBoost + "!";
-        logger.info(targetName);
+        target.getEventBus().effectApplied(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            String targetName = "🛡️  " + target.getName() + " meningkatkan defense sebesar +" + defenseBoost + "!";
+            LOGGER.info(targetName);
+        }
+    }
+
+    @Override
+    public boolean isTicking() {
+        return false;
     }
 
     @Override
@@ -38,6 +72,9 @@ public class GuardEffect extends StatusEffect {
     public void remove(BaseCharacter target) {
         // Hapus defense boost saat effect berakhir
         target.setDefense(target.getDefense() - defenseBoost);
-        logger.info("⚠️  " + target.getName() + " defense kembali normal!");
+        target.getEventBus().effectExpired(target, this);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("⚠️  " + target.getName() + " defense kembali normal!");
+        }
     }
 }
@@ -8,9 +8,21 @@ import com.game.characters.BaseCharacter;
 public abstract class StatusEffect {
 
     private String name;
-    private int duration; // Dalam giliran
+    private int duration; // Dalam giliran (selama tidak terjadwal di timing wheel)
     private EffectType type;
 
+    // Diisi EffectTimingWheel selama efek terjadwal: durasi = expiryTurn - giliran wheel
+    EffectTimingWheel wheel;
+    long expiryTurn;
+    StatusEffect nextInSlot;
+    // Node daftar semua efek terjadwal dan daftar efek yang tick (lepas O(1))
+    StatusEffect prevScheduled;
+    StatusEffect nextScheduled;
+    StatusEffect prevTicking;
+    StatusEffect nextTicking;
+    // true jika dibuat EffectTimingWheel.obtain(): boleh dipakai ulang setelah dilepas
+    boolean pooled;
+
     protected StatusEffect(String name, int duration, EffectType type) {
         this.name = name;
         this.duration = duration;
@@ -33,19 +45,73 @@ public abstract class StatusEffect {
     public abstract void remove(BaseCharacter target);
 
     /**
-     * Mengurangi durasi efek.
+     * true jika tick() melakukan sesuatu. Efek yang tidak tick dilewati saat
+     * awal giliran; default true supaya efek baru tetap diproses.
+     */
+    public boolean isTicking() {
+        return true;
+    }
+
+    /**
+     * Jenis konkret efek (untuk snapshot battle).
+     */
+    public abstract EffectKind getKind();
+
+    /**
+     * Satu-satunya state internal efek selain durasi (misal damage per turn,
+     * defense boost). Bersama kind + durasi cukup untuk membuat ulang efek.
+     */
+    public abstract int getStateParam();
+
+    /**
+     * Kebalikan getStateParam(), untuk memakai ulang efek saat restore.
+     */
+    protected abstract void setStateParam(int param);
+
+    /**
+     * Membuat salinan efek dengan durasi dan state internal yang sama,
+     * tanpa memanggil apply() (stat karakter sudah mencerminkan efek ini).
+     * Dipakai untuk checkpoint/snapshot battle.
+     */
+    public StatusEffect copy() {
+        return getKind().create(getDuration(), getStateParam());
+    }
+
+    /**
+     * Mengurangi durasi efek yang tidak terjadwal di timing wheel. Durasi efek
+     * milik karakter dihitung oleh EffectTimingWheel.
      */
     public void decrementDuration() {
+        if (wheel != null) {
+            throw new IllegalStateException("Durasi efek terjadwal diatur oleh timing wheel: " + name);
+        }
         this.duration--;
     }
 
+    // Dipanggil wheel saat efek habis atau dilepas: durasi dibekukan ke sisa durasi
+    void detach(int remainingDuration) {
+        this.duration = remainingDuration;
+        this.wheel = null;
+        this.nextInSlot = null;
+        this.prevScheduled = null;
+        this.nextScheduled = null;
+        this.prevTicking = null;
+        this.nextTicking = null;
+    }
+
+    // Dipanggil EffectTimingWheel.obtain() untuk efek dari pool
+    void reset(int duration, int param) {
+        this.duration = duration;
+        setStateParam(param);
+    }
+
     // Getters
     public String getName() {
         return name;
     }
 
     public int getDuration() {
-        return duration;
+        return wheel == null ? duration : (int) (expiryTurn - wheel.getTurn());
     }
 
     public EffectType getType() {
@@ -53,6 +119,6 @@ public abstract class StatusEffect {
     }
 
     public boolean isExpired() {
-        return duration <= 0;
+        return getDuration() <= 0;
     }
 }
@@ -0,0 +1,58 @@
+package com.game.utils;
+
+/**
+ * Abstraksi sumber angka acak per-battle.
+ * Di-inject oleh Battle ke TurnManager dan karakter supaya setiap battle
+ * punya generator sendiri (tanpa contention) dan bisa direproduksi dari seed.
+ */
+public interface BattleRandom {
+
+    /**
+     * @return double uniform di [0, 1)
+     */
+    double nextDouble();
+
+    boolean nextBoolean();
+
+    /**
+     * @param bound Batas atas eksklusif, harus positif
+     * @return int uniform di [0, bound)
+     */
+    int nextInt(int bound);
+
+    /**
+     * Membuat generator baru yang independen secara statistik dari generator ini.
+     * Dipakai untuk memberi stream terpisah (misal untuk AI policy) dari satu seed.
+     */
+    BattleRandom split();
+
+    /**
+     * Generator baru dengan state identik (untuk fork battle); tidak
+     * memajukan generator ini.
+     */
+    BattleRandom copy();
+
+    // ====================================================================
+    // STATE - untuk snapshot / restore battle
+    // ====================================================================
+
+    /**
+     * Jumlah int yang ditulis saveState.
+     */
+    int stateSize();
+
+    /**
+     * Menulis state lengkap generator (posisi stream dan parameter lainnya).
+     *
+     * @return Offset setelah data generator ini
+     */
+    int saveState(int[] buffer, int offset);
+
+    /**
+     * Mengembalikan state yang ditulis saveState (dari generator ini atau
+     * generator lain dengan jenis yang sama). Stream sesudahnya identik.
+     *
+     * @return Offset setelah data generator ini
+     */
+    int restoreState(int[] buffer, int offset);
+}
@@ -0,0 +1,41 @@
+package com.game.utils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Memuat file konfigurasi data game (.properties).
+ *
+ * Urutan sumber: file dari system property (untuk designer, tanpa compile
+ * ulang), lalu resource di classpath (/data/...). Resource yang tidak ada
+ * menghasilkan Properties kosong.
+ */
+public final class ConfigLoader {
+
+    private ConfigLoader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param systemProperty Nama system property berisi path file override
+     * @param resource       Path resource classpath, misal "/data/skills.properties"
+     */
+    public static Properties load(String systemProperty, String resource) throws IOException {
+        Properties config = new Properties();
+        String path = System.getProperty(systemProperty);
+        if (path != null) {
+            try (InputStream in = new FileInputStream(path)) {
+                config.load(in);
+            }
+            return config;
+        }
+        try (InputStream in = ConfigLoader.class.getResourceAsStream(resource)) {
+            if (in != null) {
+                config.load(in);
+            }
+        }
+        return config;
+    }
+}
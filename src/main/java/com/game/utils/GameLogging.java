@@ -0,0 +1,32 @@
+package com.game.utils;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pengaturan logging global untuk package com.game.
+ *
+ * Quiet mode mematikan semua log gameplay. Kode di hot path (damage, heal,
+ * status effect) selalu mengecek logger.isLoggable(...) sebelum merangkai
+ * String, sehingga battle yang silent tidak mengalokasikan string log sama sekali.
+ */
+public final class GameLogging {
+
+    // Parent dari semua logger game. Reference disimpan supaya level tidak hilang karena GC.
+    private static final Logger GAME_LOGGER = Logger.getLogger("com.game");
+
+    private GameLogging() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Mengaktifkan/menonaktifkan quiet mode (untuk simulasi headless dan server).
+     */
+    public static void setQuiet(boolean quiet) {
+        GAME_LOGGER.setLevel(quiet ? Level.OFF : null);
+    }
+
+    public static boolean isQuiet() {
+        return GAME_LOGGER.getLevel() == Level.OFF;
+    }
+}
@@ -0,0 +1,164 @@
+package com.game.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementasi BattleRandom dengan algoritma SplitMix64
+ * (algoritma yang sama dengan java.util.SplittableRandom).
+ *
+ * Berbeda dengan SplittableRandom, state (seed + gamma) bisa dibaca dan di-set,
+ * sehingga battle bisa di-snapshot dan direproduksi bit-for-bit.
+ * Tidak thread-safe: satu instance hanya untuk satu battle.
+ */
+public class SplitMixRandom implements BattleRandom {
+
+    /** Gamma default untuk generator yang dibuat dari seed. */
+    public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    /** Skala 53-bit untuk konversi long -> double di [0, 1). */
+    public static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    // Hanya dipakai untuk battle yang tidak diberi seed eksplisit
+    private static final AtomicLong DEFAULT_SEEDER =
+            new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    // seed, gamma (masing-masing 2 int) di saveState
+    private static final int STATE_INTS = 4;
+
+    private long seed;
+    private long gamma;
+
+    public SplitMixRandom() {
+        this(newSeed());
+    }
+
+    public SplitMixRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMixRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Seed baru yang berbeda setiap panggilan (untuk battle tanpa seed eksplisit).
+     */
+    public static long newSeed() {
+        return mix64(DEFAULT_SEEDER.getAndAdd(2 * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Fungsi finalizer SplitMix64. Berguna untuk menurunkan seed turunan
+     * (misal seed per battle dari base seed + index) tanpa korelasi.
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Finalizer 32-bit; dipakai nextBoolean/nextInt. Publik supaya engine
+     * berbasis array (state RNG di long[]) bisa menghasilkan stream yang identik.
+     */
+    public static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Menurunkan gamma (selalu ganjil) untuk generator hasil split().
+     */
+    public static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (mix64(nextSeed()) >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return mix32(nextSeed()) < 0;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound harus positif");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            // Rejection sampling supaya distribusi tetap uniform
+        }
+        return r;
+    }
+
+    @Override
+    public SplitMixRandom split() {
+        return new SplitMixRandom(mix64(nextSeed()), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Generator baru dengan state dan gamma identik (untuk fork battle).
+     */
+    @Override
+    public SplitMixRandom copy() {
+        return new SplitMixRandom(seed, gamma);
+    }
+
+    @Override
+    public int stateSize() {
+        return STATE_INTS;
+    }
+
+    @Override
+    public int saveState(int[] buffer, int offset) {
+        buffer[offset++] = (int) seed;
+        buffer[offset++] = (int) (seed >>> 32);
+        buffer[offset++] = (int) gamma;
+        buffer[offset++] = (int) (gamma >>> 32);
+        return offset;
+    }
+
+    /**
+     * Gamma ikut dikembalikan, jadi generator dari seed lain / split() pun
+     * menghasilkan stream yang sama persis setelah restore.
+     */
+    @Override
+    public int restoreState(int[] buffer, int offset) {
+        seed = (buffer[offset] & 0xFFFFFFFFL) | ((long) buffer[offset + 1] << 32);
+        long restoredGamma = (buffer[offset + 2] & 0xFFFFFFFFL) | ((long) buffer[offset + 3] << 32);
+        if ((restoredGamma & 1L) == 0) {
+            throw new IllegalArgumentException("Gamma SplitMix harus ganjil: " + restoredGamma);
+        }
+        gamma = restoredGamma;
+        return offset + STATE_INTS;
+    }
+
+    // State accessors (untuk engine berbasis array)
+    public long getState() {
+        return seed;
+    }
+
+    public void setState(long state) {
+        this.seed = state;
+    }
+
+    public long getGamma() {
+        return gamma;
+    }
+}
@@ -121,19 +121,8 @@ public final class Constants {
      */
     public static final int FP_REGEN_PER_TURN = 8;
 
-    // ====================================================================
-    // SKILL COSTS - REBALANCED
-    // ====================================================================
-
-    public static final int ATTACK_SKILL_FP_COST = 0;
-    public static final int GUARD_SKILL_FP_COST = 0;
-    public static final int HEAL_SKILL_FP_COST = 12; // REBALANCED: 10 → 12
-
-    // Elemental Skills - REBALANCED
-    public static final int FIREBALL_FP_COST = 18; // REBALANCED: 15 → 18
-    public static final int ICE_BLAST_FP_COST = 20; // REBALANCED: 15 → 20
-    public static final int ROCK_THROW_FP_COST = 15; // Unchanged
-    public static final int AIR_SLASH_FP_COST = 12; // REBALANCED: 15 → 12
+    // Biaya FP, damage multiplier, dan heal setiap skill ada di
+    // data/skills.properties (SkillRegistry)
 
     // ====================================================================
     // STATUS EFFECTS
@@ -176,39 +165,11 @@ public final class Constants {
      */
     public static final int ATTACK_BUFF_DEFAULT_DURATION = 2;
 
-    // ====================================================================
-    // SKILL DAMAGE/HEALING VALUES - REBALANCED
-    // ====================================================================
-
-    /**
-     * Heal skill base healing amount.
-     * REBALANCED: Increased untuk encourage healing strategies.
-     */
-    public static final int HEAL_SKILL_AMOUNT = 35;
-
-    /**
-     * Fireball skill damage multiplier.
-     * REBALANCED: Reduced untuk balance.
-     */
-    public static final double FIREBALL_DAMAGE_MULTIPLIER = 1.4;
-
-    /**
-     * Ice Blast skill damage multiplier.
-     * REBALANCED: Reduced karena freeze effect sangat kuat.
-     */
-    public static final double ICE_BLAST_DAMAGE_MULTIPLIER = 1.3;
-
-    /**
-     * Rock Throw skill damage multiplier.
-     * REBALANCED: Increased untuk compensate no status effect.
-     */
-    public static final double ROCK_THROW_DAMAGE_MULTIPLIER = 1.6;
-
     /**
-     * Air Slash skill damage multiplier.
-     * REBALANCED: Increased untuk spam potential.
+     * Jumlah slot timing wheel efek per karakter (pangkat 2). Efek yang lebih
+     * lama dari ini tetap benar, hanya dilewati sekali per putaran wheel.
      */
-    public static final double AIR_SLASH_DAMAGE_MULTIPLIER = 1.5;
+    public static final int EFFECT_WHEEL_SLOTS = 8;
 
     // ====================================================================
     // VALIDATION LIMITS
@@ -257,4 +218,172 @@ public final class Constants {
      * Battle log maximum entries.
      */
     public static final int MAX_BATTLE_LOG_ENTRIES = 100;
+
+    // ====================================================================
+    // SIMULATION
+    // ====================================================================
+
+    /**
+     * Batas turn untuk simulasi headless.
+     * Pertarungan yang melewati batas ini dihitung seri.
+     */
+    public static final int SIMULATION_MAX_TURNS = 200;
+
+    /**
+     * Interval (turn) antar checkpoint saat replay battle.
+     * Seek ke turn manapun memutar ulang paling banyak sejumlah turn ini.
+     */
+    public static final int REPLAY_CHECKPOINT_INTERVAL = 10;
+
+    // ====================================================================
+    // AI
+    // ====================================================================
+
+    /**
+     * Batas waktu pencarian AI per langkah (milidetik).
+     */
+    public static final int AI_TIME_BUDGET_MS = 50;
+
+    /**
+     * Kedalaman maksimum iterative deepening AI (dalam aksi / ply).
+     */
+    public static final int AI_MAX_DEPTH = 24;
+
+    /**
+     * Ukuran transposition table AI expectiminimax (MB).
+     */
+    public static final int AI_TABLE_SIZE_MB = 16;
+
+    /**
+     * Kapasitas node tree MCTS per thread (preallocated, 16 byte per node).
+     */
+    public static final int AI_MCTS_TREE_NODES = 1 << 18;
+
+    /**
+     * Konstanta eksplorasi UCT untuk MCTS (sqrt(2) untuk reward 0..1).
+     */
+    public static final double AI_MCTS_EXPLORATION = 1.41;
+
+    // ====================================================================
+    // GAME SERVER
+    // ====================================================================
+
+    /**
+     * Port TCP default game server.
+     */
+    public static final int SERVER_DEFAULT_PORT = 7777;
+
+    /**
+     * Panjang maksimum satu baris perintah protokol (karakter).
+     */
+    public static final int SERVER_MAX_LINE_LENGTH = 256;
+
+    /**
+     * Koneksi tanpa perintah selama ini (milidetik) ditutup.
+     */
+    public static final int SERVER_IDLE_TIMEOUT_MS = 60_000;
+
+    /**
+     * Antrean koneksi yang belum di-accept (backlog listen socket), cukup
+     * besar untuk ribuan client yang connect hampir bersamaan.
+     */
+    public static final int SERVER_ACCEPT_BACKLOG = 1024;
+
+    /**
+     * Ukuran satu direct buffer di pool transport NIO (byte). Cukup untuk
+     * puluhan frame perintah/balasan yang di-pipeline sekaligus.
+     */
+    public static final int SERVER_NIO_BUFFER_SIZE = 4096;
+
+    /**
+     * Jumlah maksimum buffer kosong yang disimpan pool NIO; sisanya dibuang
+     * ke GC supaya lonjakan sesaat tidak menahan memori selamanya.
+     */
+    public static final int SERVER_NIO_POOL_MAX = 1024;
+
+    /**
+     * Panjang maksimum payload satu frame perintah biner (byte).
+     */
+    public static final int SERVER_MAX_FRAME_LENGTH = 64;
+
+    // ====================================================================
+    // MATCHMAKING
+    // ====================================================================
+
+    /**
+     * Lebar satu band rating di index antrean matchmaking.
+     */
+    public static final int MATCHMAKING_RATING_BAND = 50;
+
+    /**
+     * Rating tertinggi yang punya band sendiri; di atasnya masuk band terakhir.
+     */
+    public static final int MATCHMAKING_MAX_RATING = 4000;
+
+    /**
+     * Selisih rating maksimum untuk pemain yang baru masuk antrean.
+     */
+    public static final int MATCHMAKING_INITIAL_WINDOW = 100;
+
+    /**
+     * Pelebaran window rating per detik menunggu.
+     */
+    public static final int MATCHMAKING_WINDOW_GROWTH_PER_SECOND = 25;
+
+    /**
+     * Batas atas window rating, selama apa pun menunggu.
+     */
+    public static final int MATCHMAKING_MAX_WINDOW = 400;
+
+    /**
+     * Setelah menunggu selama ini (milidetik), pemain mau dipasangkan dengan
+     * elemen yang unggul atas elemennya.
+     */
+    public static final long MATCHMAKING_ELEMENT_RELAX_MS = 10_000;
+
+    /**
+     * Kandidat maksimum yang diperiksa per daftar band dalam satu pencarian,
+     * supaya satu query tetap O(band) walau satu band berisi ribuan pemain.
+     */
+    public static final int MATCHMAKING_MAX_SCAN = 32;
+
+    // ====================================================================
+    // RATING
+    // ====================================================================
+
+    /**
+     * Rating awal pemain (dan elemen) yang belum pernah bertanding.
+     */
+    public static final double RATING_INITIAL = 1500.0;
+
+    /**
+     * Skala Elo: selisih rating sebesar ini = peluang menang 10 : 1.
+     */
+    public static final double RATING_SCALE = 400.0;
+
+    /**
+     * K-factor pemain yang sudah melewati masa provisional.
+     */
+    public static final double RATING_K_FACTOR = 24.0;
+
+    /**
+     * K-factor pemain baru, supaya rating cepat mendekati kemampuan aslinya.
+     */
+    public static final double RATING_PROVISIONAL_K_FACTOR = 40.0;
+
+    /**
+     * Jumlah pertandingan sebelum pemain memakai RATING_K_FACTOR.
+     */
+    public static final int RATING_PROVISIONAL_GAMES = 30;
+
+    /**
+     * K-factor rating elemen; kecil karena setiap pertandingan lintas elemen
+     * ikut mengubahnya.
+     */
+    public static final double RATING_ELEMENT_K_FACTOR = 1.0;
+
+    /**
+     * Jumlah hasil yang dikumpulkan RatingEngine sebelum diterapkan ke store.
+     */
+    public static final int RATING_BATCH_SIZE = 8192;
 }
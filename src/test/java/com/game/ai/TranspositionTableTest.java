@@ -0,0 +1,130 @@
+package com.game.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.utils.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+    // Key dengan 32 bit atas sama jatuh ke bucket yang sama
+    private static final long BUCKET = 0x12345678_00000000L;
+
+    @Test
+    void storeThenProbeReturnsPackedData() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0xCAFEBABE_DEADBEEFL;
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+
+        table.store(key, -0.375, 7, 3);
+        long data = table.probe(key);
+        assertEquals(-0.375, TranspositionTable.score(data));
+        assertEquals(7, TranspositionTable.depth(data));
+        assertEquals(3, TranspositionTable.bestMove(data));
+        assertEquals(TranspositionTable.MISS, table.probe(key ^ 1));
+
+        // Depth lebih dari satu byte dipotong, skor disimpan sebagai float
+        table.store(key, 0.1, 1000, 0);
+        data = table.probe(key);
+        assertEquals(255, TranspositionTable.depth(data));
+        assertEquals((float) 0.1, (float) TranspositionTable.score(data));
+        assertEquals(0, TranspositionTable.bestMove(data));
+
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+    }
+
+    @Test
+    void bucketKeepsDeepEntryAndReplacesShallowOnes() {
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = BUCKET | 1;
+        long shallow = BUCKET | 2;
+        long newer = BUCKET | 3;
+
+        table.store(deep, 1.0, 6, 1);
+        table.store(shallow, 2.0, 2, 2);
+        assertEquals(6, TranspositionTable.depth(table.probe(deep)));
+        assertEquals(2, TranspositionTable.depth(table.probe(shallow)));
+
+        // Entry depth-preferred bertahan, always-replace ditimpa
+        table.store(newer, 3.0, 1, 3);
+        assertEquals(6, TranspositionTable.depth(table.probe(deep)));
+        assertEquals(TranspositionTable.MISS, table.probe(shallow));
+        assertEquals(3, TranspositionTable.bestMove(table.probe(newer)));
+
+        // Key yang sama boleh menimpa entry depth-preferred-nya sendiri
+        table.store(deep, 4.0, 2, 4);
+        assertEquals(2, TranspositionTable.depth(table.probe(deep)));
+
+        // Pencarian baru: entry generation lama boleh diganti meski lebih dalam
+        table.store(deep, 5.0, 9, 1);
+        table.newSearch();
+        table.store(shallow, 6.0, 0, 2);
+        assertEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(6.0, TranspositionTable.score(table.probe(shallow)));
+    }
+
+    @Test
+    void concurrentWritersNeverProduceTornEntries() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1);
+        int threads = 4;
+        AtomicLong hits = new AtomicLong();
+        AtomicLong corrupt = new AtomicLong();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            Thread worker = new Thread(() -> {
+                SplitMixRandom random = new SplitMixRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    // Ruang key kecil supaya thread sering berebut bucket yang sama
+                    long key = SplitMixRandom.mix64(random.nextInt(4096));
+                    if ((i & 1) == 0) {
+                        table.store(key, expectedScore(key), expectedDepth(key), expectedMove(key));
+                    } else {
+                        long data = table.probe(key);
+                        if (data != TranspositionTable.MISS) {
+                            hits.incrementAndGet();
+                            if (TranspositionTable.score(data) != expectedScore(key)
+                                    || TranspositionTable.depth(data) != expectedDepth(key)
+                                    || TranspositionTable.bestMove(data) != expectedMove(key)) {
+                                corrupt.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(hits.get() > 0);
+        assertEquals(0, corrupt.get());
+    }
+
+    @Test
+    void sizeFollowsMegabytesAndRejectsInvalid() {
+        TranspositionTable table = new TranspositionTable(1);
+        assertEquals(1 << 20, table.getSizeInBytes());
+        assertEquals((1 << 20) / 16, table.getEntryCount());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    private static double expectedScore(long key) {
+        return (key & 0xFFFF) / 1024.0;
+    }
+
+    private static int expectedDepth(long key) {
+        return (int) ((key >>> 16) & 0x7F);
+    }
+
+    private static int expectedMove(long key) {
+        return 1 + (int) ((key >>> 24) & 3);
+    }
+}
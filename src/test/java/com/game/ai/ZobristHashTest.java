@@ -0,0 +1,124 @@
+package com.game.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.battle.Battle;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.simulation.fast.FastBattleEngine;
+import com.game.simulation.fast.FastBattleState;
+import com.game.skills.effects.BurnEffect;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ZobristHashTest {
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void objectAndFastEngineHashAgreeEveryStep() {
+        FastBattleState state = new FastBattleState(1);
+        for (long seed = 1; seed <= 20; seed++) {
+            Battle battle = newBattle(ElementType.FIRE, ElementType.EARTH, seed);
+            state.init(0, ElementType.FIRE, ElementType.EARTH, seed);
+            battle.start();
+            FastBattleEngine.start(state, 0);
+            SplitMixRandom policy = new SplitMixRandom(seed).split();
+
+            Set<Long> seen = new HashSet<>();
+            while (!battle.isBattleFinished() && battle.getTurnCount() < 100) {
+                int skillIndex = 1 + policy.nextInt(4);
+                // Aksi yang ditolak tetap dijalankan di kedua engine (efek awal giliran ikut diproses)
+                boolean success = battle.executePlayerAction(skillIndex);
+                assertEquals(success, FastBattleEngine.step(state, 0, skillIndex));
+                if (!success) {
+                    battle.executePlayerAction(1);
+                    FastBattleEngine.step(state, 0, 1);
+                }
+                assertEquals(ZobristHash.hash(battle), ZobristHash.hash(state, 0), "seed " + seed);
+                seen.add(ZobristHash.hash(battle));
+                if (!battle.isBattleFinished()) {
+                    battle.endTurn();
+                    FastBattleEngine.endTurn(state, 0);
+                }
+            }
+            // HP turun terus, jadi state (dan hash) hampir selalu baru
+            assertTrue(seen.size() > 1);
+        }
+    }
+
+    @Test
+    void hashIgnoresTurnCountAndRandomState() {
+        Battle battle = newBattle(ElementType.WATER, ElementType.WIND, 3L);
+        battle.start();
+        long base = ZobristHash.hash(battle);
+
+        Battle fork = battle.fork();
+        fork.getRandom().nextDouble();
+        assertEquals(base, ZobristHash.hash(fork));
+
+        // Satu putaran penuh tanpa aksi: giliran kembali, FP sudah penuh, turn bertambah
+        fork.endTurn();
+        fork.endTurn();
+        assertNotEquals(battle.getTurnCount(), fork.getTurnCount());
+        assertEquals(base, ZobristHash.hash(fork));
+
+        // Seed lain dengan pemain pertama yang sama: hanya RNG yang beda
+        for (long seed = 4; ; seed++) {
+            Battle other = newBattle(ElementType.WATER, ElementType.WIND, seed);
+            other.start();
+            if (other.getCurrentState() == battle.getCurrentState()) {
+                assertEquals(base, ZobristHash.hash(other));
+                break;
+            }
+        }
+    }
+
+    @Test
+    void everyFeatureChangesHash() {
+        Battle battle = newBattle(ElementType.FIRE, ElementType.WATER, 5L);
+        battle.start();
+        long base = ZobristHash.hash(battle);
+
+        Battle hurt = battle.fork();
+        hurt.getPlayer2().takeTrueDamage(1);
+        assertNotEquals(base, ZobristHash.hash(hurt));
+
+        Battle tired = battle.fork();
+        tired.getPlayer1().useFocusPoints(1);
+        assertNotEquals(base, ZobristHash.hash(tired));
+
+        Battle burning = battle.fork();
+        burning.getPlayer1().addEffect(new BurnEffect(2, Constants.BURN_DAMAGE_PER_TURN));
+        long burningHash = ZobristHash.hash(burning);
+        assertNotEquals(base, burningHash);
+        // Sisa durasi efek ikut di-hash
+        burning.getPlayer1().applyEndTurnEffects();
+        assertNotEquals(burningHash, ZobristHash.hash(burning));
+
+        Battle swapped = newBattle(ElementType.WATER, ElementType.FIRE, 5L);
+        swapped.start();
+        assertNotEquals(base, ZobristHash.hash(swapped));
+
+        Battle nextTurn = battle.fork();
+        nextTurn.endTurn();
+        assertNotEquals(base, ZobristHash.hash(nextTurn));
+    }
+
+    private static Battle newBattle(ElementType type1, ElementType type2, long seed) {
+        return new Battle(
+                CharacterFactory.createCharacter(type1, "P1"),
+                CharacterFactory.createCharacter(type2, "P2"),
+                seed);
+    }
+}
@@ -0,0 +1,46 @@
+package com.game.battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class BattleLogTest {
+
+    @Test
+    void addActionKeepsCallerObjectOutOfRecycling() {
+        BattleLog log = new BattleLog(3);
+        BattleAction action = new BattleAction("P1", "SKILL", "Guard", "P1");
+        action.setDamageDealt(7);
+        for (int i = 0; i < 3; i++) {
+            log.addAction(action);
+        }
+        assertNotSame(action, log.getLastAction());
+        assertEquals(7, log.getLastAction().getDamageDealt());
+
+        // Memutar buffer dengan recordAction tidak boleh mengubah objek pemanggil
+        for (int i = 0; i < 3; i++) {
+            log.recordAction("P2", "SKILL", "Basic Attack", "P1").setDamageDealt(i);
+        }
+        assertEquals("P1", action.getActor());
+        assertEquals("Guard", action.getActionName());
+        assertEquals(7, action.getDamageDealt());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, log.getAction(i).getDamageDealt());
+        }
+    }
+
+    @Test
+    void recordActionRecyclesOldestSlotAtCapacity() {
+        BattleLog log = new BattleLog(2);
+        BattleAction first = log.recordAction("P1", "SKILL", "Basic Attack", "P2");
+        log.recordAction("P2", "SKILL", "Basic Attack", "P1");
+
+        BattleAction third = log.recordAction("P1", "SKILL", "Guard", "P1");
+        assertSame(first, third);
+        assertEquals(2, log.getActionCount());
+        assertEquals("Guard", log.getLastAction().getActionName());
+        assertEquals("P2", log.getAction(0).getActor());
+    }
+}
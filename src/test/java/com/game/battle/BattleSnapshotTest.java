@@ -0,0 +1,212 @@
+package com.game.battle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.skills.effects.AttackBuffEffect;
+import com.game.skills.effects.BurnEffect;
+import com.game.skills.effects.EffectKind;
+import com.game.skills.effects.FreezeEffect;
+import com.game.skills.effects.GuardEffect;
+import com.game.skills.effects.StatusEffect;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class BattleSnapshotTest {
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void restoreReplaysSameBattleWithEffects() {
+        Battle battle = newBattle(new SplitMixRandom(7));
+        BattleSnapshot snapshot = playUntilEffects(battle);
+        int[] skills = {1, 2, 3, 4, 1, 3, 2, 4, 1, 1};
+
+        String first = play(battle, skills);
+        for (int i = 0; i < 3; i++) {
+            battle.restore(snapshot);
+            assertEquals(first, play(battle, skills));
+        }
+    }
+
+    @Test
+    void restoreCarriesRandomGamma() {
+        Battle source = newBattle(new SplitMixRandom(7));
+        BattleSnapshot snapshot = playUntilEffects(source);
+
+        // Generator hasil split() punya gamma lain; setelah restore stream harus sama
+        Battle target = newBattle(new SplitMixRandom(99).split());
+        target.start();
+        target.restore(snapshot);
+        source.restore(snapshot);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(source.getRandom().nextDouble(), target.getRandom().nextDouble());
+        }
+
+        source.restore(snapshot);
+        target.restore(snapshot);
+        int[] skills = {2, 1, 4, 3, 1, 1, 2};
+        assertEquals(play(source, skills), play(target, skills));
+    }
+
+    @Test
+    void forkPlaysIndependentlyOfSource() {
+        Battle source = newBattle(new SplitMixRandom(11));
+        playUntilEffects(source);
+        int[] before = state(source);
+
+        Battle fork = source.fork();
+        assertNotSame(source.getPlayer1(), fork.getPlayer1());
+        assertNotSame(source.getPlayer2(), fork.getPlayer2());
+        assertNotSame(source.getRandom(), fork.getRandom());
+        assertArrayEquals(before, state(fork));
+
+        // Fork jalan sendiri; source tidak boleh ikut berubah
+        play(fork, new int[] {4, 3, 2, 1, 1, 1});
+        assertArrayEquals(before, state(source));
+
+        // Aksi yang sama pada source dan fork baru memberi hasil yang sama
+        Battle second = source.fork();
+        int[] skills = {1, 3, 1, 2, 4, 1, 1};
+        assertEquals(play(source, skills), play(second, skills));
+    }
+
+    @Test
+    void restoresGuardBoostAndDurationsExactly() {
+        Battle battle = newBattle(new SplitMixRandom(5));
+        battle.start();
+        BaseCharacter player = battle.getPlayer1();
+        int baseDefense = player.getDefense();
+
+        player.addEffect(new GuardEffect());
+        player.addEffect(new BurnEffect(3, 7));
+        player.applyEndTurnEffects();
+        player.addEffect(new AttackBuffEffect(4, 9));
+        int boostedDefense = player.getDefense();
+        int boost = find(player, EffectKind.GUARD).getStateParam();
+        assertTrue(boost > 0);
+        String effects = effects(player);
+
+        BattleSnapshot snapshot = battle.snapshot();
+
+        // Habiskan semua efek lalu ubah defense supaya restore harus menulis ulang semuanya
+        for (int i = 0; i < 5; i++) {
+            player.applyEndTurnEffects();
+        }
+        assertEquals(0, player.getEffectCount());
+        player.setDefense(1);
+
+        battle.restore(snapshot);
+        assertEquals(boostedDefense, player.getDefense());
+        assertEquals(boost, find(player, EffectKind.GUARD).getStateParam());
+        assertEquals(effects, effects(player));
+
+        // Guard sisa 1 giliran; saat habis boost yang dipulihkan harus dikurangi tepat
+        player.applyEndTurnEffects();
+        assertEquals(baseDefense, player.getDefense());
+        assertNull(find(player, EffectKind.GUARD));
+        assertEquals(1, find(player, EffectKind.BURN).getDuration());
+    }
+
+    @Test
+    void snapshotStaysWithinFewHundredBytes() {
+        Battle battle = newBattle(new SplitMixRandom(3));
+        battle.start();
+        for (BaseCharacter player : new BaseCharacter[] {battle.getPlayer1(), battle.getPlayer2()}) {
+            player.addEffect(new GuardEffect());
+            player.addEffect(new BurnEffect(3, 5));
+            player.addEffect(new FreezeEffect(1));
+            player.addEffect(new AttackBuffEffect(2, 4));
+        }
+        assertTrue(battle.snapshot().sizeInBytes() <= 300,
+                "Snapshot " + battle.snapshot().sizeInBytes() + " byte");
+    }
+
+    private static Battle newBattle(SplitMixRandom random) {
+        return new Battle(
+                CharacterFactory.createCharacter(ElementType.FIRE, "P1"),
+                CharacterFactory.createCharacter(ElementType.WATER, "P2"),
+                random);
+    }
+
+    private static BattleSnapshot playUntilEffects(Battle battle) {
+        battle.start();
+        SplitMixRandom policy = new SplitMixRandom(3);
+        for (int i = 0; i < 200 && !battle.isBattleFinished(); i++) {
+            if (!battle.executePlayerAction(1 + policy.nextInt(4))) {
+                battle.executePlayerAction(1);
+            }
+            if (battle.isBattleFinished()) {
+                break;
+            }
+            battle.endTurn();
+            if (battle.getPlayer1().getEffectCount() + battle.getPlayer2().getEffectCount() >= 2) {
+                return battle.snapshot();
+            }
+        }
+        throw new AssertionError("Battle selesai sebelum ada dua efek aktif");
+    }
+
+    private static String play(Battle battle, int[] skills) {
+        StringBuilder trace = new StringBuilder();
+        for (int skill : skills) {
+            if (battle.isBattleFinished()) {
+                break;
+            }
+            if (!battle.executePlayerAction(skill)) {
+                battle.executePlayerAction(1);
+            }
+            if (!battle.isBattleFinished()) {
+                battle.endTurn();
+            }
+            append(trace, battle.getPlayer1());
+            append(trace, battle.getPlayer2());
+        }
+        return trace.toString();
+    }
+
+    private static void append(StringBuilder trace, BaseCharacter character) {
+        trace.append(character.getHealthPoints()).append('/')
+                .append(character.getFocusPoints()).append('/')
+                .append(character.getDefense()).append('/')
+                .append(effects(character)).append(';');
+    }
+
+    private static int[] state(Battle battle) {
+        BattleSnapshot snapshot = battle.snapshot();
+        return Arrays.copyOf(snapshot.data(), snapshot.sizeInBytes() / Integer.BYTES);
+    }
+
+    private static String effects(BaseCharacter character) {
+        StringBuilder text = new StringBuilder();
+        for (StatusEffect effect = character.getFirstEffect(); effect != null;
+             effect = character.getNextEffect(effect)) {
+            text.append(effect.getKind()).append(':')
+                    .append(effect.getDuration()).append(':')
+                    .append(effect.getStateParam()).append(',');
+        }
+        return text.toString();
+    }
+
+    private static StatusEffect find(BaseCharacter character, EffectKind kind) {
+        for (StatusEffect effect = character.getFirstEffect(); effect != null;
+             effect = character.getNextEffect(effect)) {
+            if (effect.getKind() == kind) {
+                return effect;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,181 @@
+package com.game.battle.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.battle.Battle;
+import com.game.battle.BattleAction;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class BattleEventBusTest {
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void battleWithoutSubscribersHasNoListeners() {
+        Battle battle = newBattle(1L);
+        battle.start();
+        for (int i = 0; i < 20 && !battle.isBattleFinished(); i++) {
+            battle.executePlayerAction(1);
+            // CombatResolver hanya recorder selama Skill.use, bukan subscriber
+            assertFalse(battle.getEventBus().hasListeners());
+            if (!battle.isBattleFinished()) {
+                battle.endTurn();
+            }
+        }
+    }
+
+    @Test
+    void listenersRunInSubscribeOrderOnSnapshotOfList() {
+        BattleEventBus bus = new BattleEventBus();
+        BaseCharacter target = CharacterFactory.createCharacter(ElementType.FIRE, "T");
+        List<String> calls = new ArrayList<>();
+        BattleEventListener second = event -> calls.add("second");
+        BattleEventListener first = new BattleEventListener() {
+            @Override
+            public void onEvent(BattleEvent event) {
+                calls.add("first");
+                // Unsubscribe di tengah dispatch baru berlaku untuk event berikutnya
+                bus.unsubscribe(second);
+            }
+        };
+        bus.subscribe(first);
+        bus.subscribe(second);
+
+        bus.healed(target, 5);
+        bus.healed(target, 5);
+        assertEquals(List.of("first", "second", "first"), calls);
+
+        bus.unsubscribe(first);
+        assertFalse(bus.hasListeners());
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribe(null));
+    }
+
+    @Test
+    void nestedPublishUsesSeparateEventObject() {
+        BattleEventBus bus = new BattleEventBus();
+        BaseCharacter attacker = CharacterFactory.createCharacter(ElementType.WATER, "A");
+        BaseCharacter defender = CharacterFactory.createCharacter(ElementType.FIRE, "D");
+        List<String> seen = new ArrayList<>();
+        bus.subscribe(event -> {
+            if (event.getType() == BattleEventType.DAMAGE_APPLIED) {
+                bus.crit(attacker, defender);
+                // Event luar tidak boleh tertimpa event bersarang
+                seen.add(event.getType() + ":" + event.getAmount() + ":" + event.getMultiplier());
+            } else {
+                seen.add(event.getType() + ":" + event.getSource().getName());
+            }
+        });
+
+        bus.damageApplied(attacker, defender, 17, 2.0, true);
+        assertEquals(List.of("CRIT:A", "DAMAGE_APPLIED:17:2.0"), seen);
+    }
+
+    @Test
+    void recorderReceivesEventsWithoutCountingAsListener() {
+        BattleEventBus bus = new BattleEventBus();
+        BaseCharacter target = CharacterFactory.createCharacter(ElementType.EARTH, "T");
+        List<BattleEventType> recorded = new ArrayList<>();
+        bus.setRecorder(event -> recorded.add(event.getType()));
+
+        assertFalse(bus.hasListeners());
+        bus.healed(target, 3);
+        bus.fpSpent(target, 2);
+        bus.setRecorder(null);
+        bus.healed(target, 3);
+        assertEquals(List.of(BattleEventType.HEALED, BattleEventType.FP_SPENT), recorded);
+    }
+
+    @Test
+    void silentBusRejectsSubscribers() {
+        assertThrows(IllegalStateException.class, () -> BattleEventBus.silent().subscribe(event -> { }));
+    }
+
+    @Test
+    void loggedActionsMatchCombatEvents() {
+        for (long seed = 1; seed <= 30; seed++) {
+            Battle battle = newBattle(seed);
+            int[] damage = new int[1];
+            boolean[] flags = new boolean[2]; // crit, dodged
+            BaseCharacter[] defender = new BaseCharacter[1];
+            battle.getEventBus().subscribe(event -> {
+                if (event.getTarget() != defender[0]) {
+                    return;
+                }
+                if (event.getType() == BattleEventType.DAMAGE_APPLIED) {
+                    damage[0] += event.getAmount();
+                } else if (event.getType() == BattleEventType.CRIT) {
+                    flags[0] = true;
+                } else if (event.getType() == BattleEventType.DODGED) {
+                    flags[1] = true;
+                }
+            });
+
+            battle.start();
+            SplitMixRandom policy = new SplitMixRandom(seed);
+            while (!battle.isBattleFinished() && battle.getTurnCount() < 100) {
+                defender[0] = battle.getOpponentPlayer();
+                damage[0] = 0;
+                flags[0] = false;
+                flags[1] = false;
+                if (!battle.executePlayerAction(1 + policy.nextInt(4))) {
+                    battle.executePlayerAction(1);
+                }
+
+                BattleAction action = battle.getBattleLog().getLastAction();
+                if ("SKILL".equals(action.getActionType())) {
+                    assertEquals(damage[0], action.getDamageDealt(), "seed " + seed);
+                    assertEquals(flags[0], action.isCritical(), "seed " + seed);
+                    assertEquals(flags[1], action.isDodged(), "seed " + seed);
+                }
+                if (!battle.isBattleFinished()) {
+                    battle.endTurn();
+                }
+            }
+            assertTrue(battle.getEventBus().hasListeners());
+        }
+    }
+
+    @Test
+    void endTurnPublishesTurnEndedForCurrentPlayer() {
+        Battle battle = newBattle(9L);
+        // Event dipakai ulang bus, jadi field dibaca di dalam onEvent
+        List<BaseCharacter> players = new ArrayList<>();
+        List<Integer> turns = new ArrayList<>();
+        battle.getEventBus().subscribe(event -> {
+            if (event.getType() == BattleEventType.TURN_ENDED) {
+                players.add(event.getSource());
+                turns.add(event.getAmount());
+            }
+        });
+        battle.start();
+        BaseCharacter first = battle.getCurrentPlayer();
+        battle.executePlayerAction(1);
+        battle.endTurn();
+
+        assertEquals(1, players.size());
+        assertSame(first, players.get(0));
+        assertEquals(List.of(1), turns);
+    }
+
+    private static Battle newBattle(long seed) {
+        return new Battle(
+                CharacterFactory.createCharacter(ElementType.FIRE, "P1"),
+                CharacterFactory.createCharacter(ElementType.WIND, "P2"),
+                seed);
+    }
+}
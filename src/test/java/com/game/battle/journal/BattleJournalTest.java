@@ -0,0 +1,164 @@
+package com.game.battle.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.battle.BattleAction;
+import com.game.characters.ElementType;
+import com.game.simulation.BattleSimulator;
+import com.game.skills.Skill;
+import com.game.skills.SkillRegistry;
+import com.game.utils.GameLogging;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BattleJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void recordsRoundTripAllFields() throws IOException {
+        Path path = directory.resolve("fields.bjrn");
+        // Batch kecil supaya flush di tengah ikut teruji
+        try (BattleJournalWriter writer = new BattleJournalWriter(path, 2)) {
+            BattleAction hit = action("SKILL", 42, 0, 2.0);
+            hit.setCritical(true);
+            writer.append(7L, 1, 1, 3, 2, hit, 58);
+
+            BattleAction drain = action("SKILL", 10, 5, 0.5);
+            drain.setDodged(true);
+            writer.append(7L, 2, 2, SkillRegistry.size() - 1, 1, drain, 90);
+
+            writer.append(Long.MAX_VALUE, 3, 1, 4, 2, action("FROZEN", 0, 0, 1.0), 90);
+            writer.append(-1L, 4, 2, 0, 1, action("SURRENDER", 0, 0, 1.0), 12);
+            assertEquals(4, writer.getRecordsWritten());
+        }
+
+        List<String> records = readAll(path);
+        assertEquals(List.of(
+                "0|7|1|1|3|2|true|false|42|0|2.0|0|58",
+                "1|7|2|2|" + (SkillRegistry.size() - 1) + "|1|false|true|10|5|0.5|0|90",
+                "2|" + Long.MAX_VALUE + "|3|1|-1|0|false|false|0|0|1.0|1|90",
+                "3|-1|4|2|-1|0|false|false|0|0|1.0|2|12"), records);
+    }
+
+    @Test
+    void reopenAppendsAfterDroppingTornRecord() throws IOException {
+        Path path = directory.resolve("append.bjrn");
+        try (BattleJournalWriter writer = new BattleJournalWriter(path)) {
+            writer.append(1L, 1, 1, 0, 2, action("SKILL", 5, 0, 1.0), 95);
+        }
+        // Setengah record dari proses yang crash saat menulis
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(JournalFormat.RECORD_SIZE / 2));
+        }
+        try (BattleJournalReader reader = new BattleJournalReader(path)) {
+            assertEquals(1, reader.getRecordCount());
+        }
+
+        try (BattleJournalWriter writer = new BattleJournalWriter(path)) {
+            writer.append(2L, 1, 2, 1, 1, action("SKILL", 6, 0, 1.0), 94);
+        }
+        List<String> records = readAll(path);
+        assertEquals(2, records.size());
+        assertTrue(records.get(1).startsWith("1|2|1|2|1|1|"));
+    }
+
+    @Test
+    void scanRangeAndEarlyStop() throws IOException {
+        Path path = directory.resolve("range.bjrn");
+        try (BattleJournalWriter writer = new BattleJournalWriter(path)) {
+            for (int turn = 1; turn <= 10; turn++) {
+                writer.append(3L, turn, 1 + turn % 2, 0, 2 - turn % 2, action("SKILL", turn, 0, 1.0), 100 - turn);
+            }
+        }
+        try (BattleJournalReader reader = new BattleJournalReader(path)) {
+            List<Integer> turns = new ArrayList<>();
+            reader.scan(4, 8, record -> turns.add(record.getTurn()));
+            assertEquals(List.of(5, 6, 7, 8), turns);
+
+            turns.clear();
+            reader.scan(record -> turns.add(record.getTurn()) && record.getTurn() < 3);
+            assertEquals(List.of(1, 2, 3), turns);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.scan(5, 11, record -> true));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.scan(6, 5, record -> true));
+        }
+    }
+
+    @Test
+    void rejectsSkillIdsThatDoNotFit() throws IOException {
+        try (BattleJournalWriter writer = new BattleJournalWriter(directory.resolve("ids.bjrn"))) {
+            BattleAction action = action("SKILL", 1, 0, 1.0);
+            assertThrows(IllegalArgumentException.class,
+                    () -> writer.append(1L, 1, 1, JournalFormat.SKILL_NONE, 2, action, 10));
+            assertThrows(IllegalArgumentException.class, () -> writer.append(1L, 1, 1, -1, 2, action, 10));
+            assertEquals(0, writer.getRecordsWritten());
+        }
+    }
+
+    @Test
+    void simulatedBattleIsJournaledTurnByTurn() throws IOException {
+        Path path = directory.resolve("battle.bjrn");
+        try (BattleJournalWriter writer = new BattleJournalWriter(path)) {
+            BattleSimulator simulator = new BattleSimulator();
+            simulator.setJournal(writer);
+            simulator.simulate("FIRE", "WATER", 99L);
+        }
+
+        List<List<Skill>> loadouts = List.of(
+                SkillRegistry.getLoadout(ElementType.FIRE), SkillRegistry.getLoadout(ElementType.WATER));
+        try (BattleJournalReader reader = new BattleJournalReader(path)) {
+            assertTrue(reader.getRecordCount() > 0);
+            int[] previousTurn = {0};
+            reader.scan(record -> {
+                assertEquals(99L, record.getBattleId());
+                assertTrue(record.getTurn() >= previousTurn[0]);
+                previousTurn[0] = record.getTurn();
+                assertTrue(record.getTargetHp() >= 0);
+                if (record.getActionType() == JournalFormat.ACTION_SKILL) {
+                    // Id global registry, dan skill itu memang ada di loadout aktor
+                    assertTrue(loadouts.get(record.getActor() - 1).contains(SkillRegistry.get(record.getSkillId())));
+                } else {
+                    assertEquals(-1, record.getSkillId());
+                }
+                return true;
+            });
+        }
+    }
+
+    private static BattleAction action(String type, int damage, int healing, double effectiveness) {
+        BattleAction action = new BattleAction("P", type, "Skill", "T");
+        action.setDamageDealt(damage);
+        action.setHealingDone(healing);
+        action.setEffectiveness(effectiveness);
+        return action;
+    }
+
+    private static List<String> readAll(Path path) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (BattleJournalReader reader = new BattleJournalReader(path)) {
+            reader.scan(record -> records.add(record.getIndex() + "|" + record.getBattleId() + "|"
+                    + record.getTurn() + "|" + record.getActor() + "|" + record.getSkillId() + "|"
+                    + record.getTarget() + "|" + record.isCritical() + "|" + record.isDodged() + "|"
+                    + record.getDamage() + "|" + record.getHealing() + "|" + record.getEffectiveness() + "|"
+                    + record.getActionType() + "|" + record.getTargetHp()));
+        }
+        return records;
+    }
+}
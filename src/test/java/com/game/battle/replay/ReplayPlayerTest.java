@@ -0,0 +1,125 @@
+package com.game.battle.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.simulation.BattleSimulator;
+import com.game.simulation.SimulationResult;
+import com.game.skills.effects.StatusEffect;
+import com.game.utils.GameLogging;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ReplayPlayerTest {
+
+    private static final long SEED = 2024L;
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void replayReproducesSimulatedBattle() {
+        SimulationResult expected = new BattleSimulator().simulate("EARTH", "WIND", SEED);
+        BattleRecording recording = new BattleSimulator().record("EARTH", "WIND", SEED);
+
+        Battle battle = new ReplayPlayer(recording).playToEnd();
+        assertEquals(expected.getTurnCount(), battle.getTurnCount());
+        assertEquals(expected.getPlayer1Hp(), battle.getPlayer1().getHealthPoints());
+        assertEquals(expected.getPlayer2Hp(), battle.getPlayer2().getHealthPoints());
+    }
+
+    @Test
+    void seekMatchesLinearPlaybackInAnyOrder() {
+        BattleRecording recording = new BattleSimulator().record("FIRE", "WATER", SEED);
+
+        // Referensi: state di awal setiap turn dengan memutar linear tanpa checkpoint
+        ReplayPlayer linear = new ReplayPlayer(recording, Integer.MAX_VALUE);
+        List<String> states = new ArrayList<>();
+        states.add(null); // turn dimulai dari 1
+        states.add(state(linear));
+        while (linear.hasNext()) {
+            int turn = linear.getBattle().getTurnCount();
+            linear.step();
+            if (linear.getBattle().getTurnCount() != turn || !linear.hasNext()) {
+                states.add(state(linear));
+            }
+        }
+        int lastTurn = states.size() - 1;
+        assertTrue(lastTurn > 6, "Battle terlalu pendek untuk menguji seek: " + lastTurn);
+
+        ReplayPlayer player = new ReplayPlayer(recording, 3);
+        int[] order = {lastTurn, 1, 5, 4, 4, lastTurn - 1, 2, 6, 3, lastTurn};
+        for (int turn : order) {
+            player.seekToTurn(turn);
+            assertEquals(states.get(turn), state(player), "seek ke turn " + turn);
+        }
+        assertTrue(player.getCheckpointCount() > 1);
+    }
+
+    @Test
+    void seekPastEndStopsAtEndOfRecording() {
+        BattleRecording recording = new BattleSimulator().record("WIND", "FIRE", SEED);
+        String end = state(playedToEnd(recording));
+
+        ReplayPlayer player = new ReplayPlayer(recording);
+        player.seekToTurn(10_000);
+        assertFalse(player.hasNext());
+        assertEquals(end, state(player));
+        assertThrows(IllegalStateException.class, player::step);
+        assertThrows(IllegalArgumentException.class, () -> player.seekToTurn(0));
+    }
+
+    @Test
+    void encodeParseRoundTrip() {
+        BattleRecording recording = new BattleRecording.Builder(-5L, "FIRE", "Budi; 100%", "WATER", "Sari")
+                .addAction(1).addAction(3).addAction(BattleRecording.SURRENDER)
+                .build();
+        BattleRecording parsed = BattleRecording.parse(recording.encode());
+
+        assertEquals(-5L, parsed.getSeed());
+        assertEquals("Budi; 100%", parsed.getPlayer1Name());
+        assertEquals("WATER", parsed.getPlayer2Type());
+        assertEquals(3, parsed.getActionCount());
+        assertEquals(BattleRecording.SURRENDER, parsed.getAction(2));
+        assertEquals(recording.encode(), parsed.encode());
+        assertThrows(IllegalArgumentException.class, () -> BattleRecording.parse("v0;1;FIRE;a;WATER;b;1"));
+    }
+
+    private static ReplayPlayer playedToEnd(BattleRecording recording) {
+        ReplayPlayer player = new ReplayPlayer(recording);
+        player.playToEnd();
+        return player;
+    }
+
+    private static String state(ReplayPlayer player) {
+        Battle battle = player.getBattle();
+        StringBuilder text = new StringBuilder();
+        text.append(player.getCursor()).append('|')
+                .append(battle.getTurnCount()).append('|')
+                .append(battle.getCurrentState()).append('|');
+        append(text, battle.getPlayer1());
+        append(text, battle.getPlayer2());
+        // Posisi RNG dibandingkan lewat salinan supaya replay tidak ikut bergeser
+        return text.append(battle.getRandom().copy().nextDouble()).toString();
+    }
+
+    private static void append(StringBuilder text, BaseCharacter character) {
+        text.append(character.getHealthPoints()).append('/')
+                .append(character.getFocusPoints()).append('/')
+                .append(character.getAttackPower()).append('/')
+                .append(character.getDefense()).append('/');
+        for (StatusEffect effect = character.getFirstEffect(); effect != null;
+             effect = character.getNextEffect(effect)) {
+            text.append(effect.getKind()).append(':').append(effect.getDuration()).append(',');
+        }
+        text.append('|');
+    }
+}
@@ -0,0 +1,131 @@
+package com.game.matchmaking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.characters.ElementType;
+import com.game.characters.ElementalAdvantage;
+import com.utils.Constants;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MatchmakingQueueTest {
+
+    private static final ElementType[] PLAYABLE = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND};
+
+    private long now = 1_000_000;
+    private final MatchmakingQueue queue = new MatchmakingQueue(() -> now);
+
+    @Test
+    void pairsClosestRatingWithinWindow() {
+        queue.enqueue(1, ElementType.FIRE, 1500);
+        queue.enqueue(2, ElementType.FIRE, 1500 + Constants.MATCHMAKING_INITIAL_WINDOW);
+        queue.enqueue(3, ElementType.FIRE, 1530);
+        now += 5;
+        queue.enqueue(4, ElementType.FIRE, 1510);
+
+        MatchPairing pairing = queue.findMatch(4);
+        assertNotNull(pairing);
+        // Yang menunggu lebih lama jadi player1
+        assertEquals(1, pairing.getPlayer1().getPlayerId());
+        assertEquals(4, pairing.getPlayer2().getPlayerId());
+        assertEquals(10, pairing.getRatingDifference());
+        assertEquals(2, queue.size());
+        assertFalse(queue.contains(1));
+        assertFalse(queue.contains(4));
+    }
+
+    @Test
+    void windowWidensWhileWaiting() {
+        int gap = Constants.MATCHMAKING_INITIAL_WINDOW + Constants.MATCHMAKING_RATING_BAND;
+        queue.enqueue(1, ElementType.WATER, 1000);
+        queue.enqueue(2, ElementType.WATER, 1000 + gap);
+        assertNull(queue.findMatch(1));
+
+        long millisNeeded = 1000L * (gap - Constants.MATCHMAKING_INITIAL_WINDOW)
+                / Constants.MATCHMAKING_WINDOW_GROWTH_PER_SECOND;
+        now += millisNeeded;
+        MatchPairing pairing = queue.findMatch(1);
+        assertNotNull(pairing);
+        assertEquals(gap, pairing.getRatingDifference());
+        assertEquals(millisNeeded, pairing.getMaxWaitMillis());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void disadvantagedPlayerWaitsForElementRelax() {
+        ElementType strong = null;
+        ElementType weak = null;
+        for (ElementType a : PLAYABLE) {
+            for (ElementType b : PLAYABLE) {
+                if (ElementalAdvantage.getMultiplier(a, b) > ElementalAdvantage.getMultiplier(b, a)) {
+                    strong = a;
+                    weak = b;
+                }
+            }
+        }
+        assertNotNull(strong, "konfigurasi elemen tanpa keunggulan");
+
+        queue.enqueue(1, weak, 1200);
+        now++;
+        queue.enqueue(2, strong, 1200);
+        assertNull(queue.findMatch(2));
+        assertNull(queue.findMatch(1));
+
+        // Yang dirugikan (weak) yang menentukan kapan boleh dipasangkan
+        now += Constants.MATCHMAKING_ELEMENT_RELAX_MS - 1;
+        MatchPairing pairing = queue.findMatch(2);
+        assertNotNull(pairing);
+        assertEquals(weak, pairing.getPlayer1().getElement());
+    }
+
+    @Test
+    void matchWaitingPairsOldestFirst() {
+        for (int id = 0; id < 10; id++) {
+            queue.enqueue(id, ElementType.EARTH, 2000 + id);
+            now++;
+        }
+        queue.enqueue(99, ElementType.EARTH, 3500);
+
+        List<MatchPairing> pairings = queue.matchWaiting(10);
+        assertEquals(5, pairings.size());
+        for (int i = 0; i < pairings.size(); i++) {
+            assertEquals(2 * i, pairings.get(i).getPlayer1().getPlayerId());
+            assertEquals(2 * i + 1, pairings.get(i).getPlayer2().getPlayerId());
+        }
+        assertEquals(1, queue.size());
+        assertTrue(queue.contains(99));
+        now += 250;
+        assertEquals(250, queue.getOldestWaitMillis());
+    }
+
+    @Test
+    void cancelRemovesPlayer() {
+        QueuedPlayer player = queue.enqueue(7, ElementType.WIND, 1400);
+        assertSame(ElementType.WIND, player.getElement());
+        assertTrue(queue.cancel(7));
+        assertFalse(queue.cancel(7));
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.getOldestWaitMillis());
+
+        queue.enqueue(8, ElementType.WIND, 1400);
+        assertNull(queue.findMatch(8));
+        assertThrows(IllegalArgumentException.class, () -> queue.findMatch(7));
+    }
+
+    @Test
+    void rejectsInvalidPlayers() {
+        queue.enqueue(1, ElementType.FIRE, 1500);
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue(1, ElementType.FIRE, 1500));
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue(2, ElementType.NEUTRAL, 1500));
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue(3, null, 1500));
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue(4, ElementType.FIRE, -1));
+        assertEquals(1, queue.size());
+    }
+}
@@ -0,0 +1,121 @@
+package com.game.rating;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.characters.ElementType;
+import com.utils.Constants;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RatingStoreTest {
+
+    private static final double DELTA = 1e-9;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unknownPlayersHaveInitialRating() throws IOException {
+        try (RatingStore store = new RatingStore(directory.resolve("empty.rtng"))) {
+            assertEquals(0, store.getCapacity());
+            assertEquals(Constants.RATING_INITIAL, store.getRating(123), DELTA);
+            assertEquals(0, store.getGames(123));
+            assertEquals(Constants.RATING_INITIAL, store.getElementRating(ElementType.FIRE), DELTA);
+            assertThrows(IllegalArgumentException.class, () -> store.getRating(-1));
+            assertThrows(IllegalArgumentException.class, () -> store.getElementRating(ElementType.NEUTRAL));
+        }
+    }
+
+    @Test
+    void ratingsPersistAcrossReopen() throws IOException {
+        Path path = directory.resolve("players.rtng");
+        double winnerRating;
+        try (RatingStore store = new RatingStore(path)) {
+            RatingEngine engine = new RatingEngine(store, 4);
+            engine.record(1, 2, ElementType.FIRE, ElementType.WATER, RatingFormat.OUTCOME_PLAYER1_WIN);
+            engine.record(3, 5000, ElementType.EARTH, ElementType.EARTH, RatingFormat.OUTCOME_DRAW);
+            engine.flush();
+
+            winnerRating = store.getRating(1);
+            assertTrue(winnerRating > Constants.RATING_INITIAL);
+            // Zero-sum untuk K-factor yang sama
+            assertEquals(2 * Constants.RATING_INITIAL, winnerRating + store.getRating(2), DELTA);
+            assertEquals(1, store.getWins(1));
+            assertEquals(0, store.getWins(2));
+            assertTrue(store.getCapacity() > 5000, "store tumbuh untuk id 5000");
+            assertEquals(Constants.RATING_INITIAL, store.getRating(3), DELTA);
+            assertEquals(1, store.getGames(5000));
+            // Elemen sama tidak mengubah rating elemen
+            assertEquals(0, store.getElementGames(ElementType.EARTH));
+            assertEquals(1, store.getElementGames(ElementType.FIRE));
+        }
+
+        try (RatingStore store = new RatingStore(path)) {
+            assertEquals(winnerRating, store.getRating(1), DELTA);
+            assertEquals(1, store.getGames(2));
+            assertEquals(1, store.getGames(5000));
+            assertTrue(store.getElementRating(ElementType.FIRE) > store.getElementRating(ElementType.WATER));
+        }
+    }
+
+    @Test
+    void batchingMatchesOneByOne() throws IOException {
+        try (RatingStore batched = new RatingStore(directory.resolve("batched.rtng"));
+             RatingStore single = new RatingStore(directory.resolve("single.rtng"))) {
+            RatingEngine batchedEngine = new RatingEngine(batched, 64);
+            RatingEngine singleEngine = new RatingEngine(single, 1);
+            for (int i = 0; i < 1000; i++) {
+                int player1 = i % 17;
+                int player2 = (i * 7 + 3) % 19 == player1 ? 18 : (i * 7 + 3) % 19;
+                int outcome = i % 3;
+                batchedEngine.record(player1, player2, ElementType.FIRE, ElementType.WIND, outcome);
+                singleEngine.record(player1, player2, ElementType.FIRE, ElementType.WIND, outcome);
+            }
+            batchedEngine.flush();
+            singleEngine.flush();
+            for (int id = 0; id < 19; id++) {
+                assertEquals(single.getRating(id), batched.getRating(id), DELTA, "pemain " + id);
+                assertEquals(single.getGames(id), batched.getGames(id));
+            }
+        }
+    }
+
+    @Test
+    void rejectsForeignOrTruncatedFiles() throws IOException {
+        Path foreign = directory.resolve("foreign.rtng");
+        Files.write(foreign, new byte[RatingFormat.HEADER_SIZE]);
+        assertThrows(IOException.class, () -> new RatingStore(foreign));
+
+        Path truncated = directory.resolve("truncated.rtng");
+        try (RatingStore store = new RatingStore(truncated)) {
+            RatingEngine engine = new RatingEngine(store);
+            engine.record(0, 1, ElementType.FIRE, ElementType.FIRE, RatingFormat.OUTCOME_DRAW);
+            engine.flush();
+        }
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(RatingFormat.HEADER_SIZE + RatingFormat.STORE_RECORD_SIZE);
+        }
+        assertThrows(IOException.class, () -> new RatingStore(truncated));
+    }
+
+    @Test
+    void validatesResults() throws IOException {
+        try (RatingStore store = new RatingStore(directory.resolve("invalid.rtng"))) {
+            RatingEngine engine = new RatingEngine(store);
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.record(1, 1, ElementType.FIRE, ElementType.FIRE, RatingFormat.OUTCOME_DRAW));
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.record(1, 2, ElementType.FIRE, ElementType.FIRE, 3));
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.record(1, 2, ElementType.NEUTRAL, ElementType.FIRE, RatingFormat.OUTCOME_DRAW));
+            assertEquals(0, engine.getPending());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.game.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.characters.ElementType;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Round-trip protokol biner: state client yang dibangun dari balasan delta
+ * harus selalu sama dengan state penuh match di server.
+ */
+class BinaryProtocolTest {
+
+    private final MatchSession session = new MatchSession(new MatchRegistry());
+    private final BinaryProtocol server = new BinaryProtocol(session);
+    private final MatchState client = new MatchState();
+    private final ByteBuffer request = ByteBuffer.allocate(64);
+    private final ByteBuffer response = ByteBuffer.allocate(BinaryProtocol.MAX_RESPONSE_LENGTH);
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void deltaRepliesReconstructFullState() {
+        SplitMixRandom random = new SplitMixRandom(11);
+        for (int game = 0; game < 20; game++) {
+            request.clear();
+            BinaryProtocol.putNew(request, ElementType.FIRE, ElementType.WATER, 100 + game);
+            assertEquals(BinaryProtocol.RESP_NEW, exchange());
+            assertMatchesServer();
+
+            while (!client.isFinished()) {
+                request.clear();
+                BinaryProtocol.putAct(request, 1 + random.nextInt(4));
+                int code = exchange();
+                if (code == BinaryProtocol.RESP_ERR) {
+                    // FP kurang: Basic Attack selalu bisa
+                    request.clear();
+                    BinaryProtocol.putAct(request, 1);
+                    code = exchange();
+                }
+                assertEquals(BinaryProtocol.RESP_OK, code);
+                assertMatchesServer();
+            }
+        }
+    }
+
+    @Test
+    void actReplyOmitsUnchangedFields() {
+        // Payload state penuh: kode + mask + turn:2 current:1 4 x HP/FP:2 status:1
+        int fullState = 1 + 1 + 12;
+        int actionSummary = 9;
+
+        request.clear();
+        BinaryProtocol.putNew(request, ElementType.EARTH, ElementType.WIND, 5);
+        exchange();
+        request.clear();
+        BinaryProtocol.putCommand(request, BinaryProtocol.OP_STATE);
+        exchange();
+        assertEquals(fullState, response.limit() - BinaryProtocol.FRAME_HEADER_LENGTH);
+
+        request.clear();
+        BinaryProtocol.putAct(request, 1);
+        exchange();
+        assertMatchesServer();
+        // Status masih RUNNING, jadi minimal field itu tidak dikirim ulang
+        assertTrue(response.limit() - BinaryProtocol.FRAME_HEADER_LENGTH < fullState + actionSummary,
+                "balasan ACT " + response.limit() + " byte");
+    }
+
+    @Test
+    void surrenderAndErrorsRoundTrip() {
+        request.clear();
+        BinaryProtocol.putCommand(request, BinaryProtocol.OP_STATE);
+        assertEquals(BinaryProtocol.RESP_ERR, exchange());
+        assertEquals("Belum ada match (kirim NEW dulu)", BinaryProtocol.readErrorMessage(response));
+
+        request.clear();
+        BinaryProtocol.putNew(request, ElementType.WIND, ElementType.FIRE, 9);
+        exchange();
+        int surrendering = client.getCurrent();
+        request.clear();
+        BinaryProtocol.putCommand(request, BinaryProtocol.OP_SURRENDER);
+        assertEquals(BinaryProtocol.RESP_OK, exchange());
+        assertMatchesServer();
+        assertEquals(surrendering == 1 ? Match.Status.P2_WIN : Match.Status.P1_WIN, client.getStatus());
+        assertEquals(ActionSummary.TYPE_SURRENDER, client.getLastAction().getType());
+
+        request.clear();
+        BinaryProtocol.putCommand(request, BinaryProtocol.OP_QUIT);
+        request.flip();
+        request.getShort();
+        response.clear();
+        assertFalse(server.handle(request, response));
+    }
+
+    @Test
+    void neutralElementIsRejected() {
+        request.clear();
+        BinaryProtocol.putNew(request, ElementType.NEUTRAL, ElementType.FIRE, 1);
+        assertEquals(BinaryProtocol.RESP_ERR, exchange());
+    }
+
+    /**
+     * Mengirim request (satu frame) ke server dan membaca balasannya ke state client.
+     */
+    private int exchange() {
+        request.flip();
+        int length = request.getShort();
+        assertEquals(request.remaining(), length);
+        response.clear();
+        assertTrue(server.handle(request, response));
+        response.flip();
+        assertEquals(response.remaining() - BinaryProtocol.FRAME_HEADER_LENGTH, response.getShort());
+        return BinaryProtocol.readResponse(response, client);
+    }
+
+    private void assertMatchesServer() {
+        assertFalse(response.hasRemaining(), "sisa byte di balasan");
+        MatchState expected = new MatchState();
+        session.getCurrent().readState(expected);
+        assertEquals(expected.getMatchId(), client.getMatchId());
+        assertEquals(expected.getTurn(), client.getTurn());
+        assertEquals(expected.getCurrent(), client.getCurrent());
+        assertEquals(expected.getPlayer1Hp(), client.getPlayer1Hp());
+        assertEquals(expected.getPlayer1Fp(), client.getPlayer1Fp());
+        assertEquals(expected.getPlayer2Hp(), client.getPlayer2Hp());
+        assertEquals(expected.getPlayer2Fp(), client.getPlayer2Fp());
+        assertEquals(expected.getStatus(), client.getStatus());
+
+        ActionSummary expectedAction = expected.getLastAction();
+        ActionSummary action = client.getLastAction();
+        assertEquals(expectedAction.getType(), action.getType());
+        assertEquals(expectedAction.getActor(), action.getActor());
+        assertEquals(expectedAction.isCritical(), action.isCritical());
+        assertEquals(expectedAction.isDodged(), action.isDodged());
+        assertEquals(expectedAction.getDamage(), action.getDamage());
+        assertEquals(expectedAction.getHealing(), action.getHealing());
+        assertEquals(expectedAction.getEffectivenessPercent(), action.getEffectivenessPercent());
+    }
+}
@@ -0,0 +1,85 @@
+package com.game.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.game.utils.SplitMixRandom;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(50));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        for (long value = 0; value < 64; value++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            assertEquals(value, histogram.percentile(50));
+        }
+    }
+
+    @Test
+    void relativeErrorStaysWithinOneThirtySecond() {
+        SplitMixRandom random = new SplitMixRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            // Nilai tersebar di semua skala: 64 .. ~2^62
+            long value = 64 + ((random.nextInt(Integer.MAX_VALUE) & 0xFFFFFFFFL) << random.nextInt(31));
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+            long reported = histogram.percentile(50);
+            assertTrue(reported >= value, "batas atas bucket < nilai: " + value);
+            assertTrue(reported - value <= value / 32, "galat terlalu besar untuk " + value + ": " + reported);
+        }
+    }
+
+    @Test
+    void percentilesFollowRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(1000, histogram.percentile(100));
+        assertWithinBucket(500, histogram.percentile(50));
+        assertWithinBucket(990, histogram.percentile(99));
+        assertTrue(histogram.percentile(50) <= histogram.percentile(99));
+    }
+
+    @Test
+    void mergeEqualsRecordingEverything() {
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram even = new LatencyHistogram();
+        LatencyHistogram odd = new LatencyHistogram();
+        for (long value = 0; value < 10_000; value += 3) {
+            all.record(value);
+            (value % 2 == 0 ? even : odd).record(value);
+        }
+        even.merge(odd);
+        assertEquals(all.getCount(), even.getCount());
+        assertEquals(all.getMax(), even.getMax());
+        for (double percentile = 0; percentile <= 100; percentile += 12.5) {
+            assertEquals(all.percentile(percentile), even.percentile(percentile));
+        }
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+
+    private static void assertWithinBucket(long expected, long reported) {
+        assertTrue(reported >= expected && reported - expected <= expected / 32,
+                "percentile " + reported + " bukan bucket dari " + expected);
+    }
+}
@@ -0,0 +1,78 @@
+package com.game.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class MpscQueueTest {
+
+    @Test
+    void emptyQueuePollsNull() {
+        MpscQueue<String> queue = new MpscQueue<>();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void singleProducerIsFifo() {
+        MpscQueue<Integer> queue = new MpscQueue<>();
+        for (int i = 0; i < 100; i++) {
+            queue.offer(i);
+        }
+        assertFalse(queue.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 100_000;
+        MpscQueue<long[]> queue = new MpscQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    queue.offer(new long[] {producer, i});
+                }
+            });
+            threads[p].start();
+        }
+        start.countDown();
+
+        long[] next = new long[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            long[] item = queue.poll();
+            if (item == null) {
+                // Producer belum selesai menyambung node: coba lagi
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) item[0];
+            assertEquals(next[producer], item[1], "urutan producer " + producer);
+            next[producer]++;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+package com.game.simulation.fast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.game.battle.Battle;
+import com.game.characters.BaseCharacter;
+import com.game.characters.CharacterFactory;
+import com.game.characters.ElementType;
+import com.game.simulation.RandomSkillPolicy;
+import com.game.simulation.SkillPolicy;
+import com.game.utils.GameLogging;
+import com.game.utils.SplitMixRandom;
+import com.utils.Constants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fast engine harus identik dengan Battle: seed dan policy yang sama, lalu
+ * HP, FP, stat, bitfield efek, giliran dan posisi RNG dibandingkan setelah
+ * setiap aksi dan setiap endTurn.
+ */
+class FastBattleEngineEquivalenceTest {
+
+    private static final ElementType[] TYPES = {
+            ElementType.FIRE, ElementType.WATER, ElementType.EARTH, ElementType.WIND};
+    private static final int BATTLES_PER_PAIR = 50;
+
+    @BeforeAll
+    static void quiet() {
+        GameLogging.setQuiet(true);
+    }
+
+    @Test
+    void everyActionMatchesObjectEngine() {
+        SkillPolicy policy = new RandomSkillPolicy();
+        FastBattleState state = new FastBattleState(1);
+        for (ElementType type1 : TYPES) {
+            for (ElementType type2 : TYPES) {
+                for (int i = 0; i < BATTLES_PER_PAIR; i++) {
+                    long seed = SplitMixRandom.mix64(type1.ordinal() * 1000L + type2.ordinal() * 100L + i);
+                    runLockstep(state, policy, type1, type2, seed);
+                }
+            }
+        }
+    }
+
+    private static void runLockstep(FastBattleState state, SkillPolicy policy,
+            ElementType type1, ElementType type2, long seed) {
+        Battle battle = new Battle(
+                CharacterFactory.createCharacter(type1.name(), "P1 " + type1),
+                CharacterFactory.createCharacter(type2.name(), "P2 " + type2),
+                seed);
+        SplitMixRandom policyRandom = new SplitMixRandom(seed).split();
+        state.init(0, type1, type2, seed);
+        String battleName = type1 + " vs " + type2 + " seed " + seed;
+
+        battle.start();
+        FastBattleEngine.start(state, 0);
+        assertSameState(battle, state, battleName + ", start");
+
+        while (!battle.isBattleFinished() && battle.getTurnCount() <= Constants.SIMULATION_MAX_TURNS) {
+            int skillIndex = policy.chooseSkill(battle, policyRandom);
+            String stage = battleName + ", turn " + battle.getTurnCount() + ", skill " + skillIndex;
+
+            boolean objectSuccess = battle.executePlayerAction(skillIndex);
+            assertEquals(objectSuccess, FastBattleEngine.step(state, 0, skillIndex), stage + ": hasil aksi");
+            if (!objectSuccess) {
+                battle.executePlayerAction(1);
+                FastBattleEngine.step(state, 0, 1);
+            }
+            assertSameState(battle, state, stage);
+            if (battle.isBattleFinished()) {
+                break;
+            }
+
+            battle.endTurn();
+            FastBattleEngine.endTurn(state, 0);
+            assertSameState(battle, state, stage + ", endTurn");
+        }
+        assertEquals(battle.isBattleFinished(), FastBattleEngine.isFinished(state, 0), battleName + ": selesai");
+    }
+
+    private static void assertSameState(Battle battle, FastBattleState state, String stage) {
+        assertEquals(battle.getCurrentState(), state.getCurrentState(0), stage + ": state");
+        assertEquals(battle.getTurnCount(), state.getTurnCount(0), stage + ": turn");
+        assertEquals(((SplitMixRandom) battle.getRandom()).getState(), state.getRandomState(0), stage + ": RNG");
+        assertSameCharacter(battle.getPlayer1(), state, FastBattleState.PLAYER1, stage);
+        assertSameCharacter(battle.getPlayer2(), state, FastBattleState.PLAYER2, stage);
+    }
+
+    private static void assertSameCharacter(BaseCharacter character, FastBattleState state, int slot,
+            String stage) {
+        String prefix = stage + ", " + character.getName() + ": ";
+        assertEquals(character.getHealthPoints(), state.getHealthPoints(0, slot), prefix + "HP");
+        assertEquals(character.getFocusPoints(), state.getFocusPoints(0, slot), prefix + "FP");
+        assertEquals(character.getAttackPower(), state.getAttackPower(0, slot), prefix + "attack");
+        assertEquals(character.getDefense(), state.getDefense(0, slot), prefix + "defense");
+        assertEquals(character.getSpeed(), state.getSpeed(0, slot), prefix + "speed");
+        assertEquals(FastBattleState.packEffects(character), state.getEffects(0, slot), prefix + "efek");
+    }
+}
@@ -0,0 +1,183 @@
+package com.game.skills.effects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.game.utils.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EffectTimingWheelTest {
+
+    private static final int SLOTS = 8;
+
+    @Test
+    void effectsExpireAfterTheirDurationInScheduleOrder() {
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        StatusEffect burnLong = new BurnEffect(3, 1);
+        StatusEffect freeze = new FreezeEffect(1);
+        StatusEffect buff = new AttackBuffEffect(2, 4);
+        StatusEffect burnShort = new BurnEffect(1, 2);
+        StatusEffect guard = new GuardEffect();
+        for (StatusEffect effect : new StatusEffect[] {burnLong, freeze, buff, burnShort, guard}) {
+            wheel.schedule(effect);
+        }
+
+        assertEquals(List.of(freeze, burnShort), advance(wheel));
+        assertEquals(2, burnLong.getDuration());
+        assertEquals(List.of(buff, guard), advance(wheel));
+        assertEquals(List.of(burnLong), advance(wheel));
+        assertEquals(List.of(), advance(wheel));
+        assertEquals(0, wheel.getScheduledCount());
+        assertEquals(0, wheel.getKindMask());
+    }
+
+    @Test
+    void durationsLongerThanWheelWaitForTheirTurn() {
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        StatusEffect longBurn = new BurnEffect(SLOTS * 2 + 3, 1);
+        StatusEffect sameSlot = new BurnEffect(3, 1);
+        wheel.schedule(longBurn);
+        wheel.schedule(sameSlot);
+
+        for (int turn = 1; turn < SLOTS * 2 + 3; turn++) {
+            List<StatusEffect> expired = advance(wheel);
+            assertEquals(turn == 3 ? List.of(sameSlot) : List.of(), expired, "turn " + turn);
+            assertEquals(SLOTS * 2 + 3 - turn, longBurn.getDuration());
+        }
+        assertEquals(List.of(longBurn), advance(wheel));
+    }
+
+    @Test
+    void zeroDurationExpiresOnNextAdvance() {
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        StatusEffect freeze = new FreezeEffect(0);
+        wheel.schedule(freeze);
+        assertEquals(List.of(freeze), advance(wheel));
+    }
+
+    @Test
+    void listsAndKindMaskFollowExpiry() {
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        StatusEffect burn = new BurnEffect(1, 1);
+        StatusEffect guard = new GuardEffect();
+        StatusEffect freeze = new FreezeEffect(3);
+        wheel.schedule(burn);
+        wheel.schedule(guard);
+        wheel.schedule(freeze);
+
+        assertEquals(List.of(burn, guard, freeze), scheduled(wheel));
+        assertEquals(List.of(burn, freeze), ticking(wheel));
+        assertEquals(EffectKind.BURN.bit() | EffectKind.GUARD.bit() | EffectKind.FREEZE.bit(), wheel.getKindMask());
+
+        advance(wheel);
+        assertEquals(List.of(guard, freeze), scheduled(wheel));
+        assertEquals(List.of(freeze), ticking(wheel));
+        assertEquals(EffectKind.GUARD.bit() | EffectKind.FREEZE.bit(), wheel.getKindMask());
+        assertEquals(0, burn.getDuration());
+    }
+
+    @Test
+    void matchesNaiveCountdownForRandomSchedules() {
+        SplitMixRandom random = new SplitMixRandom(17);
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        List<StatusEffect> naive = new ArrayList<>();
+        List<Integer> remaining = new ArrayList<>();
+
+        for (int turn = 0; turn < 2000; turn++) {
+            int added = random.nextInt(3);
+            for (int i = 0; i < added; i++) {
+                StatusEffect effect = new BurnEffect(1 + random.nextInt(SLOTS * 3), turn);
+                naive.add(effect);
+                remaining.add(effect.getDuration());
+                wheel.schedule(effect);
+            }
+
+            List<StatusEffect> expected = new ArrayList<>();
+            for (int i = 0; i < naive.size(); i++) {
+                remaining.set(i, remaining.get(i) - 1);
+                if (remaining.get(i) == 0) {
+                    expected.add(naive.get(i));
+                }
+            }
+            for (int i = naive.size() - 1; i >= 0; i--) {
+                if (remaining.get(i) == 0) {
+                    naive.remove(i);
+                    remaining.remove(i);
+                }
+            }
+
+            // Efek yang habis di giliran yang sama ada di satu slot, urut dijadwalkan
+            assertEquals(expected, advance(wheel), "turn " + turn);
+            assertEquals(naive, scheduled(wheel), "turn " + turn);
+            for (int i = 0; i < naive.size(); i++) {
+                assertEquals((int) remaining.get(i), naive.get(i).getDuration());
+            }
+        }
+    }
+
+    @Test
+    void obtainReusesOnlyPooledEffects() {
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        StatusEffect pooled = wheel.obtain(EffectKind.BURN, 1, 5);
+        StatusEffect external = new BurnEffect(1, 6);
+        wheel.schedule(pooled);
+        wheel.schedule(external);
+        assertEquals(2, wheel.advance());
+        wheel.recycleExpired();
+        assertThrows(IndexOutOfBoundsException.class, () -> wheel.getExpired(0));
+
+        StatusEffect reused = wheel.obtain(EffectKind.BURN, 4, 9);
+        assertSame(pooled, reused);
+        assertEquals(4, reused.getDuration());
+        assertEquals(9, reused.getStateParam());
+        // Efek dari luar tidak masuk pool
+        assertNotSame(external, wheel.obtain(EffectKind.BURN, 1, 1));
+
+        wheel.schedule(reused);
+        wheel.clear();
+        assertNull(wheel.getFirstScheduled());
+        assertSame(reused, wheel.obtain(EffectKind.BURN, 2, 3));
+    }
+
+    @Test
+    void rejectsInvalidUse() {
+        assertThrows(IllegalArgumentException.class, () -> new EffectTimingWheel(6));
+        assertThrows(IllegalArgumentException.class, () -> new EffectTimingWheel(0));
+
+        EffectTimingWheel wheel = new EffectTimingWheel(SLOTS);
+        StatusEffect burn = new BurnEffect(2, 1);
+        wheel.schedule(burn);
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(burn));
+        assertThrows(IllegalStateException.class, burn::decrementDuration);
+    }
+
+    private static List<StatusEffect> advance(EffectTimingWheel wheel) {
+        int count = wheel.advance();
+        List<StatusEffect> expired = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expired.add(wheel.getExpired(i));
+        }
+        return expired;
+    }
+
+    private static List<StatusEffect> scheduled(EffectTimingWheel wheel) {
+        List<StatusEffect> effects = new ArrayList<>();
+        for (StatusEffect effect = wheel.getFirstScheduled(); effect != null; effect = wheel.getNextScheduled(effect)) {
+            effects.add(effect);
+        }
+        return effects;
+    }
+
+    private static List<StatusEffect> ticking(EffectTimingWheel wheel) {
+        List<StatusEffect> effects = new ArrayList<>();
+        for (StatusEffect effect = wheel.getFirstTicking(); effect != null; effect = wheel.getNextTicking(effect)) {
+            effects.add(effect);
+        }
+        return effects;
+    }
+}